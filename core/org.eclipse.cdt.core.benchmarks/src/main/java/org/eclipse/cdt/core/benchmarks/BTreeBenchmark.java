@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.internal.core.pdom.db.BTree;
+import org.eclipse.cdt.internal.core.pdom.db.ChunkCache;
+import org.eclipse.cdt.internal.core.pdom.db.Database;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreeComparator;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
+import org.eclipse.cdt.internal.core.pdom.db.IString;
+import org.eclipse.core.runtime.CoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing names to and looking up names in a {@link BTree} of the index database,
+ * organized the same way as the name indexes of the PDOM linkages: records point to strings
+ * which are compared with {@link IString#compareCompatibleWithIgnoreCase(char[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BTreeBenchmark {
+	private static final int LOOKUPS = 1000;
+
+	@Param({ "10000", "100000" })
+	public int names;
+
+	private String[] fNames;
+	private char[][] fLookups;
+	private File fLookupFile;
+	private Database fLookupDB;
+	private BTree fLookupIndex;
+	private File fWriteFile;
+	private Database fWriteDB;
+
+	@Setup
+	public void setup() throws IOException, CoreException {
+		Random random = new Random(4711);
+		List<String> list = new ArrayList<>();
+		for (int i = 0; i < names; i++) {
+			list.add("symbol_" + Integer.toString(random.nextInt(Integer.MAX_VALUE), 36) + '_' + i);
+		}
+		Collections.shuffle(list, random);
+		fNames = list.toArray(new String[list.size()]);
+		fLookups = new char[LOOKUPS][];
+		for (int i = 0; i < LOOKUPS; i++) {
+			fLookups[i] = fNames[random.nextInt(names)].toCharArray();
+		}
+
+		fLookupFile = File.createTempFile("cdt-benchmark", ".pdom");
+		fLookupDB = createDatabase(fLookupFile);
+		fLookupIndex = writeNames(fLookupDB);
+		fLookupDB.giveUpExclusiveLock(true);
+		fLookupDB.setLocked(true);
+	}
+
+	@TearDown
+	public void tearDown() throws CoreException {
+		fLookupDB.setExclusiveLock();
+		fLookupDB.close();
+		fLookupFile.delete();
+	}
+
+	@Setup(Level.Invocation)
+	public void createWriteDatabase() throws IOException, CoreException {
+		fWriteFile = File.createTempFile("cdt-benchmark", ".pdom");
+		fWriteDB = createDatabase(fWriteFile);
+	}
+
+	@TearDown(Level.Invocation)
+	public void deleteWriteDatabase() throws CoreException {
+		fWriteDB.close();
+		fWriteFile.delete();
+	}
+
+	@Benchmark
+	public BTree write() throws CoreException {
+		BTree index = writeNames(fWriteDB);
+		fWriteDB.flush();
+		return index;
+	}
+
+	@Benchmark
+	public long lookup() throws CoreException {
+		long found = 0;
+		for (char[] name : fLookups) {
+			FindName finder = new FindName(fLookupDB, name);
+			fLookupIndex.accept(finder);
+			found += finder.fRecord;
+		}
+		return found;
+	}
+
+	private static Database createDatabase(File file) throws CoreException {
+		Database db = new Database(file, new ChunkCache(), 0, false);
+		db.setExclusiveLock();
+		return db;
+	}
+
+	private BTree writeNames(final Database db) throws CoreException {
+		final long root = db.malloc(Database.PTR_SIZE);
+		BTree index = new BTree(db, root, new IBTreeComparator() {
+			@Override
+			public int compare(long record1, long record2) throws CoreException {
+				IString name1 = db.getString(db.getRecPtr(record1));
+				IString name2 = db.getString(db.getRecPtr(record2));
+				return name1.compareCompatibleWithIgnoreCase(name2);
+			}
+		});
+		for (String name : fNames) {
+			long record = db.malloc(Database.PTR_SIZE);
+			db.putRecPtr(record, db.newString(name).getRecord());
+			index.insert(record);
+		}
+		return index;
+	}
+
+	private static class FindName implements IBTreeVisitor {
+		private final Database fDatabase;
+		private final char[] fName;
+		long fRecord;
+
+		FindName(Database db, char[] name) {
+			fDatabase = db;
+			fName = name;
+		}
+
+		@Override
+		public int compare(long record) throws CoreException {
+			return fDatabase.getString(fDatabase.getRecPtr(record)).compareCompatibleWithIgnoreCase(fName);
+		}
+
+		@Override
+		public boolean visit(long record) throws CoreException {
+			fRecord = record;
+			return false;
+		}
+	}
+}
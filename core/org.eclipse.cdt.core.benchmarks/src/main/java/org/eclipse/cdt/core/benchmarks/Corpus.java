@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Generates the C++ sources the benchmarks operate on. The sources are generated from fixed
+ * parameters, such that every run of a benchmark sees exactly the same input.
+ */
+public enum Corpus {
+	/** Class and function templates, partial specializations and template metaprogramming. */
+	TEMPLATES {
+		@Override
+		void generate(Path dir) throws IOException {
+			StringBuilder buf = new StringBuilder();
+			buf.append("template<typename... Ts> struct type_list {};\n");
+			buf.append("template<typename L> struct size_of;\n");
+			buf.append("template<typename... Ts> struct size_of<type_list<Ts...>> {\n");
+			buf.append("  static constexpr int value = sizeof...(Ts);\n");
+			buf.append("};\n");
+			buf.append("template<typename T, typename L> struct push_front;\n");
+			buf.append("template<typename T, typename... Ts> struct push_front<T, type_list<Ts...>> {\n");
+			buf.append("  typedef type_list<T, Ts...> type;\n");
+			buf.append("};\n");
+			buf.append("template<bool B, typename T = void> struct enable_if {};\n");
+			buf.append("template<typename T> struct enable_if<true, T> { typedef T type; };\n");
+			buf.append("template<typename T, typename U> struct is_same { static constexpr bool value = false; };\n");
+			buf.append("template<typename T> struct is_same<T, T> { static constexpr bool value = true; };\n");
+			buf.append("template<int N> struct fib {\n");
+			buf.append("  static constexpr int value = fib<N - 1>::value + fib<N - 2>::value;\n");
+			buf.append("};\n");
+			buf.append("template<> struct fib<1> { static constexpr int value = 1; };\n");
+			buf.append("template<> struct fib<0> { static constexpr int value = 0; };\n");
+			buf.append("template<typename Derived> struct base {\n");
+			buf.append("  Derived& self() { return static_cast<Derived&>(*this); }\n");
+			buf.append("};\n");
+			for (int i = 0; i < TEMPLATE_COUNT; i++) {
+				buf.append("struct node").append(i).append(" : base<node").append(i).append("> {\n");
+				buf.append("  int value;\n");
+				buf.append("  template<typename T> T get(T t) const { return t + value; }\n");
+				buf.append("};\n");
+				buf.append("template<typename T> class vec").append(i).append(" {\n");
+				buf.append("  T* data_;\n");
+				buf.append("  int n_;\n");
+				buf.append("public:\n");
+				buf.append("  vec").append(i).append("(int n) : data_(new T[n]), n_(n) {}\n");
+				buf.append("  T& operator[](int k) { return data_[k]; }\n");
+				buf.append("  template<typename F> void each(F f) { for (int k = 0; k < n_; k++) f(data_[k]); }\n");
+				buf.append("};\n");
+				buf.append("typedef push_front<node").append(i).append(", type_list<int, double>>::type list")
+						.append(i).append(";\n");
+				buf.append("static_assert(size_of<list").append(i).append(">::value == 3, \"size\");\n");
+				buf.append("template<typename T>\n");
+				buf.append("typename enable_if<is_same<T, node").append(i).append(">::value, int>::type use")
+						.append(i).append("(const T& t) {\n");
+				buf.append("  return t.template get<int>(fib<").append(i % 12).append(">::value);\n");
+				buf.append("}\n");
+				buf.append("int run").append(i).append("(int r) {\n");
+				buf.append("  vec").append(i).append("<node").append(i).append("> v(4);\n");
+				buf.append("  vec").append(i).append("<int> w(r);\n");
+				buf.append("  v.each([&](node").append(i).append("& n) { r += use").append(i).append("(n); });\n");
+				buf.append("  node").append(i).append(" copy(v[0]);\n");
+				buf.append("  r += (int)(w[0]) + copy.self().value;\n");
+				buf.append("  return fib<3>::value < r ? r : w[1];\n");
+				buf.append("}\n");
+			}
+			write(dir.resolve(MAIN_FILE), buf);
+		}
+	},
+
+	/** Object-like, function-like and variadic macros, token pasting and conditional compilation. */
+	MACROS {
+		@Override
+		void generate(Path dir) throws IOException {
+			StringBuilder buf = new StringBuilder();
+			buf.append("#define CAT_(a, b) a##b\n");
+			buf.append("#define CAT(a, b) CAT_(a, b)\n");
+			buf.append("#define STR_(x) #x\n");
+			buf.append("#define STR(x) STR_(x)\n");
+			buf.append("#define MAX(a, b) ((a) > (b) ? (a) : (b))\n");
+			buf.append("#define MIN(a, b) ((a) < (b) ? (a) : (b))\n");
+			buf.append("#define CLAMP(x, lo, hi) MIN(MAX(x, lo), hi)\n");
+			buf.append("#define LOG(fmt, ...) log_message(__FILE__, __LINE__, fmt, ##__VA_ARGS__)\n");
+			buf.append("#define COLORS(X) X(red, 1) X(green, 2) X(blue, 3) X(cyan, 4) X(magenta, 5) X(yellow, 6)\n");
+			buf.append("#define COLOR_ID(name) CAT(CAT(color_, name), CAT(_, SUFFIX))\n");
+			buf.append("#define ENUM_ENTRY(name, val) COLOR_ID(name) = val,\n");
+			buf.append("#define CASE_ENTRY(name, val) case COLOR_ID(name): return STR(name);\n");
+			buf.append("#define REPEAT4(M, x) M(x) M(x + 1) M(x + 2) M(x + 3)\n");
+			buf.append("#define REPEAT16(M, x) REPEAT4(M, x) REPEAT4(M, x + 4) REPEAT4(M, x + 8) REPEAT4(M, x + 12)\n");
+			buf.append("#define SUM_TERM(x) + CLAMP(x, 0, 255)\n");
+			buf.append("int log_message(const char* file, int line, const char* fmt, ...);\n");
+			for (int i = 0; i < MACRO_COUNT; i++) {
+				buf.append("#undef SUFFIX\n");
+				buf.append("#define SUFFIX ").append(i).append('\n');
+				buf.append("enum CAT(color_set_, SUFFIX) { COLORS(ENUM_ENTRY) };\n");
+				buf.append("const char* CAT(color_name_, SUFFIX)(int c) {\n");
+				buf.append("  switch (c) { COLORS(CASE_ENTRY) }\n");
+				buf.append("  return 0;\n");
+				buf.append("}\n");
+				buf.append("int CAT(sum_, SUFFIX)(int x) {\n");
+				buf.append("  LOG(\"sum %d\", x);\n");
+				buf.append("  return 0 REPEAT16(SUM_TERM, x);\n");
+				buf.append("}\n");
+				buf.append("#if defined(SUFFIX) && SUFFIX % 2 == 0\n");
+				buf.append("int CAT(even_, SUFFIX) = MAX(SUFFIX, 3);\n");
+				buf.append("#else\n");
+				buf.append("int CAT(odd_, SUFFIX) = MIN(SUFFIX, 3);\n");
+				buf.append("#endif\n");
+			}
+			write(dir.resolve(MAIN_FILE), buf);
+		}
+	},
+
+	/**
+	 * A deep graph of headers with include guards, every header includes several headers
+	 * of the next level.
+	 */
+	INCLUDES {
+		@Override
+		void generate(Path dir) throws IOException {
+			for (int level = 0; level < INCLUDE_DEPTH; level++) {
+				for (int k = 0; k < INCLUDE_WIDTH; k++) {
+					final String guard = "HEADER_" + level + '_' + k + "_H";
+					StringBuilder buf = new StringBuilder();
+					buf.append("#ifndef ").append(guard).append('\n');
+					buf.append("#define ").append(guard).append('\n');
+					final boolean isLeaf = level == INCLUDE_DEPTH - 1;
+					if (!isLeaf) {
+						for (int j = 0; j < INCLUDE_FANOUT; j++) {
+							buf.append("#include \"").append(headerName(level + 1, (k * INCLUDE_FANOUT + j) % INCLUDE_WIDTH))
+									.append("\"\n");
+						}
+					}
+					final String name = "s_" + level + '_' + k;
+					buf.append("struct ").append(name).append(" {\n");
+					buf.append("  int id;\n");
+					if (!isLeaf) {
+						buf.append("  s_").append(level + 1).append('_').append((k * INCLUDE_FANOUT) % INCLUDE_WIDTH)
+								.append("* next;\n");
+					}
+					buf.append("};\n");
+					buf.append("inline int get_").append(name).append("(const ").append(name).append("& s) { return s.id; }\n");
+					buf.append("#endif\n");
+					write(dir.resolve(headerName(level, k)), buf);
+				}
+			}
+			StringBuilder buf = new StringBuilder();
+			for (int k = 0; k < INCLUDE_WIDTH; k++) {
+				buf.append("#include \"").append(headerName(0, k)).append("\"\n");
+			}
+			buf.append("int main() {\n");
+			buf.append("  s_0_0 s;\n");
+			buf.append("  return get_s_0_0(s);\n");
+			buf.append("}\n");
+			write(dir.resolve(MAIN_FILE), buf);
+		}
+	};
+
+	/** Name of the source file that is parsed, the other files of a corpus are included by it. */
+	public static final String MAIN_FILE = "main.cpp";
+
+	private static final int TEMPLATE_COUNT = 200;
+	private static final int MACRO_COUNT = 200;
+	private static final int INCLUDE_DEPTH = 8;
+	private static final int INCLUDE_WIDTH = 16;
+	private static final int INCLUDE_FANOUT = 4;
+
+	abstract void generate(Path dir) throws IOException;
+
+	/**
+	 * Writes the files of this corpus to a new temporary directory and returns the path
+	 * of the main source file.
+	 */
+	public Path create() throws IOException {
+		Path dir = Files.createTempDirectory("cdt-benchmark-" + name().toLowerCase());
+		generate(dir);
+		return dir.resolve(MAIN_FILE);
+	}
+
+	/**
+	 * Returns all files of the corpus, the main file is the first one.
+	 */
+	public static List<Path> getFiles(Path mainFile) throws IOException {
+		List<Path> result = new ArrayList<>();
+		result.add(mainFile);
+		try (Stream<Path> files = Files.list(mainFile.getParent())) {
+			files.filter(p -> !p.equals(mainFile)).sorted().forEach(result::add);
+		}
+		return result;
+	}
+
+	/**
+	 * Deletes the directory created by {@link #create()}.
+	 */
+	public static void delete(Path mainFile) throws IOException {
+		try (Stream<Path> files = Files.walk(mainFile.getParent())) {
+			for (Path p : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+				Files.delete(p);
+			}
+		}
+	}
+
+	private static String headerName(int level, int k) {
+		return "header_" + level + '_' + k + ".h";
+	}
+
+	private static void write(Path file, StringBuilder content) throws IOException {
+		Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+	}
+}
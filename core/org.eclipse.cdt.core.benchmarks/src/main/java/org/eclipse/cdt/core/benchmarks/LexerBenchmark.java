@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.parser.IToken;
+import org.eclipse.cdt.core.parser.OffsetLimitReachedException;
+import org.eclipse.cdt.internal.core.parser.scanner.ILexerLog;
+import org.eclipse.cdt.internal.core.parser.scanner.Lexer;
+import org.eclipse.cdt.internal.core.parser.scanner.Lexer.LexerOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link Lexer} on all files of a corpus, without preprocessing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LexerBenchmark {
+	@Param({ "TEMPLATES", "MACROS", "INCLUDES" })
+	public Corpus corpus;
+
+	private Path fMainFile;
+	private char[][] fContents;
+	private final LexerOptions fOptions = new LexerOptions();
+
+	@Setup
+	public void setup() throws IOException {
+		fMainFile = corpus.create();
+		List<Path> files = Corpus.getFiles(fMainFile);
+		fContents = new char[files.size()][];
+		for (int i = 0; i < fContents.length; i++) {
+			fContents[i] = new String(Files.readAllBytes(files.get(i)), StandardCharsets.UTF_8).toCharArray();
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Corpus.delete(fMainFile);
+	}
+
+	@Benchmark
+	public int lex() throws OffsetLimitReachedException {
+		int tokens = 0;
+		for (char[] content : fContents) {
+			Lexer lexer = new Lexer(content, fOptions, ILexerLog.NULL, null);
+			while (lexer.nextToken().getType() != IToken.tEND_OF_INPUT) {
+				tokens++;
+			}
+		}
+		return tokens;
+	}
+}
@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.dom.ILinkage;
+import org.eclipse.cdt.core.dom.ast.IASTFileLocation;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IASTPreprocessorMacroDefinition;
+import org.eclipse.cdt.core.dom.ast.IASTPreprocessorStatement;
+import org.eclipse.cdt.core.dom.ast.IASTPreprocessorUndefStatement;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.IBinding;
+import org.eclipse.cdt.core.dom.ast.IProblemBinding;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTTemplateId;
+import org.eclipse.cdt.core.index.IIndexFileLocation;
+import org.eclipse.cdt.core.index.IndexFilter;
+import org.eclipse.cdt.core.index.URIRelativeLocationConverter;
+import org.eclipse.cdt.core.parser.ISignificantMacros;
+import org.eclipse.cdt.internal.core.dom.parser.ASTInternal;
+import org.eclipse.cdt.internal.core.index.IIndexFragmentFile;
+import org.eclipse.cdt.internal.core.index.IWritableIndex.IncludeInformation;
+import org.eclipse.cdt.internal.core.index.IndexFileLocation;
+import org.eclipse.cdt.internal.core.index.WritableCIndex;
+import org.eclipse.cdt.internal.core.pdom.ASTFilePathResolver;
+import org.eclipse.cdt.internal.core.pdom.WritablePDOM;
+import org.eclipse.cdt.internal.core.pdom.YieldableIndexLock;
+import org.eclipse.cdt.internal.core.pdom.db.ChunkCache;
+import org.eclipse.cdt.internal.core.pdom.dom.IPDOMLinkageFactory;
+import org.eclipse.cdt.internal.core.pdom.dom.PDOMASTAdapter;
+import org.eclipse.cdt.internal.core.pdom.dom.PDOMLinkage;
+import org.eclipse.cdt.internal.core.pdom.dom.c.PDOMCLinkageFactory;
+import org.eclipse.cdt.internal.core.pdom.dom.cpp.PDOMCPPLinkageFactory;
+import org.eclipse.cdt.internal.core.pdom.indexer.IndexerASTVisitor;
+import org.eclipse.core.runtime.CoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing the names of a parsed translation unit to the index with
+ * {@link WritablePDOM#addFileContent}, and looking up bindings by name in the index of a
+ * {@link PDOMLinkage}. The translation unit is parsed and its names are resolved once, such
+ * that only the index is measured. Results of lookups are cached by the index, the cache is
+ * cleared for every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PDOMBenchmark {
+	@Param({ "TEMPLATES", "MACROS" })
+	public Corpus corpus;
+
+	private Path fMainFile;
+	private IASTTranslationUnit fAST;
+	private IIndexFileLocation fLocation;
+	private ASTFilePathResolver fPathResolver;
+	private IASTPreprocessorStatement[] fMacros;
+	private IASTName[][] fNames;
+	private char[][] fLookups;
+	private File fLookupFile;
+	private WritablePDOM fLookupPDOM;
+	private File fWriteFile;
+	private WritablePDOM fWritePDOM;
+
+	@Setup
+	public void setup() throws IOException, CoreException, InterruptedException {
+		fMainFile = corpus.create();
+		fAST = ParserSupport.parse(fMainFile);
+		fLocation = new IndexFileLocation(fMainFile.toUri(), null);
+		fPathResolver = new FileSystemPathResolver();
+		fMacros = collectMacros(fAST);
+		fNames = collectNames(fAST);
+
+		Set<String> lookups = new LinkedHashSet<>();
+		for (IASTName[] name : fNames) {
+			if (name[0] != null && name[0].isDeclaration() && name[0].getSimpleID().length > 0) {
+				lookups.add(new String(name[0].getSimpleID()));
+			}
+		}
+		fLookups = new char[lookups.size()][];
+		int i = 0;
+		for (String name : lookups) {
+			fLookups[i++] = name.toCharArray();
+		}
+
+		fLookupFile = File.createTempFile("cdt-benchmark", ".pdom");
+		fLookupPDOM = createPDOM(fLookupFile);
+		fLookupPDOM.acquireWriteLock(null);
+		try {
+			addFileContent(fLookupPDOM);
+		} finally {
+			fLookupPDOM.releaseWriteLock();
+		}
+		fLookupPDOM.acquireReadLock();
+	}
+
+	@TearDown
+	public void tearDown() throws CoreException, IOException, InterruptedException {
+		fLookupPDOM.releaseReadLock();
+		closePDOM(fLookupPDOM);
+		fLookupFile.delete();
+		Corpus.delete(fMainFile);
+	}
+
+	@Setup(Level.Invocation)
+	public void prepareInvocation() throws IOException, CoreException, InterruptedException {
+		fLookupPDOM.clearResultCache();
+		fWriteFile = File.createTempFile("cdt-benchmark", ".pdom");
+		fWritePDOM = createPDOM(fWriteFile);
+		fWritePDOM.acquireWriteLock(null);
+	}
+
+	@TearDown(Level.Invocation)
+	public void deleteWritePDOM() throws CoreException, InterruptedException {
+		fWritePDOM.releaseWriteLock();
+		closePDOM(fWritePDOM);
+		fWriteFile.delete();
+	}
+
+	@Benchmark
+	public IIndexFragmentFile addFileContent() throws CoreException, InterruptedException {
+		IIndexFragmentFile file = addFileContent(fWritePDOM);
+		fWritePDOM.flush();
+		return file;
+	}
+
+	@Benchmark
+	public int findBindings() throws CoreException {
+		int found = 0;
+		for (char[] name : fLookups) {
+			found += fLookupPDOM.findBindings(name, false, IndexFilter.ALL, null).length;
+		}
+		return found;
+	}
+
+	@Benchmark
+	public int getBindingsViaCache() throws CoreException {
+		PDOMLinkage linkage = fLookupPDOM.getLinkage(ILinkage.CPP_LINKAGE_ID);
+		int found = 0;
+		for (char[] name : fLookups) {
+			found += linkage.getBindingsViaCache(name, null).length;
+		}
+		return found;
+	}
+
+	/**
+	 * Writes the macros and names of the main file to the index the same way the indexer does.
+	 * The caller must hold the write lock.
+	 */
+	private IIndexFragmentFile addFileContent(WritablePDOM pdom) throws CoreException, InterruptedException {
+		YieldableIndexLock lock = new YieldableIndexLock(new WritableCIndex(pdom), false, null);
+		IIndexFragmentFile file = pdom.addUncommittedFile(ILinkage.CPP_LINKAGE_ID, fLocation, ISignificantMacros.NONE);
+		try {
+			pdom.addFileContent(file, new IncludeInformation[0], fMacros, fNames, fPathResolver, lock);
+			file.setTimestamp(1);
+			return pdom.commitUncommittedFile();
+		} finally {
+			pdom.clearUncommittedFile();
+		}
+	}
+
+	private WritablePDOM createPDOM(File file) throws CoreException {
+		Map<String, IPDOMLinkageFactory> linkageFactories = new HashMap<>();
+		linkageFactories.put(ILinkage.C_LINKAGE_NAME, new PDOMCLinkageFactory());
+		linkageFactories.put(ILinkage.CPP_LINKAGE_NAME, new PDOMCPPLinkageFactory());
+		return new WritablePDOM(file, new URIRelativeLocationConverter(fMainFile.getParent().toUri()),
+				new ChunkCache(), linkageFactories);
+	}
+
+	private static void closePDOM(WritablePDOM pdom) throws CoreException, InterruptedException {
+		pdom.acquireWriteLock(null);
+		try {
+			pdom.close();
+		} finally {
+			pdom.releaseWriteLock();
+		}
+	}
+
+	/**
+	 * Returns the active macro definitions and undefs of the main file.
+	 */
+	private static IASTPreprocessorStatement[] collectMacros(IASTTranslationUnit ast) {
+		List<IASTPreprocessorStatement> macros = new ArrayList<>();
+		for (IASTPreprocessorStatement stmt : ast.getAllPreprocessorStatements()) {
+			if (stmt.isActive() && (stmt instanceof IASTPreprocessorUndefStatement
+					|| stmt instanceof IASTPreprocessorMacroDefinition)) {
+				IASTFileLocation loc = stmt.getFileLocation();
+				if (loc != null && loc.getContextInclusionStatement() == null) {
+					macros.add(stmt);
+				}
+			}
+		}
+		return macros.toArray(new IASTPreprocessorStatement[macros.size()]);
+	}
+
+	/**
+	 * Returns the resolved names of the main file together with their enclosing definitions,
+	 * omitting the names the indexer does not store, see {@link org.eclipse.cdt.internal.core.pdom.PDOMWriter}.
+	 */
+	private static IASTName[][] collectNames(IASTTranslationUnit ast) {
+		final List<IASTName[]> names = new ArrayList<>();
+		ast.accept(new IndexerASTVisitor(true) {
+			@Override
+			public void visit(IASTName name, IASTName caller) {
+				name = PDOMASTAdapter.getAdapterIfAnonymous(name);
+				if (name != null) {
+					IASTFileLocation loc = name.getFileLocation();
+					if (loc != null && loc.getContextInclusionStatement() == null) {
+						names.add(new IASTName[] { name, caller });
+					}
+				}
+			}
+		});
+		for (IASTName[] na : names) {
+			IASTName name = na[0];
+			IBinding binding = name.resolveBinding();
+			if (binding instanceof IProblemBinding || name.getPropertyInParent() == ICPPASTTemplateId.TEMPLATE_NAME
+					&& ((IASTName) name.getParent()).getBinding() == binding) {
+				na[0] = null;
+			} else {
+				ASTInternal.setFullyResolved(binding, true);
+			}
+		}
+		return names.toArray(new IASTName[names.size()][]);
+	}
+
+	/**
+	 * Resolves the paths of the corpus, which are absolute paths in the file system.
+	 */
+	private static class FileSystemPathResolver extends ASTFilePathResolver {
+		@Override
+		public IIndexFileLocation resolveASTPath(String astFilePath) {
+			return new IndexFileLocation(new File(astFilePath).toURI(), null);
+		}
+
+		@Override
+		public IIndexFileLocation resolveIncludeFile(String includePath) {
+			return doesIncludeFileExist(includePath) ? resolveASTPath(includePath) : null;
+		}
+
+		@Override
+		public boolean doesIncludeFileExist(String includePath) {
+			return new File(includePath).isFile();
+		}
+
+		@Override
+		public String getASTPath(IIndexFileLocation ifl) {
+			return new File(ifl.getURI()).getPath();
+		}
+
+		@Override
+		public boolean isSource(String astFilePath) {
+			return astFilePath.endsWith(".cpp");
+		}
+
+		@Override
+		public long getFileSize(String astFilePath) {
+			return new File(astFilePath).length();
+		}
+
+		@Override
+		public boolean isCaseInsensitiveFileSystem() {
+			return false;
+		}
+	}
+}
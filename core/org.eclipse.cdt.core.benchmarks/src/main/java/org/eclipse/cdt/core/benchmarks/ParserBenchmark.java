@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.parser.cpp.GPPParserExtensionConfiguration;
+import org.eclipse.cdt.core.parser.IScanner;
+import org.eclipse.cdt.core.parser.ParserMode;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.GNUCPPSourceParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link GNUCPPSourceParser}. The full parse includes the resolution of ambiguous
+ * nodes, the time needed for that is the difference to {@link #parseWithoutAmbiguityResolution()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+	@Param({ "TEMPLATES", "MACROS", "INCLUDES" })
+	public Corpus corpus;
+
+	private Path fMainFile;
+
+	@Setup
+	public void setup() throws IOException {
+		fMainFile = corpus.create();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Corpus.delete(fMainFile);
+	}
+
+	@Benchmark
+	public IASTTranslationUnit parse() {
+		return ParserSupport.parse(fMainFile);
+	}
+
+	@Benchmark
+	public IASTTranslationUnit parseWithoutAmbiguityResolution() {
+		return new UnresolvedAmbiguitiesParser(ParserSupport.createScanner(fMainFile)).parse();
+	}
+
+	private static class UnresolvedAmbiguitiesParser extends GNUCPPSourceParser {
+		UnresolvedAmbiguitiesParser(IScanner scanner) {
+			super(scanner, ParserMode.COMPLETE_PARSE, ParserSupport.NULL_LOG,
+					GPPParserExtensionConfiguration.getInstance(), null);
+		}
+
+		@Override
+		protected void resolveAmbiguities() {
+		}
+	}
+}
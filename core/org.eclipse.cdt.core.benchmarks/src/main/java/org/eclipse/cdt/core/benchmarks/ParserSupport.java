@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.IBinding;
+import org.eclipse.cdt.core.dom.parser.cpp.GPPParserExtensionConfiguration;
+import org.eclipse.cdt.core.dom.parser.cpp.GPPScannerExtensionConfiguration;
+import org.eclipse.cdt.core.index.IIndexFileLocation;
+import org.eclipse.cdt.core.parser.FileContent;
+import org.eclipse.cdt.core.parser.IParserLogService;
+import org.eclipse.cdt.core.parser.IScanner;
+import org.eclipse.cdt.core.parser.NullLogService;
+import org.eclipse.cdt.core.parser.ParserLanguage;
+import org.eclipse.cdt.core.parser.ParserMode;
+import org.eclipse.cdt.core.parser.ScannerInfo;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.GNUCPPSourceParser;
+import org.eclipse.cdt.internal.core.parser.IMacroDictionary;
+import org.eclipse.cdt.internal.core.parser.scanner.CPreprocessor;
+import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContent;
+import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContentProvider;
+
+/**
+ * Creates preprocessors and parsers the same way the tests of the parser do, without
+ * depending on a workspace.
+ */
+final class ParserSupport {
+	static final IParserLogService NULL_LOG = new NullLogService();
+	private static final ScannerInfo SCANNER_INFO = new ScannerInfo(getDefinedSymbols());
+
+	private ParserSupport() {
+	}
+
+	private static Map<String, String> getDefinedSymbols() {
+		Map<String, String> map = new HashMap<>();
+		map.put("__GNUC__", "10");
+		map.put("__GNUC_MINOR__", "0");
+		map.put("__SIZEOF_SHORT__", "2");
+		map.put("__SIZEOF_INT__", "4");
+		map.put("__SIZEOF_LONG__", "8");
+		map.put("__SIZEOF_LONG_LONG__", "8");
+		map.put("__SIZEOF_DOUBLE__", "8");
+		map.put("__SIZEOF_POINTER__", "8");
+		return map;
+	}
+
+	static IScanner createScanner(Path file) {
+		FileContent content = FileContent.createForExternalFileLocation(file.toString());
+		return new CPreprocessor(content, SCANNER_INFO, ParserLanguage.CPP, NULL_LOG,
+				GPPScannerExtensionConfiguration.getInstance(SCANNER_INFO), FileSystemContentProvider.INSTANCE);
+	}
+
+	static GNUCPPSourceParser createParser(Path file) {
+		return new GNUCPPSourceParser(createScanner(file), ParserMode.COMPLETE_PARSE, NULL_LOG,
+				GPPParserExtensionConfiguration.getInstance(), null);
+	}
+
+	static IASTTranslationUnit parse(Path file) {
+		return createParser(file).parse();
+	}
+
+	/**
+	 * Resolves all names of the translation unit and returns the number of bindings found.
+	 */
+	static int resolveNames(IASTTranslationUnit tu) {
+		NameResolver resolver = new NameResolver();
+		tu.accept(resolver);
+		return resolver.fBindings;
+	}
+
+	private static class NameResolver extends ASTVisitor {
+		int fBindings;
+
+		NameResolver() {
+			shouldVisitNames = true;
+		}
+
+		@Override
+		public int visit(IASTName name) {
+			IBinding binding = name.resolveBinding();
+			if (binding != null) {
+				fBindings++;
+			}
+			return PROCESS_CONTINUE;
+		}
+	}
+
+	/**
+	 * Reads included files directly from the file system.
+	 */
+	private static class FileSystemContentProvider extends InternalFileContentProvider {
+		static final FileSystemContentProvider INSTANCE = new FileSystemContentProvider();
+
+		@Override
+		public InternalFileContent getContentForInclusion(String path, IMacroDictionary macroDictionary) {
+			if (!getInclusionExists(path))
+				return null;
+			return (InternalFileContent) FileContent.createForExternalFileLocation(path);
+		}
+
+		@Override
+		public InternalFileContent getContentForInclusion(IIndexFileLocation ifl, String astPath) {
+			return null;
+		}
+	}
+}
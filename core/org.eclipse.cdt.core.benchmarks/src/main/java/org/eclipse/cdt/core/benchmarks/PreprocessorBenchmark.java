@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.parser.EndOfFileException;
+import org.eclipse.cdt.core.parser.IScanner;
+import org.eclipse.cdt.internal.core.parser.scanner.CPreprocessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link CPreprocessor} producing the full token stream of a translation unit,
+ * including macro expansion and the processing of included files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PreprocessorBenchmark {
+	@Param({ "TEMPLATES", "MACROS", "INCLUDES" })
+	public Corpus corpus;
+
+	private Path fMainFile;
+
+	@Setup
+	public void setup() throws IOException {
+		fMainFile = corpus.create();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Corpus.delete(fMainFile);
+	}
+
+	@Benchmark
+	public int preprocess() {
+		IScanner scanner = ParserSupport.createScanner(fMainFile);
+		int tokens = 0;
+		try {
+			while (true) {
+				scanner.nextToken();
+				tokens++;
+			}
+		} catch (EndOfFileException e) {
+			return tokens;
+		}
+	}
+}
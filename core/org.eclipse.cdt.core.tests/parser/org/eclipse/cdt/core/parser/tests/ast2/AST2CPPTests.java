@@ -148,6 +148,7 @@ import org.eclipse.cdt.core.parser.ParserLanguage;
 import org.eclipse.cdt.core.parser.util.AttributeUtil;
 import org.eclipse.cdt.core.parser.util.CharArrayUtils;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPASTNameBase;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPASTTranslationUnit;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPBasicType;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPClassInstance;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPClassTemplate;
@@ -164,6 +165,7 @@ import org.eclipse.cdt.internal.core.dom.parser.cpp.ICPPInternalBinding;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.OverloadableOperator;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPSemantics;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPVisitor;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.OverloadResolutionCache;
 import org.eclipse.cdt.internal.core.index.IndexCPPSignatureUtil;
 import org.eclipse.cdt.internal.core.parser.ParserException;
 
@@ -13723,4 +13725,30 @@ public class AST2CPPTests extends AST2CPPTestBase {
 		// Invalid argument (not null pointer constant)
 		assertTrue(collector.getName(callIndexStart + 13).resolveBinding() instanceof IProblemBinding);
 	}
+
+	//	void f(long);
+	//	void f(char*);
+	//	void g(int);
+	//	void g(double);
+	//	void test() {
+	//		f(1);
+	//		f(2);
+	//		f(0);
+	//		g(1.5);
+	//		g(2.5);
+	//	}
+	public void testOverloadResolutionCache() throws Exception {
+		BindingAssertionHelper bh = getAssertionHelper();
+		IFunction fLong = bh.assertNonProblem("f(long)", 1);
+		IFunction gDouble = bh.assertNonProblem("g(double)", 1);
+		assertSame(fLong, bh.assertNonProblem("f(1)", 1));
+		assertSame(fLong, bh.assertNonProblem("f(2)", 1));
+		// The value of a null pointer constant is relevant for the resolution.
+		bh.assertProblem("f(0)", 1, IProblemBinding.SEMANTIC_AMBIGUOUS_LOOKUP);
+		assertSame(gDouble, bh.assertNonProblem("g(1.5)", 1));
+		assertSame(gDouble, bh.assertNonProblem("g(2.5)", 1));
+
+		OverloadResolutionCache cache = ((CPPASTTranslationUnit) bh.getTranslationUnit()).getOverloadResolutionCache();
+		assertEquals(2, cache.getHits());
+	}
 }
@@ -60,6 +60,9 @@ public class DOMParserTestSuite extends TestCase {
 		suite.addTestSuite(GCCCompleteParseExtensionsTest.class);
 		suite.addTestSuite(DOMPreprocessorInformationTest.class);
 		suite.addTest(CommentTests.suite());
+		suite.addTest(FunctionBodyReparserTests.suite());
+		suite.addTest(DeferredFunctionBodiesTests.suite());
+		suite.addTest(ParallelNameResolverTests.suite());
 		suite.addTest(TaskParserTest.suite());
 		suite.addTest(CompletionTestSuite.suite());
 		suite.addTestSuite(CharArrayMapTest.class);
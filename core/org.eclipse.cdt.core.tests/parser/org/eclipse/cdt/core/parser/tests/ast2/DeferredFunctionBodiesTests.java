@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.parser.tests.ast2;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.cdt.core.dom.ast.IASTCompoundStatement;
+import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTFunctionDefinition;
+import org.eclipse.cdt.core.dom.ast.gnu.cpp.GPPLanguage;
+import org.eclipse.cdt.core.model.ILanguage;
+import org.eclipse.cdt.core.parser.AbstractParserLogService;
+import org.eclipse.cdt.core.parser.FileContent;
+import org.eclipse.cdt.core.parser.IncludeFileContentProvider;
+import org.eclipse.cdt.core.parser.ScannerInfo;
+import org.eclipse.cdt.core.testplugin.ResourceHelper;
+import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
+import org.eclipse.cdt.internal.core.dom.parser.ASTNode;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPASTTranslationUnit;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.DeferredFunctionBodies;
+
+import junit.framework.TestSuite;
+
+/**
+ * Tests parsing the bodies of functions in headers that have been skipped by the parser.
+ */
+public class DeferredFunctionBodiesTests extends BaseTestCase {
+	private static final String FAILURE = "Cannot parse deferred body of ";
+
+	private static final String HEADER = "" //
+			+ "inline int inc(int a) {\n" //
+			+ "  int b = a + 1;\n" //
+			+ "  return b;\n" //
+			+ "}\n";
+	private static final String SOURCE = "" //
+			+ "#include \"test.h\"\n" //
+			+ "int main() { return inc(1); }\n";
+
+	private final List<String> fMessages = new ArrayList<>();
+
+	public static TestSuite suite() {
+		return suite(DeferredFunctionBodiesTests.class);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		ResourceHelper.cleanUp(getName());
+		super.tearDown();
+	}
+
+	private CPPASTTranslationUnit parse() throws Exception {
+		File dir = ResourceHelper.createTemporaryFolder().toFile();
+		Files.write(new File(dir, "test.h").toPath(), HEADER.getBytes(StandardCharsets.UTF_8));
+		AbstractParserLogService log = new AbstractParserLogService() {
+			@Override
+			public boolean isTracing() {
+				return true;
+			}
+
+			@Override
+			public void traceLog(String message) {
+				if (message.startsWith(FAILURE)) {
+					fMessages.add(message);
+				}
+			}
+		};
+		FileContent source = FileContent.create(new File(dir, "test.cpp").getPath(), SOURCE.toCharArray());
+		IASTTranslationUnit ast = GPPLanguage.getDefault().getASTTranslationUnit(source,
+				new ScannerInfo(null, new String[] { dir.getPath() }), IncludeFileContentProvider.getSavedFilesProvider(),
+				null, ILanguage.OPTION_DEFER_FUNCTION_BODIES_IN_HEADERS, log);
+		return (CPPASTTranslationUnit) ast;
+	}
+
+	private static ICPPASTFunctionDefinition getInc(IASTTranslationUnit ast) {
+		IASTDeclaration[] declarations = ast.getDeclarations();
+		assertEquals(2, declarations.length);
+		return (ICPPASTFunctionDefinition) declarations[0];
+	}
+
+	public void testDeferredBodyIsParsed() throws Exception {
+		CPPASTTranslationUnit ast = parse();
+		DeferredFunctionBodies bodies = ast.getDeferredFunctionBodies();
+		assertEquals(1, bodies.getDeferredCount());
+		assertEquals(0, ((IASTCompoundStatement) getInc(ast).getBody()).getStatements().length);
+
+		bodies.parse(fdef -> true);
+		assertEquals(1, bodies.getParsedCount());
+		assertEquals(0, bodies.getFailedCount());
+		assertEquals(0, bodies.getUnparsedTokenCount());
+		assertEquals(2, ((IASTCompoundStatement) getInc(ast).getBody()).getStatements().length);
+		assertEquals(0, fMessages.size());
+	}
+
+	public void testFailedBodyIsLogged() throws Exception {
+		CPPASTTranslationUnit ast = parse();
+		DeferredFunctionBodies bodies = ast.getDeferredFunctionBodies();
+		final IASTCompoundStatement placeholder = (IASTCompoundStatement) getInc(ast).getBody();
+
+		// The recorded tokens no longer match the range of the placeholder.
+		bodies.parse(fdef -> {
+			ASTNode node = (ASTNode) fdef.getBody();
+			node.setOffset(node.getOffset() + 1);
+			return true;
+		});
+		assertEquals(1, bodies.getDeferredCount());
+		assertEquals(0, bodies.getParsedCount());
+		assertEquals(1, bodies.getFailedCount());
+		assertEquals(0, bodies.getUnparsedTokenCount());
+
+		// The definition keeps the empty body.
+		assertSame(placeholder, getInc(ast).getBody());
+		assertEquals(0, placeholder.getStatements().length);
+		assertEquals(1, fMessages.size());
+		String message = fMessages.get(0);
+		assertTrue(message, message.startsWith(FAILURE + "inc in "));
+		assertTrue(message, message.contains("test.h:1"));
+	}
+}
@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.parser.tests.ast2;
+
+import org.eclipse.cdt.core.dom.ast.ASTGenericVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTComment;
+import org.eclipse.cdt.core.dom.ast.IASTFileLocation;
+import org.eclipse.cdt.core.dom.ast.IASTLiteralExpression;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IASTNode;
+import org.eclipse.cdt.core.dom.ast.IASTPreprocessorMacroExpansion;
+import org.eclipse.cdt.core.dom.ast.IASTPreprocessorStatement;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.IBinding;
+import org.eclipse.cdt.core.dom.ast.gnu.c.GCCLanguage;
+import org.eclipse.cdt.core.dom.ast.gnu.cpp.GPPLanguage;
+import org.eclipse.cdt.core.model.ILanguage;
+import org.eclipse.cdt.core.parser.FileContent;
+import org.eclipse.cdt.core.parser.IncludeFileContentProvider;
+import org.eclipse.cdt.core.parser.NullLogService;
+import org.eclipse.cdt.core.parser.ScannerInfo;
+import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
+import org.eclipse.cdt.internal.core.dom.parser.FunctionBodyReparser;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPASTTranslationUnit;
+
+import junit.framework.TestSuite;
+
+public class FunctionBodyReparserTests extends BaseTestCase {
+	private static final String PATH = "/test.cpp";
+	private static final int OPTIONS = ILanguage.OPTION_PARSE_INACTIVE_CODE | ILanguage.OPTION_TRACK_IMPLICIT_NAMES;
+
+	private static final String CODE = "" //
+			+ "#define N 3\n" //
+			+ "#define M(x) (x + 1)\n" //
+			+ "namespace ns {\n" //
+			+ "struct S { int f() { return M(N); } int g; };\n" //
+			+ "}\n" //
+			+ "// comment\n" //
+			+ "int h(int a) {\n" //
+			+ "  int b = a * N;\n" //
+			+ "  return b;\n" //
+			+ "}\n" //
+			+ "/* comment */ int k = M(2);\n" //
+			+ "template<typename T> T t(T x) { return x; }\n" //
+			+ "int z() { return __LINE__; }\n";
+
+	public static TestSuite suite() {
+		return suite(FunctionBodyReparserTests.class);
+	}
+
+	private static IASTTranslationUnit parse(ILanguage language, String code) throws Exception {
+		return language.getASTTranslationUnit(FileContent.create(PATH, code.toCharArray()), new ScannerInfo(),
+				IncludeFileContentProvider.getEmptyFilesProvider(), null, OPTIONS, new NullLogService());
+	}
+
+	private static IASTTranslationUnit reparse(ILanguage language, String code, String newCode) throws Exception {
+		FunctionBodyReparser reparser = new FunctionBodyReparser();
+		IASTTranslationUnit ast = parse(language, code);
+		describe(ast); // Resolve bindings before the update.
+		reparser.setAST(ast, FileContent.create(PATH, code.toCharArray()), new ScannerInfo(), OPTIONS);
+		IASTTranslationUnit result = reparser.reparse(language, FileContent.create(PATH, newCode.toCharArray()),
+				new ScannerInfo(), IncludeFileContentProvider.getEmptyFilesProvider(), null, OPTIONS,
+				new NullLogService());
+		if (result != null) {
+			assertSame(ast, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Describes the locations and bindings of all nodes, such that the ASTs of two parses can be
+	 * compared.
+	 */
+	private static String describe(IASTTranslationUnit ast) {
+		StringBuilder buf = new StringBuilder();
+		ast.accept(new ASTGenericVisitor(true) {
+			{
+				shouldVisitImplicitNames = true;
+				includeInactiveNodes = true;
+			}
+
+			@Override
+			protected int genericVisit(IASTNode node) {
+				buf.append(node.getClass().getSimpleName()).append(' ').append(describe(node.getFileLocation()));
+				if (node instanceof IASTName) {
+					IBinding binding = ((IASTName) node).resolveBinding();
+					buf.append(' ').append(node).append(" -> ")
+							.append(binding == null ? null : binding.getClass().getSimpleName());
+				} else if (node instanceof IASTLiteralExpression) {
+					buf.append(' ').append(((IASTLiteralExpression) node).getValue());
+				}
+				buf.append('\n');
+				return PROCESS_CONTINUE;
+			}
+		});
+		for (IASTPreprocessorStatement statement : ast.getAllPreprocessorStatements()) {
+			buf.append(statement.getRawSignature()).append(' ').append(describe(statement.getFileLocation()))
+					.append('\n');
+		}
+		for (IASTComment comment : ast.getComments()) {
+			buf.append(comment.getRawSignature()).append(' ').append(describe(comment.getFileLocation()))
+					.append('\n');
+		}
+		for (IASTPreprocessorMacroExpansion expansion : ast.getMacroExpansions()) {
+			buf.append(expansion.getRawSignature()).append(' ').append(describe(expansion.getFileLocation()))
+					.append('\n');
+		}
+		return buf.toString();
+	}
+
+	private static String describe(IASTFileLocation location) {
+		if (location == null)
+			return "-";
+		return location.getNodeOffset() + "+" + location.getNodeLength() + "@" + location.getStartingLineNumber();
+	}
+
+	private void assertReparsed(String code, String newCode) throws Exception {
+		IASTTranslationUnit ast = reparse(GPPLanguage.getDefault(), code, newCode);
+		assertNotNull(ast);
+		assertEquals(describe(parse(GPPLanguage.getDefault(), newCode)), describe(ast));
+	}
+
+	private void assertNotReparsed(String code, String newCode) throws Exception {
+		assertNull(reparse(GPPLanguage.getDefault(), code, newCode));
+	}
+
+	/**
+	 * Checks that the AST obtained like the reconciler does is the same as the one of a full parse.
+	 */
+	private void assertSameAsFullParse(String code, String newCode) throws Exception {
+		IASTTranslationUnit ast = reparse(GPPLanguage.getDefault(), code, newCode);
+		if (ast == null) {
+			ast = parse(GPPLanguage.getDefault(), newCode);
+		}
+		assertEquals(describe(parse(GPPLanguage.getDefault(), newCode)), describe(ast));
+	}
+
+	public void testModifiedFunctionBody() throws Exception {
+		assertReparsed(CODE, CODE.replace("int b = a * N;", "int b = a * N + M(a); ns::S s; b += s.f();"));
+	}
+
+	public void testModifiedMemberFunctionBody() throws Exception {
+		assertReparsed(CODE, CODE.replace("return M(N);", "return M(N) * 2 + g;"));
+	}
+
+	public void testModifiedFunctionTemplateBody() throws Exception {
+		assertReparsed(CODE, CODE.replace("return x;", "return x + x;"));
+	}
+
+	public void testAmbiguousStatements() throws Exception {
+		assertReparsed(CODE, CODE.replace("int b = a * N;", "int b(a); int (c)(b); b * c;"));
+	}
+
+	public void testAddedLinesAndComments() throws Exception {
+		String code = CODE.replace("__LINE__", "1");
+		assertReparsed(code, code.replace("int b = a * N;", "int b = a * N; // x\n  /* y */\n"));
+	}
+
+	public void testLineMacroAfterBody() throws Exception {
+		assertNotReparsed(CODE, CODE.replace("int b = a * N;", "int b = a;\n"));
+		assertSameAsFullParse(CODE, CODE.replace("int b = a * N;", "int b = a;\n"));
+		assertSameAsFullParse(CODE, CODE.replace("  return b;\n", ""));
+		// The value of __LINE__ does not change when the number of lines stays the same.
+		assertReparsed(CODE, CODE.replace("int b = a * N;", "int b = a + 1;"));
+	}
+
+	public void testImplicitNamesTrackedOnlyOnRequest() throws Exception {
+		final int options = ILanguage.OPTION_PARSE_INACTIVE_CODE;
+		IASTTranslationUnit ast = GPPLanguage.getDefault().getASTTranslationUnit(
+				FileContent.create(PATH, CODE.toCharArray()), new ScannerInfo(),
+				IncludeFileContentProvider.getEmptyFilesProvider(), null, options, new NullLogService());
+		assertFalse(((CPPASTTranslationUnit) ast).isTrackingImplicitNames());
+		assertTrue(((CPPASTTranslationUnit) parse(GPPLanguage.getDefault(), CODE)).isTrackingImplicitNames());
+
+		// An AST that does not track its implicit names cannot be updated.
+		FunctionBodyReparser reparser = new FunctionBodyReparser();
+		reparser.setAST(ast, FileContent.create(PATH, CODE.toCharArray()), new ScannerInfo(), options);
+		String newCode = CODE.replace("return x;", "return x + x;");
+		assertNull(reparser.reparse(GPPLanguage.getDefault(), FileContent.create(PATH, newCode.toCharArray()),
+				new ScannerInfo(), IncludeFileContentProvider.getEmptyFilesProvider(), null, options,
+				new NullLogService()));
+	}
+
+	public void testImplicitNamesAfterBody() throws Exception {
+		String code = "" //
+				+ "struct A {\n" //
+				+ "  A();\n" //
+				+ "  ~A();\n" //
+				+ "  A operator+(const A& a) const;\n" //
+				+ "  int operator[](int i) const;\n" //
+				+ "};\n" //
+				+ "int f(const A& a) {\n" //
+				+ "  A b = a + a;\n" //
+				+ "  return b[0];\n" //
+				+ "}\n" //
+				+ "int g() { A a, b; return (a + b)[1]; }\n" //
+				+ "A c = A() + A();\n" //
+				+ "int d = c[2];\n";
+		assertReparsed(code, code.replace("  A b = a + a;\n", "  A b = a + a + a;\n  A x;\n\n"));
+		assertReparsed(code, code.replace("  A b = a + a;\n", "  A b = a;"));
+		assertSameAsFullParse(code, code.replace("  return b[0];\n", "  return b[0] + b[1];\n  //\n"));
+	}
+
+	public void testModificationOutsideOfBody() throws Exception {
+		assertNotReparsed(CODE, CODE.replace("int k = M(2);", "int k = M(3);"));
+		assertNotReparsed(CODE, CODE.replace("int b = a * N;", "int b = a; }\nint q() {"));
+	}
+
+	public void testBodyWithLabel() throws Exception {
+		assertNotReparsed(CODE, CODE.replace("int b = a * N;", "int b = a; L: ;"));
+	}
+
+	public void testDirectiveInBody() throws Exception {
+		assertNotReparsed(CODE, CODE.replace("int b = a * N;", "#define Q 1\n  int b = a * Q;"));
+	}
+
+	public void testCIsNotReparsed() throws Exception {
+		String code = "int f(int a) { return a; }\n";
+		assertNull(reparse(GCCLanguage.getDefault(), code, code.replace("return a;", "return a + 1;")));
+	}
+}
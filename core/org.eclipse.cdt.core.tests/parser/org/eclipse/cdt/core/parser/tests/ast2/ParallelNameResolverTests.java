@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.parser.tests.ast2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IBinding;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTTemplateId;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPTemplateInstance;
+import org.eclipse.cdt.core.dom.ast.gnu.cpp.GPPLanguage;
+import org.eclipse.cdt.core.model.ILanguage;
+import org.eclipse.cdt.core.parser.FileContent;
+import org.eclipse.cdt.core.parser.IncludeFileContentProvider;
+import org.eclipse.cdt.core.parser.NullLogService;
+import org.eclipse.cdt.core.parser.ScannerInfo;
+import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPASTTranslationUnit;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.ParallelNameResolver;
+
+import junit.framework.TestSuite;
+
+/**
+ * Tests resolving the names of function bodies in parallel.
+ */
+public class ParallelNameResolverTests extends BaseTestCase {
+	private static final int BODIES = 64;
+	private static final int ROUNDS = 10;
+
+	public static TestSuite suite() {
+		return suite(ParallelNameResolverTests.class);
+	}
+
+	private static CPPASTTranslationUnit parse(String code) throws Exception {
+		return (CPPASTTranslationUnit) GPPLanguage.getDefault().getASTTranslationUnit(
+				FileContent.create("/test.cpp", code.toCharArray()), new ScannerInfo(),
+				IncludeFileContentProvider.getEmptyFilesProvider(), null, 0, new NullLogService());
+	}
+
+	/**
+	 * Returns the bindings of the references with the given identifier, in the order of the AST.
+	 */
+	private static List<IBinding> getBindings(CPPASTTranslationUnit ast, final String identifier) {
+		final List<IBinding> bindings = new ArrayList<>();
+		ast.accept(new ASTVisitor() {
+			{
+				shouldVisitNames = true;
+			}
+
+			@Override
+			public int visit(IASTName name) {
+				if (!(name instanceof ICPPASTTemplateId) && name.toString().equals(identifier)) {
+					IASTName instanceName = name;
+					if (name.getParent() instanceof ICPPASTTemplateId) {
+						instanceName = (IASTName) name.getParent();
+					}
+					if (!instanceName.isDeclaration()) {
+						bindings.add(instanceName.resolveBinding());
+					}
+				}
+				return PROCESS_CONTINUE;
+			}
+		});
+		return bindings;
+	}
+
+	private static void assertSameInstance(List<IBinding> bindings) {
+		assertEquals(BODIES, bindings.size());
+		IBinding first = bindings.get(0);
+		assertTrue(String.valueOf(first), first instanceof ICPPTemplateInstance);
+		for (IBinding binding : bindings) {
+			assertSame(first, binding);
+		}
+	}
+
+	public void testSameInstanceFromParallelBodies() throws Exception {
+		StringBuilder code = new StringBuilder();
+		code.append("template<typename T> struct box { T value; };\n");
+		code.append("template<typename T> T twice(T t) { return t + t; }\n");
+		for (int i = 0; i < BODIES; i++) {
+			code.append("int f").append(i).append("() {\n");
+			code.append("  box<int> b;\n");
+			code.append("  b.value = ").append(i).append(";\n");
+			code.append("  return twice(b.value);\n");
+			code.append("}\n");
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(8);
+		try {
+			for (int round = 0; round < ROUNDS; round++) {
+				CPPASTTranslationUnit ast = parse(code.toString());
+				new ParallelNameResolver(pool).resolveNames(ast);
+				assertSameInstance(getBindings(ast, "box"));
+				assertSameInstance(getBindings(ast, "twice"));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
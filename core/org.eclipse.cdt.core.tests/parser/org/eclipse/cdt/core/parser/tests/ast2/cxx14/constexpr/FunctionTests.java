@@ -15,6 +15,7 @@ import org.eclipse.cdt.core.dom.ast.IASTFunctionCallExpression;
 import org.eclipse.cdt.core.dom.ast.IASTIdExpression;
 import org.eclipse.cdt.core.dom.ast.IASTInitializerClause;
 import org.eclipse.cdt.core.dom.ast.cpp.ICPPFunction;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPASTTranslationUnit;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPFunction;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.ICPPExecution;
 
@@ -290,4 +291,35 @@ public abstract class FunctionTests extends TestBase {
 	public void testLambdaExpression2_560483() throws Exception {
 		assertEvaluationEquals(58);
 	}
-}
\ No newline at end of file
+
+	// constexpr int fib(int n) {
+	//   return n < 2 ? n : fib(n - 1) + fib(n - 2);
+	// }
+
+	// constexpr int x = fib(6);
+	public void testRepeatedCallsAreCached() throws Exception {
+		assertEvaluationEquals(8);
+		CPPASTTranslationUnit tu = (CPPASTTranslationUnit) strategy.getAst(0);
+		assertTrue(tu.getConstexprEvaluationCache().getHits() > 0);
+	}
+
+	//	struct S {
+	//	  int a;
+	//	  int b;
+	//	  constexpr S(int n) : a(n), b(n) {}
+	//	};
+	//	constexpr S make(int n) {
+	//	  return S(n);
+	//	}
+	//	constexpr int f() {
+	//	  S s = make(1);
+	//	  s.a = 5;
+	//	  S t = make(1);
+	//	  return t.a * 10 + s.a;
+	//	}
+
+	//	constexpr int x = f();
+	public void testCachedResultIsNotShared() throws Exception {
+		assertEvaluationEquals(15);
+	}
+}
@@ -85,9 +85,7 @@ public class ExpansionExplorerTests extends BaseTestCase {
 	}
 
 	private MacroExpander createExpander(final String macrodefs) throws OffsetLimitReachedException {
-		CPreprocessor cpp = new CPreprocessor(FileContent.create("<macro-expander>", macrodefs.toCharArray()),
-				new ScannerInfo(), ParserLanguage.C, new NullLogService(),
-				GCCScannerExtensionConfiguration.getInstance(), IncludeFileContentProvider.getEmptyFilesProvider());
+		CPreprocessor cpp = createPreprocessor(macrodefs);
 		int type;
 		do {
 			type = cpp.nextTokenRaw().getType();
@@ -95,6 +93,46 @@ public class ExpansionExplorerTests extends BaseTestCase {
 		return cpp.getAdapter(MacroExpander.class);
 	}
 
+	private CPreprocessor createPreprocessor(String code) {
+		return new CPreprocessor(FileContent.create("<macro-expander>", code.toCharArray()), new ScannerInfo(),
+				ParserLanguage.C, new NullLogService(), GCCScannerExtensionConfiguration.getInstance(),
+				IncludeFileContentProvider.getEmptyFilesProvider());
+	}
+
+	/**
+	 * Returns the images of the tokens produced by the preprocessor, separated by single spaces.
+	 */
+	private String preprocess(String code) throws OffsetLimitReachedException {
+		CPreprocessor cpp = createPreprocessor(code);
+		StringBuilder buf = new StringBuilder();
+		for (IToken t = cpp.nextTokenRaw(); t.getType() != IToken.tEND_OF_INPUT; t = cpp.nextTokenRaw()) {
+			if (buf.length() > 0) {
+				buf.append(' ');
+			}
+			buf.append(t.getImage());
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * Compares the expansion of the macro at the start of each line of the input as performed by the preprocessor with the
+	 * one performed while the expansion is tracked. The preprocessor consumes the argument lists
+	 * of macros, whereas the tracker keeps references to them and causes them to be copied.
+	 */
+	private void verifyExpansions() throws Exception {
+		CharSequence[] bufs = TestSourceReader.getContentsForTest(CTestPlugin.getDefault().getBundle(), "parser",
+				getClass(), getName(), 2);
+		final String macrodefs = bufs[0].toString();
+		final MacroExpander expander = createExpander(macrodefs);
+		for (String line : bufs[1].toString().trim().split("\n")) {
+			MacroExpansionTracker tracker = new MacroExpansionTracker(Integer.MAX_VALUE);
+			expander.expand(line, tracker, "", 1, false);
+			assertNotNull(line, tracker.getReplacement());
+			String tracked = apply(tracker.getCodeBeforeStep(), tracker.getReplacement());
+			assertEquals(line, preprocess(tracked), preprocess(macrodefs + "\n" + line));
+		}
+	}
+
 	// #define A
 
 	// B
@@ -359,4 +397,39 @@ public class ExpansionExplorerTests extends BaseTestCase {
 	public void testTooFewArgs() throws Exception {
 		performTest(2);
 	}
+
+	// #define ONCE(x) (x)
+	// #define TWICE(x) ((x) + (x))
+	// #define NONE(x) 0
+	// #define CAT(a, b) a ## b
+	// #define CAT_TWICE(a) a ## a
+	// #define STR(x) #x
+	// #define XSTR(x) STR(x)
+	// #define STR_AND_USE(x) #x, x
+	// #define CALL(f, ...) f(__VA_ARGS__)
+	// #define CALL0(f, args...) f(0, ## args)
+	// #define NESTED(x, y) ONCE(TWICE(x) + y) + CAT(x, y)
+	// #define _a a
+	// #define _b b
+
+	// ONCE(_a + _b)
+	// TWICE(ONCE(_a))
+	// NONE(_a)
+	// CAT(_a, _b)
+	// CAT(_, a)
+	// CAT(, _b)
+	// CAT_TWICE(_a)
+	// STR(_a + _b)
+	// XSTR(_a + _b)
+	// STR_AND_USE(TWICE(_a))
+	// CALL(f, _a, ONCE(_b), TWICE(_a))
+	// CALL(g)
+	// CALL0(f, _a, _b)
+	// CALL0(g)
+	// NESTED(_a, _b)
+	// NESTED(ONCE(_a), TWICE(_b))
+	// ONCE(ONCE(ONCE(_a)))
+	public void testExpansionWithAndWithoutTracker() throws Exception {
+		verifyExpansions();
+	}
 }
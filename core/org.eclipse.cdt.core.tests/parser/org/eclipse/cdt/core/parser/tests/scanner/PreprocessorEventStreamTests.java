@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.parser.tests.scanner;
+
+import org.eclipse.cdt.core.parser.IPreprocessorDirective;
+import org.eclipse.cdt.core.parser.IPreprocessorEventStream;
+import org.eclipse.cdt.internal.core.parser.scanner.PreprocessorEventStream;
+
+import junit.framework.TestSuite;
+
+public class PreprocessorEventStreamTests extends PreprocessorTestsBase {
+
+	public static TestSuite suite() {
+		return suite(PreprocessorEventStreamTests.class);
+	}
+
+	private IPreprocessorEventStream fStream;
+
+	@Override
+	protected void initializeScanner() throws Exception {
+		super.initializeScanner();
+		fStream = new PreprocessorEventStream(fScanner);
+	}
+
+	private void assertToken(String image) {
+		assertEquals(IPreprocessorEventStream.TOKEN, fStream.next());
+		assertEquals(image, new String(fStream.getImage()));
+	}
+
+	private void assertDirective(int kind, String name, boolean taken) {
+		assertEquals(IPreprocessorEventStream.DIRECTIVE, fStream.next());
+		assertEquals(kind, fStream.getDirectiveKind());
+		assertEquals(name, fStream.getDirectiveName() == null ? null : new String(fStream.getDirectiveName()));
+		assertEquals(taken, fStream.isTaken());
+	}
+
+	// /* comment */
+	// #define F(x) (x + 1)
+	// #ifdef UNDEFINED
+	// int a;
+	// #elif 1
+	// int b = F(2);
+	// #endif
+	public void testEvents() throws Exception {
+		initializeScanner();
+		assertEquals(IPreprocessorEventStream.COMMENT, fStream.next());
+		assertTrue(fStream.isBlockComment());
+		assertEquals("/* comment */", new String(fStream.getImage()));
+		assertEquals(0, fStream.getOffset());
+		assertDirective(IPreprocessorDirective.ppDefine, "F", false);
+		assertDirective(IPreprocessorDirective.ppIfdef, "UNDEFINED", false);
+		assertDirective(IPreprocessorDirective.ppElif, null, true);
+		assertToken("int");
+		assertEquals(fCode.indexOf("int b"), fStream.getOffset());
+		assertToken("b");
+		assertToken("=");
+		assertToken("(");
+		// Tokens resulting from a macro expansion are located at the expansion.
+		assertEquals(fCode.indexOf("F(2)"), fStream.getOffset());
+		assertEquals(4, fStream.getLength());
+		assertToken("2");
+		assertToken("+");
+		assertToken("1");
+		assertToken(")");
+		assertToken(";");
+		assertDirective(IPreprocessorDirective.ppEndif, null, false);
+		assertEquals(IPreprocessorEventStream.END, fStream.next());
+		assertEquals(IPreprocessorEventStream.END, fStream.next());
+
+		// The nodes are not stored in the location map.
+		assertEquals(0, fLocationResolver.getAllPreprocessorStatements().length);
+		assertEquals(0, fLocationResolver.getComments().length);
+	}
+
+	// #include "missing.h"
+	// #undef X
+	// #pragma once
+	public void testInclusion() throws Exception {
+		initializeScanner();
+		assertDirective(IPreprocessorDirective.ppInclude, "missing.h", false);
+		assertTrue(fStream.isActive());
+		assertNull(fStream.getIncludedFilePath());
+		assertDirective(IPreprocessorDirective.ppUndef, "X", false);
+		assertEquals(fCode.indexOf("#undef"), fStream.getOffset());
+		assertDirective(IPreprocessorDirective.ppPragma, null, false);
+		assertEquals(IPreprocessorEventStream.END, fStream.next());
+	}
+}
@@ -34,6 +34,7 @@ public class ScannerTestSuite extends TestSuite {
 		suite.addTest(InactiveCodeTests.suite());
 		suite.addTest(StreamHasherTests.suite());
 		suite.addTest(FileCharArrayTests.suite());
+		suite.addTest(PreprocessorEventStreamTests.suite());
 		return suite;
 	}
 }
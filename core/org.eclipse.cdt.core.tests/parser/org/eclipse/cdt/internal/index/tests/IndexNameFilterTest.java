@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.index.tests;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.dom.ILinkage;
+import org.eclipse.cdt.core.dom.IPDOMManager;
+import org.eclipse.cdt.core.index.IIndex;
+import org.eclipse.cdt.core.index.IIndexFile;
+import org.eclipse.cdt.core.index.IndexLocationFactory;
+import org.eclipse.cdt.core.model.ICProject;
+import org.eclipse.cdt.core.testplugin.CProjectHelper;
+import org.eclipse.cdt.core.testplugin.CTestPlugin;
+import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
+import org.eclipse.cdt.core.testplugin.util.TestSourceReader;
+import org.eclipse.cdt.internal.core.index.IIndexFragmentFile;
+import org.eclipse.cdt.internal.core.index.IWritableIndex;
+import org.eclipse.cdt.internal.core.pdom.PDOMManager;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+
+import junit.framework.TestSuite;
+
+/**
+ * Tests the filters of the names of the files in the index, see {@link IIndex#findFilesWithName(char[])}.
+ */
+public class IndexNameFilterTest extends BaseTestCase {
+	/** The test that is preceded by the sources shared by the tests */
+	private static final String SHARED_SOURCES = "testFindFilesWithName";
+	private static final int ABSENT_NAMES = 100;
+
+	private ICProject fCProject;
+	private IIndex fIndex;
+
+	public IndexNameFilterTest(String name) {
+		super(name);
+	}
+
+	public static TestSuite suite() {
+		return suite(IndexNameFilterTest.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fCProject = CProjectHelper.createCCProject("__nameFilterTest__", "bin", IPDOMManager.ID_FAST_INDEXER);
+		waitForIndexer(fCProject);
+		fIndex = CCorePlugin.getIndexManager().getIndex(fCProject);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (fCProject != null) {
+			CProjectHelper.delete(fCProject);
+		}
+		super.tearDown();
+	}
+
+	/**
+	 * Creates the files of the test and waits until the sources are indexed. The first line of each
+	 * comment section is the name of the file.
+	 */
+	private IFile[] createFiles(String testName, int blocks) throws Exception {
+		CharSequence[] contents = TestSourceReader.getContentsForTest(CTestPlugin.getDefault().getBundle(),
+				"parser", getClass(), testName, blocks);
+		IFile[] files = new IFile[contents.length];
+		for (int i = 0; i < contents.length; i++) {
+			String text = contents[i].toString();
+			String fileName = text.substring(0, text.indexOf('\n')).replace("//", "").trim();
+			files[i] = TestSourceReader.createFile(fCProject.getProject(), new Path(fileName), text);
+		}
+		for (IFile file : files) {
+			if (file.getName().endsWith(".cpp")) {
+				TestSourceReader.waitUntilFileIsIndexed(fIndex, file, INDEXER_TIMEOUT_MILLISEC);
+			}
+		}
+		return files;
+	}
+
+	/**
+	 * Returns the names of the files that are returned by {@link IIndex#findFilesWithName(char[])}.
+	 */
+	private Set<String> findFilesWithName(String name) throws Exception {
+		fIndex.acquireReadLock();
+		try {
+			Set<String> result = new HashSet<>();
+			for (IIndexFile file : fIndex.findFilesWithName(name.toCharArray())) {
+				result.add(new Path(file.getLocation().getURI().getPath()).lastSegment());
+			}
+			return result;
+		} finally {
+			fIndex.releaseReadLock();
+		}
+	}
+
+	private void assertFilesWithName(String name, String... fileNames) throws Exception {
+		Set<String> files = findFilesWithName(name);
+		assertTrue(name + ": " + files, files.containsAll(Arrays.asList(fileNames)));
+	}
+
+	/**
+	 * Asserts that the index has a filter for the names of the file, which excludes most of the names
+	 * that are not in the file. The filter may have false positives.
+	 */
+	private void assertHasFilter(IFile file) throws Exception {
+		fIndex.acquireReadLock();
+		try {
+			IIndexFile[] files = fIndex.getFiles(ILinkage.CPP_LINKAGE_ID, IndexLocationFactory.getWorkspaceIFL(file));
+			assertEquals(file.getName(), 1, files.length);
+			int falsePositives = 0;
+			for (int i = 0; i < ABSENT_NAMES; i++) {
+				if (files[0].mayContainName(("absent" + i).toCharArray())) {
+					falsePositives++;
+				}
+			}
+			assertTrue(file.getName() + ": " + falsePositives, falsePositives < ABSENT_NAMES / 10);
+		} finally {
+			fIndex.releaseReadLock();
+		}
+	}
+
+	//	// decl.h
+	//	int target(int);
+
+	//	// macro.h
+	//	#define TARGET_MACRO 1
+
+	//	// ref.cpp
+	//	#include "decl.h"
+	//	int refs() { return target(1); }
+
+	//	// macroref.cpp
+	//	#include "macro.h"
+	//	int macroRefs() { return TARGET_MACRO; }
+
+	//	// other.cpp
+	//	int other(int i) { return i; }
+	public void testFindFilesWithName() throws Exception {
+		IFile[] files = createFiles(SHARED_SOURCES, 5);
+		// Declarations and references of bindings, definitions and references of macros.
+		assertFilesWithName("target", "decl.h", "ref.cpp");
+		assertFilesWithName("TARGET_MACRO", "macro.h", "macroref.cpp");
+		assertFilesWithName("other", "other.cpp");
+		for (IFile file : files) {
+			assertHasFilter(file);
+		}
+	}
+
+	//	// ref.cpp
+	//	int replaced() { return 0; }
+	public void testReplacedFile() throws Exception {
+		createFiles(SHARED_SOURCES, 5);
+		assertFilesWithName("target", "ref.cpp");
+
+		// The updated contents of the file replace the ones in the index, along with the filter.
+		IFile ref = createFiles(getName(), 1)[0];
+		assertFilesWithName("replaced", "ref.cpp");
+		assertHasFilter(ref);
+	}
+
+	public void testClearedFile() throws Exception {
+		IFile other = createFiles(SHARED_SOURCES, 5)[4];
+		assertFilesWithName("other", "other.cpp");
+
+		// A file without content is not returned.
+		IWritableIndex index = ((PDOMManager) CCorePlugin.getIndexManager()).getWritableIndex(fCProject);
+		index.acquireWriteLock(new NullProgressMonitor());
+		try {
+			IIndexFragmentFile[] files = index.getWritableFiles(IndexLocationFactory.getWorkspaceIFL(other));
+			assertEquals(1, files.length);
+			index.clearFile(files[0]);
+		} finally {
+			index.releaseWriteLock();
+		}
+		assertFalse(findFilesWithName("other").contains("other.cpp"));
+
+		// Indexing the file again stores a new filter.
+		other = TestSourceReader.createFile(fCProject.getProject(), "other.cpp", "int other(int i) { return -i; }\n");
+		TestSourceReader.waitUntilFileIsIndexed(fIndex, other, INDEXER_TIMEOUT_MILLISEC);
+		assertFilesWithName("other", "other.cpp");
+		assertHasFilter(other);
+	}
+}
@@ -44,6 +44,10 @@ public class IndexTestSuite extends TestSuite {
 		suite.addTest(IndexProviderManagerTest.suite());
 		suite.addTest(IndexMultiVariantHeaderTest.suite());
 		suite.addTest(IndexMultiFileTest.suite());
+		suite.addTest(IndexerModesTest.suite());
+		suite.addTest(TemplateInstanceCacheTest.suite());
+		suite.addTest(IndexNameFilterTest.suite());
+		suite.addTest(StandaloneIndexerUpdateTest.suite());
 
 		// C++14 index test suites
 		suite.addTestSuite(ReturnTypeDeductionIndexTests.class);
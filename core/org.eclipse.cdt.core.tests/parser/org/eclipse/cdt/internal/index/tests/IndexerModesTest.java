@@ -0,0 +1,364 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.index.tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.dom.IPDOMManager;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.index.IIndex;
+import org.eclipse.cdt.core.index.IIndexBinding;
+import org.eclipse.cdt.core.index.IIndexFile;
+import org.eclipse.cdt.core.index.IIndexInclude;
+import org.eclipse.cdt.core.index.IIndexMacro;
+import org.eclipse.cdt.core.index.IIndexMacroContainer;
+import org.eclipse.cdt.core.index.IIndexName;
+import org.eclipse.cdt.core.model.CoreModel;
+import org.eclipse.cdt.core.model.ICProject;
+import org.eclipse.cdt.core.model.ILanguage;
+import org.eclipse.cdt.core.model.ITranslationUnit;
+import org.eclipse.cdt.core.parser.FileContent;
+import org.eclipse.cdt.core.parser.IncludeFileContentProvider;
+import org.eclipse.cdt.core.parser.NullLogService;
+import org.eclipse.cdt.core.testplugin.CProjectHelper;
+import org.eclipse.cdt.core.testplugin.CTestPlugin;
+import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
+import org.eclipse.cdt.core.testplugin.util.TestSourceReader;
+import org.eclipse.cdt.internal.core.pdom.indexer.IndexerPreferences;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Path;
+
+import junit.framework.TestSuite;
+
+/**
+ * Indexes the same sources with the default settings and with the indexer modes that must not
+ * change the content of the index, and compares the resulting bindings and references.
+ */
+public class IndexerModesTest extends BaseTestCase {
+	/** The test that is preceded by the sources shared by the tests */
+	private static final String SHARED_SOURCES = "testParallelParsing";
+
+	private ICProject fCProject;
+	private IIndex fIndex;
+
+	public IndexerModesTest(String name) {
+		super(name);
+	}
+
+	public static TestSuite suite() {
+		return suite(IndexerModesTest.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fCProject = CProjectHelper.createCCProject("__modesTest__", "bin", IPDOMManager.ID_FAST_INDEXER);
+		waitForIndexer(fCProject);
+		fIndex = CCorePlugin.getIndexManager().getIndex(fCProject);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (fCProject != null) {
+			CProjectHelper.delete(fCProject);
+		}
+		super.tearDown();
+	}
+
+	private IProject getProject() {
+		return fCProject.getProject();
+	}
+
+	/**
+	 * Creates the files of the test. The first line of each comment section is the name of the file.
+	 */
+	private void createFiles(int blocks) throws Exception {
+		createFiles(getName(), blocks);
+	}
+
+	private void createFiles(String testName, int blocks) throws Exception {
+		CharSequence[] contents = TestSourceReader.getContentsForTest(CTestPlugin.getDefault().getBundle(),
+				"parser", getClass(), testName, blocks);
+		for (CharSequence content : contents) {
+			String text = content.toString();
+			String fileName = text.substring(0, text.indexOf('\n')).replace("//", "").trim();
+			TestSourceReader.createFile(getProject(), new Path(fileName), text);
+		}
+	}
+
+	/**
+	 * Rebuilds the index and returns a description of its names, macros and includes.
+	 */
+	private String reindexAndDescribe() throws Exception {
+		reindex();
+		fIndex.acquireReadLock();
+		try {
+			StringBuilder buf = new StringBuilder();
+			IIndexFile[] files = fIndex.getAllFiles();
+			Arrays.sort(files, Comparator.comparing(IndexerModesTest::getPath));
+			for (IIndexFile file : files) {
+				buf.append(getPath(file)).append('\n');
+				for (IIndexInclude include : file.getIncludes()) {
+					buf.append("  #include ").append(include.getFullName()).append(' ')
+							.append(include.isResolved()).append('\n');
+				}
+				for (IIndexMacro macro : file.getMacros()) {
+					buf.append("  #define ").append(macro.getName()).append(' ')
+							.append(macro.getFileLocation().getNodeOffset()).append('\n');
+				}
+				List<IIndexName> names = new ArrayList<>(Arrays.asList(file.findNames(0, Integer.MAX_VALUE)));
+				names.sort(Comparator.comparingInt(IIndexName::getNodeOffset)
+						.thenComparingInt(IIndexName::getNodeLength).thenComparing(IIndexName::toString));
+				for (IIndexName name : names) {
+					buf.append("  ").append(name.getNodeOffset()).append(' ').append(name).append(' ');
+					buf.append(name.isDefinition() ? "def" : name.isDeclaration() ? "decl" : "ref");
+					IIndexBinding binding = fIndex.findBinding(name);
+					if (binding != null) {
+						buf.append(' ').append(String.join("::", binding.getQualifiedName())).append(' ')
+								.append(binding.getClass().getSimpleName());
+					}
+					buf.append('\n');
+				}
+			}
+			return buf.toString();
+		} finally {
+			fIndex.releaseReadLock();
+		}
+	}
+
+	private void reindex() throws Exception {
+		CCorePlugin.getIndexManager().reindex(fCProject);
+		waitForIndexer(fCProject);
+	}
+
+	/**
+	 * Returns a description of the names in the file with the given name, other than the references
+	 * to macros. The names are described without their offsets and are sorted, such that the names
+	 * of two files with the same code can be compared.
+	 */
+	private String describeNames(String fileName) throws Exception {
+		fIndex.acquireReadLock();
+		try {
+			for (IIndexFile file : fIndex.getAllFiles()) {
+				if (!getPath(file).endsWith("/" + fileName))
+					continue;
+				List<String> result = new ArrayList<>();
+				for (IIndexName name : file.findNames(0, Integer.MAX_VALUE)) {
+					IIndexBinding binding = fIndex.findBinding(name);
+					if (binding instanceof IIndexMacroContainer)
+						continue;
+					StringBuilder buf = new StringBuilder();
+					buf.append(name).append(' ');
+					buf.append(name.isDefinition() ? "def" : name.isDeclaration() ? "decl" : "ref");
+					if (binding != null) {
+						buf.append(' ').append(String.join("::", binding.getQualifiedName())).append(' ')
+								.append(binding.getClass().getSimpleName());
+					}
+					result.add(buf.toString());
+				}
+				result.sort(null);
+				return String.join("\n", result);
+			}
+			fail("File " + fileName + " is not indexed");
+			return null;
+		} finally {
+			fIndex.releaseReadLock();
+		}
+	}
+
+	private static String getPath(IIndexFile file) {
+		try {
+			return file.getLocation().getFullPath();
+		} catch (CoreException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Asserts that the index has the same content with the given indexer preference as with the
+	 * default settings. The preference is stored with the project, which is deleted after the test.
+	 */
+	private void assertSameIndex(String key, String value) throws Exception {
+		String expected = reindexAndDescribe();
+		assertTrue(expected, expected.contains(" ref "));
+		IndexerPreferences.set(getProject(), key, value);
+		assertEquals(expected, reindexAndDescribe());
+	}
+
+	//	// common.h
+	//	#pragma once
+	//	#define SQUARE(x) ((x) * (x))
+	//	namespace ns {
+	//	  struct Point { int x, y; int dot(const Point& p) const; };
+	//	  template<typename T> T max(T a, T b) { return a < b ? b : a; }
+	//	  int distance(const Point& a, const Point& b);
+	//	  inline int twice(int i) { return 2 * i; }
+	//	  struct Counter {
+	//	    int n = 0;
+	//	    void inc() { n += twice(1); }
+	//	    int get() const { return n; }
+	//	  };
+	//	}
+
+	//	// a.cpp
+	//	#include "common.h"
+	//	int ns::Point::dot(const Point& p) const { return x * p.x + y * p.y; }
+	//	int ns::distance(const Point& a, const Point& b) { return SQUARE(a.x - b.x) + SQUARE(a.y - b.y); }
+
+	//	// b.cpp
+	//	#include "common.h"
+	//	int b() { ns::Point p = { 1, 2 }; return ns::max(p.dot(p), 3); }
+	//	int b2() { ns::Counter k; k.inc(); return k.get() + SQUARE(ns::twice(2)); }
+
+	//	// c.cpp
+	//	#include "common.h"
+	//	static double c(double d) { return ns::max(d, SQUARE(d)); }
+	//	int c2() { return ns::distance(ns::Point(), ns::Point()) + c(1.0); }
+
+	//	// d.cpp
+	//	#include "common.h"
+	//	#include "missing.h"
+	//	struct D : ns::Point { int dx() const { return dot(*this) - x; } };
+
+	//	// e.cpp
+	//	#include "common.h"
+	//	using namespace ns;
+	//	long e(long l) { return max(l, 2L) + Point().dot(Point()); }
+	public void testParallelParsing() throws Exception {
+		createFiles(6);
+		assertSameIndex(IndexerPreferences.KEY_WORKER_THREADS, "3");
+	}
+
+	public void testDeferredHeaderFunctionBodies() throws Exception {
+		createFiles(SHARED_SOURCES, 6);
+		assertSameIndex(IndexerPreferences.KEY_DEFER_HEADER_FUNCTION_BODIES, "true");
+	}
+
+	public void testCompactAST() throws Exception {
+		createFiles(SHARED_SOURCES, 6);
+		assertSameIndex(IndexerPreferences.KEY_COMPACT_AST, "true");
+		assertTrue(IndexerPreferences.getCompactAST(getProject()));
+
+		// The names of a compact AST share their images and the nodes don't cache their locations.
+		assertCompactAST(parse("b.cpp", ILanguage.OPTION_COMPACT_AST), true);
+		assertCompactAST(parse("b.cpp", 0), false);
+	}
+
+	private IASTTranslationUnit parse(String fileName, int options) throws Exception {
+		ITranslationUnit tu = (ITranslationUnit) CoreModel.getDefault().create(getProject().getFile(fileName));
+		return tu.getLanguage().getASTTranslationUnit(FileContent.create(tu), tu.getScannerInfo(true),
+				IncludeFileContentProvider.getSavedFilesProvider(), null, options, new NullLogService());
+	}
+
+	private static void assertCompactAST(IASTTranslationUnit ast, boolean compact) {
+		final Map<String, List<IASTName>> names = new HashMap<>();
+		ast.accept(new ASTVisitor() {
+			{
+				shouldVisitNames = true;
+			}
+
+			@Override
+			public int visit(IASTName name) {
+				names.computeIfAbsent(name.toString(), k -> new ArrayList<>()).add(name);
+				return PROCESS_CONTINUE;
+			}
+		});
+		for (String identifier : new String[] { "ns", "Point", "p" }) {
+			List<IASTName> list = names.get(identifier);
+			assertNotNull(identifier, list);
+			assertTrue(identifier, list.size() > 1);
+			char[] first = list.get(0).getSimpleID();
+			boolean shared = true;
+			for (IASTName name : list) {
+				shared &= name.getSimpleID() == first;
+			}
+			assertEquals(identifier, compact, shared);
+		}
+		IASTName name = names.get("Point").get(0);
+		assertEquals(compact, name.getFileLocation() != name.getFileLocation());
+		assertEquals(compact, name.getNodeLocations() != name.getNodeLocations());
+	}
+
+	public void testProfiling() throws Exception {
+		createFiles(SHARED_SOURCES, 6);
+		String expected = reindexAndDescribe();
+		// Profiling is enabled by a trace option, which can also be set as a system property.
+		String option = CCorePlugin.PLUGIN_ID + "/debug/indexer/profile";
+		System.setProperty(option, "true");
+		try {
+			assertEquals(expected, reindexAndDescribe());
+		} finally {
+			System.clearProperty(option);
+		}
+	}
+
+	public void testParallelNameResolution() throws Exception {
+		createFiles(SHARED_SOURCES, 6);
+		assertSameIndex(IndexerPreferences.KEY_PARALLEL_NAME_RESOLUTION, "true");
+	}
+
+	//	// macros.h
+	//	#pragma once
+	//	#define ONCE(x) (x)
+	//	#define TWICE(x) ((x) + (x))
+	//	#define NONE(x) 0
+	//	#define CAT(a, b) a ## b
+	//	#define STR(x) #x
+	//	#define DECLARE(type, name) type name(type value)
+	//	#define DEFINE(type, name, expr) DECLARE(type, name) { return expr; }
+	//	#define GETTER(name) int get_ ## name() const { return name; }
+	//	#define CALL(f, ...) f(__VA_ARGS__)
+	//	#define CALL0(f, args...) f(0, ## args)
+	//	struct Data {
+	//	  int size, count;
+	//	  GETTER(size)
+	//	  GETTER(count)
+	//	};
+
+	//	// macros.cpp
+	//	#include "macros.h"
+	//	DEFINE(int, identity, ONCE(value))
+	//	DEFINE(long, twice, TWICE(value))
+	//	DEFINE(int, zero, NONE(value))
+	//	int sum(int a, int b, int c);
+	//	int CAT(use, Data)(const Data& d) { return CALL(sum, d.get_size(), ONCE(d.get_count()), identity(d.size)); }
+	//	const char* name() { return STR(Data); }
+	//	int calls(int i) { return CALL0(sum, i, TWICE(i)) + CALL0(zero) + CALL(twice, ONCE(identity(i))); }
+
+	//	// expanded.cpp
+	//	#include "macros.h"
+	//	int identity(int value) { return (value); }
+	//	long twice(long value) { return ((value) + (value)); }
+	//	int zero(int value) { return 0; }
+	//	int sum(int a, int b, int c);
+	//	int useData(const Data& d) { return sum(d.get_size(), (d.get_count()), identity(d.size)); }
+	//	const char* name() { return "Data"; }
+	//	int calls(int i) { return sum(0, i, ((i) + (i))) + zero(0) + twice((identity(i))); }
+	public void testMacroExpansion() throws Exception {
+		// The arguments of the macros are used once, more than once, not at all, pasted and
+		// stringified. The code with the macros expanded by the indexer has the same names as the
+		// code with the macros expanded by hand.
+		createFiles(3);
+		reindex();
+		String expected = describeNames("expanded.cpp");
+		assertTrue(expected, expected.contains("sum ref sum"));
+		assertEquals(expected, describeNames("macros.cpp"));
+	}
+}
@@ -0,0 +1,325 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.index.tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.eclipse.cdt.core.dom.ILinkage;
+import org.eclipse.cdt.core.dom.ast.gnu.cpp.GPPLanguage;
+import org.eclipse.cdt.core.index.IIndexMacro;
+import org.eclipse.cdt.core.index.IndexFilter;
+import org.eclipse.cdt.core.index.URIRelativeLocationConverter;
+import org.eclipse.cdt.core.parser.AbstractParserLogService;
+import org.eclipse.cdt.core.parser.ScannerInfo;
+import org.eclipse.cdt.core.testplugin.CTestPlugin;
+import org.eclipse.cdt.core.testplugin.ResourceHelper;
+import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
+import org.eclipse.cdt.core.testplugin.util.TestSourceReader;
+import org.eclipse.cdt.internal.core.dom.parser.TranslationUnitProfile;
+import org.eclipse.cdt.internal.core.index.IWritableIndex;
+import org.eclipse.cdt.internal.core.indexer.FileEncodingRegistry;
+import org.eclipse.cdt.internal.core.indexer.StandaloneFastIndexer;
+import org.eclipse.cdt.internal.core.indexer.StandaloneIndexer;
+import org.eclipse.cdt.internal.core.parser.InternalParserUtil;
+import org.eclipse.cdt.internal.core.pdom.IndexerStatistics;
+import org.eclipse.cdt.internal.core.pdom.WritablePDOM;
+import org.eclipse.cdt.internal.core.pdom.db.Database;
+import org.eclipse.cdt.internal.core.pdom.dom.IPDOMLinkageFactory;
+import org.eclipse.cdt.internal.core.pdom.dom.c.PDOMCLinkageFactory;
+import org.eclipse.cdt.internal.core.pdom.dom.cpp.PDOMCPPLinkageFactory;
+
+import junit.framework.TestSuite;
+
+/**
+ * Tests the incremental update of an existing index by the standalone indexer, and the profile
+ * collected while indexing.
+ */
+public class StandaloneIndexerUpdateTest extends BaseTestCase {
+	private static final String PARSING = "Indexer: parsing ";
+
+	private File fDirectory;
+	private File fSourceDirectory;
+	private StandaloneIndexer fIndexer;
+	/** The names of the files parsed by the indexer, in the order they were parsed */
+	private final List<String> fParsedFiles = Collections.synchronizedList(new ArrayList<>());
+	/** A timestamp in the past, such that the files can be modified with a later timestamp */
+	private long fTimestamp;
+
+	public StandaloneIndexerUpdateTest(String name) {
+		super(name);
+	}
+
+	public static TestSuite suite() {
+		return suite(StandaloneIndexerUpdateTest.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fDirectory = ResourceHelper.createTemporaryFolder().toFile();
+		fSourceDirectory = new File(fDirectory, "src");
+		fSourceDirectory.mkdir();
+		fTimestamp = System.currentTimeMillis() - 100000;
+		fIndexer = createIndexer();
+	}
+
+	private StandaloneIndexer createIndexer() {
+		Map<String, IPDOMLinkageFactory> linkageFactories = new HashMap<>();
+		linkageFactories.put(ILinkage.C_LINKAGE_NAME, new PDOMCLinkageFactory());
+		linkageFactories.put(ILinkage.CPP_LINKAGE_NAME, new PDOMCPPLinkageFactory());
+		AbstractParserLogService log = new AbstractParserLogService() {
+			@Override
+			public boolean isTracing() {
+				return true;
+			}
+
+			@Override
+			public void traceLog(String message) {
+				if (message.startsWith(PARSING)) {
+					fParsedFiles.add(new File(message.substring(PARSING.length())).getName());
+				}
+			}
+		};
+		StandaloneIndexer indexer = new StandaloneFastIndexer(new File(fDirectory, "index.pdom"),
+				new URIRelativeLocationConverter(fSourceDirectory.toURI()), linkageFactories, new ScannerInfo(),
+				new FileEncodingRegistry(InternalParserUtil.SYSTEM_DEFAULT_ENCODING),
+				file -> GPPLanguage.getDefault(), log);
+		indexer.setShowActivity(true);
+		return indexer;
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (fIndexer != null) {
+			closeIndex();
+		}
+		ResourceHelper.cleanUp(getName());
+		super.tearDown();
+	}
+
+	private WritablePDOM getPDOM() {
+		return (WritablePDOM) fIndexer.getIndex().getWritableFragment();
+	}
+
+	private void closeIndex() throws Exception {
+		WritablePDOM pdom = getPDOM();
+		pdom.acquireWriteLock(null);
+		try {
+			pdom.close();
+		} finally {
+			pdom.releaseWriteLock();
+		}
+	}
+
+	/**
+	 * Writes the files of the test with the given timestamp. The first line of each comment section
+	 * is the name of the file.
+	 */
+	private void writeFiles(CharSequence[] contents, long timestamp) throws IOException {
+		for (CharSequence content : contents) {
+			String text = content.toString();
+			String fileName = text.substring(0, text.indexOf('\n')).replace("//", "").trim();
+			File file = new File(fSourceDirectory, fileName);
+			Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+			assertTrue(file.setLastModified(timestamp));
+		}
+	}
+
+	/**
+	 * Updates the index and returns the names of the files that have been parsed.
+	 */
+	private TreeSet<String> update() throws IOException {
+		fParsedFiles.clear();
+		fIndexer.update(Arrays.asList(fSourceDirectory.getPath()), null);
+		return new TreeSet<>(fParsedFiles);
+	}
+
+	private String getExpansion(String macroName) throws Exception {
+		IWritableIndex index = fIndexer.getIndex();
+		index.acquireReadLock();
+		try {
+			IIndexMacro[] macros = index.findMacros(macroName.toCharArray(), IndexFilter.ALL, null);
+			assertEquals(1, macros.length);
+			return new String(macros[0].getExpansion());
+		} finally {
+			index.releaseReadLock();
+		}
+	}
+
+	//	// config.h
+	//	#define VALUE 1
+
+	//	// util.h
+	//	int util();
+
+	//	// a.cpp
+	//	#include "config.h"
+	//	int a() { return VALUE; }
+
+	//	// b.cpp
+	//	#include "util.h"
+	//	int b() { return util(); }
+
+	//	// c.cpp
+	//	int c() { return 3; }
+
+	//	// d.cpp
+	//	#include "util.h"
+	//	#include "config.h"
+	//	int d = VALUE;
+
+	//	// config.h
+	//	#define VALUE 2
+
+	//	// c.cpp
+	//	int c() { return 4; }
+	public void testOnlyModifiedFilesAreParsed() throws Exception {
+		CharSequence[] contents = TestSourceReader.getContentsForTest(CTestPlugin.getDefault().getBundle(),
+				"parser", getClass(), getName(), 8);
+		writeFiles(Arrays.copyOfRange(contents, 0, 6), fTimestamp);
+		assertTrue(update().containsAll(Arrays.asList("a.cpp", "b.cpp", "c.cpp", "d.cpp")));
+		assertEquals("1", getExpansion("VALUE"));
+
+		// Nothing has changed.
+		assertEquals(Collections.emptySet(), update());
+
+		// A new timestamp alone does not cause the file to be parsed again.
+		assertTrue(new File(fSourceDirectory, "util.h").setLastModified(fTimestamp + 50000));
+		assertEquals(Collections.emptySet(), update());
+
+		// The modified source is parsed again, the modified header in the context of one of
+		// the sources including it.
+		writeFiles(Arrays.copyOfRange(contents, 6, 8), fTimestamp + 50000);
+		assertEquals(new TreeSet<>(Arrays.asList("c.cpp", "config.h")), update());
+		assertEquals("2", getExpansion("VALUE"));
+	}
+
+	//	// macros.h
+	//	#define SQUARE(x) ((x) * (x))
+	//	#define ONE 1
+
+	//	// functions.h
+	//	int square(int x);
+
+	//	// a.cpp
+	//	#include "macros.h"
+	//	#include "functions.h"
+	//	int square(int x) { return SQUARE(x); }
+	//	int a() { return square(ONE) + SQUARE(ONE); }
+
+	//	// b.cpp
+	//	int b() { return 2; }
+	public void testProfile() throws Exception {
+		CharSequence[] contents = TestSourceReader.getContentsForTest(CTestPlugin.getDefault().getBundle(),
+				"parser", getClass(), getName(), 4);
+		writeFiles(contents, fTimestamp);
+		fIndexer.setProfiledFileCount(10);
+		update();
+
+		IndexerStatistics statistics = fIndexer.getStatistics();
+		List<TranslationUnitProfile> slowest = statistics.getSlowestFiles();
+		assertEquals(2, slowest.size());
+		assertTrue(slowest.get(0).getTotalTime() >= slowest.get(1).getTotalTime());
+		TranslationUnitProfile a = null;
+		TranslationUnitProfile b = null;
+		for (TranslationUnitProfile profile : slowest) {
+			String name = new File(profile.fFilePath).getName();
+			if (name.equals("a.cpp")) {
+				a = profile;
+			} else if (name.equals("b.cpp")) {
+				b = profile;
+			}
+		}
+		assertNotNull(a);
+		assertNotNull(b);
+
+		// Preprocessing.
+		assertEquals(2, a.fIncludes);
+		assertEquals(0, b.fIncludes);
+		assertTrue(a.fMacroExpansions >= 3);
+		assertEquals(0, b.fMacroExpansions);
+		assertTrue(a.fTokens > b.fTokens);
+		assertTrue(b.fTokens > 0);
+		// Parsing and resolution.
+		assertTrue(a.fParsingTime > 0);
+		assertTrue(a.fBindingResolutionTime > 0);
+		assertTrue(a.fLookups > 0);
+		// Index update.
+		assertTrue(a.fIndexWriteTime > 0);
+		assertTrue(a.fIndexWrites > b.fIndexWrites);
+		assertTrue(b.fIndexWrites > 0);
+
+		// The totals cover all profiled files.
+		TranslationUnitProfile total = statistics.fProfile;
+		assertNotNull(total);
+		assertEquals(a.fIncludes + b.fIncludes, total.fIncludes);
+		assertEquals(a.fMacroExpansions + b.fMacroExpansions, total.fMacroExpansions);
+		assertEquals(a.fTokens + b.fTokens, total.fTokens);
+		assertEquals(a.fIndexWrites + b.fIndexWrites, total.fIndexWrites);
+	}
+
+	public void testParallelIndexingWithMemoryMapping() throws Exception {
+		final int sourceCount = 40;
+		List<CharSequence> contents = new ArrayList<>();
+		contents.add("// common.h\n" //
+				+ "#pragma once\n" //
+				+ "template<typename T> struct box { T value; T get() const { return value; } };\n" //
+				+ "struct point { int x, y; };\n" //
+				+ "#define SCALE(v) ((v) * 2)\n");
+		for (int i = 0; i < sourceCount; i++) {
+			contents.add("// s" + i + ".cpp\n" //
+					+ "#include \"common.h\"\n" //
+					+ "struct type_" + i + " { box<point> p; int f(int a) { return SCALE(a) + p.get().x; } };\n" //
+					+ "int use_" + i + "(type_" + i + "& t) { return t.f(" + i + "); }\n");
+		}
+		writeFiles(contents.toArray(new CharSequence[contents.size()]), fTimestamp);
+
+		// The database is memory mapped, when it is opened with the property set.
+		closeIndex();
+		System.setProperty(Database.MEMORY_MAPPING_PROPERTY, "true");
+		try {
+			fIndexer = createIndexer();
+		} finally {
+			System.clearProperty(Database.MEMORY_MAPPING_PROPERTY);
+		}
+		assertTrue(getPDOM().getDB().isMemoryMapped());
+
+		// The workers read the headers from the index while the results of other workers are written.
+		fIndexer.setWorkerCount(4);
+		TreeSet<String> parsed = update();
+		for (int i = 0; i < sourceCount; i++) {
+			assertTrue(parsed.contains("s" + i + ".cpp"));
+		}
+
+		IWritableIndex index = fIndexer.getIndex();
+		index.acquireReadLock();
+		try {
+			for (int i = 0; i < sourceCount; i++) {
+				assertEquals(1, index.findBindings(("use_" + i).toCharArray(), IndexFilter.ALL, null).length);
+				assertEquals(1, index.findBindings(("type_" + i).toCharArray(), IndexFilter.ALL, null).length);
+			}
+			assertEquals(1, index.findBindings("point".toCharArray(), IndexFilter.ALL, null).length);
+			assertEquals(1, index.findMacros("SCALE".toCharArray(), IndexFilter.ALL, null).length);
+		} finally {
+			index.releaseReadLock();
+		}
+	}
+}
@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.index.tests;
+
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.dom.IPDOMManager;
+import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTSimpleDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.IType;
+import org.eclipse.cdt.core.dom.ast.IVariable;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPClassTemplatePartialSpecialization;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPTemplateInstance;
+import org.eclipse.cdt.core.index.IIndex;
+import org.eclipse.cdt.core.index.IIndexFileLocation;
+import org.eclipse.cdt.core.index.IndexLocationFactory;
+import org.eclipse.cdt.core.model.ICProject;
+import org.eclipse.cdt.core.testplugin.CProjectHelper;
+import org.eclipse.cdt.core.testplugin.CTestPlugin;
+import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
+import org.eclipse.cdt.core.testplugin.util.TestSourceReader;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.TemplateInstanceCache;
+import org.eclipse.cdt.internal.core.index.CIndex;
+import org.eclipse.cdt.internal.core.index.IIndexFragmentFile;
+import org.eclipse.cdt.internal.core.index.IWritableIndex;
+import org.eclipse.cdt.internal.core.pdom.PDOMManager;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import junit.framework.TestSuite;
+
+/**
+ * Tests the cache of template instances that is shared by the ASTs created against an index.
+ */
+public class TemplateInstanceCacheTest extends BaseTestCase {
+	private ICProject fCProject;
+
+	public TemplateInstanceCacheTest(String name) {
+		super(name);
+	}
+
+	public static TestSuite suite() {
+		return suite(TemplateInstanceCacheTest.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fCProject = CProjectHelper.createCCProject("__templateInstanceCacheTest__", "bin",
+				IPDOMManager.ID_FAST_INDEXER);
+		waitForIndexer(fCProject);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (fCProject != null) {
+			CProjectHelper.delete(fCProject);
+		}
+		super.tearDown();
+	}
+
+	private String[] getContentsForTest(int blocks) throws Exception {
+		CharSequence[] help = TestSourceReader.getContentsForTest(CTestPlugin.getDefault().getBundle(), "parser",
+				getClass(), getName(), blocks);
+		String[] result = new String[help.length];
+		for (int i = 0; i < help.length; i++) {
+			result[i] = help[i].toString();
+		}
+		return result;
+	}
+
+	private IFile createFile(String name, String content) throws Exception {
+		return TestSourceReader.createFile(fCProject.getProject(), name, content);
+	}
+
+	private void reindex() throws Exception {
+		CCorePlugin.getIndexManager().reindex(fCProject);
+		waitForIndexer(fCProject);
+	}
+
+	private static TemplateInstanceCache getCache(IIndex index) {
+		return ((CIndex) index).getTemplateInstanceCache();
+	}
+
+	/**
+	 * Parses the file against the index and returns the types of its variables.
+	 */
+	private IType[] getVariableTypes(IIndex index, IFile file) throws Exception {
+		IASTTranslationUnit ast = TestSourceReader.createIndexBasedAST(index, fCProject, file);
+		IASTDeclaration[] declarations = ast.getDeclarations();
+		IType[] result = new IType[declarations.length];
+		for (int i = 0; i < declarations.length; i++) {
+			IASTSimpleDeclaration declaration = (IASTSimpleDeclaration) declarations[i];
+			result[i] = ((IVariable) declaration.getDeclarators()[0].getName().resolveBinding()).getType();
+		}
+		return result;
+	}
+
+	private ICPPTemplateInstance getInstance(IIndex index, IFile file) throws Exception {
+		IType type = getVariableTypes(index, file)[0];
+		assertInstance(type, ICPPTemplateInstance.class);
+		return (ICPPTemplateInstance) type;
+	}
+
+	//	// a.h
+	//	template<typename T> struct A { int primary; };
+	//	struct X {};
+
+	//	// s1.cpp
+	//	#include "a.h"
+	//	A<X> v1;
+
+	//	// s2.cpp
+	//	#include "a.h"
+	//	A<X> v2;
+	public void testSharedBetweenASTs() throws Exception {
+		String[] contents = getContentsForTest(3);
+		createFile("a.h", contents[0]);
+		IFile s1 = createFile("s1.cpp", contents[1]);
+		IFile s2 = createFile("s2.cpp", contents[2]);
+		reindex();
+
+		IIndex index = CCorePlugin.getIndexManager().getIndex(fCProject);
+		index.acquireReadLock();
+		try {
+			TemplateInstanceCache cache = getCache(index);
+			ICPPTemplateInstance instance1 = getInstance(index, s1);
+			assertEquals(1, cache.getSize());
+			long hits = cache.getHits();
+
+			ICPPTemplateInstance instance2 = getInstance(index, s2);
+			assertEquals(hits + 1, cache.getHits());
+			assertSame(instance1, instance2);
+		} finally {
+			index.releaseReadLock();
+		}
+	}
+
+	//	// a.h
+	//	#pragma once
+	//	template<typename T> struct A { int primary; };
+	//	struct X {};
+
+	//	// b.h
+	//	#include "a.h"
+
+	//	// s1.cpp
+	//	#include "a.h"
+	//	#include "b.h"
+	//	A<X*> v;
+
+	//	// b.h
+	//	#include "a.h"
+	//	template<typename T> struct A<T*> { int partial; };
+	public void testPartialSpecializationAddedToIndex() throws Exception {
+		String[] contents = getContentsForTest(4);
+		createFile("a.h", contents[0]);
+		IFile header = createFile("b.h", contents[1]);
+		IFile s1 = createFile("s1.cpp", contents[2]);
+		reindex();
+
+		IIndex index = CCorePlugin.getIndexManager().getIndex(fCProject);
+		index.acquireReadLock();
+		try {
+			ICPPTemplateInstance instance = getInstance(index, s1);
+			assertFalse(instance.getTemplateDefinition() instanceof ICPPClassTemplatePartialSpecialization);
+			assertEquals(1, getCache(index).getSize());
+		} finally {
+			index.releaseReadLock();
+		}
+
+		// The same index is used after the partial specialization was added.
+		header = TestSourceReader.createFile(fCProject.getProject(), header.getProjectRelativePath(), contents[3]);
+		TestSourceReader.waitUntilFileIsIndexed(index, header, INDEXER_TIMEOUT_SEC * 1000);
+		index.acquireReadLock();
+		try {
+			assertEquals(0, getCache(index).getSize());
+			ICPPTemplateInstance instance = getInstance(index, s1);
+			assertInstance(instance.getTemplateDefinition(), ICPPClassTemplatePartialSpecialization.class);
+		} finally {
+			index.releaseReadLock();
+		}
+	}
+
+	//	// a.h
+	//	template<typename T> struct A { int primary; };
+	//	struct X {};
+
+	//	// s1.cpp
+	//	#include "a.h"
+	//	A<X> v;
+	public void testClearedByWritableIndex() throws Exception {
+		String[] contents = getContentsForTest(2);
+		createFile("a.h", contents[0]);
+		IFile s1 = createFile("s1.cpp", contents[1]);
+		reindex();
+
+		IWritableIndex index = ((PDOMManager) CCorePlugin.getIndexManager()).getWritableIndex(fCProject);
+		TemplateInstanceCache cache = index.getTemplateInstanceCache();
+
+		// Releasing the write lock clears the cache.
+		index.acquireReadLock();
+		try {
+			getInstance(index, s1);
+			assertEquals(1, cache.getSize());
+		} finally {
+			index.releaseReadLock();
+		}
+		index.acquireWriteLock(new NullProgressMonitor());
+		index.releaseWriteLock();
+		assertEquals(0, cache.getSize());
+
+		// Clearing a file clears the cache while a read lock is held.
+		index.acquireReadLock();
+		try {
+			getInstance(index, s1);
+			assertEquals(1, cache.getSize());
+			index.acquireWriteLock(new NullProgressMonitor());
+			try {
+				IIndexFileLocation location = IndexLocationFactory.getWorkspaceIFL(s1);
+				IIndexFragmentFile[] files = index.getWritableFiles(location);
+				assertTrue(files.length > 0);
+				index.clearFile(files[0]);
+				assertEquals(0, cache.getSize());
+			} finally {
+				index.releaseWriteLock();
+			}
+		} finally {
+			index.releaseReadLock();
+		}
+	}
+
+	//	// a.h
+	//	template<typename T> struct A { int primary; };
+	//	struct X0 {}; struct X1 {}; struct X2 {}; struct X3 {}; struct X4 {};
+	//	struct X5 {}; struct X6 {}; struct X7 {}; struct X8 {}; struct X9 {};
+
+	//	// s1.cpp
+	//	#include "a.h"
+	//	A<X0> v0; A<X1> v1; A<X2> v2; A<X3> v3; A<X4> v4;
+	//	A<X5> v5; A<X6> v6; A<X7> v7; A<X8> v8; A<X9> v9;
+	public void testEviction() throws Exception {
+		String[] contents = getContentsForTest(2);
+		createFile("a.h", contents[0]);
+		IFile s1 = createFile("s1.cpp", contents[1]);
+		reindex();
+
+		IIndex index = CCorePlugin.getIndexManager().getIndex(fCProject);
+		index.acquireReadLock();
+		try {
+			TemplateInstanceCache cache = getCache(index);
+			IType[] types = getVariableTypes(index, s1);
+			assertEquals(10, cache.getSize());
+			assertEquals(0, cache.getEvictions());
+
+			// Keep about three of the entries.
+			long maxWeight = cache.getWeight() * 3 / 10;
+			cache.setMaxWeight(maxWeight);
+			assertTrue(cache.getWeight() <= maxWeight);
+			assertTrue(cache.getSize() > 0);
+			assertEquals(10 - cache.getSize(), cache.getEvictions());
+
+			// The entries that are added later are evicted as well.
+			IType[] types2 = getVariableTypes(index, s1);
+			assertTrue(cache.getWeight() <= maxWeight);
+			assertTrue(cache.getEvictions() > 10 - cache.getSize());
+
+			// The results do not depend on the entries that are cached.
+			for (int i = 0; i < types.length; i++) {
+				assertTrue(types[i].isSameType(types2[i]));
+			}
+		} finally {
+			index.releaseReadLock();
+		}
+	}
+}
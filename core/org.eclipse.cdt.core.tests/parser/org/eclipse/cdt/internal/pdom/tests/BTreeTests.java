@@ -15,6 +15,7 @@
 package org.eclipse.cdt.internal.pdom.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.File;
@@ -27,10 +28,14 @@ import java.util.TreeSet;
 
 import org.eclipse.cdt.core.testplugin.util.BaseTestCase5;
 import org.eclipse.cdt.internal.core.pdom.db.BTree;
+import org.eclipse.cdt.internal.core.pdom.db.BTreeInlineName;
 import org.eclipse.cdt.internal.core.pdom.db.ChunkCache;
 import org.eclipse.cdt.internal.core.pdom.db.Database;
 import org.eclipse.cdt.internal.core.pdom.db.IBTreeComparator;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreeNameComparator;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreeNameVisitor;
 import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
+import org.eclipse.cdt.internal.core.pdom.db.IString;
 import org.eclipse.core.runtime.CoreException;
 import org.junit.jupiter.api.Test;
 
@@ -120,6 +125,83 @@ public class BTreeTests extends BaseTestCase5 {
 		}
 	}
 
+	/**
+	 * Test a B-tree ordered by names, which stores prefixes of the names with the records.
+	 */
+	@Test
+	public void testNamesStoredInline() throws Exception {
+		Random random = new Random(90210);
+		for (int degree : new int[] { 2, 3, 8 }) {
+			dbFile = File.createTempFile("pdomtest", "db");
+			db = new Database(dbFile, new ChunkCache(), 0, false);
+			db.setExclusiveLock();
+			btree = new BTree(db, Database.DATA_AREA, degree, new BTMockNameComparator());
+			try {
+				final SortedSet<String> expected = new TreeSet<>();
+				final List<Long> records = new ArrayList<>();
+				for (int i = 0; i < 20000; i++) {
+					if (records.isEmpty() || random.nextDouble() < 0.7) {
+						String name = randomName(random);
+						if (expected.add(name)) {
+							long record = db.malloc(Database.PTR_SIZE);
+							db.putRecPtr(record, db.newString(name).getRecord());
+							records.add(record);
+							assertEquals(record, btree.insert(record));
+						}
+					} else {
+						long record = records.remove(random.nextInt(records.size()));
+						expected.remove(getName(record).getString());
+						btree.delete(record);
+					}
+				}
+				assertBTreeInvariantsHold("");
+
+				// All records are visited in order.
+				final List<String> visited = new ArrayList<>();
+				btree.accept(new BTMockNameVisitor("", true, visited));
+				assertEquals(expected.size(), visited.size());
+				for (int i = 1; i < visited.size(); i++) {
+					IString name = db.newString(visited.get(i - 1));
+					assertTrue(name.compareCompatibleWithIgnoreCase(visited.get(i).toCharArray()) < 0);
+					name.delete();
+				}
+
+				// Exact and prefix lookups.
+				int k = 0;
+				for (String name : expected) {
+					if (k++ % 50 != 0)
+						continue;
+					List<String> found = new ArrayList<>();
+					btree.accept(new BTMockNameVisitor(name, false, found));
+					assertEquals(List.of(name), found);
+
+					String prefix = name.substring(0, Math.min(name.length(), 10)).toLowerCase();
+					found.clear();
+					btree.accept(new BTMockNameVisitor(prefix, true, found));
+					long count = expected.stream().filter(n -> n.toLowerCase().startsWith(prefix)).count();
+					assertEquals(count, found.size(), prefix);
+				}
+			} finally {
+				finish();
+			}
+		}
+	}
+
+	private static String randomName(Random random) {
+		StringBuilder buf = new StringBuilder();
+		if (random.nextBoolean()) {
+			buf.append("commonPrefix");
+		}
+		for (int n = 1 + random.nextInt(6); n > 0; n--) {
+			buf.append("aAbB_".charAt(random.nextInt(5)));
+		}
+		return buf.toString();
+	}
+
+	private IString getName(long record) throws CoreException {
+		return db.getString(db.getRecPtr(record));
+	}
+
 	/**
 	 * Insert/Delete a random number of records into/from the B-tree
 	 * @param seed the seed for obtaining the deterministic random testing
@@ -259,4 +341,51 @@ public class BTreeTests extends BaseTestCase5 {
 			return db.getInt(record1) - db.getInt(record2);
 		}
 	}
+
+	private class BTMockNameComparator implements IBTreeNameComparator {
+		@Override
+		public int compare(long record1, long record2) throws CoreException {
+			return getName(record1).compareCompatibleWithIgnoreCase(getName(record2));
+		}
+
+		@Override
+		public IString getName(long record) throws CoreException {
+			return BTreeTests.this.getName(record);
+		}
+	}
+
+	private class BTMockNameVisitor implements IBTreeNameVisitor {
+		private final char[] key;
+		private final boolean prefix;
+		private final List<String> found;
+
+		BTMockNameVisitor(String key, boolean prefix, List<String> found) {
+			this.key = key.toCharArray();
+			this.prefix = prefix;
+			this.found = found;
+		}
+
+		@Override
+		public int compare(long record) throws CoreException {
+			IString name = getName(record);
+			return prefix ? name.comparePrefix(key, false) : name.compareCompatibleWithIgnoreCase(key);
+		}
+
+		@Override
+		public int compare(BTreeInlineName name, long record) throws CoreException {
+			int cmp = prefix ? name.comparePrefix(key, false) : name.compareCompatibleWithIgnoreCase(key);
+			return cmp == BTreeInlineName.UNDECIDED ? compare(record) : cmp;
+		}
+
+		@Override
+		public boolean isMatchContiguous() {
+			return true;
+		}
+
+		@Override
+		public boolean visit(long record) throws CoreException {
+			found.add(getName(record).getString());
+			return true;
+		}
+	}
 }
@@ -16,6 +16,12 @@
 package org.eclipse.cdt.internal.pdom.tests;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Random;
 
 import org.eclipse.cdt.core.testplugin.CTestPlugin;
@@ -147,6 +153,406 @@ public class DatabaseTest extends BaseTestCase {
 		assertEquals(mem2, mem1);
 	}
 
+	public void testMemoryMappedReads() throws Exception {
+		long intRecord = db.malloc(20);
+		db.putInt(intRecord, 0x12345678);
+		db.putLong(intRecord + 4, 0x0123456789ABCDEFL);
+		db.putShort(intRecord + 12, (short) -2);
+		db.put3ByteUnsignedInt(intRecord + 14, 0xABCDEF);
+		long ptrRecord = db.malloc(8);
+		db.putRecPtr(ptrRecord, intRecord);
+		long shortString = db.newString("mapped").getRecord();
+		long wideString = db.newString("mapp\u00e9d \u20ac").getRecord();
+		db.flush();
+
+		Database mapped = new Database(db.getLocation(), new ChunkCache(), 0, true, true);
+		mapped.setLocked(true);
+		try {
+			assertTrue(mapped.isMemoryMapped());
+			assertEquals(0x12345678, mapped.getInt(intRecord));
+			assertEquals(0x0123456789ABCDEFL, mapped.getLong(intRecord + 4));
+			assertEquals(-2, mapped.getShort(intRecord + 12));
+			assertEquals(0xABCDEF, mapped.get3ByteUnsignedInt(intRecord + 14));
+			assertEquals(intRecord, mapped.getRecPtr(ptrRecord));
+			assertEquals("mapped", mapped.getString(shortString).getString());
+			assertEquals("mapp\u00e9d \u20ac", mapped.getString(wideString).getString());
+			byte[] bytes = new byte[4];
+			mapped.getBytes(intRecord, bytes);
+			assertEquals(0x12, bytes[0]);
+			assertEquals(0x78, bytes[3]);
+		} finally {
+			mapped.setExclusiveLock();
+			mapped.close();
+		}
+	}
+
+	public void testDeleteAfterClearingMappedDatabase() throws Exception {
+		File file = getTestDir().append(getName() + System.currentTimeMillis() + "_mapped.dat").toFile();
+		Database mapped = new Database(file, new ChunkCache(), 0, false, true);
+		try {
+			mapped.setExclusiveLock();
+			long record = mapped.malloc(Database.MAX_MALLOC_SIZE);
+			for (int i = 0; i < 4; i++) {
+				mapped.malloc(Database.MAX_MALLOC_SIZE);
+			}
+			mapped.putInt(record, 42);
+			mapped.close();
+
+			// Reopen the database, such that the record is read through the mapping, unless the
+			// platform does not allow for unmapping the file.
+			mapped = new Database(file, new ChunkCache(), 0, false, true);
+			mapped.setLocked(true);
+			assertEquals(42, mapped.getInt(record));
+
+			// The file is truncated while it is mapped.
+			mapped.setExclusiveLock();
+			mapped.clear(0);
+			assertEquals(Database.CHUNK_SIZE, file.length());
+			long newRecord = mapped.malloc(Database.MAX_MALLOC_SIZE);
+			mapped.putInt(newRecord, 43);
+			mapped.giveUpExclusiveLock(true);
+			assertEquals(43, mapped.getInt(newRecord));
+		} finally {
+			mapped.setExclusiveLock();
+			mapped.close();
+		}
+		assertTrue(file.delete());
+	}
+
+	public void testGrowingMappedDatabase() throws Exception {
+		final int numGrowths = 200;
+		final int chunksPerGrowth = 8;
+		File file = getTestDir().append(getName() + System.currentTimeMillis() + "_growing.dat").toFile();
+		Database mapped = new Database(file, new ChunkCache(4 * Database.CHUNK_SIZE, 1), 0, false, true);
+		try {
+			long[] records = new long[numGrowths];
+			for (int i = 0; i < numGrowths; i++) {
+				mapped.setExclusiveLock();
+				assertEquals(0, mapped.getReplacedSegmentCount());
+				records[i] = mapped.malloc(Database.MAX_MALLOC_SIZE);
+				mapped.putInt(records[i], i);
+				// Evicts the chunk of the record from the cache.
+				for (int j = 1; j < chunksPerGrowth; j++) {
+					mapped.malloc(Database.MAX_MALLOC_SIZE);
+				}
+				mapped.giveUpExclusiveLock(true);
+
+				// Reading the record beyond the mapped region remaps the segment.
+				mapped.setLocked(true);
+				assertEquals(i, mapped.getInt(records[i]));
+				for (int j = 0; j < i; j += 20) {
+					assertEquals(j, mapped.getInt(records[j]));
+				}
+				assertTrue(mapped.getReplacedSegmentCount() <= 1);
+			}
+		} finally {
+			mapped.setExclusiveLock();
+			mapped.close();
+		}
+		assertTrue(file.delete());
+	}
+
+	public void testSegmentedChunkCache() throws Exception {
+		final int numChunks = 32;
+		ChunkCache cache = new ChunkCache(8 * Database.CHUNK_SIZE, 4);
+		assertEquals(8 * Database.CHUNK_SIZE, cache.getMaxSize());
+
+		Database small = new Database(getTestDir().append(getName() + System.currentTimeMillis() + ".dat").toFile(),
+				cache, 0, false);
+		try {
+			small.setExclusiveLock();
+			long[] records = new long[numChunks];
+			for (int i = 0; i < numChunks; i++) {
+				records[i] = small.malloc(Database.MAX_MALLOC_SIZE);
+				small.putInt(records[i], i);
+			}
+			small.giveUpExclusiveLock(true);
+			small.setLocked(true);
+
+			cache.resetCounters();
+			for (int i = 0; i < numChunks; i++) {
+				assertEquals(i, small.getInt(records[i]));
+			}
+			assertTrue(cache.getMissCount() > 0);
+			assertTrue(cache.getEvictionCount() > 0);
+			assertEquals(numChunks, cache.getHitCount() + cache.getMissCount());
+
+			cache.setMaxSize(2 * Database.CHUNK_SIZE);
+			assertEquals(4 * Database.CHUNK_SIZE, cache.getMaxSize()); // One chunk per segment.
+			cache.setMaxSize(16 * Database.CHUNK_SIZE);
+			assertEquals(16 * Database.CHUNK_SIZE, cache.getMaxSize());
+			for (int i = 0; i < numChunks; i++) {
+				assertEquals(i, small.getInt(records[i]));
+			}
+		} finally {
+			small.setExclusiveLock();
+			small.close();
+			small.getLocation().delete();
+		}
+	}
+
+	public void testWithoutJournal() throws Exception {
+		final int numChunks = 16;
+		File location = getTestDir().append(getName() + System.currentTimeMillis() + "-plain.dat").toFile();
+		File journal = new File(location.getPath() + ".journal");
+		// The journal is opt-in.
+		Database plain = new Database(location, new ChunkCache(4 * Database.CHUNK_SIZE, 1), 17, false);
+		long[] records = new long[numChunks];
+		try {
+			assertFalse(plain.isJournaled());
+			plain.setExclusiveLock();
+			for (int i = 0; i < numChunks; i++) {
+				records[i] = plain.malloc(Database.MAX_MALLOC_SIZE);
+				plain.putInt(records[i], i);
+			}
+			plain.flush();
+			// The chunks are written to the database file right away.
+			assertFalse(journal.exists());
+			assertTrue(location.length() >= (numChunks + 1) * Database.CHUNK_SIZE);
+			plain.giveUpExclusiveLock(false);
+
+			// Open the database again without closing it.
+			Database reopened = new Database(location, new ChunkCache(), 0, true);
+			try {
+				reopened.setLocked(true);
+				assertFalse(reopened.isJournaled());
+				assertEquals(17, reopened.getVersion());
+				for (int i = 0; i < numChunks; i++) {
+					assertEquals(i, reopened.getInt(records[i]));
+				}
+			} finally {
+				reopened.setExclusiveLock();
+				reopened.close();
+			}
+		} finally {
+			plain.setExclusiveLock();
+			plain.close();
+			location.delete();
+		}
+	}
+
+	public void testWithJournal() throws Exception {
+		final int numChunks = 16;
+		File location = getTestDir().append(getName() + System.currentTimeMillis() + "-journaled.dat").toFile();
+		File journal = new File(location.getPath() + ".journal");
+		Database journaled = new Database(location, new ChunkCache(4 * Database.CHUNK_SIZE, 1), 17, false, false,
+				true);
+		long[] records = new long[numChunks];
+		try {
+			assertTrue(journaled.isJournaled());
+			journaled.setExclusiveLock();
+			for (int i = 0; i < numChunks; i++) {
+				records[i] = journaled.malloc(Database.MAX_MALLOC_SIZE);
+				journaled.putInt(records[i], i);
+			}
+			journaled.flush();
+			// The chunks are written to the journal, the database file is not extended before a checkpoint.
+			assertTrue(journal.exists());
+			assertTrue(journal.length() > numChunks * Database.CHUNK_SIZE);
+			assertTrue(location.length() < numChunks * Database.CHUNK_SIZE);
+		} finally {
+			journaled.close();
+		}
+		// Closing copies the journal to the database file and deletes it.
+		assertFalse(journal.exists());
+
+		Database reopened = new Database(location, new ChunkCache(), 0, true);
+		try {
+			reopened.setLocked(true);
+			assertEquals(17, reopened.getVersion());
+			for (int i = 0; i < numChunks; i++) {
+				assertEquals(i, reopened.getInt(records[i]));
+			}
+		} finally {
+			reopened.setExclusiveLock();
+			reopened.close();
+			location.delete();
+		}
+	}
+
+	public void testJournalRecovery() throws Exception {
+		final int numChunks = 16;
+		File location = getTestDir().append(getName() + System.currentTimeMillis() + "-crashed.dat").toFile();
+		Database crashed = new Database(location, new ChunkCache(4 * Database.CHUNK_SIZE, 1), 17, false, false, true);
+		crashed.setExclusiveLock();
+		long[] records = new long[numChunks];
+		for (int i = 0; i < numChunks; i++) {
+			records[i] = crashed.malloc(Database.MAX_MALLOC_SIZE);
+			crashed.putInt(records[i], i);
+		}
+		crashed.flush();
+
+		// Modifications that are not committed, chunks evicted from the cache are written to the journal.
+		for (int i = 0; i < numChunks; i++) {
+			crashed.putInt(records[i], -1);
+		}
+		crashed.giveUpExclusiveLock(false);
+
+		// Open the database again without closing it.
+		Database recovered = new Database(location, new ChunkCache(), 0, false, false, true);
+		try {
+			recovered.setExclusiveLock();
+			assertEquals(17, recovered.getVersion());
+			for (int i = 0; i < numChunks; i++) {
+				assertEquals(i, recovered.getInt(records[i]));
+			}
+			recovered.putInt(records[0], 42);
+		} finally {
+			recovered.close();
+		}
+
+		// After closing, the database file is complete.
+		Database reopened = new Database(location, new ChunkCache(), 0, true, false, false);
+		try {
+			reopened.setLocked(true);
+			assertEquals(17, reopened.getVersion());
+			assertEquals(42, reopened.getInt(records[0]));
+			assertEquals(numChunks - 1, reopened.getInt(records[numChunks - 1]));
+		} finally {
+			reopened.setExclusiveLock();
+			reopened.close();
+			location.delete();
+		}
+	}
+
+	public void testJournalInterruptedCheckpoint() throws Exception {
+		final int numChunks = 16;
+		File location = getTestDir().append(getName() + System.currentTimeMillis() + "-interrupted.dat").toFile();
+		File journal = new File(location.getPath() + ".journal");
+		File before = new File(location.getPath() + ".before");
+		File journalBefore = new File(location.getPath() + ".journal.before");
+		for (boolean journaled : new boolean[] { true, false }) {
+			Database crashed = new Database(location, new ChunkCache(), 17, false, false, true);
+			crashed.setExclusiveLock();
+			long[] records = new long[numChunks];
+			for (int i = 0; i < numChunks; i++) {
+				records[i] = crashed.malloc(Database.MAX_MALLOC_SIZE);
+				crashed.putInt(records[i], i);
+			}
+			crashed.flush();
+			for (int i = 0; i < numChunks; i++) {
+				crashed.putInt(records[i], 2 * i);
+			}
+			crashed.flush();
+
+			// Keep the files as they are before the journal is copied to the database file.
+			Files.copy(location.toPath(), before.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			Files.copy(journal.toPath(), journalBefore.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			crashed.close();
+			assertFalse(journal.exists());
+
+			// The process is killed while the journal is copied to the database file.
+			copyChunks(location, before, (int) (location.length() / Database.CHUNK_SIZE / 2));
+			Files.move(before.toPath(), location.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			Files.move(journalBefore.toPath(), journal.toPath());
+
+			// The journal is applied again, also when the database is opened without a journal.
+			Database recovered = new Database(location, new ChunkCache(), 0, false, false, journaled);
+			try {
+				recovered.setExclusiveLock();
+				assertEquals(17, recovered.getVersion());
+				for (int i = 0; i < numChunks; i++) {
+					assertEquals(2 * i, recovered.getInt(records[i]));
+				}
+			} finally {
+				recovered.close();
+				location.delete();
+			}
+		}
+	}
+
+	/**
+	 * Copies the first chunks of a database file to another one, like a checkpoint does. The
+	 * target keeps its journal epoch, a checkpoint does not change it.
+	 */
+	private static void copyChunks(File from, File to, int chunkCount) throws IOException {
+		try (FileChannel source = FileChannel.open(from.toPath(), StandardOpenOption.READ);
+				FileChannel target = FileChannel.open(to.toPath(), StandardOpenOption.READ,
+						StandardOpenOption.WRITE)) {
+			ByteBuffer header = ByteBuffer.allocate(Database.CHUNK_SIZE);
+			target.read(header, 0);
+			final long epoch = header.getLong(Database.JOURNAL_EPOCH_OFFSET);
+			for (int i = 0; i < chunkCount; i++) {
+				long position = (long) i * Database.CHUNK_SIZE;
+				ByteBuffer buf = ByteBuffer.allocate(Database.CHUNK_SIZE);
+				source.read(buf, position);
+				if (i == 0) {
+					buf.putLong(Database.JOURNAL_EPOCH_OFFSET, epoch);
+				}
+				buf.flip();
+				target.write(buf, position);
+			}
+		}
+	}
+
+	public void testJournalOfReplacedFile() throws Exception {
+		File location = getTestDir().append(getName() + System.currentTimeMillis() + "-replaced.dat").toFile();
+		Database crashed = new Database(location, new ChunkCache(), 17, false, false, true);
+		crashed.setExclusiveLock();
+		for (int i = 0; i < 4; i++) {
+			crashed.putInt(crashed.malloc(Database.MAX_MALLOC_SIZE), i);
+		}
+		crashed.flush();
+		crashed.giveUpExclusiveLock(false);
+		assertTrue(new File(location.getPath() + ".journal").exists());
+
+		// The database file is replaced after the crash, the journal belongs to the previous file.
+		assertTrue(location.delete());
+		Database replaced = new Database(location, new ChunkCache(), 18, false, false, true);
+		try {
+			replaced.setExclusiveLock();
+			assertEquals(18, replaced.getVersion());
+			assertEquals(Database.CHUNK_SIZE, replaced.getSizeBytes());
+		} finally {
+			replaced.close();
+			location.delete();
+		}
+	}
+
+	public void testCompressedFile() throws Exception {
+		final int numChunks = 100;
+		File location = getTestDir().append(getName() + System.currentTimeMillis() + "-compressed.dat").toFile();
+		Database.createCompressedFile(location);
+		Database compressed = new Database(location, new ChunkCache(4 * Database.CHUNK_SIZE, 1), 17, false, true);
+		long[] records = new long[numChunks];
+		try {
+			assertTrue(compressed.isCompressed());
+			assertFalse(compressed.isMemoryMapped());
+			compressed.setExclusiveLock();
+			for (int i = 0; i < numChunks; i++) {
+				records[i] = compressed.malloc(Database.MAX_MALLOC_SIZE);
+				compressed.putInt(records[i], i);
+			}
+			compressed.flush();
+			// Modify some of the chunks after they have been written.
+			for (int i = 0; i < numChunks; i += 3) {
+				compressed.putInt(records[i], -i);
+			}
+		} finally {
+			compressed.close();
+		}
+		assertTrue(location.length() < numChunks * Database.CHUNK_SIZE / 4);
+		assertEquals(17, Database.readVersion(location));
+
+		Database reopened = new Database(location, new ChunkCache(), 0, false);
+		try {
+			assertTrue(reopened.isCompressed());
+			reopened.setExclusiveLock();
+			assertEquals(17, reopened.getVersion());
+			for (int i = 0; i < numChunks; i++) {
+				assertEquals(i % 3 == 0 ? -i : i, reopened.getInt(records[i]));
+			}
+			reopened.clear(18);
+			reopened.setVersion(18);
+			assertTrue(reopened.isCompressed());
+		} finally {
+			reopened.close();
+		}
+		assertEquals(18, Database.readVersion(location));
+		assertTrue(location.length() < Database.CHUNK_SIZE);
+		location.delete();
+	}
+
 	private static class FindVisitor implements IBTreeVisitor {
 		private Database db;
 		private String key;
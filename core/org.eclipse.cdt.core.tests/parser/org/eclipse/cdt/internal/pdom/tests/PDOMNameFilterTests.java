@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.pdom.tests;
+
+import java.io.File;
+
+import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
+import org.eclipse.cdt.internal.core.pdom.db.ChunkCache;
+import org.eclipse.cdt.internal.core.pdom.db.Database;
+import org.eclipse.cdt.internal.core.pdom.db.PDOMNameFilter;
+
+import junit.framework.Test;
+
+public class PDOMNameFilterTests extends BaseTestCase {
+	protected File dbFile;
+	protected Database db;
+
+	public static Test suite() {
+		return suite(PDOMNameFilterTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+
+		dbFile = File.createTempFile("pdomnamefiltertest", "db");
+		db = new Database(dbFile, new ChunkCache(), 0, false);
+		db.setExclusiveLock();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		db.close();
+		dbFile.deleteOnExit();
+
+		super.tearDown();
+	}
+
+	private PDOMNameFilter createFilter(String prefix, int count) throws Exception {
+		PDOMNameFilter.Builder builder = new PDOMNameFilter.Builder();
+		for (int i = 0; i < count; i++) {
+			builder.add((prefix + i).toCharArray());
+		}
+		return new PDOMNameFilter(db, builder.store(db));
+	}
+
+	private int countFalsePositives(PDOMNameFilter filter, int probes) throws Exception {
+		int result = 0;
+		for (int i = 0; i < probes; i++) {
+			if (filter.mayContain(("absent" + i).toCharArray())) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	public void testEmptyFilter() throws Exception {
+		PDOMNameFilter filter = createFilter("name", 0);
+		assertFalse(filter.mayContain("name".toCharArray()));
+		assertFalse(filter.mayContain(new char[0]));
+	}
+
+	public void testContainsAddedNames() throws Exception {
+		PDOMNameFilter filter = createFilter("name", 100);
+		for (int i = 0; i < 100; i++) {
+			assertTrue(filter.mayContain(("name" + i).toCharArray()));
+		}
+		assertTrue(countFalsePositives(filter, 10000) < 300);
+	}
+
+	public void testLargeFilter() throws Exception {
+		// The bits are split into multiple blocks of the database.
+		PDOMNameFilter filter = createFilter("name", 20000);
+		for (int i = 0; i < 20000; i++) {
+			assertTrue(filter.mayContain(("name" + i).toCharArray()));
+		}
+		assertTrue(countFalsePositives(filter, 10000) < 300);
+	}
+
+	public void testDuplicateNames() throws Exception {
+		PDOMNameFilter.Builder builder = new PDOMNameFilter.Builder();
+		for (int i = 0; i < 1000; i++) {
+			builder.add("name".toCharArray());
+		}
+		PDOMNameFilter filter = new PDOMNameFilter(db, builder.store(db));
+		assertTrue(filter.mayContain("name".toCharArray()));
+		assertTrue(countFalsePositives(filter, 10000) < 300);
+	}
+}
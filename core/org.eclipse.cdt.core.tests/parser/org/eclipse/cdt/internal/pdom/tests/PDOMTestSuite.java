@@ -45,6 +45,7 @@ public class PDOMTestSuite extends TestSuite {
 		suite.addTest(OverloadsWithinCommonHeaderTests.suite());
 		// Test converted to JUnit5: suite.addTest(BTreeTests.suite());
 		suite.addTest(PDOMStringSetTests.suite());
+		suite.addTest(PDOMNameFilterTests.suite());
 		suite.addTest(PDOMTagIndexTests.suite());
 		suite.addTest(FilesOnReindexTests.suite());
 		suite.addTest(GeneratePDOMApplicationTest.suite());
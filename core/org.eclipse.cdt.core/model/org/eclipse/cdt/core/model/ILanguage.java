@@ -84,6 +84,51 @@ public interface ILanguage extends IAdaptable {
 	 */
 	public final static int OPTION_PARSE_INACTIVE_CODE = 0x20;
 
+	/**
+	 * Option for {@link #getASTTranslationUnit(FileContent, IScannerInfo, IncludeFileContentProvider, IIndex, int, IParserLogService)}
+	 * Allows the parser to skip the bodies of function definitions in included files, such that they
+	 * can be parsed on demand. The bodies are not part of the AST until they have been parsed. The
+	 * option has no effect in combination with {@link #OPTION_SKIP_FUNCTION_BODIES} or
+	 * {@link #OPTION_PARSE_INACTIVE_CODE}.
+	 *
+	 * @noreference This field is not intended to be referenced by clients.
+	 * @since 7.5
+	 */
+	public final static int OPTION_DEFER_FUNCTION_BODIES_IN_HEADERS = 0x40;
+
+	/**
+	 * Option for {@link #getASTTranslationUnit(FileContent, IScannerInfo, IncludeFileContentProvider, IIndex, int, IParserLogService)}
+	 * Instructs the parser to create an AST with a smaller memory footprint. Names with the same
+	 * identifier share their image and the nodes do not cache their locations, which makes
+	 * repeated requests for the location of a node more expensive.
+	 *
+	 * @noreference This field is not intended to be referenced by clients.
+	 * @since 7.5
+	 */
+	public final static int OPTION_COMPACT_AST = 0x80;
+
+	/**
+	 * Option for {@link #getASTTranslationUnit(FileContent, IScannerInfo, IncludeFileContentProvider, IIndex, int, IParserLogService)}
+	 * Instructs the parser to record the time spent in preprocessing, parsing and ambiguity
+	 * resolution, as well as the number of tokens, includes, macro expansions, lookups and template
+	 * instantiations, in a profile attached to the AST.
+	 *
+	 * @noreference This field is not intended to be referenced by clients.
+	 * @since 7.5
+	 */
+	public final static int OPTION_COLLECT_PROFILE = 0x100;
+
+	/**
+	 * Option for {@link #getASTTranslationUnit(FileContent, IScannerInfo, IncludeFileContentProvider, IIndex, int, IParserLogService)}
+	 * Instructs the parser to keep track of the implicit names created for the nodes of the AST,
+	 * such that their offsets can be adjusted when the body of a function definition is parsed
+	 * again.
+	 *
+	 * @noreference This field is not intended to be referenced by clients.
+	 * @since 7.5
+	 */
+	public final static int OPTION_TRACK_IMPLICIT_NAMES = 0x200;
+
 	/**
 	 * Return the language id for this language.
 	 * This is to differentiate languages from each other.
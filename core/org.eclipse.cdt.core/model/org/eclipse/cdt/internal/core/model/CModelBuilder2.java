@@ -159,7 +159,13 @@ public class CModelBuilder2 implements IContributedModelBuilder {
 			parseFlags |= ITranslationUnit.AST_PARSE_INACTIVE_CODE;
 			final IASTTranslationUnit ast;
 			try {
-				ast = fTranslationUnit.getAST(index, parseFlags, fProgressMonitor);
+				if (elementInfo instanceof ASTHolderTUInfo && fTranslationUnit instanceof WorkingCopy
+						&& ((WorkingCopy) fTranslationUnit).isShared()) {
+					// The AST of the previous reconcile is updated, if possible.
+					ast = fTranslationUnit.getASTForReconciler(index, parseFlags, fProgressMonitor);
+				} else {
+					ast = fTranslationUnit.getAST(index, parseFlags, fProgressMonitor);
+				}
 				if (DEBUG) {
 					Util.debugLog("CModelBuilder2: parsing " //$NON-NLS-1$
 							+ fTranslationUnit.getElementName() + " mode=" //$NON-NLS-1$
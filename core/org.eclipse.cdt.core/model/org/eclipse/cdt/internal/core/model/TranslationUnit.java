@@ -73,6 +73,7 @@ import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
 import org.eclipse.cdt.core.settings.model.ICProjectDescription;
 import org.eclipse.cdt.internal.core.dom.parser.ASTTranslationUnit;
 import org.eclipse.cdt.internal.core.dom.parser.CompositeValue;
+import org.eclipse.cdt.internal.core.dom.parser.FunctionBodyReparser;
 import org.eclipse.cdt.internal.core.index.IndexBasedFileContentProvider;
 import org.eclipse.cdt.internal.core.parser.InternalParserUtil;
 import org.eclipse.cdt.internal.core.parser.ParserLogService;
@@ -118,6 +119,7 @@ public class TranslationUnit extends Openable implements ITranslationUnit {
 
 	SourceManipulationInfo sourceManipulationInfo;
 	private ILanguage fLanguageOfContext;
+	private FunctionBodyReparser fBodyReparser;
 
 	public TranslationUnit(ICElement parent, IFile file, String idType) {
 		super(parent, file, ICElement.C_UNIT);
@@ -844,6 +846,37 @@ public class TranslationUnit extends Openable implements ITranslationUnit {
 	}
 
 	public IASTTranslationUnit getAST(IIndex index, int style, IProgressMonitor monitor) throws CoreException {
+		return getAST(index, style, monitor, null);
+	}
+
+	/**
+	 * Same as {@link #getAST(IIndex, int, IProgressMonitor)}, however when only the body of a single
+	 * function definition has been modified since the previous call, the AST returned by that call
+	 * is updated and returned again. Therefore, the returned AST must not be used after the next call
+	 * to this method, unless exclusive access to it has been obtained.
+	 * <p>
+	 * Used for the shared working copies, whose ASTs are accessed through the {@link ASTCache}.
+	 */
+	public IASTTranslationUnit getASTForReconciler(IIndex index, int style, IProgressMonitor monitor)
+			throws CoreException {
+		FunctionBodyReparser reparser;
+		synchronized (this) {
+			if (fBodyReparser == null)
+				fBodyReparser = new FunctionBodyReparser();
+			reparser = fBodyReparser;
+		}
+		return getAST(index, style, monitor, reparser);
+	}
+
+	/**
+	 * Forgets about the AST that {@link #getASTForReconciler} would update.
+	 */
+	synchronized void clearBodyReparser() {
+		fBodyReparser = null;
+	}
+
+	private IASTTranslationUnit getAST(IIndex index, int style, IProgressMonitor monitor,
+			FunctionBodyReparser reparser) throws CoreException {
 		boolean incompleteIndex = index != null && !index.isFullyInitialized();
 		IIndexFile[] contextToHeader = getContextToHeader(index, style);
 		ITranslationUnit configureWith = getConfigureWith(contextToHeader);
@@ -877,14 +910,27 @@ public class TranslationUnit extends Openable implements ITranslationUnit {
 		if ((style & AST_PARSE_INACTIVE_CODE) != 0) {
 			options |= ILanguage.OPTION_PARSE_INACTIVE_CODE;
 		}
+		if (reparser != null) {
+			// The AST may be updated by reparsing a function body.
+			options |= ILanguage.OPTION_TRACK_IMPLICIT_NAMES;
+		}
 		final IParserLogService log;
 		if (monitor instanceof ICanceler) {
 			log = new ParserLogService(DebugLogConstants.PARSER, (ICanceler) monitor);
 		} else {
 			log = ParserUtil.getParserLogService();
 		}
-		ASTTranslationUnit ast = (ASTTranslationUnit) ((AbstractLanguage) language).getASTTranslationUnit(fileContent,
-				scanInfo, crf, index, options, log);
+		ASTTranslationUnit ast = null;
+		if (reparser != null) {
+			ast = (ASTTranslationUnit) reparser.reparse(language, fileContent, scanInfo, crf, index, options, log);
+		}
+		if (ast == null) {
+			ast = (ASTTranslationUnit) ((AbstractLanguage) language).getASTTranslationUnit(fileContent, scanInfo, crf,
+					index, options, log);
+			if (reparser != null) {
+				reparser.setAST(ast, fileContent, scanInfo, options);
+			}
+		}
 		if (ast == null)
 			return null;
 		ast.setOriginatingTranslationUnit(this);
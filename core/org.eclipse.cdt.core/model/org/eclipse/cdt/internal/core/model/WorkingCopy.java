@@ -116,6 +116,7 @@ public class WorkingCopy extends TranslationUnit implements IWorkingCopy {
 		}
 		try {
 			problemRequestor = null;
+			clearBodyReparser();
 			DestroyWorkingCopyOperation op = new DestroyWorkingCopyOperation(this);
 			op.runOperation(null);
 		} catch (CModelException e) {
@@ -123,6 +124,14 @@ public class WorkingCopy extends TranslationUnit implements IWorkingCopy {
 		}
 	}
 
+	/**
+	 * Returns whether this is the working copy shared by the clients of its buffer factory,
+	 * e.g. the one of an editor.
+	 */
+	boolean isShared() {
+		return CModelManager.getDefault().findSharedWorkingCopy(bufferFactory, getOriginalElement()) == this;
+	}
+
 	@Override
 	public boolean exists() {
 		// Working copy always exists in the model until it is destroyed.
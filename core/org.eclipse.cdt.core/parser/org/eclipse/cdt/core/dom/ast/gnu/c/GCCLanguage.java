@@ -114,6 +114,12 @@ public class GCCLanguage extends AbstractCLikeLanguage {
 				parser.setMaximumTrivialExpressionsInAggregateInitializers(maximumTrivialExpressions);
 			}
 		}
+		if ((options & OPTION_COMPACT_AST) != 0) {
+			parser.setCompactAST(true);
+		}
+		if ((options & OPTION_COLLECT_PROFILE) != 0) {
+			parser.setCollectProfile(true);
+		}
 		return parser;
 	}
 
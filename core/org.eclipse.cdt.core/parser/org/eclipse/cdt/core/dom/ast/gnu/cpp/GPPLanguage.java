@@ -129,6 +129,19 @@ public class GPPLanguage extends AbstractCLikeLanguage {
 				parser.setMaximumTrivialExpressionsInAggregateInitializers(maximumTrivialExpressions);
 			}
 		}
+		if ((options & OPTION_DEFER_FUNCTION_BODIES_IN_HEADERS) != 0
+				&& (options & OPTION_PARSE_INACTIVE_CODE) == 0) {
+			parser.setDeferFunctionBodiesInHeaders(true);
+		}
+		if ((options & OPTION_COMPACT_AST) != 0) {
+			parser.setCompactAST(true);
+		}
+		if ((options & OPTION_COLLECT_PROFILE) != 0) {
+			parser.setCollectProfile(true);
+		}
+		if ((options & OPTION_TRACK_IMPLICIT_NAMES) != 0) {
+			parser.setTrackImplicitNames(true);
+		}
 		return parser;
 	}
 
@@ -35,6 +35,7 @@ import org.eclipse.cdt.core.parser.ExtendedScannerInfo;
 import org.eclipse.cdt.core.parser.FileContent;
 import org.eclipse.cdt.core.parser.IParserLogService;
 import org.eclipse.cdt.core.parser.IParserSettings;
+import org.eclipse.cdt.core.parser.IPreprocessorEventStream;
 import org.eclipse.cdt.core.parser.IScanner;
 import org.eclipse.cdt.core.parser.IScannerInfo;
 import org.eclipse.cdt.core.parser.IncludeFileContentProvider;
@@ -43,6 +44,7 @@ import org.eclipse.cdt.core.parser.ParseError.ParseErrorKind;
 import org.eclipse.cdt.core.parser.ParserLanguage;
 import org.eclipse.cdt.core.parser.ParserMode;
 import org.eclipse.cdt.internal.core.parser.scanner.CPreprocessor;
+import org.eclipse.cdt.internal.core.parser.scanner.PreprocessorEventStream;
 import org.eclipse.cdt.internal.core.util.ICancelable;
 import org.eclipse.cdt.internal.core.util.ICanceler;
 import org.eclipse.core.runtime.CoreException;
@@ -190,6 +192,22 @@ public abstract class AbstractCLikeLanguage extends AbstractLanguage implements
 		}
 	}
 
+	/**
+	 * Creates a stream over the tokens, directives and comments of the given file content. The
+	 * content is preprocessed but not parsed, which is considerably cheaper than creating an AST
+	 * for it.
+	 *
+	 * @param content the content of the translation unit
+	 * @param scanInfo the configuration of the preprocessor
+	 * @param fcp provides the content of included files
+	 * @param log the log service
+	 * @since 7.5
+	 */
+	public IPreprocessorEventStream createPreprocessorEventStream(FileContent content, IScannerInfo scanInfo,
+			IncludeFileContentProvider fcp, IParserLogService log) {
+		return new PreprocessorEventStream(createScanner(content, scanInfo, fcp, log));
+	}
+
 	@Deprecated
 	@Override
 	public IASTCompletionNode getCompletionNode(org.eclipse.cdt.core.parser.CodeReader reader, IScannerInfo scanInfo,
@@ -460,6 +460,18 @@ public interface IIndex {
 	 */
 	public IIndexFile[] getAllFiles() throws CoreException;
 
+	/**
+	 * Returns the files of this index that may contain a name or a macro definition with the given
+	 * simple name. The files that definitely do not contain such a name are excluded, without
+	 * reading their names. A file is returned for each linkage, fragment and variant it is stored in.
+	 * <p>
+	 * The result may contain files without such a name, callers must check the names of the
+	 * returned files.
+	 * @see IIndexFile#mayContainName(char[])
+	 * @since 7.5
+	 */
+	public IIndexFile[] findFilesWithName(char[] name) throws CoreException;
+
 	/**
 	 * Returns an array of files that were indexed with I/O errors.
 	 * @noreference This method is not intended to be referenced by clients.
@@ -100,6 +100,14 @@ public interface IIndexFile extends IFileNomination {
 	 */
 	IIndexName[] findNames(int offset, int length) throws CoreException;
 
+	/**
+	 * Returns whether the file may contain a name or a macro definition with the given simple name.
+	 * A return value of {@code false} is definite, {@code true} may be returned for names that are
+	 * not contained in the file.
+	 * @since 7.5
+	 */
+	boolean mayContainName(char[] name) throws CoreException;
+
 	/**
 	 * Returns the include that was used to parse this file, may be <code>null</code>.
 	 */
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.parser;
+
+/**
+ * Pull-based access to the output of the preprocessor, without parsing it. The stream reports the
+ * tokens of the preprocessed input together with the preprocessor directives and the comments of
+ * the input, an AST is not created. A stream is used as follows:
+ * <pre>
+ * for (int event = stream.next(); event != IPreprocessorEventStream.END; event = stream.next()) {
+ *     switch (event) {
+ *     case IPreprocessorEventStream.TOKEN:
+ *         ...
+ *     }
+ * }
+ * </pre>
+ * The methods providing details refer to the event returned by the last call to {@link #next()}.
+ * Directives and comments are reported before the token that follows them, however when the
+ * preprocessor has to look ahead they may be reported before the preceding token.
+ *
+ * @see org.eclipse.cdt.core.dom.parser.AbstractCLikeLanguage#createPreprocessorEventStream
+ * @since 7.5
+ * @noextend This interface is not intended to be extended by clients.
+ * @noimplement This interface is not intended to be implemented by clients.
+ */
+public interface IPreprocessorEventStream {
+	/**
+	 * The end of the translation unit has been reached.
+	 */
+	public static final int END = 0;
+
+	/**
+	 * A token of the preprocessed input, see {@link #getToken()}.
+	 */
+	public static final int TOKEN = 1;
+
+	/**
+	 * A preprocessor directive, see {@link #getDirectiveKind()}.
+	 */
+	public static final int DIRECTIVE = 2;
+
+	/**
+	 * A comment, see {@link #isBlockComment()}.
+	 */
+	public static final int COMMENT = 3;
+
+	/**
+	 * Advances to the next event and returns its kind, one of {@link #TOKEN}, {@link #DIRECTIVE},
+	 * {@link #COMMENT} or {@link #END}.
+	 */
+	public int next();
+
+	/**
+	 * Returns the kind of the current event.
+	 */
+	public int getEventKind();
+
+	/**
+	 * Returns the current token, or {@code null} if the current event is not a token. The offsets of
+	 * the token are not file offsets, use {@link #getOffset()} instead.
+	 */
+	public IToken getToken();
+
+	/**
+	 * Returns the kind of the current directive as one of the constants of
+	 * {@link IPreprocessorDirective}, or {@link IPreprocessorDirective#ppInvalid} if the current
+	 * event is not a directive. Inclusions are reported as {@link IPreprocessorDirective#ppInclude}.
+	 */
+	public int getDirectiveKind();
+
+	/**
+	 * Returns the name of the file included by the current directive, or the name of the macro
+	 * defined, undefined or tested by it. Returns {@code null} for other events.
+	 */
+	public char[] getDirectiveName();
+
+	/**
+	 * Returns the absolute path of the file included by the current directive, or {@code null} if
+	 * the directive is not an inclusion or the inclusion could not be resolved.
+	 */
+	public String getIncludedFilePath();
+
+	/**
+	 * Returns whether the current directive is part of active code.
+	 */
+	public boolean isActive();
+
+	/**
+	 * Returns whether the branch started by the current conditional directive is taken. Returns
+	 * {@code false} for events that are not conditional directives.
+	 */
+	public boolean isTaken();
+
+	/**
+	 * Returns whether the current comment is a block comment.
+	 */
+	public boolean isBlockComment();
+
+	/**
+	 * Returns the characters of the current token or comment, or {@code null} for other events.
+	 */
+	public char[] getImage();
+
+	/**
+	 * Returns the path of the file containing the current event. For tokens resulting from a macro
+	 * expansion this is the file containing the expansion.
+	 */
+	public String getFilePath();
+
+	/**
+	 * Returns the offset of the current event in its file.
+	 */
+	public int getOffset();
+
+	/**
+	 * Returns the length of the current event in its file.
+	 */
+	public int getLength();
+
+	/**
+	 * Attempts to cancel the preprocessor, subsequent calls to {@link #next()} may throw a
+	 * {@link ParseError}.
+	 */
+	public void cancel();
+}
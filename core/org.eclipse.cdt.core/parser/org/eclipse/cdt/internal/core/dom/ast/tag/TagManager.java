@@ -28,6 +28,7 @@ import org.eclipse.cdt.core.dom.ast.tag.ITagWriter;
 import org.eclipse.cdt.internal.core.pdom.dom.IPDOMBinding;
 import org.eclipse.cdt.internal.core.pdom.tag.PDOMTaggable;
 import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.Platform;
 
 public class TagManager {
@@ -49,9 +50,13 @@ public class TagManager {
 	private static Map<String, TaggerDescriptor> loadExtensions() {
 		Map<String, TaggerDescriptor> taggers = new HashMap<>();
 
-		// Load the extensions
-		IConfigurationElement[] elements = Platform.getExtensionRegistry()
-				.getConfigurationElementsFor(CCorePlugin.PLUGIN_ID, EXTENSION_POINT);
+		// Load the extensions, there are none when running without the platform (standalone indexer).
+		IExtensionRegistry registry = Platform.getExtensionRegistry();
+		if (registry == null)
+			return taggers;
+
+		IConfigurationElement[] elements = registry.getConfigurationElementsFor(CCorePlugin.PLUGIN_ID,
+				EXTENSION_POINT);
 		for (IConfigurationElement element : elements) {
 			TaggerDescriptor desc = new TaggerDescriptor(element);
 			taggers.put(desc.getId(), desc);
@@ -76,6 +76,10 @@ public abstract class ASTNode implements IASTNode {
 		frozen = true;
 	}
 
+	public void setIsFrozen(boolean frozen) {
+		this.frozen = frozen;
+	}
+
 	public void setInactive() {
 		assertNotFrozen();
 		active = false;
@@ -136,20 +140,29 @@ public abstract class ASTNode implements IASTNode {
 
 	@Override
 	public IASTNodeLocation[] getNodeLocations() {
-		if (locations == null) {
-			if (length != 0) {
-				final IASTTranslationUnit tu = getTranslationUnit();
-				if (tu != null) {
-					ILocationResolver l = tu.getAdapter(ILocationResolver.class);
-					if (l != null) {
-						locations = l.getLocations(getOffset(), length);
-					}
+		if (locations != null)
+			return locations;
+		IASTNodeLocation[] result = null;
+		boolean cache = true;
+		if (length != 0) {
+			final IASTTranslationUnit tu = getTranslationUnit();
+			if (tu != null) {
+				cache = !isCompact(tu);
+				ILocationResolver l = tu.getAdapter(ILocationResolver.class);
+				if (l != null) {
+					result = l.getLocations(getOffset(), length);
 				}
 			}
-			if (locations == null)
-				locations = IASTNodeLocation.EMPTY_ARRAY;
 		}
-		return locations;
+		if (result == null)
+			result = IASTNodeLocation.EMPTY_ARRAY;
+		if (cache)
+			locations = result;
+		return result;
+	}
+
+	private static boolean isCompact(IASTTranslationUnit tu) {
+		return tu instanceof ASTTranslationUnit && ((ASTTranslationUnit) tu).isCompact();
 	}
 
 	public IASTImageLocation getImageLocation() {
@@ -208,16 +221,20 @@ public abstract class ASTNode implements IASTNode {
 			return null;
 		}
 		IASTTranslationUnit ast = getTranslationUnit();
-		if (ast != null) {
-			ILocationResolver lr = ast.getAdapter(ILocationResolver.class);
-			if (lr != null) {
-				fileLocation = lr.getMappedFileLocation(offset, length);
-			} else {
-				// Support for old location map
-				fileLocation = ast.flattenLocationsToFile(getNodeLocations());
-			}
+		if (ast == null)
+			return null;
+		IASTFileLocation result;
+		ILocationResolver lr = ast.getAdapter(ILocationResolver.class);
+		if (lr != null) {
+			result = lr.getMappedFileLocation(offset, length);
+		} else {
+			// Support for old location map
+			result = ast.flattenLocationsToFile(getNodeLocations());
 		}
-		return fileLocation;
+		// The nodes of a compact AST are typically asked for their location once.
+		if (!isCompact(ast))
+			fileLocation = result;
+		return result;
 	}
 
 	@Override
@@ -92,6 +92,8 @@ public abstract class ASTTranslationUnit extends ASTNode implements IASTTranslat
 	private final Semaphore fSemaphore = new Semaphore(1);
 	private boolean fBasedOnIncompleteIndex;
 	private boolean fNodesOmitted;
+	private boolean fIsCompact;
+	private TranslationUnitProfile fProfile;
 	private IBuiltinBindingsProvider fBuiltinBindingsProvider;
 
 	// Caches
@@ -331,6 +333,17 @@ public abstract class ASTTranslationUnit extends ASTNode implements IASTTranslat
 		}
 	}
 
+	/**
+	 * Replaces the location resolver and the index after the body of a function definition
+	 * has been parsed again, see {@link FunctionBodyReparser}. The index has to reflect the same
+	 * state as the one the AST was created with, therefore the sets of files are kept.
+	 */
+	final void updateAfterReparse(ILocationResolver resolver, IIndex index, boolean hasNodesOmitted) {
+		setLocationResolver(resolver);
+		fIndex = index;
+		fNodesOmitted |= hasNodesOmitted;
+	}
+
 	@Override
 	public final INodeFactory getASTNodeFactory() {
 		return fNodeFactory;
@@ -568,6 +581,30 @@ public abstract class ASTTranslationUnit extends ASTNode implements IASTTranslat
 		fNodesOmitted = hasNodesOmitted;
 	}
 
+	/**
+	 * Returns whether the AST has been created with a small memory footprint, in which case its
+	 * nodes do not cache their locations.
+	 */
+	public final boolean isCompact() {
+		return fIsCompact;
+	}
+
+	public void setIsCompact(boolean compact) {
+		fIsCompact = compact;
+	}
+
+	/**
+	 * Returns the profile of the translation unit, or {@code null} if the parser was not instructed
+	 * to collect one.
+	 */
+	public final TranslationUnitProfile getProfile() {
+		return fProfile;
+	}
+
+	public void setProfile(TranslationUnitProfile profile) {
+		fProfile = profile;
+	}
+
 	/**
 	 * If ambiguity resolution is in progress, and processing of 'node' has been deferred,
 	 * process it now. Has no effect if ambiguity resolution is not in progress.
@@ -100,6 +100,8 @@ import org.eclipse.cdt.core.parser.OffsetLimitReachedException;
 import org.eclipse.cdt.core.parser.ParseError;
 import org.eclipse.cdt.core.parser.ParserMode;
 import org.eclipse.cdt.core.parser.util.CharArrayUtils;
+import org.eclipse.cdt.core.parser.util.CharTable;
+import org.eclipse.cdt.internal.core.parser.scanner.CPreprocessor;
 import org.eclipse.cdt.internal.core.parser.scanner.ILocationResolver;
 
 /**
@@ -227,6 +229,9 @@ public abstract class AbstractGNUSourceCodeParser implements ISourceCodeParser {
 
 	private final INodeFactory nodeFactory;
 	private boolean fActiveCode = true;
+	private CharTable fIdentifierImages;
+	private boolean fCollectProfile;
+	private TranslationUnitProfile fProfile;
 
 	protected AbstractGNUSourceCodeParser(IScanner scanner, IParserLogService logService, ParserMode parserMode,
 			INodeFactory nodeFactory, boolean supportStatementsInExpressions, boolean supportTypeOfUnaries,
@@ -253,6 +258,34 @@ public abstract class AbstractGNUSourceCodeParser implements ISourceCodeParser {
 		maximumTrivialExpressionsInAggregateInitializers = limit;
 	}
 
+	/**
+	 * Instructs the parser to create an AST with a smaller memory footprint. Names with the same
+	 * identifier share their image and the nodes of the AST do not cache their locations. Meant for
+	 * ASTs that are traversed once and discarded afterwards, like the ones created by the indexer.
+	 */
+	public void setCompactAST(boolean compact) {
+		fIdentifierImages = compact ? new CharTable(1024) : null;
+	}
+
+	/**
+	 * Returns the image of an identifier token, for a compact AST the image is shared by all names
+	 * with the same identifier.
+	 */
+	protected final char[] getIdentifierImage(IToken t) {
+		final char[] image = t.getCharImage();
+		if (fIdentifierImages == null)
+			return image;
+		return fIdentifierImages.keyAt(fIdentifierImages.addIndex(image, 0, image.length));
+	}
+
+	/**
+	 * Instructs the parser to attach a {@link TranslationUnitProfile} to the AST, which records the
+	 * time spent in preprocessing, parsing and ambiguity resolution.
+	 */
+	public void setCollectProfile(boolean collect) {
+		fCollectProfile = collect;
+	}
+
 	private AbstractParserLogService wrapLogService(IParserLogService logService) {
 		if (logService instanceof AbstractParserLogService) {
 			return (AbstractParserLogService) logService;
@@ -288,6 +321,7 @@ public abstract class AbstractGNUSourceCodeParser implements ISourceCodeParser {
 	 * Fetches the next token from the scanner.
 	 */
 	private final IToken fetchToken(boolean skipInactive) throws EndOfFileException {
+		final long start = fProfile != null ? System.nanoTime() : 0;
 		try {
 			IToken t = scanner.nextToken();
 			if (skipInactive) {
@@ -296,6 +330,10 @@ public abstract class AbstractGNUSourceCodeParser implements ISourceCodeParser {
 					t = scanner.nextToken();
 				}
 			}
+			if (fProfile != null) {
+				fProfile.fPreprocessingTime += System.nanoTime() - start;
+				fProfile.fTokens++;
+			}
 			if (lastTokenFromScanner != null)
 				lastTokenFromScanner.setNext(t);
 			lastTokenFromScanner = t;
@@ -685,9 +723,15 @@ public abstract class AbstractGNUSourceCodeParser implements ISourceCodeParser {
 	@Override
 	public IASTTranslationUnit parse() {
 		long t0 = log.isTracing() ? System.currentTimeMillis() : 0;
+		long start = fCollectProfile ? System.nanoTime() : 0;
 		translationUnit();
 		long t1 = log.isTracing() ? System.currentTimeMillis() : 0;
+		long parsed = fCollectProfile ? System.nanoTime() : 0;
 		resolveAmbiguities();
+		if (fProfile != null) {
+			fProfile.fParsingTime += parsed - start - fProfile.fPreprocessingTime;
+			fProfile.fAmbiguityResolutionTime += System.nanoTime() - parsed;
+		}
 		IASTTranslationUnit ast = getTranslationUnit();
 		if (log.isTracing()) {
 			ITranslationUnit tu = ast.getOriginatingTranslationUnit();
@@ -701,6 +745,45 @@ public abstract class AbstractGNUSourceCodeParser implements ISourceCodeParser {
 		return ast;
 	}
 
+	/**
+	 * Parses the body of a single function definition. The tokens preceding the body are skipped
+	 * and the ones following it are passed through the preprocessor only, such that the location
+	 * map is complete. The body is not added to the translation unit of this parser, it is meant
+	 * to replace the body of the same function in an existing AST. Ambiguities are not resolved.
+	 *
+	 * @param offset the sequence number of the opening brace of the body.
+	 * @return the body of the function, or {@code null} if it could not be parsed.
+	 */
+	public IASTCompoundStatement parseFunctionBody(int offset) {
+		try {
+			setupTranslationUnit();
+		} catch (Exception e) {
+			logException("parseFunctionBody::createCompilationUnit()", e); //$NON-NLS-1$
+			return null;
+		}
+		IASTCompoundStatement body;
+		try {
+			IToken t = nextToken(false);
+			while (t.getOffset() < offset) {
+				nextToken = t.getNext();
+				t = nextToken(false);
+			}
+			if (t.getOffset() != offset || t.getType() != IToken.tLBRACE)
+				return null;
+			body = functionBody();
+		} catch (EndOfFileException | BacktrackException e) {
+			return null;
+		}
+		try {
+			while (true) {
+				scanner.nextToken();
+			}
+		} catch (EndOfFileException e) {
+			// The end of the input has been reached.
+		}
+		return body;
+	}
+
 	protected void resolveAmbiguities() {
 		final IASTTranslationUnit translationUnit = getTranslationUnit();
 		if (translationUnit instanceof ASTTranslationUnit) {
@@ -1353,6 +1436,19 @@ public abstract class AbstractGNUSourceCodeParser implements ISourceCodeParser {
 			logException("translationUnit::createCompilationUnit()", e); //$NON-NLS-1$
 			return;
 		}
+		final IASTTranslationUnit tu = getTranslationUnit();
+		if (tu instanceof ASTTranslationUnit) {
+			if (fIdentifierImages != null) {
+				((ASTTranslationUnit) tu).setIsCompact(true);
+			}
+			if (fCollectProfile) {
+				fProfile = new TranslationUnitProfile(tu.getFilePath());
+				((ASTTranslationUnit) tu).setProfile(fProfile);
+				if (scanner instanceof CPreprocessor) {
+					((CPreprocessor) scanner).setProfile(fProfile);
+				}
+			}
+		}
 		parseTranslationUnit();
 	}
 
@@ -0,0 +1,545 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.dom.parser;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.eclipse.cdt.core.dom.ast.ASTGenericVisitor;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTAttribute;
+import org.eclipse.cdt.core.dom.ast.IASTAttributeSpecifier;
+import org.eclipse.cdt.core.dom.ast.IASTCompoundStatement;
+import org.eclipse.cdt.core.dom.ast.IASTDeclSpecifier;
+import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTDeclarator;
+import org.eclipse.cdt.core.dom.ast.IASTFileLocation;
+import org.eclipse.cdt.core.dom.ast.IASTFunctionDeclarator;
+import org.eclipse.cdt.core.dom.ast.IASTLabelStatement;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IASTNode;
+import org.eclipse.cdt.core.dom.ast.IASTNodeLocation;
+import org.eclipse.cdt.core.dom.ast.IASTSimpleDeclSpecifier;
+import org.eclipse.cdt.core.dom.ast.IASTSimpleDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTStatement;
+import org.eclipse.cdt.core.dom.ast.IASTToken;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTClassVirtSpecifier;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTCompositeTypeSpecifier;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTDeclSpecifier;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTDecltypeSpecifier;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTDesignator;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTFunctionDefinition;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTFunctionWithTryBlock;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTLinkageSpecification;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTNamespaceDefinition;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTTemplateDeclaration;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTTemplateSpecialization;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTVirtSpecifier;
+import org.eclipse.cdt.core.dom.ast.gnu.cpp.GPPLanguage;
+import org.eclipse.cdt.core.dom.parser.cpp.GPPParserExtensionConfiguration;
+import org.eclipse.cdt.core.dom.parser.cpp.GPPScannerExtensionConfiguration;
+import org.eclipse.cdt.core.index.IIndex;
+import org.eclipse.cdt.core.model.ILanguage;
+import org.eclipse.cdt.core.parser.ExtendedScannerInfo;
+import org.eclipse.cdt.core.parser.FileContent;
+import org.eclipse.cdt.core.parser.IExtendedScannerInfo;
+import org.eclipse.cdt.core.parser.IParserLogService;
+import org.eclipse.cdt.core.parser.IParserSettings;
+import org.eclipse.cdt.core.parser.IScannerInfo;
+import org.eclipse.cdt.core.parser.IncludeFileContentProvider;
+import org.eclipse.cdt.core.parser.ParseError;
+import org.eclipse.cdt.core.parser.ParseError.ParseErrorKind;
+import org.eclipse.cdt.core.parser.ParserLanguage;
+import org.eclipse.cdt.core.parser.ParserMode;
+import org.eclipse.cdt.core.parser.util.CharArrayUtils;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPASTTranslationUnit;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.GNUCPPSourceParser;
+import org.eclipse.cdt.internal.core.parser.scanner.AbstractCharArray;
+import org.eclipse.cdt.internal.core.parser.scanner.CPreprocessor;
+import org.eclipse.cdt.internal.core.parser.scanner.ILocationResolver;
+import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContent;
+import org.eclipse.cdt.internal.core.parser.scanner.LocationMap;
+import org.eclipse.cdt.internal.core.util.ICancelable;
+import org.eclipse.cdt.internal.core.util.ICanceler;
+
+/**
+ * Updates an existing C++ AST after the source of its file has changed, by parsing the body of the
+ * function definition that contains the modification, only. The AST is modified in place, other
+ * function bodies and all declarations outside of function bodies are kept.
+ * <p>
+ * The update is performed only when it is known to produce the same AST as parsing the entire file,
+ * i.e. the modification is confined to a single function body, the preprocessor produces the same
+ * output for the rest of the file and the body does not contribute to the scopes outside of it.
+ * In all other cases {@link #reparse} returns {@code null} and the file has to be parsed as usual.
+ */
+public class FunctionBodyReparser {
+	private static final char[][] DYNAMIC_MACROS = { "__COUNTER__".toCharArray(), //$NON-NLS-1$
+			"__DATE__".toCharArray(), "__TIME__".toCharArray(), "__TIMESTAMP__".toCharArray() }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	private static final char[] LINE_MACRO = "__LINE__".toCharArray(); //$NON-NLS-1$
+
+	private WeakReference<CPPASTTranslationUnit> fAST;
+	private AbstractCharArray fSource;
+	private IScannerInfo fScannerInfo;
+	private int fOptions;
+	private boolean fHasIndex;
+	private long fLastWriteAccess;
+
+	/**
+	 * Remembers an AST that has been created by parsing the entire file, such that it can be
+	 * updated by a subsequent call to {@link #reparse}. The AST must have been created with
+	 * {@link ILanguage#OPTION_TRACK_IMPLICIT_NAMES}, otherwise it is not remembered.
+	 */
+	public synchronized void setAST(IASTTranslationUnit ast, FileContent content, IScannerInfo scanInfo,
+			int options) {
+		clear();
+		if (!(ast instanceof CPPASTTranslationUnit) || !(content instanceof InternalFileContent)
+				|| !((CPPASTTranslationUnit) ast).isTrackingImplicitNames())
+			return;
+		AbstractCharArray source = ((InternalFileContent) content).getSource();
+		if (source == null || source.tryGetLength() < 0)
+			return;
+
+		IIndex index = ast.getIndex();
+		fAST = new WeakReference<>((CPPASTTranslationUnit) ast);
+		fSource = source;
+		fScannerInfo = scanInfo;
+		fOptions = options;
+		fHasIndex = index != null;
+		fLastWriteAccess = index == null ? 0 : index.getLastWriteAccess();
+	}
+
+	/**
+	 * Forgets about the AST, it will no longer be updated.
+	 */
+	public synchronized void clear() {
+		fAST = null;
+		fSource = null;
+		fScannerInfo = null;
+	}
+
+	/**
+	 * Attempts to update the AST passed to {@link #setAST} for the given content of the file. The
+	 * arguments have to be the ones that would be used for parsing the entire file.
+	 *
+	 * @return the updated AST, or {@code null} if the file needs to be parsed entirely.
+	 */
+	public synchronized IASTTranslationUnit reparse(ILanguage language, FileContent content, IScannerInfo scanInfo,
+			IncludeFileContentProvider fileCreator, IIndex index, int options, IParserLogService log) {
+		final CPPASTTranslationUnit ast = fAST == null ? null : fAST.get();
+		if (ast == null || language == null || language.getClass() != GPPLanguage.class
+				|| !(content instanceof InternalFileContent) || options != fOptions
+				|| (options & ILanguage.OPTION_SKIP_FUNCTION_BODIES) != 0 || (index != null) != fHasIndex
+				|| (index != null && index.getLastWriteAccess() != fLastWriteAccess)
+				|| !isSameScannerInfo(scanInfo, fScannerInfo)) {
+			return null;
+		}
+		final AbstractCharArray source = ((InternalFileContent) content).getSource();
+		if (source == null || source.tryGetLength() < 0
+				|| !Objects.equals(content.getFileLocation(), ast.getFilePath())) {
+			return null;
+		}
+
+		try {
+			if (!ast.tryBeginExclusiveAccess(0))
+				return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+		try {
+			if (!reparse(ast, content, source, scanInfo, fileCreator, index, options, log))
+				return null;
+		} finally {
+			ast.endExclusiveAccess();
+		}
+		fSource = source;
+		fLastWriteAccess = index == null ? 0 : index.getLastWriteAccess();
+		return ast;
+	}
+
+	private boolean reparse(CPPASTTranslationUnit ast, FileContent content, AbstractCharArray source,
+			IScannerInfo scanInfo,
+			IncludeFileContentProvider fileCreator, IIndex index, int options, IParserLogService log) {
+		final ILocationResolver resolver = ast.getAdapter(ILocationResolver.class);
+		if (!(resolver instanceof LocationMap))
+			return false;
+		final LocationMap oldMap = (LocationMap) resolver;
+
+		// Determine the modified range of the file.
+		final AbstractCharArray oldSource = fSource;
+		final int oldLength = oldSource.getLength();
+		final int newLength = source.getLength();
+		final int minLength = Math.min(oldLength, newLength);
+		int prefix = 0;
+		while (prefix < minLength && oldSource.get(prefix) == source.get(prefix)) {
+			prefix++;
+		}
+		if (prefix == oldLength && prefix == newLength)
+			return false; // No modification.
+		int suffix = 0;
+		while (suffix < minLength - prefix
+				&& oldSource.get(oldLength - suffix - 1) == source.get(newLength - suffix - 1)) {
+			suffix++;
+		}
+		final int editEnd = oldLength - suffix;
+		final int fileDelta = newLength - oldLength;
+
+		final ICPPASTFunctionDefinition fdef = findFunctionDefinition(ast.getDeclarations(true), prefix, editEnd);
+		if (fdef == null || !canReparse(fdef))
+			return false;
+		final ASTNode oldBody = (ASTNode) fdef.getBody();
+		final IASTFileLocation bodyLocation = oldBody.getFileLocation();
+		final int bodyStart = bodyLocation.getNodeOffset();
+		final int bodyEnd = bodyStart + bodyLocation.getNodeLength();
+		if (prefix <= bodyStart || editEnd >= bodyEnd)
+			return false; // The braces of the body have been modified.
+		final int bodySequenceNumber = oldBody.getOffset();
+		final int oldBodyEnd = bodySequenceNumber + oldBody.getLength();
+
+		// Parse the new body.
+		final CPreprocessor scanner = new CPreprocessor(content, scanInfo, ParserLanguage.CPP, log,
+				GPPScannerExtensionConfiguration.getInstance(scanInfo), fileCreator);
+		scanner.setComputeImageLocations((options & ILanguage.OPTION_NO_IMAGE_LOCATIONS) == 0);
+		scanner.setProcessInactiveCode((options & ILanguage.OPTION_PARSE_INACTIVE_CODE) != 0);
+		final GNUCPPSourceParser parser = new GNUCPPSourceParser(scanner, ParserMode.COMPLETE_PARSE, log,
+				GPPParserExtensionConfiguration.getInstance(), index);
+		if (scanInfo instanceof ExtendedScannerInfo) {
+			IParserSettings settings = ((ExtendedScannerInfo) scanInfo).getParserSettings();
+			if (settings != null) {
+				int maximumTrivialExpressions = settings.getMaximumTrivialExpressionsInAggregateInitializers();
+				if (maximumTrivialExpressions >= 0
+						&& (options & ILanguage.OPTION_SKIP_TRIVIAL_EXPRESSIONS_IN_AGGREGATE_INITIALIZERS) != 0) {
+					parser.setMaximumTrivialExpressionsInAggregateInitializers(maximumTrivialExpressions);
+				}
+			}
+		}
+
+		ICanceler canceler = null;
+		if (log instanceof ICanceler) {
+			canceler = (ICanceler) log;
+			canceler.setCancelable(new ICancelable() {
+				@Override
+				public void cancel() {
+					scanner.cancel();
+					parser.cancel();
+				}
+			});
+		}
+		final IASTCompoundStatement newBody;
+		try {
+			newBody = parser.parseFunctionBody(bodySequenceNumber);
+		} catch (ParseError e) {
+			if (e.getErrorKind() != ParseErrorKind.TOO_MANY_TOKENS)
+				throw e;
+			return false;
+		} finally {
+			if (canceler != null) {
+				canceler.setCancelable(null);
+			}
+		}
+		if (newBody == null || ((ASTNode) newBody).getOffset() != bodySequenceNumber || !canReparse(newBody))
+			return false;
+		final ILocationResolver newResolver = scanner.getLocationResolver();
+		if (!(newResolver instanceof LocationMap))
+			return false;
+		final LocationMap newMap = (LocationMap) newResolver;
+		final int newBodyLength = ((ASTNode) newBody).getLength();
+		final int sequenceDelta = newBodyLength - oldBody.getLength();
+
+		// Check that the preprocessor output outside of the body is unchanged.
+		if (!startsAndEndsInFile(newMap.getLocations(bodySequenceNumber, newBodyLength)))
+			return false;
+		IASTFileLocation newBodyLocation = newMap.getMappedFileLocation(bodySequenceNumber, newBodyLength);
+		if (newBodyLocation == null || !ast.getFilePath().equals(newBodyLocation.getFileName())
+				|| newBodyLocation.getNodeOffset() != bodyStart
+				|| newBodyLocation.getNodeLength() != bodyEnd - bodyStart + fileDelta) {
+			return false;
+		}
+		if (!newMap.isEqualOutsideOf(oldMap, bodyStart, bodyEnd, bodySequenceNumber, oldBodyEnd, fileDelta,
+				sequenceDelta)) {
+			return false;
+		}
+		final boolean linesChanged = countLines(oldSource, prefix, editEnd) != countLines(source, prefix,
+				editEnd + fileDelta);
+		for (IASTName ref : newMap.getMacroReferences()) {
+			final char[] name = ref.getSimpleID();
+			for (char[] dynamicMacro : DYNAMIC_MACROS) {
+				if (CharArrayUtils.equals(name, dynamicMacro))
+					return false;
+			}
+			if (linesChanged && CharArrayUtils.equals(name, LINE_MACRO)
+					&& ((ASTNode) ref).getOffset() >= bodySequenceNumber + newBodyLength) {
+				return false;
+			}
+		}
+
+		// Replace the body and adjust the rest of the AST.
+		final boolean hasNodesOmitted = ((AbstractGNUSourceCodeParser) parser).getTranslationUnit().hasNodesOmitted();
+		final ASTNode fdefNode = (ASTNode) fdef;
+		fdefNode.setIsFrozen(false);
+		fdef.setBody(newBody);
+		fdefNode.setIsFrozen(true);
+		newMap.moveNodesTo(ast);
+		((ASTTranslationUnit) ast).updateAfterReparse(newMap, index, hasNodesOmitted);
+		final OffsetAdjuster adjuster = new OffsetAdjuster(newBody, bodySequenceNumber, oldBodyEnd, sequenceDelta);
+		if (sequenceDelta != 0) {
+			ast.accept(adjuster);
+			ast.shiftAdditionalDirectives(oldBodyEnd, sequenceDelta);
+		}
+		// The implicit names of the old body are dropped, the ones after it are moved.
+		ast.updateImplicitNames(name -> {
+			if (isDescendant(name, oldBody))
+				return false;
+			adjuster.adjust(name);
+			return true;
+		});
+		ast.resolveAmbiguities(newBody);
+		newBody.accept(new ASTGenericVisitor(true) {
+			@Override
+			protected int genericVisit(IASTNode node) {
+				((ASTNode) node).setIsFrozen(true);
+				return PROCESS_CONTINUE;
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * Returns the outermost function definition whose body may contain the given range, or
+	 * {@code null} if the range is not confined to a single function definition.
+	 */
+	private static ICPPASTFunctionDefinition findFunctionDefinition(IASTDeclaration[] declarations, int offset,
+			int endOffset) {
+		for (IASTDeclaration declaration : declarations) {
+			if (!declaration.isPartOfTranslationUnitFile())
+				continue;
+			final IASTFileLocation location = declaration.getFileLocation();
+			if (location == null)
+				continue;
+			final int start = location.getNodeOffset();
+			final int end = start + location.getNodeLength();
+			if (end <= offset || start >= endOffset)
+				continue;
+			if (start > offset || end < endOffset || !declaration.isActive())
+				return null;
+			return findFunctionDefinition(declaration, offset, endOffset);
+		}
+		return null;
+	}
+
+	private static ICPPASTFunctionDefinition findFunctionDefinition(IASTDeclaration declaration, int offset,
+			int endOffset) {
+		if (declaration instanceof ICPPASTFunctionDefinition)
+			return (ICPPASTFunctionDefinition) declaration;
+		if (declaration instanceof ICPPASTNamespaceDefinition)
+			return findFunctionDefinition(((ICPPASTNamespaceDefinition) declaration).getDeclarations(true), offset,
+					endOffset);
+		if (declaration instanceof ICPPASTLinkageSpecification)
+			return findFunctionDefinition(((ICPPASTLinkageSpecification) declaration).getDeclarations(true), offset,
+					endOffset);
+		if (declaration instanceof ICPPASTTemplateDeclaration)
+			return findFunctionDefinition(((ICPPASTTemplateDeclaration) declaration).getDeclaration(), offset,
+					endOffset);
+		if (declaration instanceof ICPPASTTemplateSpecialization)
+			return findFunctionDefinition(((ICPPASTTemplateSpecialization) declaration).getDeclaration(), offset,
+					endOffset);
+		if (declaration instanceof IASTSimpleDeclaration) {
+			IASTDeclSpecifier declSpec = ((IASTSimpleDeclaration) declaration).getDeclSpecifier();
+			if (declSpec instanceof ICPPASTCompositeTypeSpecifier)
+				return findFunctionDefinition(((ICPPASTCompositeTypeSpecifier) declSpec).getDeclarations(true),
+						offset, endOffset);
+		}
+		return null;
+	}
+
+	/**
+	 * Checks whether the body of the function definition can be replaced without affecting the
+	 * rest of the AST.
+	 */
+	private static boolean canReparse(ICPPASTFunctionDefinition fdef) {
+		if (fdef instanceof ICPPASTFunctionWithTryBlock || !(fdef.getBody() instanceof IASTCompoundStatement))
+			return false;
+		final IASTDeclSpecifier declSpec = fdef.getDeclSpecifier();
+		if (declSpec instanceof ICPPASTDeclSpecifier && ((ICPPASTDeclSpecifier) declSpec).isConstexpr())
+			return false; // The body may be evaluated.
+		if (declSpec instanceof IASTSimpleDeclSpecifier) {
+			int type = ((IASTSimpleDeclSpecifier) declSpec).getType();
+			if (type == IASTSimpleDeclSpecifier.t_auto || type == IASTSimpleDeclSpecifier.t_decltype_auto)
+				return false; // The return type depends on the body.
+		}
+		final IASTStatement body = fdef.getBody();
+		return startsAndEndsInFile(body.getNodeLocations()) && canReparse(body);
+	}
+
+	/**
+	 * Checks that the body does not contribute to scopes outside of it.
+	 */
+	private static boolean canReparse(IASTStatement body) {
+		final boolean[] result = { true };
+		body.accept(new ASTVisitor() {
+			{
+				shouldVisitStatements = true;
+				shouldVisitDeclSpecifiers = true;
+				shouldVisitDeclarators = true;
+				includeInactiveNodes = true;
+			}
+
+			@Override
+			public int visit(IASTStatement statement) {
+				return check(!(statement instanceof IASTLabelStatement));
+			}
+
+			@Override
+			public int visit(IASTDeclSpecifier declSpec) {
+				return check(!(declSpec instanceof ICPPASTDeclSpecifier && ((ICPPASTDeclSpecifier) declSpec).isFriend())
+						&& declSpec.getStorageClass() != IASTDeclSpecifier.sc_extern);
+			}
+
+			@Override
+			public int visit(IASTDeclarator declarator) {
+				return check(!(declarator.getParent() instanceof IASTSimpleDeclaration
+						&& ASTQueries.findTypeRelevantDeclarator(declarator) instanceof IASTFunctionDeclarator));
+			}
+
+			private int check(boolean ok) {
+				if (ok)
+					return PROCESS_CONTINUE;
+				result[0] = false;
+				return PROCESS_ABORT;
+			}
+		});
+		return result[0];
+	}
+
+	private static boolean isDescendant(IASTNode node, IASTNode ancestor) {
+		for (; node != null; node = node.getParent()) {
+			if (node == ancestor)
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean startsAndEndsInFile(IASTNodeLocation[] locations) {
+		return locations != null && locations.length > 0 && locations[0] instanceof IASTFileLocation
+				&& locations[locations.length - 1] instanceof IASTFileLocation;
+	}
+
+	private static int countLines(AbstractCharArray source, int offset, int endOffset) {
+		int count = 0;
+		for (int i = offset; i < endOffset; i++) {
+			if (source.get(i) == '\n')
+				count++;
+		}
+		return count;
+	}
+
+	private static boolean isSameScannerInfo(IScannerInfo info, IScannerInfo other) {
+		if (info == other)
+			return true;
+		if (info == null || other == null || !Objects.equals(info.getDefinedSymbols(), other.getDefinedSymbols())
+				|| !Arrays.equals(info.getIncludePaths(), other.getIncludePaths())) {
+			return false;
+		}
+		if (info instanceof IExtendedScannerInfo != other instanceof IExtendedScannerInfo)
+			return false;
+		if (info instanceof IExtendedScannerInfo) {
+			IExtendedScannerInfo einfo = (IExtendedScannerInfo) info;
+			IExtendedScannerInfo eother = (IExtendedScannerInfo) other;
+			return Arrays.equals(einfo.getMacroFiles(), eother.getMacroFiles())
+					&& Arrays.equals(einfo.getIncludeFiles(), eother.getIncludeFiles())
+					&& Arrays.equals(einfo.getLocalIncludePath(), eother.getLocalIncludePath());
+		}
+		return true;
+	}
+
+	/**
+	 * Moves the nodes following a replaced function body and extends the nodes enclosing it.
+	 */
+	private static class OffsetAdjuster extends ASTGenericVisitor {
+		private final IASTNode fBody;
+		private final int fOffset;
+		private final int fEndOffset;
+		private final int fDelta;
+
+		OffsetAdjuster(IASTNode body, int offset, int endOffset, int delta) {
+			super(true);
+			fBody = body;
+			fOffset = offset;
+			fEndOffset = endOffset;
+			fDelta = delta;
+			includeInactiveNodes = true;
+			shouldVisitTokens = true;
+		}
+
+		@Override
+		protected int genericVisit(IASTNode n) {
+			if (n == fBody)
+				return PROCESS_SKIP;
+			return adjust((ASTNode) n) ? PROCESS_CONTINUE : PROCESS_SKIP;
+		}
+
+		/**
+		 * Adjusts the offset or length of a node outside of the body, returns {@code false}
+		 * if the node precedes the body.
+		 */
+		boolean adjust(ASTNode node) {
+			if (fDelta == 0)
+				return true;
+			final int offset = node.getOffset();
+			final int end = offset + node.getLength();
+			if (offset >= fEndOffset) {
+				node.setOffset(offset + fDelta);
+			} else if (end <= fOffset) {
+				return false;
+			} else if (end >= fEndOffset) {
+				node.setLength(node.getLength() + fDelta);
+			}
+			return true;
+		}
+
+		@Override
+		public int visit(IASTAttribute attribute) {
+			return genericVisit(attribute);
+		}
+
+		@Override
+		public int visit(IASTAttributeSpecifier specifier) {
+			return genericVisit(specifier);
+		}
+
+		@Override
+		public int visit(IASTToken token) {
+			return genericVisit(token);
+		}
+
+		@Override
+		public int visit(ICPPASTDesignator designator) {
+			return genericVisit(designator);
+		}
+
+		@Override
+		public int visit(ICPPASTVirtSpecifier virtSpecifier) {
+			return genericVisit(virtSpecifier);
+		}
+
+		@Override
+		public int visit(ICPPASTClassVirtSpecifier classVirtSpecifier) {
+			return genericVisit(classVirtSpecifier);
+		}
+
+		@Override
+		public int visit(ICPPASTDecltypeSpecifier decltypeSpecifier) {
+			return genericVisit(decltypeSpecifier);
+		}
+	}
+}
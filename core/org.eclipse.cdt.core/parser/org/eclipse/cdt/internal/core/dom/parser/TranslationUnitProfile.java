@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.dom.parser;
+
+/**
+ * Time spent in the phases of processing a translation unit, together with counters of the work
+ * done. Times are in nanoseconds. The preprocessing time is the time the parser waits for tokens,
+ * it includes the time for resolving includes and for expanding macros.
+ * <p>
+ * A profile is collected when the AST is created with
+ * {@link org.eclipse.cdt.core.model.ILanguage#OPTION_COLLECT_PROFILE}, it is attached to the AST
+ * and completed by the consumers of the AST.
+ */
+public class TranslationUnitProfile {
+	public String fFilePath;
+
+	public long fPreprocessingTime;
+	public long fIncludeResolutionTime;
+	public long fMacroExpansionTime;
+	public long fParsingTime;
+	public long fAmbiguityResolutionTime;
+	public long fBindingResolutionTime;
+	public long fIndexWriteTime;
+
+	public long fTokens;
+	public int fIncludes;
+	public int fMacroExpansions;
+	public long fLookups;
+	public int fInstantiations;
+	public int fIndexWrites;
+
+	public TranslationUnitProfile(String filePath) {
+		fFilePath = filePath;
+	}
+
+	/**
+	 * Returns the time spent for the translation unit in all phases.
+	 */
+	public long getTotalTime() {
+		return fPreprocessingTime + fParsingTime + fAmbiguityResolutionTime + fBindingResolutionTime
+				+ fIndexWriteTime;
+	}
+
+	/**
+	 * Counts a name lookup, may be called while the names of the AST are resolved in parallel.
+	 */
+	public synchronized void countLookup() {
+		fLookups++;
+	}
+
+	/**
+	 * Counts a template instantiation, may be called while the names of the AST are resolved in
+	 * parallel.
+	 */
+	public synchronized void countInstantiation() {
+		fInstantiations++;
+	}
+
+	/**
+	 * Adds the times and counters of another profile to this one.
+	 */
+	public void add(TranslationUnitProfile other) {
+		fPreprocessingTime += other.fPreprocessingTime;
+		fIncludeResolutionTime += other.fIncludeResolutionTime;
+		fMacroExpansionTime += other.fMacroExpansionTime;
+		fParsingTime += other.fParsingTime;
+		fAmbiguityResolutionTime += other.fAmbiguityResolutionTime;
+		fBindingResolutionTime += other.fBindingResolutionTime;
+		fIndexWriteTime += other.fIndexWriteTime;
+		fTokens += other.fTokens;
+		fIncludes += other.fIncludes;
+		fMacroExpansions += other.fMacroExpansions;
+		fLookups += other.fLookups;
+		fInstantiations += other.fInstantiations;
+		fIndexWrites += other.fIndexWrites;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public String toString() {
+		return (fFilePath != null ? fFilePath + ": " : "") + toMillis(getTotalTime()) + " ms total, " //
+				+ toMillis(fPreprocessingTime) + " preprocessor (" //
+				+ toMillis(fIncludeResolutionTime) + " includes, " //
+				+ toMillis(fMacroExpansionTime) + " macros), " //
+				+ toMillis(fParsingTime) + " parser, " //
+				+ toMillis(fAmbiguityResolutionTime) + " ambiguities, " //
+				+ toMillis(fBindingResolutionTime) + " resolution, " //
+				+ toMillis(fIndexWriteTime) + " index update; " //
+				+ fTokens + " tokens, " + fIncludes + " includes, " + fMacroExpansions + " macro expansions, " //
+				+ fLookups + " lookups, " + fInstantiations + " instantiations, " //
+				+ fIndexWrites + " index writes.";
+	}
+
+	public static long toMillis(long nanos) {
+		return nanos / 1000000;
+	}
+}
@@ -20,6 +20,7 @@ import org.eclipse.cdt.core.dom.ast.ExpansionOverlapsBoundaryException;
 import org.eclipse.cdt.core.dom.ast.IASTImplicitName;
 import org.eclipse.cdt.core.dom.ast.IASTImplicitNameOwner;
 import org.eclipse.cdt.core.dom.ast.IASTNode;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
 import org.eclipse.cdt.core.parser.IToken;
 import org.eclipse.cdt.core.parser.Keywords;
 import org.eclipse.cdt.core.parser.util.CharArrayUtils;
@@ -44,6 +45,14 @@ public class CPPASTImplicitName extends CPPASTName implements IASTImplicitName {
 		super(name);
 		setParent(parent);
 		setPropertyInParent(IASTImplicitNameOwner.IMPLICIT_NAME);
+		if (parent != null) {
+			// Implicit names are created on demand, translation units that may be reparsed keep
+			// track of them for the adjustment of the offsets after a function body has been replaced.
+			IASTTranslationUnit tu = parent.getTranslationUnit();
+			if (tu instanceof CPPASTTranslationUnit) {
+				((CPPASTTranslationUnit) tu).addImplicitName(this);
+			}
+		}
 	}
 
 	public CPPASTImplicitName(OverloadableOperator op, IASTNode parent) {
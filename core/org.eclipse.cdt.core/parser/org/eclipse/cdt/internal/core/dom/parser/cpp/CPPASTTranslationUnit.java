@@ -15,8 +15,11 @@
  *******************************************************************************/
 package org.eclipse.cdt.internal.core.dom.parser.cpp;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 import org.eclipse.cdt.core.dom.ILinkage;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
@@ -44,6 +47,8 @@ import org.eclipse.cdt.internal.core.dom.parser.ASTTranslationUnit;
 import org.eclipse.cdt.internal.core.dom.parser.IASTAmbiguityParent;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPInheritance.FinalOverriderMap;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPVisitor;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.ConstexprEvaluationCache;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.OverloadResolutionCache;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.TypeInstantiationRequest;
 import org.eclipse.cdt.internal.core.index.IIndexScope;
 import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContent;
@@ -57,14 +62,20 @@ public class CPPASTTranslationUnit extends ASTTranslationUnit implements ICPPAST
 	private final CPPScopeMapper fScopeMapper;
 	private CPPASTAmbiguityResolver fAmbiguityResolver;
 
-	// Caches.
-	private final Map<ICPPClassType, FinalOverriderMap> fFinalOverriderMapCache = new HashMap<>();
+	// Caches, they are concurrent because the names of an AST may be resolved in parallel.
+	private final Map<ICPPClassType, FinalOverriderMap> fFinalOverriderMapCache = new ConcurrentHashMap<>();
 	// Cache for type instantiations. This is currently only used for instantiations of
 	// alias template instances, but its use could potentially be expanded to cover other
 	// instantiations. Note that class template instances are already cached by the
 	// template definition, so we wouldn't want to double-cache those. (But we could e.g.
 	// cache instantiations of function types if we found it worthwhile.)
-	private final Map<TypeInstantiationRequest, IType> fInstantiationCache = new HashMap<>();
+	private final Map<TypeInstantiationRequest, IType> fInstantiationCache = new ConcurrentHashMap<>();
+	private final ConstexprEvaluationCache fConstexprEvaluationCache = new ConstexprEvaluationCache();
+	private final OverloadResolutionCache fOverloadResolutionCache = new OverloadResolutionCache();
+	private DeferredFunctionBodies fDeferredFunctionBodies;
+	// The implicit names created for the nodes of this AST, guarded by itself. Only tracked for
+	// ASTs that may be updated by reparsing a function body, null otherwise.
+	private List<CPPASTImplicitName> fImplicitNames;
 
 	public CPPASTTranslationUnit() {
 		fScopeMapper = new CPPScopeMapper(this);
@@ -250,6 +261,62 @@ public class CPPASTTranslationUnit extends ASTTranslationUnit implements ICPPAST
 		fAmbiguityResolver = null;
 	}
 
+	/**
+	 * Resolves the ambiguities in a part of the AST that has been added after the ambiguities
+	 * of the rest of the AST have been resolved.
+	 */
+	public void resolveAmbiguities(IASTNode node) {
+		fAmbiguityResolver = new CPPASTAmbiguityResolver();
+		node.accept(fAmbiguityResolver);
+		node.accept(new ProblemBindingClearer());
+		fAmbiguityResolver = null;
+	}
+
+	/**
+	 * Makes this AST keep track of the implicit names created for its nodes, must be called before
+	 * any names are created. Only needed for ASTs that are updated via
+	 * {@link #updateImplicitNames(Predicate)}.
+	 */
+	public void setTrackImplicitNames(boolean track) {
+		fImplicitNames = track ? new ArrayList<>() : null;
+	}
+
+	public boolean isTrackingImplicitNames() {
+		return fImplicitNames != null;
+	}
+
+	void addImplicitName(CPPASTImplicitName name) {
+		final List<CPPASTImplicitName> implicitNames = fImplicitNames;
+		if (implicitNames != null) {
+			synchronized (implicitNames) {
+				implicitNames.add(name);
+			}
+		}
+	}
+
+	/**
+	 * Passes the implicit names created so far to the given function, the names for which it
+	 * returns {@code false} are forgotten. Implicit names are created on demand, the visitors
+	 * reach only the ones that they request. Requires that the AST keeps track of its implicit
+	 * names, see {@link #setTrackImplicitNames(boolean)}.
+	 */
+	public void updateImplicitNames(Predicate<CPPASTImplicitName> update) {
+		final List<CPPASTImplicitName> implicitNames = fImplicitNames;
+		if (implicitNames == null)
+			throw new IllegalStateException("Implicit names are not tracked"); //$NON-NLS-1$
+		synchronized (implicitNames) {
+			implicitNames.removeIf(update.negate());
+		}
+	}
+
+	/**
+	 * Moves the using directives from skipped files included at or after the given offset
+	 * by the given delta.
+	 */
+	public void shiftAdditionalDirectives(int offset, int delta) {
+		fScopeMapper.shiftAdditionalDirectives(offset, delta);
+	}
+
 	@Override
 	protected IType createType(IASTTypeId typeid) {
 		return CPPVisitor.createType(typeid);
@@ -270,6 +337,26 @@ public class CPPASTTranslationUnit extends ASTTranslationUnit implements ICPPAST
 		return fInstantiationCache;
 	}
 
+	public ConstexprEvaluationCache getConstexprEvaluationCache() {
+		return fConstexprEvaluationCache;
+	}
+
+	public OverloadResolutionCache getOverloadResolutionCache() {
+		return fOverloadResolutionCache;
+	}
+
+	/**
+	 * Returns the function bodies that have been skipped by the parser, or {@code null} if the
+	 * parser was not instructed to defer function bodies.
+	 */
+	public DeferredFunctionBodies getDeferredFunctionBodies() {
+		return fDeferredFunctionBodies;
+	}
+
+	public void setDeferredFunctionBodies(DeferredFunctionBodies bodies) {
+		fDeferredFunctionBodies = bodies;
+	}
+
 	public void recordPartialSpecialization(ICPPClassTemplatePartialSpecialization indexSpec,
 			ICPPClassTemplatePartialSpecialization astSpec) {
 		fScopeMapper.recordPartialSpecialization(indexSpec, astSpec);
@@ -54,11 +54,16 @@ public class CPPClassTemplatePartialSpecializationSpecialization extends CPPClas
 	}
 
 	@Override
-	public synchronized final void addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
+	public synchronized final ICPPTemplateInstance addInstance(ICPPTemplateArgument[] arguments,
+			ICPPTemplateInstance instance) {
 		if (instances == null)
 			instances = new ObjectMap(2);
 		String key = ASTTypeUtil.getArgumentListString(arguments, true);
+		ICPPTemplateInstance cached = (ICPPTemplateInstance) instances.get(key);
+		if (cached != null && !CPPTemplates.replacesCachedInstance(cached, instance))
+			return cached;
 		instances.put(key, instance);
+		return instance;
 	}
 
 	@Override
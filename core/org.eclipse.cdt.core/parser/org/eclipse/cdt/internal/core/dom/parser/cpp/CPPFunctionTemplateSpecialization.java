@@ -28,6 +28,7 @@ import org.eclipse.cdt.core.dom.ast.cpp.ICPPTemplateInstance;
 import org.eclipse.cdt.core.dom.ast.cpp.ICPPTemplateParameter;
 import org.eclipse.cdt.core.dom.ast.cpp.ICPPTemplateParameterMap;
 import org.eclipse.cdt.core.parser.util.ObjectMap;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPTemplates;
 
 /**
  * The specialization of a friend function template in the context of a class specialization.
@@ -48,11 +49,16 @@ public class CPPFunctionTemplateSpecialization extends CPPFunctionSpecialization
 	}
 
 	@Override
-	public synchronized final void addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
+	public synchronized final ICPPTemplateInstance addInstance(ICPPTemplateArgument[] arguments,
+			ICPPTemplateInstance instance) {
 		if (instances == null)
 			instances = new ObjectMap(2);
 		String key = ASTTypeUtil.getArgumentListString(arguments, true);
+		ICPPTemplateInstance cached = (ICPPTemplateInstance) instances.get(key);
+		if (cached != null && !CPPTemplates.replacesCachedInstance(cached, instance))
+			return cached;
 		instances.put(key, instance);
+		return instance;
 	}
 
 	@Override
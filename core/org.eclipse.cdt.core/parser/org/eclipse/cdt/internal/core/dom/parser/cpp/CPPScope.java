@@ -162,7 +162,7 @@ abstract public class CPPScope implements ICPPASTInternalScope {
 		return binding;
 	}
 
-	protected ICPPNamespace getNamespaceIndexBinding(IIndex index) {
+	protected synchronized ICPPNamespace getNamespaceIndexBinding(IIndex index) {
 		if (fIndexNamespace == UNINITIALIZED) {
 			fIndexNamespace = null;
 			IASTNode node = getPhysicalNode();
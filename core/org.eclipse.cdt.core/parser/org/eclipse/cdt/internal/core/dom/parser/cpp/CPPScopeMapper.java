@@ -215,7 +215,7 @@ public class CPPScopeMapper {
 	 * Wrapper for using directives from the index.
 	 */
 	private class UsingDirectiveWrapper implements ICPPUsingDirective {
-		private final int fOffset;
+		private int fOffset;
 		private final ICPPUsingDirective fDirective;
 
 		public UsingDirectiveWrapper(int offset, ICPPUsingDirective ud) {
@@ -279,9 +279,11 @@ public class CPPScopeMapper {
 		}
 	}
 
+	// The mapper is synchronized, because the names of an AST may be resolved in parallel.
 	private final HashMap<IIndexScope, IScope> fMappedScopes = new HashMap<>();
 	private final HashMap<String, NamespaceScopeWrapper> fNamespaceWrappers = new HashMap<>();
 	private final Map<String, List<UsingDirectiveWrapper>> fPerName = new HashMap<>();
+	private final List<UsingDirectiveWrapper> fAllDirectives = new ArrayList<>();
 	private final CPPASTTranslationUnit fTu;
 	protected CharArrayMap<IASTName[]> fClasses;
 
@@ -296,7 +298,7 @@ public class CPPScopeMapper {
 	 * @param offset the global offset at which the using directives are provided
 	 * @param usingDirectives the list of additional directives.
 	 */
-	public void registerAdditionalDirectives(int offset, List<ICPPUsingDirective> usingDirectives) {
+	public synchronized void registerAdditionalDirectives(int offset, List<ICPPUsingDirective> usingDirectives) {
 		if (!usingDirectives.isEmpty()) {
 			for (ICPPUsingDirective ud : usingDirectives) {
 				IScope container = ud.getContainingScope();
@@ -307,17 +309,31 @@ public class CPPScopeMapper {
 						list = new LinkedList<>();
 						fPerName.put(name, list);
 					}
-					list.add(new UsingDirectiveWrapper(offset, ud));
+					UsingDirectiveWrapper wrapper = new UsingDirectiveWrapper(offset, ud);
+					list.add(wrapper);
+					fAllDirectives.add(wrapper);
 				} catch (DOMException e) {
 				}
 			}
 		}
 	}
 
+	/**
+	 * Moves the additional using directives provided at or after the given offset by the given delta.
+	 * Called when the AST is updated after the sequence numbers following the offset have changed.
+	 */
+	public synchronized void shiftAdditionalDirectives(int offset, int delta) {
+		for (UsingDirectiveWrapper ud : fAllDirectives) {
+			if (ud.fOffset >= offset) {
+				ud.fOffset += delta;
+			}
+		}
+	}
+
 	/**
 	 * Adds additional directives previously registered to the given scope.
 	 */
-	public void handleAdditionalDirectives(ICPPNamespaceScope scope) {
+	public synchronized void handleAdditionalDirectives(ICPPNamespaceScope scope) {
 		assert !(scope instanceof IIndexScope);
 		if (fPerName.isEmpty()) {
 			return;
@@ -359,7 +375,7 @@ public class CPPScopeMapper {
 	/**
 	 * Maps namespace scopes from the index back into the AST.
 	 */
-	public IScope mapToASTScope(IIndexScope scope) {
+	public synchronized IScope mapToASTScope(IIndexScope scope) {
 		if (scope.getKind() == EScopeKind.eGlobal) {
 			return fTu.getScope();
 		}
@@ -417,11 +433,14 @@ public class CPPScopeMapper {
 			return type;
 		}
 
-		if (fClasses == null) {
-			fClasses = new CharArrayMap<>();
-			fTu.accept(new Visitor());
+		IASTName[] names;
+		synchronized (this) {
+			if (fClasses == null) {
+				fClasses = new CharArrayMap<>();
+				fTu.accept(new Visitor());
+			}
+			names = fClasses.get(type.getNameCharArray());
 		}
-		IASTName[] names = fClasses.get(type.getNameCharArray());
 		if (names != null) {
 			for (IASTName name : names) {
 				if (name == null)
@@ -438,12 +457,12 @@ public class CPPScopeMapper {
 		return type;
 	}
 
-	public void recordPartialSpecialization(ICPPClassTemplatePartialSpecialization indexSpec,
+	public synchronized void recordPartialSpecialization(ICPPClassTemplatePartialSpecialization indexSpec,
 			ICPPClassTemplatePartialSpecialization astSpec) {
 		fPartialSpecs.put(indexSpec, astSpec);
 	}
 
-	public ICPPClassTemplatePartialSpecialization mapToAST(ICPPClassTemplatePartialSpecialization indexSpec) {
+	public synchronized ICPPClassTemplatePartialSpecialization mapToAST(ICPPClassTemplatePartialSpecialization indexSpec) {
 		ICPPClassTemplatePartialSpecialization astSpec = fPartialSpecs.get(indexSpec);
 		if (astSpec != null) {
 			return astSpec;
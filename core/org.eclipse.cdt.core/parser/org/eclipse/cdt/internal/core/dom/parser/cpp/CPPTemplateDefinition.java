@@ -94,15 +94,20 @@ public abstract class CPPTemplateDefinition extends PlatformObject
 	}
 
 	@Override
-	public final void addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
+	public synchronized final ICPPTemplateInstance addInstance(ICPPTemplateArgument[] arguments,
+			ICPPTemplateInstance instance) {
 		if (instances == null)
 			instances = new ObjectMap(2);
 		String key = ASTTypeUtil.getArgumentListString(arguments, true);
+		ICPPTemplateInstance cached = (ICPPTemplateInstance) instances.get(key);
+		if (cached != null && !CPPTemplates.replacesCachedInstance(cached, instance))
+			return cached;
 		instances.put(key, instance);
+		return instance;
 	}
 
 	@Override
-	public final ICPPTemplateInstance getInstance(ICPPTemplateArgument[] arguments) {
+	public synchronized final ICPPTemplateInstance getInstance(ICPPTemplateArgument[] arguments) {
 		if (instances != null) {
 			String key = ASTTypeUtil.getArgumentListString(arguments, true);
 			ICPPTemplateInstance cand = (ICPPTemplateInstance) instances.get(key);
@@ -125,7 +130,7 @@ public abstract class CPPTemplateDefinition extends PlatformObject
 		return null;
 	}
 
-	protected ICPPClassTemplate getIndexBinding() {
+	protected synchronized ICPPClassTemplate getIndexBinding() {
 		if (!checkedIndex) {
 			checkedIndex = true;
 			IASTName name = getTemplateName();
@@ -145,7 +150,7 @@ public abstract class CPPTemplateDefinition extends PlatformObject
 	}
 
 	@Override
-	public ICPPTemplateInstance[] getAllInstances() {
+	public synchronized ICPPTemplateInstance[] getAllInstances() {
 		if (instances != null) {
 			ICPPTemplateInstance[] result = new ICPPTemplateInstance[instances.size()];
 			for (int i = 0; i < instances.size(); i++) {
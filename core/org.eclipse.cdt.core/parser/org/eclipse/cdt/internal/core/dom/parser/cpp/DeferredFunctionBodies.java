@@ -0,0 +1,302 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.dom.parser.cpp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.eclipse.cdt.core.dom.ast.ASTGenericVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTCompoundStatement;
+import org.eclipse.cdt.core.dom.ast.IASTFileLocation;
+import org.eclipse.cdt.core.dom.ast.IASTNode;
+import org.eclipse.cdt.core.dom.ast.IMacroBinding;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTFunctionDefinition;
+import org.eclipse.cdt.core.dom.parser.cpp.ICPPParserExtensionConfiguration;
+import org.eclipse.cdt.core.index.IIndex;
+import org.eclipse.cdt.core.parser.EndOfFileException;
+import org.eclipse.cdt.core.parser.IParserLogService;
+import org.eclipse.cdt.core.parser.IScanner;
+import org.eclipse.cdt.core.parser.IToken;
+import org.eclipse.cdt.core.parser.IncludeExportPatterns;
+import org.eclipse.cdt.core.parser.ParserMode;
+import org.eclipse.cdt.internal.core.dom.parser.ASTNode;
+import org.eclipse.cdt.internal.core.parser.scanner.ILocationResolver;
+import org.eclipse.cdt.internal.core.parser.scanner.Token;
+
+/**
+ * The bodies of function definitions that have been skipped by the parser, together with their
+ * tokens. A body is parsed on request, the placeholder in the function definition is then replaced
+ * with the body. Tokens are copied when a body is skipped, because the ones of the preprocessor
+ * are linked to all tokens following them.
+ * <p>
+ * A body that cannot be parsed from its tokens is reported to the log, the function definition
+ * then keeps the empty body it has been created with.
+ */
+public class DeferredFunctionBodies {
+	private static final class Body {
+		final ICPPASTFunctionDefinition fDefinition;
+		final IToken[] fTokens;
+
+		Body(ICPPASTFunctionDefinition definition, IToken[] tokens) {
+			fDefinition = definition;
+			fTokens = tokens;
+		}
+	}
+
+	/**
+	 * Provides the parser with the tokens of a single function body.
+	 */
+	private static final class TokenReplay implements IScanner {
+		private final IToken[] fTokens;
+		private final ILocationResolver fLocationResolver;
+		private final char[] fAdditionalNumericLiteralSuffixes;
+		private int fNext;
+
+		TokenReplay(IToken[] tokens, ILocationResolver resolver, char[] additionalNumericLiteralSuffixes) {
+			fTokens = tokens;
+			fLocationResolver = resolver;
+			fAdditionalNumericLiteralSuffixes = additionalNumericLiteralSuffixes;
+		}
+
+		@Override
+		public IToken nextToken() throws EndOfFileException {
+			if (fNext >= fTokens.length)
+				throw new EndOfFileException(fTokens[fTokens.length - 1].getEndOffset());
+			return fTokens[fNext++];
+		}
+
+		@Override
+		public Map<String, IMacroBinding> getMacroDefinitions() {
+			return Collections.emptyMap();
+		}
+
+		@Override
+		public boolean isOnTopContext() {
+			return false;
+		}
+
+		@Override
+		public void cancel() {
+		}
+
+		@Override
+		public ILocationResolver getLocationResolver() {
+			return fLocationResolver;
+		}
+
+		@Override
+		public void setContentAssistMode(int offset) {
+		}
+
+		@Override
+		public void setSplitShiftROperator(boolean val) {
+			// The recorded tokens have been split by the preprocessor already.
+		}
+
+		@Override
+		public void setComputeImageLocations(boolean val) {
+		}
+
+		@Override
+		public void setTrackIncludeExport(IncludeExportPatterns patterns) {
+		}
+
+		@Override
+		public void setProcessInactiveCode(boolean val) {
+		}
+
+		@Override
+		public void skipInactiveCode() {
+		}
+
+		@Override
+		public int getCodeBranchNesting() {
+			return 0;
+		}
+
+		@Override
+		public char[] getAdditionalNumericLiteralSuffixes() {
+			return fAdditionalNumericLiteralSuffixes;
+		}
+	}
+
+	private final CPPASTTranslationUnit fAST;
+	private final IParserLogService fLog;
+	private final ICPPParserExtensionConfiguration fConfig;
+	private final IIndex fIndex;
+	private final char[] fAdditionalNumericLiteralSuffixes;
+	private int fMaximumTrivialExpressions = Integer.MAX_VALUE;
+	private final List<Body> fBodies = new ArrayList<>();
+	private int fParsedCount;
+	private int fFailedCount;
+	private int fParsedTokenCount;
+	private long fParsingTime;
+
+	public DeferredFunctionBodies(CPPASTTranslationUnit ast, IParserLogService log,
+			ICPPParserExtensionConfiguration config, IIndex index, char[] additionalNumericLiteralSuffixes) {
+		fAST = ast;
+		fLog = log;
+		fConfig = config;
+		fIndex = index;
+		fAdditionalNumericLiteralSuffixes = additionalNumericLiteralSuffixes;
+	}
+
+	void setMaximumTrivialExpressionsInAggregateInitializers(int limit) {
+		fMaximumTrivialExpressions = limit;
+	}
+
+	/**
+	 * Records the body of a function definition, from the opening to the closing brace.
+	 */
+	void add(ICPPASTFunctionDefinition definition, IToken first, IToken last) {
+		List<IToken> tokens = new ArrayList<>();
+		for (IToken t = first;; t = t.getNext()) {
+			Token copy = ((Token) t).clone();
+			copy.setNext(null);
+			tokens.add(copy);
+			if (t == last)
+				break;
+		}
+		fBodies.add(new Body(definition, tokens.toArray(new IToken[tokens.size()])));
+	}
+
+	/**
+	 * Parses the deferred bodies of the function definitions accepted by the filter and adds them
+	 * to the AST. The ambiguities of the bodies are resolved.
+	 */
+	public void parse(Predicate<ICPPASTFunctionDefinition> filter) {
+		final long start = System.currentTimeMillis();
+		removeDiscardedBodies();
+		for (Iterator<Body> it = fBodies.iterator(); it.hasNext();) {
+			Body body = it.next();
+			if (filter.test(body.fDefinition)) {
+				it.remove();
+				if (parse(body)) {
+					fParsedCount++;
+					fParsedTokenCount += body.fTokens.length;
+				} else {
+					fFailedCount++;
+				}
+			}
+		}
+		fParsingTime += System.currentTimeMillis() - start;
+	}
+
+	/**
+	 * Parses a deferred body and replaces the placeholder with it.
+	 *
+	 * @return whether the body has been replaced.
+	 */
+	private boolean parse(Body body) {
+		final ICPPASTFunctionDefinition fdef = body.fDefinition;
+		final ASTNode placeholder = (ASTNode) fdef.getBody();
+		TokenReplay replay = new TokenReplay(body.fTokens, fAST.getAdapter(ILocationResolver.class),
+				fAdditionalNumericLiteralSuffixes);
+		GNUCPPSourceParser parser = new GNUCPPSourceParser(replay, ParserMode.COMPLETE_PARSE, fLog, fConfig, fIndex);
+		parser.setMaximumTrivialExpressionsInAggregateInitializers(fMaximumTrivialExpressions);
+		IASTCompoundStatement newBody = parser.parseDeferredFunctionBody(fAST);
+		if (newBody == null) {
+			logFailure(fdef, "the tokens cannot be parsed"); //$NON-NLS-1$
+			return false;
+		}
+		if (((ASTNode) newBody).getOffset() != placeholder.getOffset()
+				|| ((ASTNode) newBody).getLength() != placeholder.getLength()) {
+			logFailure(fdef, "parsed range " + ((ASTNode) newBody).getOffset() + '+' //$NON-NLS-1$
+					+ ((ASTNode) newBody).getLength() + " does not match " + placeholder.getOffset() + '+' //$NON-NLS-1$
+					+ placeholder.getLength());
+			return false;
+		}
+		final ASTNode fdefNode = (ASTNode) fdef;
+		final boolean frozen = fdefNode.isFrozen();
+		fdefNode.setIsFrozen(false);
+		fdef.setBody(newBody);
+		fdefNode.setIsFrozen(frozen);
+		fAST.resolveAmbiguities(newBody);
+		if (frozen) {
+			newBody.accept(new ASTGenericVisitor(true) {
+				@Override
+				protected int genericVisit(IASTNode node) {
+					((ASTNode) node).setIsFrozen(true);
+					return PROCESS_CONTINUE;
+				}
+			});
+		}
+		return true;
+	}
+
+	private void logFailure(ICPPASTFunctionDefinition fdef, String reason) {
+		IASTFileLocation loc = fdef.getFileLocation();
+		fLog.traceLog("Cannot parse deferred body of " + fdef.getDeclarator().getName() //$NON-NLS-1$
+				+ (loc != null ? " in " + loc.getFileName() + ':' + loc.getStartingLineNumber() : "") //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", " + reason); //$NON-NLS-1$
+	}
+
+	/**
+	 * Removes the bodies of function definitions that are not part of the AST, because the parser
+	 * has backtracked after creating them.
+	 */
+	private void removeDiscardedBodies() {
+		fBodies.removeIf(body -> body.fDefinition.getTranslationUnit() != fAST);
+	}
+
+	/**
+	 * Returns the number of function bodies that have been skipped by the parser.
+	 */
+	public int getDeferredCount() {
+		removeDiscardedBodies();
+		return fBodies.size() + fParsedCount + fFailedCount;
+	}
+
+	/**
+	 * Returns the number of deferred function bodies that have been parsed on request.
+	 */
+	public int getParsedCount() {
+		return fParsedCount;
+	}
+
+	/**
+	 * Returns the number of deferred function bodies that have been requested, but could not be
+	 * parsed. The definitions of these functions keep an empty body.
+	 */
+	public int getFailedCount() {
+		return fFailedCount;
+	}
+
+	/**
+	 * Returns the number of tokens in the deferred function bodies that have not been parsed.
+	 */
+	public int getUnparsedTokenCount() {
+		removeDiscardedBodies();
+		int count = 0;
+		for (Body body : fBodies) {
+			count += body.fTokens.length;
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the number of tokens in the deferred function bodies that have been parsed.
+	 */
+	public int getParsedTokenCount() {
+		return fParsedTokenCount;
+	}
+
+	/**
+	 * Returns the time in milliseconds spent for parsing deferred function bodies.
+	 */
+	public long getParsingTime() {
+		return fParsingTime;
+	}
+}
@@ -208,7 +208,11 @@ public class GNUCPPSourceParser extends AbstractGNUSourceCodeParser {
 	private final boolean supportGCCStyleDesignators;
 
 	private final IIndex index;
+	private final ICPPParserExtensionConfiguration extensionConfiguration;
 	protected ICPPASTTranslationUnit translationUnit;
+	private boolean deferFunctionBodiesInHeaders;
+	private DeferredFunctionBodies deferredFunctionBodies;
+	private boolean trackImplicitNames;
 
 	private int functionBodyCount;
 	private int templateArgumentNestingDepth = 0;
@@ -240,11 +244,30 @@ public class GNUCPPSourceParser extends AbstractGNUSourceCodeParser {
 		supportAutoTypeSpecifier = true;
 		supportUserDefinedLiterals = config.supportUserDefinedLiterals();
 		this.index = index;
+		extensionConfiguration = config;
 		scanner.setSplitShiftROperator(true);
 		fContextSensitiveTokens = createContextSensitiveTokenMap(config);
 		additionalNumericalSuffixes = scanner.getAdditionalNumericLiteralSuffixes();
 	}
 
+	/**
+	 * Instructs the parser to skip the bodies of function definitions in included files. The bodies
+	 * can be parsed later on via {@link CPPASTTranslationUnit#getDeferredFunctionBodies()}. Bodies
+	 * that may be needed to determine the declarations of the AST are parsed right away. Must not
+	 * be used together with parsing inactive code.
+	 */
+	public void setDeferFunctionBodiesInHeaders(boolean value) {
+		deferFunctionBodiesInHeaders = value;
+	}
+
+	/**
+	 * Instructs the parser to create an AST that keeps track of its implicit names, which is
+	 * needed for updating the AST via {@link org.eclipse.cdt.internal.core.dom.parser.FunctionBodyReparser}.
+	 */
+	public void setTrackImplicitNames(boolean value) {
+		trackImplicitNames = value;
+	}
+
 	@Override
 	protected ICPPNodeFactory getNodeFactory() {
 		return (ICPPNodeFactory) super.getNodeFactory();
@@ -445,9 +468,9 @@ public class GNUCPPSourceParser extends AbstractGNUSourceCodeParser {
 		IASTName name;
 		if (destructorOffset < 0) {
 			if (keywordTemplate) {
-				name = getNodeFactory().newTemplateName(nt.getCharImage());
+				name = getNodeFactory().newTemplateName(getIdentifierImage(nt));
 			} else {
-				name = getNodeFactory().newName(nt.getCharImage());
+				name = getNodeFactory().newName(getIdentifierImage(nt));
 			}
 			setRange(name, nt.getOffset(), nt.getEndOffset());
 		} else {
@@ -3122,6 +3145,12 @@ public class GNUCPPSourceParser extends AbstractGNUSourceCodeParser {
 			ctorInitializer(fdef);
 		}
 
+		if (canDeferFunctionBody(fdef)) {
+			IASTCompoundStatement body = deferFunctionBody(fdef);
+			fdef.setBody(body);
+			return setRange(fdef, firstOffset, calculateEndOffset(body));
+		}
+
 		try {
 			IASTStatement body = handleFunctionBody();
 			fdef.setBody(body);
@@ -3152,6 +3181,50 @@ public class GNUCPPSourceParser extends AbstractGNUSourceCodeParser {
 		return fdef;
 	}
 
+	private boolean canDeferFunctionBody(ICPPASTFunctionDefinition fdef) throws EndOfFileException {
+		if (deferredFunctionBodies == null || mode != ParserMode.COMPLETE_PARSE || functionBodyCount > 0
+				|| fdef instanceof ICPPASTFunctionWithTryBlock || LT(1) != IToken.tLBRACE || !isActiveCode()
+				|| scanner.isOnTopContext()) {
+			return false;
+		}
+		final IASTDeclSpecifier declSpec = fdef.getDeclSpecifier();
+		if (declSpec instanceof ICPPASTDeclSpecifier && ((ICPPASTDeclSpecifier) declSpec).isConstexpr())
+			return false; // The body may be evaluated.
+		if (declSpec instanceof IASTSimpleDeclSpecifier) {
+			int type = ((IASTSimpleDeclSpecifier) declSpec).getType();
+			if (type == IASTSimpleDeclSpecifier.t_auto || type == IASTSimpleDeclSpecifier.t_decltype_auto)
+				return false; // The return type is deduced from the body.
+		}
+		return true;
+	}
+
+	private IASTCompoundStatement deferFunctionBody(ICPPASTFunctionDefinition fdef)
+			throws EndOfFileException, BacktrackException {
+		final IToken first = LA(1);
+		final IToken last = skipOverCompoundStatement(true);
+		deferredFunctionBodies.add(fdef, first, last);
+		IASTCompoundStatement cs = getNodeFactory().newCompoundStatement();
+		setRange(cs, first.getOffset(), last.getEndOffset());
+		return cs;
+	}
+
+	/**
+	 * Parses the body of a function definition that has been deferred. The nodes are created for
+	 * the given translation unit, the body is not added to it.
+	 *
+	 * @return the body of the function, or {@code null} if it could not be parsed.
+	 */
+	IASTCompoundStatement parseDeferredFunctionBody(ICPPASTTranslationUnit ast) {
+		translationUnit = ast;
+		try {
+			return functionBody();
+		} catch (EndOfFileException | BacktrackException e) {
+			return null;
+		} finally {
+			translationUnit = null;
+		}
+	}
+
 	/**
 	 * ctor-initializer:
 	 * 	  : mem-initializer-list
@@ -5230,6 +5303,16 @@ public class GNUCPPSourceParser extends AbstractGNUSourceCodeParser {
 	protected void setupTranslationUnit() throws DOMException {
 		translationUnit = getNodeFactory().newTranslationUnit(scanner);
 		translationUnit.setIndex(index);
+		if (trackImplicitNames && translationUnit instanceof CPPASTTranslationUnit) {
+			((CPPASTTranslationUnit) translationUnit).setTrackImplicitNames(true);
+		}
+		if (deferFunctionBodiesInHeaders && translationUnit instanceof CPPASTTranslationUnit) {
+			deferredFunctionBodies = new DeferredFunctionBodies((CPPASTTranslationUnit) translationUnit, log,
+					extensionConfiguration, index, additionalNumericalSuffixes);
+			deferredFunctionBodies.setMaximumTrivialExpressionsInAggregateInitializers(
+					maximumTrivialExpressionsInAggregateInitializers);
+			((CPPASTTranslationUnit) translationUnit).setDeferredFunctionBodies(deferredFunctionBodies);
+		}
 
 		// Add built-in names to the scope.
 		if (builtinBindingsProvider != null) {
@@ -5366,6 +5449,7 @@ public class GNUCPPSourceParser extends AbstractGNUSourceCodeParser {
 	@Override
 	protected void nullifyTranslationUnit() {
 		translationUnit = null;
+		deferredFunctionBodies = null;
 	}
 
 	@Override
@@ -125,6 +125,16 @@ public interface ICPPEvaluation {
 			return this;
 		}
 
+		/**
+		 * Records the given number of steps being performed in this constexpr evaluation.
+		 *
+		 * @return this constexpr evaluation
+		 */
+		public ConstexprEvaluationContext recordSteps(int steps) {
+			fStepsPerformed += steps;
+			return this;
+		}
+
 		/**
 		 * Returns the number of steps performed so far in the constexpr evaluation.
 		 */
@@ -23,9 +23,12 @@ import org.eclipse.cdt.core.dom.ast.cpp.ICPPTemplateInstance;
  */
 public interface ICPPInstanceCache {
 	/**
-	 * Attempts to cache an instance with this template
+	 * Attempts to cache an instance with this template. An instance that is cached for the same
+	 * arguments is kept, unless the new instance is preferred according to
+	 * {@link org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPTemplates#replacesCachedInstance}.
+	 * Returns the instance that is cached for the arguments.
 	 */
-	public void addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance);
+	public ICPPTemplateInstance addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance);
 
 	/**
 	 * Attempts to get a cached instance from this template
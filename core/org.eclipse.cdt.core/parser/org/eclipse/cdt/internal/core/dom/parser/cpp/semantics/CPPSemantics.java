@@ -1050,6 +1050,10 @@ public class CPPSemantics {
 	 * @param start either a scope or a name.
 	 */
 	static protected void lookup(LookupData data, IScope start) throws DOMException {
+		final CPPASTTranslationUnit tu = data.getTranslationUnit();
+		if (tu != null && tu.getProfile() != null) {
+			tu.getProfile().countLookup();
+		}
 		if (start == null && lookupDestructor(data)) {
 			return;
 		}
@@ -2684,11 +2688,33 @@ public class CPPSemantics {
 		}
 
 		// No arguments to resolve function
-		final IASTNode lookupPoint = data.getLookupPoint();
 		if (!data.hasFunctionArguments()) {
 			return createFunctionSet(fns, data.getTemplateArguments(), lookupName);
 		}
 
+		final CPPASTTranslationUnit tu = data.getTranslationUnit();
+		OverloadResolutionCache cache = tu != null ? tu.getOverloadResolutionCache() : null;
+		OverloadResolutionCache.Key key = null;
+		if (cache != null) {
+			key = OverloadResolutionCache.createKey(data, fns, allowUDC, resolveTargetedArgumentTypes);
+			if (key != null) {
+				IBinding result = cache.get(key);
+				if (result != null)
+					return result;
+			}
+		}
+		IBinding result = resolveFunctionForArguments(data, fns, allowUDC, resolveTargetedArgumentTypes);
+		if (key != null) {
+			cache.put(key, result);
+		}
+		return result;
+	}
+
+	private static IBinding resolveFunctionForArguments(LookupData data, ICPPFunction[] fns, boolean allowUDC,
+			boolean resolveTargetedArgumentTypes) throws DOMException {
+		final IASTName lookupName = data.getLookupName();
+		final IASTNode lookupPoint = data.getLookupPoint();
+
 		// Reduce our set of candidate functions to only those who have the right number of parameters.
 		final IType[] argTypes = data.getFunctionArgumentTypes();
 		ICPPFunction[] tmp = selectByArgumentCount(data, fns);
@@ -292,13 +292,37 @@ public class CPPTemplates {
 			if (prim != null && (isExplicitSpecialization || prim.isExplicitSpecialization()))
 				return prim;
 
-			if (!isExplicitSpecialization) {
-				IBinding result = selectSpecialization(template, arguments, isDefinition);
-				if (result != null)
-					return result;
+			// The selection of the specialization for an index template does not depend on the AST,
+			// the result may be shared with other ASTs.
+			TemplateInstanceCache.Key sharedKey = null;
+			if (!isDefinition && !isExplicitSpecialization && template instanceof ICPPClassTemplate) {
+				sharedKey = TemplateInstanceCache.createKey((ICPPClassTemplate) template, arguments);
+				if (sharedKey != null) {
+					IBinding result = TemplateInstanceCache.get(sharedKey);
+					if (result instanceof ICPPTemplateInstance) {
+						// Prefer an instance that is already known to this AST.
+						ICPPTemplateInstance instance = (ICPPTemplateInstance) result;
+						ICPPTemplateDefinition definition = instance.getTemplateDefinition();
+						ICPPTemplateArgument[] instanceArgs = instance.getTemplateArguments();
+						ICPPTemplateInstance known = getInstance(definition, instanceArgs, false);
+						if (known != null)
+							return known;
+						return addInstance(definition, instanceArgs, instance);
+					}
+				}
 			}
 
-			return instantiatePrimaryTemplate(template, arguments, new InstantiationContext(map), isDefinition);
+			IBinding result = null;
+			if (!isExplicitSpecialization) {
+				result = selectSpecialization(template, arguments, isDefinition);
+			}
+			if (result == null) {
+				result = instantiatePrimaryTemplate(template, arguments, new InstantiationContext(map), isDefinition);
+			}
+			if (sharedKey != null) {
+				TemplateInstanceCache.put(sharedKey, result);
+			}
+			return result;
 		} catch (DOMException e) {
 			return e.getProblem();
 		}
@@ -411,7 +435,7 @@ public class CPPTemplates {
 		IBinding owner = template.getOwner();
 		instance = createInstance(owner, template, tpMap, arguments);
 		if (instance instanceof ICPPFunction && SemanticUtil.isValidType(((ICPPFunction) instance).getType())) {
-			addInstance(template, arguments, instance);
+			instance = addInstance(template, arguments, instance);
 		}
 		return instance;
 	}
@@ -434,8 +458,7 @@ public class CPPTemplates {
 		}
 
 		instance = createInstance(partialSpec.getOwner(), partialSpec, tpMap, args);
-		addInstance(partialSpec, args, instance);
-		return instance;
+		return addInstance(partialSpec, args, instance);
 	}
 
 	/**
@@ -452,8 +475,7 @@ public class CPPTemplates {
 
 		IBinding owner = template.getOwner();
 		instance = createInstance(owner, template, context.getParameterMap(), arguments);
-		addInstance(template, arguments, instance);
-		return instance;
+		return addInstance(template, arguments, instance);
 	}
 
 	/**
@@ -482,13 +504,37 @@ public class CPPTemplates {
 	}
 
 	/**
-	 * Caches an instance with the template.
+	 * Caches an instance with the template. Returns the instance that was cached for the same
+	 * arguments meanwhile, e.g. by another thread, or the given one.
 	 */
-	private static void addInstance(ICPPTemplateDefinition template, ICPPTemplateArgument[] args,
+	private static ICPPTemplateInstance addInstance(ICPPTemplateDefinition template, ICPPTemplateArgument[] args,
 			ICPPTemplateInstance instance) {
 		if (template instanceof ICPPInstanceCache) {
-			((ICPPInstanceCache) template).addInstance(args, instance);
+			return ((ICPPInstanceCache) template).addInstance(args, instance);
+		}
+		return instance;
+	}
+
+	/**
+	 * Returns whether an instance replaces the one that is cached for the same arguments. This is
+	 * the case when {@link #getInstance(ICPPTemplateDefinition, ICPPTemplateArgument[], boolean)}
+	 * may reject the cached instance, i.e. when it is an index binding and the new one is not,
+	 * or when its arguments are index types where the ones of the new instance are AST types.
+	 */
+	public static boolean replacesCachedInstance(ICPPTemplateInstance cached, ICPPTemplateInstance instance) {
+		if (cached instanceof IIndexBinding)
+			return !(instance instanceof IIndexBinding);
+		if (cached.isExplicitSpecialization())
+			return false;
+		ICPPTemplateArgument[] cachedArgs = cached.getTemplateArguments();
+		ICPPTemplateArgument[] args = instance.getTemplateArguments();
+		for (int i = 0; i < args.length && i < cachedArgs.length; i++) {
+			if (!(args[i].getTypeValue() instanceof IIndexType)
+					&& (cachedArgs[i].getTypeValue() instanceof IIndexType)) {
+				return true;
+			}
 		}
+		return false;
 	}
 
 	private static IBinding deferredInstance(ICPPPartiallySpecializable template, ICPPTemplateArgument[] arguments)
@@ -499,11 +545,11 @@ public class CPPTemplates {
 
 		if (template instanceof ICPPClassTemplate) {
 			instance = new CPPDeferredClassInstance((ICPPClassTemplate) template, arguments);
-			addInstance(template, arguments, instance);
+			instance = addInstance(template, arguments, instance);
 		}
 		if (template instanceof ICPPVariableTemplate) {
 			instance = new CPPDeferredVariableInstance((ICPPVariableTemplate) template, arguments);
-			addInstance(template, arguments, instance);
+			instance = addInstance(template, arguments, instance);
 		}
 		return instance;
 	}
@@ -899,6 +945,11 @@ public class CPPTemplates {
 
 	public static ICPPTemplateInstance createInstance(IBinding owner, ICPPTemplateDefinition template,
 			ICPPTemplateParameterMap tpMap, ICPPTemplateArgument[] args) {
+		final IASTNode lookupPoint = CPPSemantics.getCurrentLookupPoint();
+		final IASTTranslationUnit tu = lookupPoint != null ? lookupPoint.getTranslationUnit() : null;
+		if (tu instanceof CPPASTTranslationUnit && ((CPPASTTranslationUnit) tu).getProfile() != null) {
+			((CPPASTTranslationUnit) tu).getProfile().countInstantiation();
+		}
 		if (owner instanceof ICPPSpecialization) {
 			ICPPTemplateParameterMap map = ((ICPPSpecialization) owner).getTemplateParameterMap();
 			if (map != null) {
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.dom.parser.cpp.semantics;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.cdt.core.dom.ast.IASTNode;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPFunction;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPASTTranslationUnit;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.ICPPEvaluation;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.ICPPEvaluation.ConstexprEvaluationContext;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Caches the results of constexpr function calls for an AST. A call is identified by the function
+ * and the values of its arguments, only calls with arguments that are fixed values are cached.
+ * <p>
+ * A cached result is charged with the number of steps its evaluation took, such that the outcome
+ * of an evaluation does not depend on whether the cache was used.
+ * <p>
+ * The cache is thread-safe, the names of an AST may be resolved in parallel.
+ */
+public class ConstexprEvaluationCache {
+	private static final class Entry {
+		final ICPPEvaluation fResult;
+		final int fSteps;
+
+		Entry(ICPPEvaluation result, int steps) {
+			fResult = result;
+			fSteps = steps;
+		}
+	}
+
+	/**
+	 * Identifies a call by the function and the signature of its arguments, including their values.
+	 */
+	public static final class CallKey {
+		private final ICPPFunction fFunction;
+		private final char[] fArguments;
+		private final int fHashCode;
+
+		CallKey(ICPPFunction function, char[] arguments) {
+			fFunction = function;
+			fArguments = arguments;
+			fHashCode = 31 * function.hashCode() + Arrays.hashCode(arguments);
+		}
+
+		@Override
+		public int hashCode() {
+			return fHashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof CallKey))
+				return false;
+			CallKey other = (CallKey) obj;
+			return fHashCode == other.fHashCode && fFunction.equals(other.fFunction)
+					&& Arrays.equals(fArguments, other.fArguments);
+		}
+	}
+
+	private final Map<CallKey, Entry> fResults = new ConcurrentHashMap<>();
+	private final AtomicInteger fHits = new AtomicInteger();
+	private final AtomicInteger fMisses = new AtomicInteger();
+	private final AtomicLong fEvaluationSteps = new AtomicLong();
+	// The calls of the current thread that have not been stored yet.
+	private final ThreadLocal<int[]> fPendingCalls = ThreadLocal.withInitial(() -> new int[1]);
+
+	/**
+	 * Returns the cache of the AST of the current lookup point, or {@code null} if there is none.
+	 */
+	public static ConstexprEvaluationCache getCurrent() {
+		IASTNode lookupPoint = CPPSemantics.getCurrentLookupPoint();
+		if (lookupPoint != null) {
+			IASTTranslationUnit tu = lookupPoint.getTranslationUnit();
+			if (tu instanceof CPPASTTranslationUnit) {
+				return ((CPPASTTranslationUnit) tu).getConstexprEvaluationCache();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Creates the key for a call, or returns {@code null} if the call cannot be cached.
+	 *
+	 * @param function the function being called
+	 * @param arguments the arguments of the call, the first element is the function's evaluation
+	 * @param implicitThis the object a member function is called on, may be {@code null}
+	 */
+	public static CallKey createKey(ICPPFunction function, ICPPEvaluation[] arguments, ICPPEvaluation implicitThis) {
+		// References to variables of an activation record can be modified by the call.
+		if (implicitThis != null && !(implicitThis instanceof EvalFixed))
+			return null;
+		for (int i = 1; i < arguments.length; i++) {
+			if (!(arguments[i] instanceof EvalFixed))
+				return null;
+		}
+		SignatureBuilder builder = new SignatureBuilder();
+		try {
+			for (int i = 1; i < arguments.length; i++) {
+				arguments[i].marshal(builder, true);
+			}
+			if (implicitThis != null) {
+				implicitThis.marshal(builder, true);
+			}
+		} catch (CoreException e) {
+			return null;
+		}
+		return new CallKey(function, builder.getSignature());
+	}
+
+	/**
+	 * Returns the cached result of a call and charges the context with the steps of the original
+	 * evaluation, or {@code null} if the call is not cached.
+	 */
+	public ICPPEvaluation get(CallKey key, ConstexprEvaluationContext context) {
+		Entry entry = fResults.get(key);
+		if (entry == null) {
+			fMisses.incrementAndGet();
+			fPendingCalls.get()[0]++;
+			return null;
+		}
+		fHits.incrementAndGet();
+		context.recordSteps(entry.fSteps);
+		if (context.getStepsPerformed() >= ConstexprEvaluationContext.MAX_CONSTEXPR_EVALUATION_STEPS)
+			return EvalFixed.INCOMPLETE;
+		return copy(entry.fResult);
+	}
+
+	/**
+	 * Stores the result of a call, results that are not constant values are not cached. Has to be called
+	 * for every call that was not found in the cache.
+	 *
+	 * @param steps the number of steps the evaluation of the call took
+	 */
+	public void put(CallKey key, ICPPEvaluation result, int steps) {
+		// The steps of nested calls are included in the ones of the outermost call.
+		if (--fPendingCalls.get()[0] == 0) {
+			fEvaluationSteps.addAndGet(steps);
+		}
+		if (isCacheable(result)) {
+			fResults.put(key, new Entry(copy(result), steps));
+		}
+	}
+
+	private static boolean isCacheable(ICPPEvaluation result) {
+		// References may point into the activation record of a caller.
+		return result != null && result != EvalFixed.INCOMPLETE && !(result instanceof EvalReference)
+				&& !result.isValueDependent() && result.isConstantExpression();
+	}
+
+	// Values of class and array types are mutable, the callers must not share them.
+	private static ICPPEvaluation copy(ICPPEvaluation eval) {
+		return new EvalFixed(eval.getType(), eval.getValueCategory(), eval.getValue().clone());
+	}
+
+	/**
+	 * Returns the number of calls that were found in the cache.
+	 */
+	public int getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * Returns the number of calls that were not found in the cache.
+	 */
+	public int getMisses() {
+		return fMisses.get();
+	}
+
+	/**
+	 * Returns the number of steps performed by the evaluations of calls that were not found in
+	 * the cache.
+	 */
+	public long getEvaluationSteps() {
+		return fEvaluationSteps.get();
+	}
+}
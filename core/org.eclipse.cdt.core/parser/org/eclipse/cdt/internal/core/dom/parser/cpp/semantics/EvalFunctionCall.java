@@ -50,6 +50,7 @@ import org.eclipse.cdt.internal.core.dom.parser.cpp.ICPPExecution;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.InstantiationContext;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.OverloadableOperator;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPSemantics.LookupMode;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.ConstexprEvaluationCache.CallKey;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 
@@ -333,6 +334,25 @@ public final class EvalFunctionCall extends CPPDependentEvaluation {
 		if (!function.isConstexpr())
 			return EvalFixed.INCOMPLETE;
 
+		ConstexprEvaluationCache cache = ConstexprEvaluationCache.getCurrent();
+		CallKey key = cache != null ? ConstexprEvaluationCache.createKey(function, fArguments, getImplicitThis())
+				: null;
+		if (key == null)
+			return executeFunctionBody(function, context);
+
+		ICPPEvaluation result = cache.get(key, context);
+		if (result == null) {
+			int steps = context.getStepsPerformed();
+			try {
+				result = executeFunctionBody(function, context);
+			} finally {
+				cache.put(key, result, context.getStepsPerformed() - steps);
+			}
+		}
+		return result;
+	}
+
+	private ICPPEvaluation executeFunctionBody(ICPPFunction function, ConstexprEvaluationContext context) {
 		ActivationRecord record = createActivationRecord(function.getParameters(), fArguments, getImplicitThis());
 		ICPPExecution bodyExec = CPPFunction.getFunctionBodyExecution(function);
 		if (bodyExec == null) {
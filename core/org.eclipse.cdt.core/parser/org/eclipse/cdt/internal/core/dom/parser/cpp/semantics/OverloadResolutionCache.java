@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.dom.parser.cpp.semantics;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.cdt.core.dom.ast.DOMException;
+import org.eclipse.cdt.core.dom.ast.IASTExpression.ValueCategory;
+import org.eclipse.cdt.core.dom.ast.IBinding;
+import org.eclipse.cdt.core.dom.ast.IProblemBinding;
+import org.eclipse.cdt.core.dom.ast.IType;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPFunction;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPFunctionTemplate;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPTemplateArgument;
+import org.eclipse.cdt.core.parser.util.CharArrayUtils;
+import org.eclipse.cdt.internal.core.dom.parser.ITypeContainer;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPBasicType;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPDeferredFunction;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.ICPPUnknownBinding;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Caches the outcome of overload resolution for an AST. The outcome is determined by the set of
+ * candidate functions, the types and value categories of the arguments, the implied object and
+ * the explicit template arguments.
+ * <p>
+ * Calls with arguments that are function sets or initializer lists are not cached, their cost
+ * depends on more than the type. Only successful resolutions are cached, problem bindings
+ * refer to the name they were created for.
+ * <p>
+ * The cache is thread-safe, the names of an AST may be resolved in parallel.
+ */
+public class OverloadResolutionCache {
+	/**
+	 * Identifies a resolution of a set of candidate functions for a list of arguments.
+	 */
+	public static final class Key {
+		private final ICPPFunction[] fCandidates;
+		private final IType[] fArgumentTypes;
+		private final ValueCategory[] fValueCategories;
+		private final IType fImpliedObjectType;
+		private final ValueCategory fImpliedObjectValueCategory;
+		private final ICPPTemplateArgument[] fTemplateArguments;
+		private final int fFlags;
+		// The signatures of types include associated values, e.g. for null pointer constants.
+		private final char[] fSignature;
+		private final int fHashCode;
+
+		Key(ICPPFunction[] candidates, IType[] argumentTypes, ValueCategory[] valueCategories,
+				IType impliedObjectType, ValueCategory impliedObjectValueCategory,
+				ICPPTemplateArgument[] templateArguments, int flags, char[] signature) {
+			fCandidates = candidates;
+			fArgumentTypes = argumentTypes;
+			fValueCategories = valueCategories;
+			fImpliedObjectType = impliedObjectType;
+			fImpliedObjectValueCategory = impliedObjectValueCategory;
+			fTemplateArguments = templateArguments;
+			fFlags = flags;
+			fSignature = signature;
+			fHashCode = 31 * (31 * Arrays.hashCode(candidates) + CharArrayUtils.hash(signature)) + flags;
+		}
+
+		@Override
+		public int hashCode() {
+			return fHashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return fHashCode == other.fHashCode && fFlags == other.fFlags
+					&& Arrays.equals(fSignature, other.fSignature) && Arrays.equals(fCandidates, other.fCandidates)
+					&& Arrays.equals(fValueCategories, other.fValueCategories)
+					&& fImpliedObjectValueCategory == other.fImpliedObjectValueCategory
+					&& areSameTypes(fArgumentTypes, other.fArgumentTypes)
+					&& isSameType(fImpliedObjectType, other.fImpliedObjectType)
+					&& areSameArguments(fTemplateArguments, other.fTemplateArguments);
+		}
+	}
+
+	private static final int ALLOW_UDC = 0x1;
+	private static final int RESOLVE_TARGETED_ARGUMENT_TYPES = 0x2;
+	private static final int ARGS_CONTAIN_IMPLIED_OBJECT = 0x4;
+	private static final int NO_NARROWING = 0x8;
+
+	private final Map<Key, IBinding> fResults = new ConcurrentHashMap<>();
+	private final AtomicInteger fHits = new AtomicInteger();
+	private final AtomicInteger fMisses = new AtomicInteger();
+
+	/**
+	 * Creates the key for resolving the given candidates for the function arguments of the lookup
+	 * data, or returns {@code null} if the resolution cannot be cached.
+	 */
+	public static Key createKey(LookupData data, ICPPFunction[] candidates, boolean allowUDC,
+			boolean resolveTargetedArgumentTypes) throws DOMException {
+		// Resolving a single ordinary function is cheaper than computing the key.
+		if (candidates.length < 2 && !(candidates[0] instanceof ICPPFunctionTemplate))
+			return null;
+
+		IType[] argTypes = data.getFunctionArgumentTypes();
+		if (CPPTemplates.containsDependentType(argTypes))
+			return null;
+		for (IType argType : argTypes) {
+			if (!isCacheable(argType))
+				return null;
+		}
+		ICPPTemplateArgument[] templateArgs = data.getTemplateArguments();
+		IType impliedObjectType = null;
+		ValueCategory impliedObjectValueCategory = null;
+		if (!data.argsContainImpliedObject) {
+			impliedObjectType = data.getImpliedObjectType();
+			impliedObjectValueCategory = data.getImpliedObjectValueCategory();
+			if (impliedObjectType != null && !isCacheable(impliedObjectType))
+				return null;
+		}
+		int flags = 0;
+		if (allowUDC)
+			flags |= ALLOW_UDC;
+		if (resolveTargetedArgumentTypes)
+			flags |= RESOLVE_TARGETED_ARGUMENT_TYPES;
+		if (data.argsContainImpliedObject)
+			flags |= ARGS_CONTAIN_IMPLIED_OBJECT;
+		if (data.fNoNarrowing)
+			flags |= NO_NARROWING;
+
+		SignatureBuilder builder = new SignatureBuilder();
+		try {
+			for (IType argType : argTypes) {
+				builder.marshalType(data.fNoNarrowing ? argType : withoutIrrelevantValue(argType));
+			}
+			builder.marshalType(impliedObjectType);
+			if (templateArgs != null) {
+				for (ICPPTemplateArgument arg : templateArgs) {
+					builder.marshalTemplateArgument(arg);
+				}
+			}
+		} catch (CoreException e) {
+			return null;
+		}
+		return new Key(candidates.clone(), argTypes.clone(), data.getFunctionArgumentValueCategories().clone(),
+				impliedObjectType, impliedObjectValueCategory, templateArgs, flags, builder.getSignature());
+	}
+
+	/**
+	 * Without narrowing checks, the value associated with an argument type only matters for null
+	 * pointer constants. Omitting other values allows sharing the outcome between calls with
+	 * different literals.
+	 */
+	private static IType withoutIrrelevantValue(IType type) {
+		if (type instanceof CPPBasicType) {
+			Long value = ((CPPBasicType) type).getAssociatedNumericalValue();
+			if (value != null && value.longValue() != 0) {
+				CPPBasicType copy = ((CPPBasicType) type).clone();
+				copy.setAssociatedNumericalValue(null);
+				return copy;
+			}
+		}
+		return type;
+	}
+
+	private static boolean isCacheable(IType type) {
+		while (type instanceof ITypeContainer) {
+			type = ((ITypeContainer) type).getType();
+		}
+		return !(type instanceof FunctionSetType) && !(type instanceof InitializerListType);
+	}
+
+	private static boolean isSameType(IType type1, IType type2) {
+		if (type1 == type2)
+			return true;
+		if (type1 == null || type2 == null)
+			return false;
+		return type1.isSameType(type2);
+	}
+
+	private static boolean areSameTypes(IType[] types1, IType[] types2) {
+		if (types1.length != types2.length)
+			return false;
+		for (int i = 0; i < types1.length; i++) {
+			if (!isSameType(types1[i], types2[i]))
+				return false;
+		}
+		return true;
+	}
+
+	private static boolean areSameArguments(ICPPTemplateArgument[] args1, ICPPTemplateArgument[] args2) {
+		if (args1 == args2)
+			return true;
+		if (args1 == null || args2 == null || args1.length != args2.length)
+			return false;
+		for (int i = 0; i < args1.length; i++) {
+			if (!args1[i].isSameValue(args2[i]))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the cached outcome of a resolution, or {@code null} if it is not cached.
+	 */
+	public IBinding get(Key key) {
+		IBinding result = fResults.get(key);
+		if (result == null) {
+			fMisses.incrementAndGet();
+		} else {
+			fHits.incrementAndGet();
+		}
+		return result;
+	}
+
+	/**
+	 * Caches the outcome of a resolution, if it is a function that could be determined.
+	 */
+	public void put(Key key, IBinding result) {
+		if (result instanceof ICPPFunction && !(result instanceof IProblemBinding)
+				&& !(result instanceof ICPPUnknownBinding) && !(result instanceof CPPDeferredFunction)) {
+			fResults.put(key, result);
+		}
+	}
+
+	/**
+	 * Returns the number of resolutions that were found in the cache.
+	 */
+	public int getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * Returns the number of resolutions that were not found in the cache.
+	 */
+	public int getMisses() {
+		return fMisses.get();
+	}
+}
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.dom.parser.cpp.semantics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTDeclSpecifier;
+import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTImplicitName;
+import org.eclipse.cdt.core.dom.ast.IASTImplicitNameOwner;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IASTNode;
+import org.eclipse.cdt.core.dom.ast.IASTSimpleDeclSpecifier;
+import org.eclipse.cdt.core.dom.ast.IScope;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTCatchHandler;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTCompositeTypeSpecifier;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTConstructorChainInitializer;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTDeclSpecifier;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTEnumerationSpecifier;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTFunctionDefinition;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTFunctionWithTryBlock;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTNamespaceDefinition;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTTemplateDeclaration;
+import org.eclipse.cdt.internal.core.dom.parser.ASTQueries;
+import org.eclipse.cdt.internal.core.dom.parser.IASTInternalScope;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPASTTranslationUnit;
+
+/**
+ * Resolves all names of a C++ AST, the bodies of independent function definitions are processed in
+ * parallel on a fork/join pool.
+ * <p>
+ * The names outside of function bodies are resolved first, by the calling thread. This creates the
+ * bindings of all declarations and populates the scopes of the translation unit, of namespaces and
+ * of classes, which are modified lazily and not thread-safe. Afterwards a body refers to shared state
+ * only through bindings and through the caches of the AST, which are thread-safe.
+ * <p>
+ * A function definition is independent, unless names of other bodies are resolved while resolving
+ * the names of its body, or names of its body are resolved for other bodies. That is the case for
+ * templates, whose bodies are resolved when instantiated, for constexpr functions, whose bodies are
+ * evaluated, and for functions with a deduced return type. These bodies are resolved sequentially,
+ * along with the names outside of function bodies.
+ */
+public class ParallelNameResolver {
+	private static final class NameResolver extends ASTVisitor {
+		NameResolver() {
+			shouldVisitNames = true;
+			shouldVisitImplicitNames = true;
+		}
+
+		@Override
+		public int visit(IASTName name) {
+			try {
+				name.resolveBinding();
+			} catch (RuntimeException e) {
+				// The problem is reported when the names are resolved again by the consumer of the AST.
+			}
+			return PROCESS_CONTINUE;
+		}
+	}
+
+	/**
+	 * Resolves the names outside of independent function bodies and collects these bodies.
+	 */
+	private static final class SequentialResolver extends ASTVisitor {
+		final NameResolver fNameResolver = new NameResolver();
+		final List<ICPPASTFunctionDefinition> fIndependentDefinitions = new ArrayList<>();
+		// Function definitions nested in other function bodies are not independent.
+		int fFunctionBodyDepth;
+
+		SequentialResolver() {
+			shouldVisitNames = true;
+			shouldVisitImplicitNames = true;
+			shouldVisitDeclarations = true;
+			shouldVisitDeclSpecifiers = true;
+			shouldVisitNamespaces = true;
+		}
+
+		@Override
+		public int visit(IASTName name) {
+			return fNameResolver.visit(name);
+		}
+
+		@Override
+		public int visit(ICPPASTNamespaceDefinition namespaceDefinition) {
+			populateCache(namespaceDefinition.getScope());
+			return PROCESS_CONTINUE;
+		}
+
+		@Override
+		public int visit(IASTDeclSpecifier declSpec) {
+			if (declSpec instanceof ICPPASTCompositeTypeSpecifier) {
+				populateCache(((ICPPASTCompositeTypeSpecifier) declSpec).getScope());
+			} else if (declSpec instanceof ICPPASTEnumerationSpecifier) {
+				populateCache(((ICPPASTEnumerationSpecifier) declSpec).getScope());
+			}
+			return PROCESS_CONTINUE;
+		}
+
+		@Override
+		public int visit(IASTDeclaration declaration) {
+			if (declaration instanceof ICPPASTFunctionDefinition) {
+				ICPPASTFunctionDefinition definition = (ICPPASTFunctionDefinition) declaration;
+				if (fFunctionBodyDepth == 0 && isIndependent(definition)) {
+					// The bindings for the function and its parameters are created sequentially.
+					definition.getDeclSpecifier().accept(this);
+					ASTQueries.findOutermostDeclarator(definition.getDeclarator()).accept(this);
+					fIndependentDefinitions.add(definition);
+					return PROCESS_SKIP;
+				}
+				fFunctionBodyDepth++;
+			}
+			return PROCESS_CONTINUE;
+		}
+
+		@Override
+		public int leave(IASTDeclaration declaration) {
+			if (declaration instanceof ICPPASTFunctionDefinition) {
+				fFunctionBodyDepth--;
+			}
+			return PROCESS_CONTINUE;
+		}
+	}
+
+	/**
+	 * Resolves the names of a range of independent function bodies, splits the range as long as it
+	 * contains more than one body.
+	 */
+	private static final class BodyResolver extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final List<ICPPASTFunctionDefinition> fDefinitions;
+		private final int fFrom;
+		private final int fTo;
+
+		BodyResolver(List<ICPPASTFunctionDefinition> definitions, int from, int to) {
+			fDefinitions = definitions;
+			fFrom = from;
+			fTo = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (fTo - fFrom > 1) {
+				int middle = (fFrom + fTo) >>> 1;
+				invokeAll(new BodyResolver(fDefinitions, fFrom, middle),
+						new BodyResolver(fDefinitions, middle, fTo));
+			} else if (fTo > fFrom) {
+				resolveBody(fDefinitions.get(fFrom), new NameResolver());
+			}
+		}
+	}
+
+	private final ForkJoinPool fPool;
+
+	/**
+	 * @param pool the pool for resolving the names of independent function bodies
+	 */
+	public ParallelNameResolver(ForkJoinPool pool) {
+		fPool = pool;
+	}
+
+	/**
+	 * Resolves all names of the AST. Returns after the names have been resolved.
+	 */
+	public void resolveNames(CPPASTTranslationUnit ast) {
+		populateCache(ast.getScope());
+		SequentialResolver sequential = new SequentialResolver();
+		ast.accept(sequential);
+
+		List<ICPPASTFunctionDefinition> definitions = sequential.fIndependentDefinitions;
+		if (definitions.size() < 2) {
+			for (ICPPASTFunctionDefinition definition : definitions) {
+				resolveBody(definition, sequential.fNameResolver);
+			}
+			return;
+		}
+		fPool.invoke(new BodyResolver(definitions, 0, definitions.size()));
+	}
+
+	private static void resolveBody(ICPPASTFunctionDefinition definition, NameResolver resolver) {
+		for (ICPPASTConstructorChainInitializer initializer : definition.getMemberInitializers()) {
+			initializer.accept(resolver);
+		}
+		if (definition instanceof IASTImplicitNameOwner) {
+			// The implicit names of constructors refer to the constructors of bases and members.
+			for (IASTImplicitName implicitName : ((IASTImplicitNameOwner) definition).getImplicitNames()) {
+				implicitName.accept(resolver);
+			}
+		}
+		definition.getBody().accept(resolver);
+		if (definition instanceof ICPPASTFunctionWithTryBlock) {
+			for (ICPPASTCatchHandler handler : ((ICPPASTFunctionWithTryBlock) definition).getCatchHandlers()) {
+				handler.accept(resolver);
+			}
+		}
+	}
+
+	private static boolean isIndependent(ICPPASTFunctionDefinition definition) {
+		if (definition.getBody() == null)
+			return false;
+		IASTDeclSpecifier declSpec = definition.getDeclSpecifier();
+		if (declSpec instanceof ICPPASTDeclSpecifier && ((ICPPASTDeclSpecifier) declSpec).isConstexpr())
+			return false;
+		if (declSpec instanceof IASTSimpleDeclSpecifier) {
+			int type = ((IASTSimpleDeclSpecifier) declSpec).getType();
+			if (type == IASTSimpleDeclSpecifier.t_auto || type == IASTSimpleDeclSpecifier.t_decltype_auto)
+				return false;
+		}
+		for (IASTNode node = definition.getParent(); node != null; node = node.getParent()) {
+			if (node instanceof ICPPASTTemplateDeclaration)
+				return false;
+		}
+		return true;
+	}
+
+	private static void populateCache(IScope scope) {
+		if (scope instanceof IASTInternalScope) {
+			((IASTInternalScope) scope).populateCache();
+		}
+	}
+}
@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.dom.parser.cpp.semantics;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.dom.ast.ASTTypeUtil;
+import org.eclipse.cdt.core.dom.ast.IASTNode;
+import org.eclipse.cdt.core.dom.ast.IBasicType;
+import org.eclipse.cdt.core.dom.ast.IBinding;
+import org.eclipse.cdt.core.dom.ast.IType;
+import org.eclipse.cdt.core.dom.ast.ITypedef;
+import org.eclipse.cdt.core.dom.ast.IValue;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPClassTemplate;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPFunctionType;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPTemplateArgument;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPTemplateInstance;
+import org.eclipse.cdt.core.index.IIndex;
+import org.eclipse.cdt.core.index.IIndexBinding;
+import org.eclipse.cdt.internal.core.dom.parser.ITypeContainer;
+import org.eclipse.cdt.internal.core.index.CIndex;
+import org.eclipse.cdt.internal.core.index.IIndexFragmentBinding;
+import org.eclipse.cdt.internal.core.index.composite.CompositeIndexBinding;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Caches the results of instantiating class templates from the index, shared by all ASTs
+ * created against the same index. Only instantiations that do not depend on the AST are cached,
+ * i.e. the template and all types and values in its arguments have to come from the index.
+ * <p>
+ * The size of the cache is bounded by the total weight of its entries, the least recently used
+ * entries are evicted first. The cache has to be cleared when content is removed from the index,
+ * an index that is not written by its owner does that with {@link #checkModificationStamp(long)}.
+ */
+public class TemplateInstanceCache {
+	private static final long DEFAULT_MAX_WEIGHT = 4 * 1024 * 1024;
+	// Accounts for the objects of an entry, in addition to the characters of its key.
+	private static final int ENTRY_WEIGHT = 64;
+
+	private static final class Entry {
+		final IBinding fResult;
+		final int fPartialSpecializationCount;
+		final int fWeight;
+
+		Entry(Key key, IBinding result) {
+			fResult = result;
+			fPartialSpecializationCount = key.fPartialSpecializationCount;
+			fWeight = ENTRY_WEIGHT + key.fSignature.length();
+		}
+	}
+
+	/**
+	 * Identifies the instantiation of a class template with a list of arguments.
+	 */
+	public static final class Key {
+		private final TemplateInstanceCache fCache;
+		private final ICPPClassTemplate fTemplate;
+		private final ICPPTemplateArgument[] fArguments;
+		private final String fSignature;
+		private final int fPartialSpecializationCount;
+
+		Key(TemplateInstanceCache cache, ICPPClassTemplate template, ICPPTemplateArgument[] arguments,
+				String signature, int partialSpecializationCount) {
+			fCache = cache;
+			fTemplate = template;
+			fArguments = arguments;
+			fSignature = signature;
+			fPartialSpecializationCount = partialSpecializationCount;
+		}
+
+		TemplateInstanceCache getCache() {
+			return fCache;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * fTemplate.hashCode() + fSignature.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			// The signature does not identify all arguments uniquely, compare the arguments themselves.
+			return fSignature.equals(other.fSignature) && fTemplate.equals(other.fTemplate)
+					&& areSameArguments(fArguments, other.fArguments);
+		}
+	}
+
+	private final Map<Key, Entry> fEntries = new LinkedHashMap<>(16, 0.75f, true);
+	private long fMaxWeight = DEFAULT_MAX_WEIGHT;
+	private long fWeight;
+	private long fModificationStamp;
+	private long fHits;
+	private long fMisses;
+	private long fEvictions;
+
+	/**
+	 * Creates the key for the instantiation of a template with the given arguments in the context
+	 * of the current lookup point. Returns {@code null} if the AST of the lookup point is not based
+	 * on an index or the instantiation cannot be shared between ASTs.
+	 */
+	public static Key createKey(ICPPClassTemplate template, ICPPTemplateArgument[] arguments) {
+		IASTNode lookupPoint = CPPSemantics.getCurrentLookupPoint();
+		if (lookupPoint == null)
+			return null;
+		IIndex index = lookupPoint.getTranslationUnit().getIndex();
+		if (!(index instanceof CIndex))
+			return null;
+		try {
+			if (!isSharableBinding(template) || !hasDefinition(template))
+				return null;
+			for (ICPPTemplateArgument arg : arguments) {
+				if (!isSharableArgument(arg))
+					return null;
+			}
+			String signature = ASTTypeUtil.getArgumentListString(arguments, true);
+			int partialSpecializationCount = template.getPartialSpecializations().length;
+			return new Key(((CIndex) index).getTemplateInstanceCache(), template, arguments.clone(), signature,
+					partialSpecializationCount);
+		} catch (CoreException e) {
+			CCorePlugin.log(e);
+			return null;
+		}
+	}
+
+	private static boolean hasDefinition(IBinding binding) throws CoreException {
+		if (binding instanceof IIndexFragmentBinding)
+			return ((IIndexFragmentBinding) binding).hasDefinition();
+		if (binding instanceof CompositeIndexBinding)
+			return ((CompositeIndexBinding) binding).hasDefinition();
+		return false;
+	}
+
+	private static boolean isSharableBinding(IBinding binding) throws CoreException {
+		return binding instanceof IIndexBinding && !((IIndexBinding) binding).isFileLocal();
+	}
+
+	private static boolean isSharableArgument(ICPPTemplateArgument arg) throws CoreException {
+		if (arg.isTypeValue())
+			return isSharableType(arg.getTypeValue());
+		IValue value = arg.getNonTypeValue();
+		return value != null && value.numberValue() != null && isSharableType(arg.getTypeOfNonTypeValue());
+	}
+
+	private static boolean isSharableType(IType type) throws CoreException {
+		if (type instanceof IBasicType)
+			return true;
+		if (type instanceof ITypedef)
+			return isSharableBinding((IBinding) type);
+		if (type instanceof ITypeContainer)
+			return isSharableType(((ITypeContainer) type).getType());
+		if (type instanceof ICPPFunctionType) {
+			ICPPFunctionType functionType = (ICPPFunctionType) type;
+			if (!isSharableType(functionType.getReturnType()))
+				return false;
+			for (IType parameterType : functionType.getParameterTypes()) {
+				if (!isSharableType(parameterType))
+					return false;
+			}
+			return true;
+		}
+		if (type instanceof ICPPTemplateInstance && !(type instanceof IIndexBinding)) {
+			// An instance of a template from the index, created for an AST.
+			ICPPTemplateInstance instance = (ICPPTemplateInstance) type;
+			if (!isSharableBinding(instance.getTemplateDefinition()))
+				return false;
+			for (ICPPTemplateArgument arg : instance.getTemplateArguments()) {
+				if (!isSharableArgument(arg))
+					return false;
+			}
+			return true;
+		}
+		return type instanceof IBinding && isSharableBinding((IBinding) type);
+	}
+
+	/**
+	 * Returns the cached result of an instantiation, or {@code null} if it is not cached.
+	 */
+	public static IBinding get(Key key) {
+		return key.getCache().getEntry(key);
+	}
+
+	/**
+	 * Caches the result of an instantiation. Only template instances are cached, and only if their
+	 * template comes from the index.
+	 */
+	public static void put(Key key, IBinding result) {
+		if (result instanceof ICPPTemplateInstance) {
+			try {
+				if (isSharableBinding(((ICPPTemplateInstance) result).getTemplateDefinition())) {
+					key.getCache().putEntry(key, result);
+				}
+			} catch (CoreException e) {
+				CCorePlugin.log(e);
+			}
+		}
+	}
+
+	private synchronized IBinding getEntry(Key key) {
+		Entry entry = fEntries.get(key);
+		if (entry != null && entry.fPartialSpecializationCount == key.fPartialSpecializationCount) {
+			fHits++;
+			return entry.fResult;
+		}
+		fMisses++;
+		return null;
+	}
+
+	private static boolean areSameArguments(ICPPTemplateArgument[] args1, ICPPTemplateArgument[] args2) {
+		if (args1.length != args2.length)
+			return false;
+		for (int i = 0; i < args1.length; i++) {
+			if (!args1[i].isSameValue(args2[i]))
+				return false;
+		}
+		return true;
+	}
+
+	private synchronized void putEntry(Key key, IBinding result) {
+		Entry entry = new Entry(key, result);
+		Entry old = fEntries.put(key, entry);
+		if (old != null) {
+			fWeight -= old.fWeight;
+		}
+		fWeight += entry.fWeight;
+		evict();
+	}
+
+	private void evict() {
+		for (Iterator<Entry> it = fEntries.values().iterator(); fWeight > fMaxWeight && it.hasNext();) {
+			fWeight -= it.next().fWeight;
+			it.remove();
+			fEvictions++;
+		}
+	}
+
+	/**
+	 * Sets the maximum total weight of the entries, the weight of an entry is about the number of
+	 * bytes it occupies.
+	 */
+	public synchronized void setMaxWeight(long maxWeight) {
+		fMaxWeight = maxWeight;
+		evict();
+	}
+
+	/**
+	 * Clears the cache if the given modification stamp of the index differs from the one of the
+	 * previous call. Called when a read lock is acquired on an index that may have been modified
+	 * through another instance.
+	 */
+	public synchronized void checkModificationStamp(long stamp) {
+		if (stamp != fModificationStamp) {
+			clear();
+			fModificationStamp = stamp;
+		}
+	}
+
+	/**
+	 * Removes all entries from the cache.
+	 */
+	public synchronized void clear() {
+		fEntries.clear();
+		fWeight = 0;
+	}
+
+	public synchronized int getSize() {
+		return fEntries.size();
+	}
+
+	public synchronized long getWeight() {
+		return fWeight;
+	}
+
+	public synchronized void resetCounters() {
+		fHits = 0;
+		fMisses = 0;
+		fEvictions = 0;
+	}
+
+	public synchronized long getHits() {
+		return fHits;
+	}
+
+	public synchronized long getMisses() {
+		return fMisses;
+	}
+
+	public synchronized long getEvictions() {
+		return fEvictions;
+	}
+}
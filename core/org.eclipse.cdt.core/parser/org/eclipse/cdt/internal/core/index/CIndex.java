@@ -47,6 +47,7 @@ import org.eclipse.cdt.core.index.IIndexName;
 import org.eclipse.cdt.core.index.IndexFilter;
 import org.eclipse.cdt.core.parser.ISignificantMacros;
 import org.eclipse.cdt.internal.core.dom.Linkage;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.TemplateInstanceCache;
 import org.eclipse.cdt.internal.core.index.composite.CompositingNotImplementedError;
 import org.eclipse.cdt.internal.core.index.composite.ICompositesFactory;
 import org.eclipse.cdt.internal.core.index.composite.c.CCompositesFactory;
@@ -66,6 +67,7 @@ public class CIndex implements IIndex {
 	private final IIndexFragment[] fFragments;
 	private int fReadLock;
 	private ICompositesFactory cppCF, cCF, fCF;
+	private TemplateInstanceCache fTemplateInstanceCache;
 
 	/**
 	 * Creates an index consisting of one or more fragments.
@@ -399,6 +401,10 @@ public class CIndex implements IIndex {
 				for (i = 0; i < fFragments.length; i++) {
 					fFragments[i].acquireReadLock();
 				}
+				if (fTemplateInstanceCache != null) {
+					// The fragments may have been modified through another index.
+					fTemplateInstanceCache.checkModificationStamp(getModificationStamp());
+				}
 			} finally {
 				if (i < fFragments.length) {
 					// Rollback.
@@ -443,6 +449,17 @@ public class CIndex implements IIndex {
 		return result;
 	}
 
+	/**
+	 * Returns a value that changes whenever one of the fragments is modified.
+	 */
+	private long getModificationStamp() {
+		long result = 0;
+		for (IIndexFragment fragment : fFragments) {
+			result += fragment.getLastWriteAccess();
+		}
+		return result;
+	}
+
 	@Override
 	public IIndexBinding[] findBindings(char[][] names, IndexFilter filter, IProgressMonitor monitor)
 			throws CoreException {
@@ -738,6 +755,18 @@ public class CIndex implements IIndex {
 		for (IIndexFragment fragment : fFragments) {
 			fragment.resetCacheCounters();
 		}
+		getTemplateInstanceCache().resetCounters();
+	}
+
+	/**
+	 * Returns the cache of template instances shared by the ASTs created against this index.
+	 */
+	public synchronized TemplateInstanceCache getTemplateInstanceCache() {
+		if (fTemplateInstanceCache == null) {
+			fTemplateInstanceCache = new TemplateInstanceCache();
+			fTemplateInstanceCache.checkModificationStamp(getModificationStamp());
+		}
+		return fTemplateInstanceCache;
 	}
 
 	protected void clearResultCache() {
@@ -764,6 +793,19 @@ public class CIndex implements IIndex {
 		return result.values().toArray(new IIndexFile[result.size()]);
 	}
 
+	@Override
+	public IIndexFile[] findFilesWithName(char[] name) throws CoreException {
+		List<IIndexFile> result = new ArrayList<>();
+		for (IIndexFragment fragment : fFragments) {
+			for (IIndexFragmentFile file : fragment.getAllFiles()) {
+				if (file.hasContent() && file.mayContainName(name)) {
+					result.add(file);
+				}
+			}
+		}
+		return result.toArray(new IIndexFile[result.size()]);
+	}
+
 	@Override
 	public IIndexFile[] getDefectiveFiles() throws CoreException {
 		HashMap<IIndexFileLocation, IIndexFile> result = new HashMap<>();
@@ -190,6 +190,11 @@ final public class EmptyCIndex implements IIndex {
 		return IIndexFile.EMPTY_FILE_ARRAY;
 	}
 
+	@Override
+	public IIndexFile[] findFilesWithName(char[] name) {
+		return IIndexFile.EMPTY_FILE_ARRAY;
+	}
+
 	@Override
 	public IIndexFile[] getDefectiveFiles() {
 		return IIndexFile.EMPTY_FILE_ARRAY;
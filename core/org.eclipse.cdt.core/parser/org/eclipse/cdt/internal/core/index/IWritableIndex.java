@@ -21,6 +21,7 @@ import org.eclipse.cdt.core.dom.ast.IASTPreprocessorStatement;
 import org.eclipse.cdt.core.index.IIndex;
 import org.eclipse.cdt.core.index.IIndexFileLocation;
 import org.eclipse.cdt.core.parser.ISignificantMacros;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.TemplateInstanceCache;
 import org.eclipse.cdt.internal.core.pdom.ASTFilePathResolver;
 import org.eclipse.cdt.internal.core.pdom.YieldableIndexLock;
 import org.eclipse.core.runtime.CoreException;
@@ -156,6 +157,11 @@ public interface IWritableIndex extends IIndex {
 	 */
 	long getCacheMisses();
 
+	/**
+	 * Returns the cache of template instances shared by the ASTs parsed against this index.
+	 */
+	TemplateInstanceCache getTemplateInstanceCache();
+
 	/**
 	 * Returns the primary writable fragment, or <code>null</code> if there is
 	 * no writable fragment.
@@ -92,11 +92,14 @@ public class WritableCIndex extends CIndex implements IWritableIndex {
 	@Override
 	public void clear() throws CoreException {
 		getWritableFragment().clear();
+		getTemplateInstanceCache().clear();
 	}
 
 	@Override
 	public void clearFile(IIndexFragmentFile file) throws CoreException {
 		getWritableFragment().clearFile(file);
+		// Cached instances may refer to bindings that have been deleted.
+		getTemplateInstanceCache().clear();
 	}
 
 	@Override
@@ -138,6 +141,7 @@ public class WritableCIndex extends CIndex implements IWritableIndex {
 		int establishReadlockCount = getReadLockCount();
 		if (establishReadlockCount == 0) {
 			clearResultCache();
+			getTemplateInstanceCache().clear();
 		}
 
 		fIsWriteLocked = false;
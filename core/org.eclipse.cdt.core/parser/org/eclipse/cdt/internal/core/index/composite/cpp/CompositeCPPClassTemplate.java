@@ -69,8 +69,8 @@ public class CompositeCPPClassTemplate extends CompositeCPPClassType implements
 	}
 
 	@Override
-	public void addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
-		CompositeInstanceCache.getCache(cf, rbinding).addInstance(arguments, instance);
+	public ICPPTemplateInstance addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
+		return CompositeInstanceCache.getCache(cf, rbinding).addInstance(arguments, instance);
 	}
 
 	@Override
@@ -50,8 +50,8 @@ public class CompositeCPPClassTemplatePartialSpecializationSpecialization extend
 	}
 
 	@Override
-	public void addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
-		CompositeInstanceCache.getCache(cf, rbinding).addInstance(arguments, instance);
+	public ICPPTemplateInstance addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
+		return CompositeInstanceCache.getCache(cf, rbinding).addInstance(arguments, instance);
 	}
 
 	@Override
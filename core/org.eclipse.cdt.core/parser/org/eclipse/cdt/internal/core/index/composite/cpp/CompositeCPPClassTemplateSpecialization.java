@@ -54,8 +54,8 @@ public class CompositeCPPClassTemplateSpecialization extends CompositeCPPClassSp
 	}
 
 	@Override
-	public void addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
-		CompositeInstanceCache.getCache(cf, rbinding).addInstance(arguments, instance);
+	public ICPPTemplateInstance addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
+		return CompositeInstanceCache.getCache(cf, rbinding).addInstance(arguments, instance);
 	}
 
 	@Override
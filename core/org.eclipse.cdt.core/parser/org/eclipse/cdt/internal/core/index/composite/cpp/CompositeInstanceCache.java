@@ -21,6 +21,7 @@ import org.eclipse.cdt.core.dom.ast.cpp.ICPPTemplateArgument;
 import org.eclipse.cdt.core.dom.ast.cpp.ICPPTemplateInstance;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.ICPPDeferredClassInstance;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.ICPPInstanceCache;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPTemplates;
 import org.eclipse.cdt.internal.core.index.CIndex;
 import org.eclipse.cdt.internal.core.index.IIndexFragment;
 import org.eclipse.cdt.internal.core.index.IIndexFragmentBinding;
@@ -50,14 +51,19 @@ public class CompositeInstanceCache {
 		fMap = new HashMap<>();
 	}
 
-	synchronized public final void addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
+	synchronized public final ICPPTemplateInstance addInstance(ICPPTemplateArgument[] arguments,
+			ICPPTemplateInstance instance) {
 		try {
 			String key = IndexCPPSignatureUtil.getTemplateArgString(arguments, true);
+			ICPPTemplateInstance cached = fMap.get(key);
+			if (cached != null && !CPPTemplates.replacesCachedInstance(cached, instance))
+				return cached;
 			fMap.put(key, instance);
 		} catch (CoreException e) {
 			CCorePlugin.log(e);
 		} catch (DOMException e) {
 		}
+		return instance;
 	}
 
 	synchronized public final ICPPTemplateInstance getInstance(ICPPTemplateArgument[] arguments) {
@@ -18,18 +18,28 @@ import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
+import org.eclipse.cdt.core.parser.IExtendedScannerInfo;
 import org.eclipse.cdt.core.parser.IParserLogService;
 import org.eclipse.cdt.core.parser.IScannerInfo;
+import org.eclipse.cdt.internal.core.index.IIndexFragmentFile;
 import org.eclipse.cdt.internal.core.index.IWritableIndex;
 import org.eclipse.cdt.internal.core.index.IWritableIndexFragment;
+import org.eclipse.cdt.internal.core.parser.scanner.StreamHasher;
 import org.eclipse.cdt.internal.core.pdom.IndexerProgress;
+import org.eclipse.cdt.internal.core.pdom.IndexerStatistics;
 import org.eclipse.cdt.internal.core.pdom.PDOMWriter;
 import org.eclipse.cdt.internal.core.pdom.WritablePDOM;
+import org.eclipse.core.filesystem.URIUtil;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -78,11 +88,23 @@ public abstract class StandaloneIndexer {
 	 */
 	public final static int UPDATE_CHECK_TIMESTAMPS = 0x2;
 
+	/**
+	 * Constant for indicating to update translation units if their timestamp
+	 * and the hash of their contents have changed. To be combined with
+	 * {@link #UPDATE_CHECK_TIMESTAMPS}.
+	 */
+	public final static int UPDATE_CHECK_CONTENTS_HASH = 0x10;
+
 	/**
 	 * Empty list.
 	 */
 	protected static final List<String> NO_TUS = Collections.emptyList();
 
+	/**
+	 * Index property storing the hash of the build configurations used by the last update.
+	 */
+	private static final String PROPERTY_BUILD_CONFIGURATION_HASH = "org.eclipse.cdt.internal.core.indexer.buildConfigurationHash"; //$NON-NLS-1$
+
 	/**
 	 * The IWritableIndex that stores all bindings and names.
 	 */
@@ -152,6 +174,32 @@ public abstract class StandaloneIndexer {
 
 	protected int fUpdateOptions = UPDATE_ALL;
 
+	/**
+	 * The number of threads used for parsing source files.
+	 */
+	protected int fWorkerCount = 1;
+
+	/**
+	 * Whether the bodies of functions in headers are parsed only when needed.
+	 */
+	protected boolean fDeferFunctionBodiesInHeaders;
+
+	/**
+	 * Whether the ASTs are created with a smaller memory footprint.
+	 */
+	protected boolean fCompactAST;
+
+	/**
+	 * Whether the names in independent function bodies are resolved in parallel.
+	 */
+	protected boolean fParallelNameResolution;
+
+	/**
+	 * The number of slowest files for which profiles are kept, {@code 0} if no profiles are
+	 * collected.
+	 */
+	protected int fProfiledFileCount;
+
 	private IndexerProgress fProgress = null;
 	private volatile StandaloneIndexerTask fDelegate;
 
@@ -342,6 +390,81 @@ public abstract class StandaloneIndexer {
 		fTraceStatistics = traceStatistics;
 	}
 
+	/**
+	 * Returns the number of threads used for parsing source files.
+	 */
+	public int getWorkerCount() {
+		return fWorkerCount;
+	}
+
+	/**
+	 * Sets the number of threads used for parsing source files, the default is one.
+	 */
+	public void setWorkerCount(int workerCount) {
+		fWorkerCount = Math.max(1, workerCount);
+	}
+
+	/**
+	 * Returns whether the bodies of functions in headers are parsed only when the references of
+	 * the header are written to the index.
+	 */
+	public boolean getDeferFunctionBodiesInHeaders() {
+		return fDeferFunctionBodiesInHeaders;
+	}
+
+	/**
+	 * Sets whether the bodies of functions in headers are parsed only when the references of the
+	 * header are written to the index, the default is {@code false}.
+	 */
+	public void setDeferFunctionBodiesInHeaders(boolean defer) {
+		fDeferFunctionBodiesInHeaders = defer;
+	}
+
+	/**
+	 * Returns whether the ASTs are created with a smaller memory footprint.
+	 */
+	public boolean getCompactAST() {
+		return fCompactAST;
+	}
+
+	/**
+	 * Sets whether the ASTs are created with a smaller memory footprint, the default is
+	 * {@code false}.
+	 */
+	public void setCompactAST(boolean compact) {
+		fCompactAST = compact;
+	}
+
+	/**
+	 * Returns whether the names in independent function bodies are resolved in parallel.
+	 */
+	public boolean getParallelNameResolution() {
+		return fParallelNameResolution;
+	}
+
+	/**
+	 * Sets whether the names in the bodies of independent function definitions of a C++ translation
+	 * unit are resolved in parallel, the default is {@code false}.
+	 */
+	public void setParallelNameResolution(boolean parallel) {
+		fParallelNameResolution = parallel;
+	}
+
+	/**
+	 * Returns the number of slowest files for which profiles are kept.
+	 */
+	public int getProfiledFileCount() {
+		return fProfiledFileCount;
+	}
+
+	/**
+	 * Sets the number of slowest files for which a profile of the time spent in the phases of
+	 * indexing is kept, the default is {@code 0} which disables profiling.
+	 */
+	public void setProfiledFileCount(int count) {
+		fProfiledFileCount = count;
+	}
+
 	private IndexerProgress createProgress() {
 		IndexerProgress progress = new IndexerProgress();
 		progress.fTimeEstimate = 1000;
@@ -359,6 +482,13 @@ public abstract class StandaloneIndexer {
 		}
 	}
 
+	/**
+	 * Returns the statistics of the last update, or {@code null} if there was none.
+	 */
+	public synchronized IndexerStatistics getStatistics() {
+		return fDelegate != null ? fDelegate.getStatistics() : null;
+	}
+
 	/**
 	 * Returns the progress information.
 	 */
@@ -405,6 +535,104 @@ public abstract class StandaloneIndexer {
 		}
 	}
 
+	/**
+	 * Updates the index such that it reflects the current content of the given files, reusing
+	 * the content of the existing index. The translation units and the files already in the index
+	 * are parsed again only if both their timestamp and the hash of their contents have changed,
+	 * files that no longer exist are removed from the index. Versions of headers are reused as
+	 * long as the significant macros of the context they are included in match.
+	 * <p>
+	 * If the build configuration of the translation units has changed since the previous
+	 * update, or the format of the index is not supported, all files are indexed again.
+	 * @param tus - directories/files to be in the index
+	 * @param monitor
+	 * @throws IOException
+	 */
+	public void update(List<String> tus, IProgressMonitor monitor) throws IOException {
+		fProgress = createProgress();
+
+		try {
+			final IWritableIndex index = getIndex();
+			final IWritableIndexFragment fragment = index.getWritableFragment();
+			if (fragment instanceof WritablePDOM && !((WritablePDOM) fragment).isSupportedVersion()) {
+				clearIndex();
+			}
+
+			List<String> added = getFilesAdded(tus);
+			List<String> changed = new ArrayList<>();
+			List<String> removed = new ArrayList<>();
+			String configurationHash = computeBuildConfigurationHash(added);
+			boolean sameConfiguration;
+			index.acquireReadLock();
+			try {
+				Set<String> addedPaths = new HashSet<>();
+				for (String path : added) {
+					addedPaths.add(new File(path).getCanonicalPath());
+				}
+				Set<String> indexedPaths = new LinkedHashSet<>();
+				for (IIndexFragmentFile file : fragment.getAllFiles()) {
+					indexedPaths.add(URIUtil.toPath(file.getLocation().getURI()).toOSString());
+				}
+				for (String path : indexedPaths) {
+					if (!new File(path).isFile()) {
+						removed.add(path);
+					} else if (!addedPaths.contains(path)) {
+						changed.add(path);
+					}
+				}
+				sameConfiguration = configurationHash
+						.equals(fragment.getProperty(PROPERTY_BUILD_CONFIGURATION_HASH));
+			} finally {
+				index.releaseReadLock();
+			}
+
+			fDelegate = createTask(added, changed, removed);
+			if (fDelegate != null) {
+				fDelegate.setUpdateFlags(
+						sameConfiguration ? UPDATE_CHECK_TIMESTAMPS | UPDATE_CHECK_CONTENTS_HASH : UPDATE_ALL);
+				fDelegate.run(monitor);
+				if (monitor == null || !monitor.isCanceled()) {
+					index.acquireWriteLock(null);
+					try {
+						fragment.setProperty(PROPERTY_BUILD_CONFIGURATION_HASH, configurationHash);
+					} finally {
+						index.releaseWriteLock();
+					}
+				}
+			}
+		} catch (CoreException e) {
+			e.printStackTrace();
+		} catch (InterruptedException e) {
+		}
+	}
+
+	/**
+	 * Computes a hash of the distinct build configurations of the given translation units.
+	 */
+	private String computeBuildConfigurationHash(List<String> tus) {
+		Set<String> configurations = new TreeSet<>();
+		if (fScanner != null || fScannerInfoProvider != null) {
+			for (String tu : tus) {
+				IScannerInfo info = getScannerInfo(tu);
+				if (info != null) {
+					StringBuilder buf = new StringBuilder();
+					if (info.getDefinedSymbols() != null) {
+						buf.append(new TreeMap<>(info.getDefinedSymbols()));
+					}
+					buf.append(Arrays.toString(info.getIncludePaths()));
+					if (info instanceof IExtendedScannerInfo) {
+						IExtendedScannerInfo extendedInfo = (IExtendedScannerInfo) info;
+						buf.append(Arrays.toString(extendedInfo.getLocalIncludePath()));
+						buf.append(Arrays.toString(extendedInfo.getIncludeFiles()));
+						buf.append(Arrays.toString(extendedInfo.getMacroFiles()));
+					}
+					configurations.add(buf.toString());
+				}
+			}
+		}
+		return Long.toHexString(StreamHasher.hash(String.join("\n", configurations))); //$NON-NLS-1$
+	}
+
 	/**
 	 * Updates the index with changes.
 	 * @param added - directories/files to be added to the index
@@ -449,7 +677,7 @@ public abstract class StandaloneIndexer {
 			if (file.isDirectory()) {
 				String[] files = file.list(filter);
 				for (String file2 : files) {
-					added.add(file2);
+					added.add(new File(file, file2).getPath());
 				}
 			} else {
 				if (filter.accept(file.getParentFile(), file.getName())) {
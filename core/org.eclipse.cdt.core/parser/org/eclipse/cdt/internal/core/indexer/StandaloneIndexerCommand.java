@@ -0,0 +1,348 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.indexer;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.cdt.core.dom.ILinkage;
+import org.eclipse.cdt.core.dom.ast.gnu.c.GCCLanguage;
+import org.eclipse.cdt.core.dom.ast.gnu.cpp.GPPLanguage;
+import org.eclipse.cdt.core.index.URIRelativeLocationConverter;
+import org.eclipse.cdt.core.model.ILanguage;
+import org.eclipse.cdt.core.parser.ExtendedScannerInfo;
+import org.eclipse.cdt.core.parser.IParserLogService;
+import org.eclipse.cdt.core.parser.IScannerInfo;
+import org.eclipse.cdt.core.parser.NullLogService;
+import org.eclipse.cdt.internal.core.dom.parser.TranslationUnitProfile;
+import org.eclipse.cdt.internal.core.index.IWritableIndex;
+import org.eclipse.cdt.internal.core.parser.InternalParserUtil;
+import org.eclipse.cdt.internal.core.pdom.IndexerProgress;
+import org.eclipse.cdt.internal.core.pdom.IndexerStatistics;
+import org.eclipse.cdt.internal.core.pdom.WritablePDOM;
+import org.eclipse.cdt.internal.core.pdom.dom.IPDOMLinkageFactory;
+import org.eclipse.cdt.internal.core.pdom.dom.c.PDOMCLinkageFactory;
+import org.eclipse.cdt.internal.core.pdom.dom.cpp.PDOMCPPLinkageFactory;
+import org.eclipse.core.runtime.CoreException;
+
+import com.google.gson.GsonBuilder;
+
+/**
+ * Command line driver for the standalone indexers, runs without the workspace.
+ * <p>
+ * An existing index file is updated, only files that have changed since the previous run are
+ * indexed again, see {@link StandaloneIndexer#update(List, org.eclipse.core.runtime.IProgressMonitor)}.
+ * Statistics about the run can be written to a file in JSON format.
+ */
+@SuppressWarnings({ "nls", "deprecation" })
+public class StandaloneIndexerCommand {
+	private static final Set<String> SOURCE_EXTENSIONS = new HashSet<>(
+			Arrays.asList("c", "cc", "cpp", "cxx", "c++", "C"));
+
+	private static final String USAGE = "Usage: StandaloneIndexerCommand -index <file> [options] <files or directories>\n"
+			+ "Options:\n" //
+			+ "  -I<dir>            add an include path\n" //
+			+ "  -D<name>[=<value>] define a macro\n" //
+			+ "  -base <dir>        directory the locations in the index are relative to\n" //
+			+ "  -workers <n>       number of threads parsing source files\n" //
+			+ "  -full              use the full indexer rather than the fast one\n" //
+			+ "  -rebuild           clear the index rather than updating it\n" //
+			+ "  -all               index all files, including headers that are not included\n" //
+			+ "  -deferBodies       parse function bodies in headers only when they are indexed\n" //
+			+ "  -compactAST        create ASTs with a smaller memory footprint\n" //
+			+ "  -parallelResolution resolve the names in function bodies of a file in parallel\n" //
+			+ "  -profile <n>       profile the phases of indexing, report the n slowest files\n" //
+			+ "  -stats <file>      write statistics in JSON format to the file\n" //
+			+ "  -verbose           show the files being indexed and problems";
+
+	private File fIndexFile;
+	private File fBaseDirectory;
+	private File fStatisticsFile;
+	private final List<String> fIncludePaths = new ArrayList<>();
+	private final Map<String, String> fDefinedSymbols = new LinkedHashMap<>();
+	private final List<String> fInputs = new ArrayList<>();
+	private int fWorkerCount = 1;
+	private boolean fFullIndexer;
+	private boolean fRebuild;
+	private boolean fIndexAllFiles;
+	private boolean fDeferFunctionBodies;
+	private boolean fCompactAST;
+	private boolean fParallelNameResolution;
+	private int fProfiledFileCount;
+	private boolean fVerbose;
+
+	public static void main(String[] args) {
+		StandaloneIndexerCommand command = new StandaloneIndexerCommand();
+		if (!command.parseArguments(args)) {
+			System.err.println(USAGE);
+			System.exit(2);
+		}
+		try {
+			command.run();
+		} catch (CoreException | IOException e) {
+			e.printStackTrace();
+			System.exit(1);
+		}
+	}
+
+	private boolean parseArguments(String[] args) {
+		try {
+			for (int i = 0; i < args.length; i++) {
+				String arg = args[i];
+				if (arg.startsWith("-I") && arg.length() > 2) {
+					fIncludePaths.add(new File(arg.substring(2)).getAbsolutePath());
+				} else if (arg.startsWith("-D") && arg.length() > 2) {
+					int eq = arg.indexOf('=');
+					if (eq < 0) {
+						fDefinedSymbols.put(arg.substring(2), "1");
+					} else {
+						fDefinedSymbols.put(arg.substring(2, eq), arg.substring(eq + 1));
+					}
+				} else if (arg.equals("-index")) {
+					fIndexFile = new File(args[++i]).getAbsoluteFile();
+				} else if (arg.equals("-base")) {
+					fBaseDirectory = new File(args[++i]).getAbsoluteFile();
+				} else if (arg.equals("-stats")) {
+					fStatisticsFile = new File(args[++i]);
+				} else if (arg.equals("-workers")) {
+					fWorkerCount = Integer.parseInt(args[++i]);
+				} else if (arg.equals("-full")) {
+					fFullIndexer = true;
+				} else if (arg.equals("-rebuild")) {
+					fRebuild = true;
+				} else if (arg.equals("-all")) {
+					fIndexAllFiles = true;
+				} else if (arg.equals("-deferBodies")) {
+					fDeferFunctionBodies = true;
+				} else if (arg.equals("-compactAST")) {
+					fCompactAST = true;
+				} else if (arg.equals("-parallelResolution")) {
+					fParallelNameResolution = true;
+				} else if (arg.equals("-profile")) {
+					fProfiledFileCount = Integer.parseInt(args[++i]);
+				} else if (arg.equals("-verbose")) {
+					fVerbose = true;
+				} else if (arg.startsWith("-")) {
+					return false;
+				} else {
+					fInputs.add(arg);
+				}
+			}
+		} catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+			return false;
+		}
+		return fIndexFile != null && !fInputs.isEmpty();
+	}
+
+	private void run() throws CoreException, IOException {
+		final IScannerInfo scannerInfo = new ExtendedScannerInfo(fDefinedSymbols,
+				fIncludePaths.toArray(new String[fIncludePaths.size()]));
+		IStandaloneScannerInfoProvider scannerInfoProvider = new IStandaloneScannerInfoProvider() {
+			@Override
+			public IScannerInfo getScannerInformation(String path) {
+				return scannerInfo;
+			}
+
+			@Override
+			public IScannerInfo getDefaultScannerInformation(int linkageID) {
+				return scannerInfo;
+			}
+		};
+		ILanguageMapper mapper = file -> {
+			ILanguage language = GPPLanguage.getDefault();
+			if (file.endsWith(".c")) {
+				language = GCCLanguage.getDefault();
+			}
+			return language;
+		};
+		Map<String, IPDOMLinkageFactory> linkageFactories = new HashMap<>();
+		linkageFactories.put(ILinkage.C_LINKAGE_NAME, new PDOMCLinkageFactory());
+		linkageFactories.put(ILinkage.CPP_LINKAGE_NAME, new PDOMCPPLinkageFactory());
+		File base = fBaseDirectory;
+		if (base == null) {
+			base = new File("").getAbsoluteFile().toPath().getRoot().toFile();
+		}
+		URIRelativeLocationConverter converter = new URIRelativeLocationConverter(base.toURI());
+		FileEncodingRegistry encodings = new FileEncodingRegistry(InternalParserUtil.SYSTEM_DEFAULT_ENCODING);
+		IParserLogService log = fVerbose ? new StdoutLogService() : new NullLogService();
+
+		StandaloneIndexer indexer;
+		if (fFullIndexer) {
+			indexer = new StandaloneFullIndexer(fIndexFile, converter, linkageFactories, scannerInfoProvider,
+					encodings, mapper, log, new StandaloneIndexerFallbackReaderFactory());
+		} else {
+			indexer = new StandaloneFastIndexer(fIndexFile, converter, linkageFactories, scannerInfoProvider,
+					encodings, mapper, log);
+		}
+		indexer.setValidSourceUnitNames(SOURCE_EXTENSIONS);
+		indexer.setIndexAllFiles(fIndexAllFiles);
+		indexer.setWorkerCount(fWorkerCount);
+		indexer.setDeferFunctionBodiesInHeaders(fDeferFunctionBodies);
+		indexer.setCompactAST(fCompactAST);
+		indexer.setParallelNameResolution(fParallelNameResolution);
+		indexer.setProfiledFileCount(fProfiledFileCount);
+		indexer.setShowActivity(fVerbose);
+		indexer.setShowProblems(fVerbose);
+		indexer.setTraceStatistics(fVerbose);
+
+		List<String> files = collectFiles();
+		long start = System.currentTimeMillis();
+		if (fRebuild) {
+			indexer.rebuild(files, null);
+		} else {
+			indexer.update(files, null);
+		}
+		long time = System.currentTimeMillis() - start;
+
+		IWritableIndex index = indexer.getIndex();
+		Map<String, Object> statistics = createStatistics(indexer, files.size(), time);
+		WritablePDOM pdom = (WritablePDOM) index.getWritableFragment();
+		try {
+			pdom.acquireWriteLock(null);
+			try {
+				pdom.close();
+			} finally {
+				pdom.releaseWriteLock();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		statistics.put("indexSize", fIndexFile.length());
+		if (fStatisticsFile != null) {
+			try (Writer writer = new OutputStreamWriter(new FileOutputStream(fStatisticsFile),
+					StandardCharsets.UTF_8)) {
+				new GsonBuilder().setPrettyPrinting().create().toJson(statistics, writer);
+			}
+		}
+		System.out.println(String.format("Indexed %d of %d translation units in %d ms.",
+				statistics.get("sources"), files.size(), time));
+	}
+
+	/**
+	 * Collects the source files among the inputs, directories are searched recursively.
+	 */
+	private List<String> collectFiles() throws IOException {
+		List<String> files = new ArrayList<>();
+		for (String input : fInputs) {
+			Path path = Paths.get(input).toAbsolutePath();
+			if (Files.isDirectory(path)) {
+				try (Stream<Path> stream = Files.walk(path)) {
+					files.addAll(stream.filter(Files::isRegularFile).filter(p -> isSource(p.toString()))
+							.map(Path::toString).sorted().collect(Collectors.toList()));
+				}
+			} else {
+				files.add(path.toString());
+			}
+		}
+		return files;
+	}
+
+	private static boolean isSource(String file) {
+		int dot = file.lastIndexOf('.');
+		return dot >= 0 && SOURCE_EXTENSIONS.contains(file.substring(dot + 1));
+	}
+
+	private Map<String, Object> createStatistics(StandaloneIndexer indexer, int fileCount, long time) {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("indexer", fFullIndexer ? "full" : "fast");
+		result.put("mode", fRebuild ? "rebuild" : "update");
+		result.put("workers", fWorkerCount);
+		result.put("translationUnits", fileCount);
+		result.put("totalTime", time);
+		IndexerProgress progress = indexer.getProgressInformation();
+		if (progress != null) {
+			result.put("requestedFiles", progress.fRequestedFilesCount);
+			result.put("sources", progress.fCompletedSources);
+			result.put("headers", progress.fCompletedHeaders);
+			if (progress.fParsedFilesPerWorker != null) {
+				result.put("parsedFilesPerWorker", progress.fParsedFilesPerWorker);
+				result.put("parsingTimePerWorker", progress.fParsingTimePerWorker);
+			}
+		}
+		IndexerStatistics statistics = indexer.getStatistics();
+		if (statistics != null) {
+			result.put("parsingTime", statistics.fParsingTime);
+			result.put("resolutionTime", statistics.fResolutionTime);
+			result.put("indexUpdateTime", statistics.fAddToIndexTime);
+			result.put("declarations", statistics.fDeclarationCount);
+			result.put("references", statistics.fReferenceCount);
+			result.put("errors", statistics.fErrorCount);
+			result.put("problemBindings", statistics.fProblemBindingCount);
+			result.put("unresolvedIncludes", statistics.fUnresolvedIncludesCount);
+			result.put("preprocessorProblems", statistics.fPreprocessorProblemCount);
+			result.put("syntaxProblems", statistics.fSyntaxProblemsCount);
+			result.put("tooManyTokens", statistics.fTooManyTokensCount);
+			result.put("constexprEvaluationSteps", statistics.fConstexprEvaluationSteps);
+			result.put("constexprCacheHits", statistics.fConstexprCacheHits);
+			result.put("constexprCacheMisses", statistics.fConstexprCacheMisses);
+			result.put("overloadCacheHits", statistics.fOverloadCacheHits);
+			result.put("overloadCacheMisses", statistics.fOverloadCacheMisses);
+			result.put("templateInstanceCacheHits", statistics.fTemplateInstanceCacheHits);
+			result.put("templateInstanceCacheMisses", statistics.fTemplateInstanceCacheMisses);
+			result.put("deferredFunctionBodies", statistics.fDeferredFunctionBodies);
+			result.put("parsedDeferredFunctionBodies", statistics.fParsedDeferredFunctionBodies);
+			result.put("failedDeferredFunctionBodies", statistics.fFailedDeferredFunctionBodies);
+			result.put("deferredParsingTime", statistics.fDeferredParsingTime);
+			result.put("unparsedFunctionBodyTokens", statistics.fUnparsedFunctionBodyTokens);
+			if (statistics.fProfile != null) {
+				result.put("profile", createProfile(statistics.fProfile));
+				List<Map<String, Object>> slowestFiles = new ArrayList<>();
+				for (TranslationUnitProfile profile : statistics.getSlowestFiles()) {
+					slowestFiles.add(createProfile(profile));
+				}
+				result.put("slowestFiles", slowestFiles);
+			}
+		}
+		IWritableIndex index = indexer.getIndex();
+		result.put("cacheHits", index.getCacheHits());
+		result.put("cacheMisses", index.getCacheMisses());
+		return result;
+	}
+
+	private static Map<String, Object> createProfile(TranslationUnitProfile profile) {
+		Map<String, Object> result = new LinkedHashMap<>();
+		if (profile.fFilePath != null) {
+			result.put("file", profile.fFilePath);
+		}
+		result.put("totalTime", TranslationUnitProfile.toMillis(profile.getTotalTime()));
+		result.put("preprocessingTime", TranslationUnitProfile.toMillis(profile.fPreprocessingTime));
+		result.put("includeResolutionTime", TranslationUnitProfile.toMillis(profile.fIncludeResolutionTime));
+		result.put("macroExpansionTime", TranslationUnitProfile.toMillis(profile.fMacroExpansionTime));
+		result.put("parsingTime", TranslationUnitProfile.toMillis(profile.fParsingTime));
+		result.put("ambiguityResolutionTime", TranslationUnitProfile.toMillis(profile.fAmbiguityResolutionTime));
+		result.put("bindingResolutionTime", TranslationUnitProfile.toMillis(profile.fBindingResolutionTime));
+		result.put("indexUpdateTime", TranslationUnitProfile.toMillis(profile.fIndexWriteTime));
+		result.put("tokens", profile.fTokens);
+		result.put("includes", profile.fIncludes);
+		result.put("macroExpansions", profile.fMacroExpansions);
+		result.put("lookups", profile.fLookups);
+		result.put("instantiations", profile.fInstantiations);
+		result.put("indexWrites", profile.fIndexWrites);
+		return result;
+	}
+}
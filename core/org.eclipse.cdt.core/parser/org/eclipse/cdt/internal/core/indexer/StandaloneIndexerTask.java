@@ -22,9 +22,11 @@ import java.util.Iterator;
 
 import org.eclipse.cdt.core.dom.ILinkage;
 import org.eclipse.cdt.core.parser.IParserLogService;
+import org.eclipse.cdt.internal.core.dom.parser.TranslationUnitProfile;
 import org.eclipse.cdt.internal.core.index.IWritableIndex;
 import org.eclipse.cdt.internal.core.pdom.AbstractIndexerTask;
 import org.eclipse.cdt.internal.core.pdom.IndexerProgress;
+import org.eclipse.cdt.internal.core.pdom.IndexerStatistics;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -55,6 +57,11 @@ public abstract class StandaloneIndexerTask extends AbstractIndexerTask {
 		setShowActivity(fIndexer.getShowActivity());
 		setShowProblems(fIndexer.getShowProblems());
 		setSkipReferences(fIndexer.getSkipReferences());
+		setWorkerCount(fIndexer.getWorkerCount());
+		setDeferFunctionBodiesInHeaders(fIndexer.getDeferFunctionBodiesInHeaders());
+		setCompactAST(fIndexer.getCompactAST());
+		setParallelNameResolution(fIndexer.getParallelNameResolution());
+		setProfiledFileCount(fIndexer.getProfiledFileCount());
 
 		if (getIndexAllFiles()) {
 			setIndexFilesWithoutBuildConfiguration(true);
@@ -92,6 +99,13 @@ public abstract class StandaloneIndexerTask extends AbstractIndexerTask {
 		return super.getProgressInformation();
 	}
 
+	/**
+	 * Return the statistics gathered by the task.
+	 */
+	final public IndexerStatistics getStatistics() {
+		return fStatistics;
+	}
+
 	/**
 	 * Figures out whether all files (sources without config, headers not included)
 	 * should be parsed.
@@ -157,6 +171,12 @@ public abstract class StandaloneIndexerTask extends AbstractIndexerTask {
 						+ hits + " hits, " //$NON-NLS-1$
 						+ misses + "(" + nf.format(missPct) + ") misses."); //$NON-NLS-1$ //$NON-NLS-2$
 			}
+			if (fStatistics.fProfile != null) {
+				trace(name + " Profile: " + fStatistics.fProfile); //$NON-NLS-1$
+				for (TranslationUnitProfile profile : fStatistics.getSlowestFiles()) {
+					trace(name + " Profile: " + profile); //$NON-NLS-1$
+				}
+			}
 		}
 	}
 
@@ -62,6 +62,7 @@ import org.eclipse.cdt.core.parser.util.CharArrayObjectMap;
 import org.eclipse.cdt.core.parser.util.CharArraySet;
 import org.eclipse.cdt.core.parser.util.CharArrayUtils;
 import org.eclipse.cdt.internal.core.dom.IIncludeFileResolutionHeuristics;
+import org.eclipse.cdt.internal.core.dom.parser.TranslationUnitProfile;
 import org.eclipse.cdt.internal.core.parser.EmptyFilesProvider;
 import org.eclipse.cdt.internal.core.parser.IMacroDictionary;
 import org.eclipse.cdt.internal.core.parser.scanner.ExpressionEvaluator.EvalException;
@@ -307,6 +308,8 @@ public class CPreprocessor implements ILexerLog, IScanner, IAdaptable {
 	private char[] fExternIncludeGuard;
 	private Set<String> fTracedGuards;
 
+	private TranslationUnitProfile fProfile;
+
 	public CPreprocessor(FileContent fileContent, IScannerInfo info, ParserLanguage language, IParserLogService log,
 			IScannerExtensionConfiguration configuration, IncludeFileContentProvider readerFactory) {
 		Token.resetCounterFor(info);
@@ -402,6 +405,14 @@ public class CPreprocessor implements ILexerLog, IScanner, IAdaptable {
 		fLexOptions.fIncludeExportPatterns = patterns;
 	}
 
+	/**
+	 * Sets the profile in which the time spent for resolving includes and expanding macros is
+	 * recorded.
+	 */
+	public void setProfile(TranslationUnitProfile profile) {
+		fProfile = profile;
+	}
+
 	@Override
 	public void setContentAssistMode(int offset) {
 		fContentAssistLimit = offset;
@@ -1727,8 +1738,13 @@ public class CPreprocessor implements ILexerLog, IScanner, IAdaptable {
 		}
 
 		// Active include
+		final long start = fProfile != null ? System.nanoTime() : 0;
 		final InternalFileContent fi = findInclusion(includeDirective, userInclude, includeNext, getCurrentFilename(),
 				createCodeReaderTester);
+		if (fProfile != null) {
+			fProfile.fIncludeResolutionTime += System.nanoTime() - start;
+			fProfile.fIncludes++;
+		}
 		if (fi == null) {
 			// Unresolved active include
 			final int len = headerName.length + 2;
@@ -2203,7 +2219,12 @@ public class CPreprocessor implements ILexerLog, IScanner, IAdaptable {
 		final MacroExpander expander = withinExpansion
 				? new MacroExpander(this, fMacroDictionary, fLocationMap, fLexOptions)
 				: fMacroExpander;
+		final long start = fProfile != null ? System.nanoTime() : 0;
 		TokenList replacement = expander.expand(input, options, macro, identifier, contentAssist, fCurrentContext);
+		if (fProfile != null) {
+			fProfile.fMacroExpansionTime += System.nanoTime() - start;
+			fProfile.fMacroExpansions++;
+		}
 		final IASTName[] expansions = expander.clearImplicitExpansions();
 		final ImageLocationInfo[] ili = expander.clearImageLocationInfos();
 		final Token last = replacement.last();
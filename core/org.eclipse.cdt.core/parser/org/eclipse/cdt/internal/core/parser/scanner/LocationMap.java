@@ -53,6 +53,23 @@ import org.eclipse.cdt.internal.core.parser.scanner.Lexer.LexerOptions;
  * @since 5.0
  */
 public class LocationMap implements ILocationResolver {
+	/**
+	 * Receives the directives and comments of the preprocessor instead of the location map,
+	 * see {@link LocationMap#setStreamListener(IStreamListener)}.
+	 */
+	interface IStreamListener {
+		/**
+		 * Called for every directive, the offsets of the node are sequence numbers.
+		 */
+		void encounteredDirective(ASTPreprocessorNode directive);
+
+		/**
+		 * Called for every comment, the offsets are relative to the current file.
+		 */
+		void encounteredComment(String filePath, int offset, int endOffset, boolean isBlockComment,
+				AbstractCharArray input);
+	}
+
 	private final LexerOptions fLexerOptions;
 	private String fTranslationUnitPath;
 	private IASTTranslationUnit fTranslationUnit;
@@ -72,6 +89,7 @@ public class LocationMap implements ILocationResolver {
 	private List<ISkippedIndexedFilesListener> fSkippedFilesListeners = new ArrayList<>();
 	// Keyed by file location.
 	private Map<String, LocationCtxFile> fFileContexts;
+	private IStreamListener fStreamListener;
 
 	public LocationMap(LexerOptions lexOptions) {
 		fLexerOptions = lexOptions;
@@ -82,6 +100,23 @@ public class LocationMap implements ILocationResolver {
 		return fLexerOptions;
 	}
 
+	/**
+	 * Passes directives and comments to the given listener. With a listener the location map no
+	 * longer stores directives, comments, problems or macro references, it only keeps the contexts
+	 * needed to map sequence numbers to file locations.
+	 */
+	void setStreamListener(IStreamListener listener) {
+		fStreamListener = listener;
+	}
+
+	private void addDirective(ASTPreprocessorNode directive) {
+		if (fStreamListener != null) {
+			fStreamListener.encounteredDirective(directive);
+		} else {
+			fDirectives.add(directive);
+		}
+	}
+
 	public void registerPredefinedMacro(IMacroBinding macro) {
 		registerPredefinedMacro(macro, null, -1);
 	}
@@ -149,7 +184,7 @@ public class LocationMap implements ILocationResolver {
 		boolean exported = isExportedIncludeAt(endOffset);
 		final ASTInclusionStatement inclusionStatement = new ASTInclusionStatement(fTranslationUnit, startNumber,
 				nameNumber, nameEndNumber, endNumber, name, filename, userInclude, true, heuristic, exported, null);
-		fDirectives.add(inclusionStatement);
+		addDirective(inclusionStatement);
 		fCurrentContext = new LocationCtxFile((LocationCtxContainer) fCurrentContext, filename, buffer, startOffset,
 				endOffset, endNumber, inclusionStatement, isSource);
 		fLastChildInsertionOffset = 0;
@@ -217,7 +252,7 @@ public class LocationMap implements ILocationResolver {
 	}
 
 	private void addMacroReference(ASTPreprocessorName name) {
-		if (name != null) {
+		if (name != null && fStreamListener == null) {
 			fMacroReferences.add(name);
 		}
 	}
@@ -257,7 +292,7 @@ public class LocationMap implements ILocationResolver {
 		endOffset = getSequenceNumberForOffset(endOffset);
 		final ASTInclusionStatement inc = new ASTInclusionStatement(fTranslationUnit, startOffset, nameOffset,
 				nameEndOffset, endOffset, name, filename, userInclude, active, heuristic, exported, nominationDelegate);
-		fDirectives.add(inc);
+		addDirective(inc);
 		return inc;
 	}
 
@@ -277,7 +312,6 @@ public class LocationMap implements ILocationResolver {
 	}
 
 	public void encounteredComment(int offset, int endOffset, boolean isBlockComment, AbstractCharArray input) {
-		ASTComment comment = new ASTComment(fTranslationUnit, getCurrentFilePath(), offset, endOffset, isBlockComment);
 		if (fLexerOptions.fIncludeExportPatterns != null && fCurrentContext instanceof LocationCtxFile) {
 			CharSequence text = getTrimmedCommentText(input.subSequence(offset, endOffset), isBlockComment);
 			IncludeExportPatterns patterns = fLexerOptions.fIncludeExportPatterns;
@@ -292,7 +326,11 @@ public class LocationMap implements ILocationResolver {
 				((LocationCtxFile) fCurrentContext).setInsideIncludeExportBlock(false);
 			}
 		}
-		fComments.add(comment);
+		if (fStreamListener != null) {
+			fStreamListener.encounteredComment(getCurrentFilePath(), offset, endOffset, isBlockComment, input);
+		} else {
+			fComments.add(new ASTComment(fTranslationUnit, getCurrentFilePath(), offset, endOffset, isBlockComment));
+		}
 	}
 
 	private CharSequence getTrimmedCommentText(CharSequence comment, boolean isBlockComment) {
@@ -312,6 +350,8 @@ public class LocationMap implements ILocationResolver {
 	}
 
 	public void encounterProblem(int id, char[] arg, int offset, int endOffset) {
+		if (fStreamListener != null)
+			return;
 		offset = getSequenceNumberForOffset(offset);
 		endOffset = getSequenceNumberForOffset(endOffset);
 		ASTProblem problem = new ASTProblem(fTranslationUnit, IASTTranslationUnit.SCANNER_PROBLEM, id, arg, false,
@@ -323,7 +363,7 @@ public class LocationMap implements ILocationResolver {
 		startOffset = getSequenceNumberForOffset(startOffset);
 		endOffset = getSequenceNumberForOffset(endOffset);
 		final ASTElse astElse = new ASTElse(fTranslationUnit, startOffset, endOffset, isActive);
-		fDirectives.add(astElse);
+		addDirective(astElse);
 		return astElse;
 	}
 
@@ -334,7 +374,7 @@ public class LocationMap implements ILocationResolver {
 		condEndOffset = getSequenceNumberForOffset(condEndOffset);
 		// compatible with 4.0: endOffset= getSequenceNumberForOffset(endOffset);
 		final ASTElif elif = new ASTElif(fTranslationUnit, startOffset, condOffset, condEndOffset, taken);
-		fDirectives.add(elif);
+		addDirective(elif);
 
 		for (IASTName element : macrosInDefinedExpression) {
 			ASTMacroReferenceName name = (ASTMacroReferenceName) element;
@@ -349,7 +389,7 @@ public class LocationMap implements ILocationResolver {
 		startOffset = getSequenceNumberForOffset(startOffset);
 		endOffset = getSequenceNumberForOffset(endOffset);
 		final ASTEndif stmt = new ASTEndif(fTranslationUnit, startOffset, endOffset);
-		fDirectives.add(stmt);
+		addDirective(stmt);
 		return stmt;
 	}
 
@@ -358,7 +398,7 @@ public class LocationMap implements ILocationResolver {
 		condOffset = getSequenceNumberForOffset(condOffset);
 		condEndOffset = getSequenceNumberForOffset(condEndOffset);
 		// not using endOffset, compatible with 4.0: endOffset= getSequenceNumberForOffset(endOffset);
-		fDirectives.add(new ASTError(fTranslationUnit, startOffset, condOffset, condEndOffset));
+		addDirective(new ASTError(fTranslationUnit, startOffset, condOffset, condEndOffset));
 	}
 
 	public void encounterPoundPragma(int startOffset, int condOffset, int condEndOffset, int endOffset) {
@@ -366,11 +406,11 @@ public class LocationMap implements ILocationResolver {
 		condOffset = getSequenceNumberForOffset(condOffset);
 		condEndOffset = getSequenceNumberForOffset(condEndOffset);
 		// not using endOffset, compatible with 4.0: endOffset= getSequenceNumberForOffset(endOffset);
-		fDirectives.add(new ASTPragma(fTranslationUnit, startOffset, condOffset, condEndOffset));
+		addDirective(new ASTPragma(fTranslationUnit, startOffset, condOffset, condEndOffset));
 	}
 
 	public void encounterPragmaOperator(int startNumber, int condNumber, int condEndNumber, int endNumber) {
-		fDirectives.add(new ASTPragmaOperator(fTranslationUnit, startNumber, condNumber, condEndNumber, endNumber));
+		addDirective(new ASTPragmaOperator(fTranslationUnit, startNumber, condNumber, condEndNumber, endNumber));
 	}
 
 	public ASTIfdef encounterPoundIfdef(int startOffset, int condOffset, int condEndOffset, int endOffset,
@@ -380,7 +420,7 @@ public class LocationMap implements ILocationResolver {
 		condEndOffset = getSequenceNumberForOffset(condEndOffset);
 		// not using endOffset, compatible with 4.0: endOffset= getSequenceNumberForOffset(endOffset);
 		final ASTIfdef ifdef = new ASTIfdef(fTranslationUnit, startOffset, condOffset, condEndOffset, taken, macro);
-		fDirectives.add(ifdef);
+		addDirective(ifdef);
 		addMacroReference(ifdef.getMacroReference());
 		return ifdef;
 	}
@@ -392,7 +432,7 @@ public class LocationMap implements ILocationResolver {
 		condEndOffset = getSequenceNumberForOffset(condEndOffset);
 		// not using endOffset, compatible with 4.0: endOffset= getSequenceNumberForOffset(endOffset);
 		final ASTIfndef ifndef = new ASTIfndef(fTranslationUnit, startOffset, condOffset, condEndOffset, taken, macro);
-		fDirectives.add(ifndef);
+		addDirective(ifndef);
 		addMacroReference(ifndef.getMacroReference());
 		return ifndef;
 	}
@@ -404,7 +444,7 @@ public class LocationMap implements ILocationResolver {
 		condEndOffset = getSequenceNumberForOffset(condEndOffset);
 		// not using endOffset, compatible with 4.0: endOffset= getSequenceNumberForOffset(endOffset);
 		final ASTIf astif = new ASTIf(fTranslationUnit, startOffset, condOffset, condEndOffset, taken);
-		fDirectives.add(astif);
+		addDirective(astif);
 		for (IASTName element : macrosInDefinedExpression) {
 			ASTMacroReferenceName name = (ASTMacroReferenceName) element;
 			name.setParent(astif);
@@ -429,7 +469,7 @@ public class LocationMap implements ILocationResolver {
 			astMacro = new ASTFunctionStyleMacroDefinition(fTranslationUnit, macrodef, startOffset, nameOffset,
 					nameEndOffset, expansionOffset, endOffset, isActive);
 		}
-		fDirectives.add(astMacro);
+		addDirective(astMacro);
 	}
 
 	public void encounterPoundUndef(IMacroBinding definition, int startOffset, int nameOffset, int nameEndOffset,
@@ -440,7 +480,7 @@ public class LocationMap implements ILocationResolver {
 		// not using endOffset, compatible with 4.0: endOffset= getSequenceNumberForOffset(endOffset);
 		final ASTUndef undef = new ASTUndef(fTranslationUnit, name, startOffset, nameOffset, nameEndOffset, definition,
 				isActive);
-		fDirectives.add(undef);
+		addDirective(undef);
 		addMacroReference(undef.getMacroName());
 	}
 
@@ -452,6 +492,116 @@ public class LocationMap implements ILocationResolver {
 		}
 	}
 
+	/**
+	 * Moves the preprocessor nodes to another translation unit, used when this location map
+	 * replaces the one of an existing AST. The translation unit still needs to be set as the
+	 * root node.
+	 */
+	public void moveNodesTo(IASTTranslationUnit root) {
+		final IASTTranslationUnit oldRoot = fTranslationUnit;
+		fSkippedFilesListeners.remove(oldRoot);
+		fTranslationUnit = null;
+		moveNodes(fDirectives, oldRoot, root);
+		moveNodes(fProblems, oldRoot, root);
+		moveNodes(fComments, oldRoot, root);
+		moveNodes(fBuiltinMacros, oldRoot, root);
+		moveNodes(fMacroReferences, oldRoot, root);
+	}
+
+	private static void moveNodes(List<? extends ASTNode> nodes, IASTNode oldRoot, IASTNode root) {
+		for (IASTNode node : nodes) {
+			IASTNode child = node;
+			IASTNode parent = child.getParent();
+			while (parent != null && parent != oldRoot) {
+				child = parent;
+				parent = child.getParent();
+			}
+			if (parent != null) {
+				child.setParent(root);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether this location map, computed for a modified version of the file of the given
+	 * location map, is the same outside of a range of the file that contains the modification.
+	 * Inclusions, macro expansions and directives following the range need to be shifted by the
+	 * given deltas.
+	 *
+	 * @param other the location map computed for the original version of the file.
+	 * @param fileOffset the start of the range in the original file.
+	 * @param fileEndOffset the end of the range in the original file.
+	 * @param sequenceNumber the sequence number for the start of the range.
+	 * @param sequenceEndNumber the sequence number for the end of the range in the given map.
+	 * @param fileDelta the change of the length of the file.
+	 * @param sequenceDelta the change of the sequence numbers following the range.
+	 */
+	public boolean isEqualOutsideOf(LocationMap other, int fileOffset, int fileEndOffset, int sequenceNumber,
+			int sequenceEndNumber, int fileDelta, int sequenceDelta) {
+		if (!fRootContext.getFilePath().equals(other.fRootContext.getFilePath()))
+			return false;
+
+		List<LocationCtx> children = getChildrenOutsideOf(fRootContext, fileOffset, fileEndOffset + fileDelta);
+		List<LocationCtx> otherChildren = getChildrenOutsideOf(other.fRootContext, fileOffset, fileEndOffset);
+		if (children == null || otherChildren == null || children.size() != otherChildren.size())
+			return false;
+		for (int i = 0; i < children.size(); i++) {
+			final LocationCtx ctx = children.get(i);
+			final LocationCtx otherCtx = otherChildren.get(i);
+			final boolean behind = otherCtx.fOffsetInParent >= fileEndOffset;
+			final int fd = behind ? fileDelta : 0;
+			final int sd = behind ? sequenceDelta : 0;
+			if (ctx.getClass() != otherCtx.getClass() || ctx.fOffsetInParent != otherCtx.fOffsetInParent + fd
+					|| ctx.fEndOffsetInParent != otherCtx.fEndOffsetInParent + fd
+					|| ctx.fSequenceNumber != otherCtx.fSequenceNumber + sd
+					|| ctx.getSequenceLength() != otherCtx.getSequenceLength()) {
+				return false;
+			}
+		}
+
+		if (fDirectives.size() != other.fDirectives.size())
+			return false;
+		for (int i = 0; i < fDirectives.size(); i++) {
+			final ASTPreprocessorNode directive = fDirectives.get(i);
+			final ASTPreprocessorNode otherDirective = other.fDirectives.get(i);
+			final int offset = otherDirective.getOffset();
+			if (offset >= sequenceNumber && offset < sequenceEndNumber)
+				return false;
+			final int sd = offset >= sequenceEndNumber ? sequenceDelta : 0;
+			if (directive.getClass() != otherDirective.getClass() || directive.getOffset() != offset + sd
+					|| directive.getLength() != otherDirective.getLength()) {
+				return false;
+			}
+			if (directive instanceof ASTInclusionStatement) {
+				final ASTInclusionStatement include = (ASTInclusionStatement) directive;
+				final ASTInclusionStatement otherInclude = (ASTInclusionStatement) otherDirective;
+				if (!include.getPath().equals(otherInclude.getPath())
+						|| include.isResolved() != otherInclude.isResolved()
+						|| include.createsAST() != otherInclude.createsAST()
+						|| include.getIncludedFileContentsHash() != otherInclude.getIncludedFileContentsHash()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the children of the context that do not overlap with the given range, or
+	 * {@code null} if there is a child other than a macro expansion within the range.
+	 */
+	private static List<LocationCtx> getChildrenOutsideOf(LocationCtxContainer ctx, int offset, int endOffset) {
+		List<LocationCtx> result = new ArrayList<>();
+		for (LocationCtx child : ctx.getChildren()) {
+			if (child.fEndOffsetInParent <= offset || child.fOffsetInParent >= endOffset) {
+				result.add(child);
+			} else if (!(child instanceof LocationCtxMacroExpansion)) {
+				return null;
+			}
+		}
+		return result;
+	}
+
 	@Override
 	public String getTranslationUnitPath() {
 		return fTranslationUnitPath;
@@ -15,7 +15,6 @@ package org.eclipse.cdt.internal.core.parser.scanner;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.BitSet;
 import java.util.IdentityHashMap;
 
 import org.eclipse.cdt.core.dom.ast.IASTName;
@@ -38,6 +37,49 @@ public class MacroExpander {
 	private static final class AbortMacroExpansionException extends Exception {
 	}
 
+	/**
+	 * Describes how the parameters of a function-style macro are used in its replacement list.
+	 * Computed once per macro and reused for all of its expansions.
+	 */
+	static final class ParameterUsage {
+		// Number of uses of each parameter that are replaced by the macro-expanded argument.
+		final int[] fExpanded;
+		// Number of uses of each parameter as an operand of a token paste.
+		final int[] fPasted;
+		// Number of uses of each parameter as an operand of a stringify operation.
+		final int[] fStringified;
+
+		ParameterUsage(int paramCount) {
+			fExpanded = new int[paramCount];
+			fPasted = new int[paramCount];
+			fStringified = new int[paramCount];
+		}
+
+		boolean needsCopy(int idx) {
+			return fPasted[idx] + fStringified[idx] > 0;
+		}
+
+		boolean needsExpansion(int idx) {
+			return fExpanded[idx] > 0;
+		}
+
+		/**
+		 * Returns whether the macro-expanded argument is consumed by a single use, such that it
+		 * can be moved to the result without being copied.
+		 */
+		boolean isExpandedArgConsumedOnce(int idx) {
+			return fExpanded[idx] == 1;
+		}
+
+		/**
+		 * Returns whether the copy of the argument is consumed by a single token paste, such that it
+		 * can be moved to the result without being copied again.
+		 */
+		boolean isCopiedArgConsumedOnce(int idx) {
+			return fPasted[idx] == 1 && fStringified[idx] == 0;
+		}
+	}
+
 	private static final int ORIGIN = OffsetLimitReachedException.ORIGIN_MACRO_EXPANSION;
 	private static final TokenList EMPTY_TOKEN_LIST = new TokenList();
 
@@ -265,7 +307,7 @@ public class MacroExpander {
 		if (macro.isFunctionStyle()) {
 			final int paramCount = macro.getParameterPlaceholderList().length;
 			final TokenSource[] argInputs = new TokenSource[paramCount];
-			final BitSet paramUsage = getParamUsage(macro);
+			final ParameterUsage paramUsage = getParamUsage((FunctionStyleMacro) macro);
 			if (tracker != null) {
 				tracker.startFunctionStyleMacro(lastConsumed.clone());
 			}
@@ -292,10 +334,11 @@ public class MacroExpander {
 
 			TokenList[] clonedArgs = new TokenList[paramCount];
 			TokenList[] expandedArgs = new TokenList[paramCount];
+			boolean processArgs = true;
 			for (int i = 0; i < paramCount; i++) {
 				final TokenSource argInput = argInputs[i];
-				final boolean needCopy = paramUsage.get(2 * i);
-				final boolean needExpansion = paramUsage.get(2 * i + 1);
+				final boolean needCopy = processArgs && paramUsage.needsCopy(i);
+				final boolean needExpansion = processArgs && paramUsage.needsExpansion(i);
 				clonedArgs[i] = needCopy ? argInput.cloneTokens() : EMPTY_TOKEN_LIST;
 				expandedArgs[i] = needExpansion ? expandAll(argInput, forbidden, false, tracker) : EMPTY_TOKEN_LIST;
 				if (!needExpansion) {
@@ -306,21 +349,22 @@ public class MacroExpander {
 					tracker.setExpandedMacroArgument(needExpansion ? expandedArgs[i] : null);
 					// make sure that the trailing arguments do not get expanded.
 					if (tracker.isDone()) {
-						paramUsage.clear();
+						processArgs = false;
 					}
 				}
 			}
 			if (tracker == null) {
-				replaceArgs(macro, clonedArgs, expandedArgs, result);
+				// The argument lists are not referenced elsewhere and can be consumed.
+				replaceArgs(macro, clonedArgs, expandedArgs, paramUsage, result);
 			} else {
 				if (tracker.isRequestedStep()) {
 					TokenList replacement = new TokenList();
-					replaceArgs(macro, clonedArgs, expandedArgs, replacement);
+					replaceArgs(macro, clonedArgs, expandedArgs, null, replacement);
 					tracker.storeFunctionStyleMacroReplacement(macro, replacement, result);
 				} else if (tracker.isDone()) {
 					tracker.appendFunctionStyleMacro(result);
 				} else {
-					replaceArgs(macro, clonedArgs, expandedArgs, result);
+					replaceArgs(macro, clonedArgs, expandedArgs, null, result);
 				}
 				tracker.endFunctionStyleMacro();
 			}
@@ -605,8 +649,14 @@ public class MacroExpander {
 		fLog.handleProblem(problemID, arg, fStartOffset, fEndOffset);
 	}
 
-	private void replaceArgs(PreprocessorMacro macro, TokenList[] args, TokenList[] expandedArgs, TokenList result) {
-		TokenList replacement = clone(macro.getTokens(fDefinitionParser, fLexOptions, this));
+	/**
+	 * Appends the replacement list of the macro with the arguments substituted to the result. The tokens
+	 * of the replacement list are copied as they are added to the result. The argument lists are copied,
+	 * too, unless a parameter usage is given and an argument list is used only once.
+	 */
+	private void replaceArgs(PreprocessorMacro macro, TokenList[] args, TokenList[] expandedArgs,
+			ParameterUsage consumableArgs, TokenList result) {
+		TokenList replacement = macro.getTokens(fDefinitionParser, fLexOptions, this);
 
 		Token l = null;
 		Token n;
@@ -620,14 +670,14 @@ public class MacroExpander {
 				if (idx < args.length) { // be defensive
 					addSpacemarker(l, t, result); // start argument replacement
 					if (isKind(n, IToken.tPOUNDPOUND)) {
-						TokenList arg = clone(args[idx]);
+						TokenList arg = copiedArg(args, idx, consumableArgs);
 						pasteArg1 = arg.last();
 						if (pasteArg1 != null) {
 							result.appendAllButLast(arg);
 							addSpacemarker(result.last(), pasteArg1, result); // start token paste
 						}
 					} else {
-						TokenList arg = clone(expandedArgs[idx]);
+						TokenList arg = expandedArg(expandedArgs, idx, consumableArgs);
 						result.appendAll(arg);
 						addSpacemarker(t, n, result); // end argument replacement
 					}
@@ -670,7 +720,7 @@ public class MacroExpander {
 						TokenList arg;
 						idx = ((TokenParameterReference) n).getIndex();
 						if (idx < args.length) { // be defensive
-							arg = clone(args[idx]);
+							arg = copiedArg(args, idx, consumableArgs);
 							pasteArg2 = arg.first();
 							if (pasteArg2 != null && arg.first() != arg.last()) {
 								spaceDef0 = pasteArg2;
@@ -681,7 +731,7 @@ public class MacroExpander {
 						}
 					} else {
 						idx = -1;
-						pasteArg2 = n;
+						pasteArg2 = n.clone();
 					}
 
 					t = n;
@@ -737,12 +787,12 @@ public class MacroExpander {
 						if (idx == args.length - 1 && macro.hasVarArgs() != FunctionStyleMacro.NO_VAARGS
 								&& !isKind(nn.getNext(), IToken.tPOUNDPOUND)) {
 							final Token nnn = (Token) nn.getNext();
-							TokenList arg = clone(expandedArgs[idx]);
+							TokenList arg = expandedArg(expandedArgs, idx, consumableArgs);
 							if (arg.isEmpty()) {
 								addSpacemarker(l, t, result);
 								addSpacemarker(nn, nnn, result);
 							} else {
-								result.append(t);
+								result.append(t.clone());
 								addSpacemarker(t, n, result);
 								result.appendAll(arg);
 								addSpacemarker(nn, nnn, result);
@@ -754,30 +804,52 @@ public class MacroExpander {
 					}
 
 					addSpacemarker(l, t, result);
-					pasteArg1 = t;
+					pasteArg1 = t.clone();
 				} else {
-					result.append(t);
+					result.append(t.clone());
 				}
 				break;
 
 			default:
 				if (isKind(n, IToken.tPOUNDPOUND)) {
 					addSpacemarker(l, t, result); // start token paste
-					pasteArg1 = t;
+					pasteArg1 = t.clone();
 				} else {
-					result.append(t);
+					result.append(t.clone());
 				}
 				break;
 			}
 		}
 	}
 
+	private TokenList copiedArg(TokenList[] args, int idx, ParameterUsage consumableArgs) {
+		if (consumableArgs != null && consumableArgs.isCopiedArgConsumedOnce(idx))
+			return args[idx];
+		return clone(args[idx]);
+	}
+
+	private TokenList expandedArg(TokenList[] expandedArgs, int idx, ParameterUsage consumableArgs) {
+		if (consumableArgs != null && consumableArgs.isExpandedArgConsumedOnce(idx))
+			return expandedArgs[idx];
+		return clone(expandedArgs[idx]);
+	}
+
 	private boolean isKind(final IToken t, final int kind) {
 		return t != null && t.getType() == kind;
 	}
 
-	private BitSet getParamUsage(PreprocessorMacro macro) {
-		final BitSet result = new BitSet();
+	private ParameterUsage getParamUsage(FunctionStyleMacro macro) {
+		ParameterUsage result = macro.fParameterUsage;
+		if (result == null) {
+			result = computeParamUsage(macro);
+			macro.fParameterUsage = result;
+		}
+		return result;
+	}
+
+	private ParameterUsage computeParamUsage(FunctionStyleMacro macro) {
+		final int paramCount = macro.getParameterPlaceholderList().length;
+		final ParameterUsage result = new ParameterUsage(paramCount);
 		final TokenList replacement = macro.getTokens(fDefinitionParser, fLexOptions, this);
 
 		Token l = null;
@@ -786,17 +858,22 @@ public class MacroExpander {
 			n = (Token) t.getNext();
 			switch (t.getType()) {
 			case CPreprocessor.tMACRO_PARAMETER:
-				int idx = 2 * ((TokenParameterReference) t).getIndex();
-				if (!isKind(n, IToken.tPOUNDPOUND)) {
-					idx++;
+				int idx = ((TokenParameterReference) t).getIndex();
+				if (idx < paramCount) {
+					if (isKind(n, IToken.tPOUNDPOUND)) {
+						result.fPasted[idx]++;
+					} else {
+						result.fExpanded[idx]++;
+					}
 				}
-				result.set(idx);
 				break;
 
 			case IToken.tPOUND:
 				if (isKind(n, CPreprocessor.tMACRO_PARAMETER)) {
 					idx = ((TokenParameterReference) n).getIndex();
-					result.set(2 * idx);
+					if (idx < paramCount) {
+						result.fStringified[idx]++;
+					}
 					t = n;
 					n = (Token) n.getNext();
 				}
@@ -805,13 +882,14 @@ public class MacroExpander {
 			case IToken.tPOUNDPOUND:
 				if (isKind(n, CPreprocessor.tMACRO_PARAMETER)) {
 					idx = ((TokenParameterReference) n).getIndex();
-					// gcc-extension
-					if (isKind(l, IToken.tCOMMA) && macro.hasVarArgs() != FunctionStyleMacro.NO_VAARGS
-							&& idx == macro.getParameterPlaceholderList().length - 1
-							&& !isKind(n.getNext(), IToken.tPOUNDPOUND)) {
-						result.set(2 * idx + 1);
-					} else {
-						result.set(2 * idx);
+					if (idx < paramCount) {
+						// gcc-extension
+						if (isKind(l, IToken.tCOMMA) && macro.hasVarArgs() != FunctionStyleMacro.NO_VAARGS
+								&& idx == paramCount - 1 && !isKind(n.getNext(), IToken.tPOUNDPOUND)) {
+							result.fExpanded[idx]++;
+						} else {
+							result.fPasted[idx]++;
+						}
 					}
 					t = n;
 					n = (Token) n.getNext();
@@ -823,7 +901,8 @@ public class MacroExpander {
 	}
 
 	private void objStyleTokenPaste(PreprocessorMacro macro, TokenList result) {
-		TokenList replacement = clone(macro.getTokens(fDefinitionParser, fLexOptions, this));
+		// The tokens of the replacement list are copied as they are added to the result.
+		TokenList replacement = macro.getTokens(fDefinitionParser, fLexOptions, this);
 
 		Token l = null;
 		Token n;
@@ -855,9 +934,9 @@ public class MacroExpander {
 			default:
 				if (isKind(n, IToken.tPOUNDPOUND)) {
 					addSpacemarker(l, t, result); // start token paste
-					pasteArg1 = t;
+					pasteArg1 = t.clone();
 				} else {
-					result.append(t);
+					result.append(t.clone());
 				}
 				break;
 			}
@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.parser.scanner;
+
+import java.util.ArrayDeque;
+
+import org.eclipse.cdt.core.parser.EndOfFileException;
+import org.eclipse.cdt.core.parser.IPreprocessorDirective;
+import org.eclipse.cdt.core.parser.IPreprocessorEventStream;
+import org.eclipse.cdt.core.parser.IScanner;
+import org.eclipse.cdt.core.parser.IToken;
+import org.eclipse.cdt.internal.core.parser.scanner.LocationMap.IStreamListener;
+
+/**
+ * Implementation of the preprocessor event stream on top of a scanner. Directives and comments are
+ * collected from the location map while the scanner fetches the next token.
+ */
+public class PreprocessorEventStream implements IPreprocessorEventStream, IStreamListener {
+	private static final class Event {
+		final int fKind;
+		final IToken fToken;
+		final ASTPreprocessorNode fDirective;
+		final String fFilePath;
+		final int fOffset;
+		final int fEndOffset;
+		final boolean fIsBlockComment;
+		final AbstractCharArray fInput;
+
+		Event(IToken token) {
+			this(TOKEN, token, null, null, 0, 0, false, null);
+		}
+
+		Event(ASTPreprocessorNode directive) {
+			this(DIRECTIVE, null, directive, null, 0, 0, false, null);
+		}
+
+		Event(String filePath, int offset, int endOffset, boolean isBlockComment, AbstractCharArray input) {
+			this(COMMENT, null, null, filePath, offset, endOffset, isBlockComment, input);
+		}
+
+		private Event(int kind, IToken token, ASTPreprocessorNode directive, String filePath, int offset,
+				int endOffset, boolean isBlockComment, AbstractCharArray input) {
+			fKind = kind;
+			fToken = token;
+			fDirective = directive;
+			fFilePath = filePath;
+			fOffset = offset;
+			fEndOffset = endOffset;
+			fIsBlockComment = isBlockComment;
+			fInput = input;
+		}
+	}
+
+	private static final Event END_EVENT = new Event(END, null, null, null, 0, 0, false, null);
+
+	private final IScanner fScanner;
+	private final LocationMap fLocationMap;
+	private final ArrayDeque<Event> fPendingEvents = new ArrayDeque<>();
+	private Event fCurrent;
+	private boolean fReachedEnd;
+	// Location of the current token or directive, computed on demand.
+	private ASTFileLocation fCurrentLocation;
+
+	public PreprocessorEventStream(IScanner scanner) {
+		if (!(scanner.getLocationResolver() instanceof LocationMap))
+			throw new IllegalArgumentException("Unsupported scanner: " + scanner.getClass().getName()); //$NON-NLS-1$
+		fScanner = scanner;
+		fLocationMap = (LocationMap) scanner.getLocationResolver();
+		fLocationMap.setStreamListener(this);
+		fScanner.setComputeImageLocations(false);
+	}
+
+	@Override
+	public void encounteredDirective(ASTPreprocessorNode directive) {
+		fPendingEvents.add(new Event(directive));
+	}
+
+	@Override
+	public void encounteredComment(String filePath, int offset, int endOffset, boolean isBlockComment,
+			AbstractCharArray input) {
+		fPendingEvents.add(new Event(filePath, offset, endOffset, isBlockComment, input));
+	}
+
+	@Override
+	public int next() {
+		fCurrentLocation = null;
+		if (fPendingEvents.isEmpty() && !fReachedEnd) {
+			try {
+				IToken token = fScanner.nextToken();
+				fPendingEvents.add(new Event(token));
+			} catch (EndOfFileException e) {
+				fReachedEnd = true;
+			}
+		}
+		fCurrent = fPendingEvents.isEmpty() ? END_EVENT : fPendingEvents.poll();
+		return fCurrent.fKind;
+	}
+
+	@Override
+	public int getEventKind() {
+		return fCurrent == null ? END : fCurrent.fKind;
+	}
+
+	@Override
+	public IToken getToken() {
+		return fCurrent == null ? null : fCurrent.fToken;
+	}
+
+	@Override
+	public int getDirectiveKind() {
+		ASTPreprocessorNode directive = getDirective();
+		if (directive instanceof ASTInclusionStatement)
+			return IPreprocessorDirective.ppInclude;
+		if (directive instanceof ASTMacroDefinition)
+			return IPreprocessorDirective.ppDefine;
+		if (directive instanceof ASTUndef)
+			return IPreprocessorDirective.ppUndef;
+		if (directive instanceof ASTIf)
+			return IPreprocessorDirective.ppIf;
+		if (directive instanceof ASTIfdef)
+			return IPreprocessorDirective.ppIfdef;
+		if (directive instanceof ASTIfndef)
+			return IPreprocessorDirective.ppIfndef;
+		if (directive instanceof ASTElif)
+			return IPreprocessorDirective.ppElif;
+		if (directive instanceof ASTElse)
+			return IPreprocessorDirective.ppElse;
+		if (directive instanceof ASTEndif)
+			return IPreprocessorDirective.ppEndif;
+		if (directive instanceof ASTPragma)
+			return IPreprocessorDirective.ppPragma;
+		if (directive instanceof ASTError)
+			return IPreprocessorDirective.ppError;
+		return IPreprocessorDirective.ppInvalid;
+	}
+
+	private ASTPreprocessorNode getDirective() {
+		return fCurrent == null ? null : fCurrent.fDirective;
+	}
+
+	@Override
+	public char[] getDirectiveName() {
+		ASTPreprocessorNode directive = getDirective();
+		if (directive instanceof ASTInclusionStatement)
+			return ((ASTInclusionStatement) directive).getName().toCharArray();
+		if (directive instanceof ASTMacroDefinition)
+			return ((ASTMacroDefinition) directive).getName().toCharArray();
+		if (directive instanceof ASTUndef)
+			return ((ASTUndef) directive).getMacroName().toCharArray();
+		if (directive instanceof ASTIfdef || directive instanceof ASTIfndef) {
+			// The condition of the directive is the name of the macro, which may not be defined.
+			ASTDirectiveWithCondition conditional = (ASTDirectiveWithCondition) directive;
+			int conditionEnd = conditional.getOffset() + conditional.getLength();
+			ASTFileLocation loc = fLocationMap.getMappedFileLocation(conditional.fConditionOffset,
+					conditionEnd - conditional.fConditionOffset);
+			return loc == null ? null : loc.getSource();
+		}
+		return null;
+	}
+
+	@Override
+	public String getIncludedFilePath() {
+		ASTPreprocessorNode directive = getDirective();
+		if (directive instanceof ASTInclusionStatement) {
+			ASTInclusionStatement include = (ASTInclusionStatement) directive;
+			return include.isResolved() ? include.getPath() : null;
+		}
+		return null;
+	}
+
+	@Override
+	public boolean isActive() {
+		ASTPreprocessorNode directive = getDirective();
+		return directive != null && directive.isActive();
+	}
+
+	@Override
+	public boolean isTaken() {
+		ASTPreprocessorNode directive = getDirective();
+		if (directive instanceof ASTElse)
+			return ((ASTElse) directive).taken();
+		if (directive instanceof ASTIf || directive instanceof ASTIfdef || directive instanceof ASTIfndef
+				|| directive instanceof ASTElif) {
+			return ((ASTDirectiveWithCondition) directive).taken();
+		}
+		return false;
+	}
+
+	@Override
+	public boolean isBlockComment() {
+		return fCurrent != null && fCurrent.fIsBlockComment;
+	}
+
+	@Override
+	public char[] getImage() {
+		if (fCurrent == null)
+			return null;
+		switch (fCurrent.fKind) {
+		case TOKEN:
+			return fCurrent.fToken.getCharImage();
+		case COMMENT:
+			char[] image = new char[fCurrent.fEndOffset - fCurrent.fOffset];
+			fCurrent.fInput.arraycopy(fCurrent.fOffset, image, 0, image.length);
+			return image;
+		}
+		return null;
+	}
+
+	@Override
+	public String getFilePath() {
+		if (fCurrent != null && fCurrent.fKind == COMMENT)
+			return fCurrent.fFilePath;
+		ASTFileLocation loc = getCurrentLocation();
+		return loc == null ? null : loc.getFileName();
+	}
+
+	@Override
+	public int getOffset() {
+		if (fCurrent != null && fCurrent.fKind == COMMENT)
+			return fCurrent.fOffset;
+		ASTFileLocation loc = getCurrentLocation();
+		return loc == null ? -1 : loc.getNodeOffset();
+	}
+
+	@Override
+	public int getLength() {
+		if (fCurrent != null && fCurrent.fKind == COMMENT)
+			return fCurrent.fEndOffset - fCurrent.fOffset;
+		ASTFileLocation loc = getCurrentLocation();
+		return loc == null ? 0 : loc.getNodeLength();
+	}
+
+	/**
+	 * Maps the sequence numbers of the current token or directive to a file location.
+	 */
+	private ASTFileLocation getCurrentLocation() {
+		if (fCurrentLocation == null && fCurrent != null) {
+			if (fCurrent.fToken != null) {
+				IToken token = fCurrent.fToken;
+				fCurrentLocation = fLocationMap.getMappedFileLocation(token.getOffset(), token.getLength());
+			} else if (fCurrent.fDirective != null) {
+				ASTPreprocessorNode directive = fCurrent.fDirective;
+				fCurrentLocation = fLocationMap.getMappedFileLocation(directive.getOffset(), directive.getLength());
+			}
+		}
+		return fCurrentLocation;
+	}
+
+	@Override
+	public void cancel() {
+		fScanner.cancel();
+	}
+}
@@ -193,6 +193,8 @@ class FunctionStyleMacro extends ObjectStyleMacro {
 	final private char[][] fParamList;
 	final private int fHasVarArgs;
 	private char[] fSignature;
+	// Computed by the macro expander from the expansion tokens, when the macro is expanded first.
+	MacroExpander.ParameterUsage fParameterUsage;
 
 	public FunctionStyleMacro(char[] name, char[][] paramList, int hasVarArgs, char[] expansion) {
 		this(name, paramList, hasVarArgs, 0, expansion.length, null, new CharArray(expansion));
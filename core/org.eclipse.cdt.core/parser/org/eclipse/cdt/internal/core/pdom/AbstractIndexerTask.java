@@ -33,14 +33,25 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.dom.ILinkage;
 import org.eclipse.cdt.core.dom.IPDOMIndexerTask;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.IASTComment;
 import org.eclipse.cdt.core.dom.ast.IASTFileLocation;
+import org.eclipse.cdt.core.dom.ast.IASTName;
 import org.eclipse.cdt.core.dom.ast.IASTPreprocessorIncludeStatement;
 import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
 import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit.IDependencyTree;
@@ -64,6 +75,11 @@ import org.eclipse.cdt.core.parser.ISignificantMacros;
 import org.eclipse.cdt.core.parser.IncludeExportPatterns;
 import org.eclipse.cdt.core.parser.IncludeFileContentProvider;
 import org.eclipse.cdt.internal.core.dom.IIncludeFileResolutionHeuristics;
+import org.eclipse.cdt.internal.core.dom.parser.ASTTranslationUnit;
+import org.eclipse.cdt.internal.core.dom.parser.TranslationUnitProfile;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPASTTranslationUnit;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.ParallelNameResolver;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.TemplateInstanceCache;
 import org.eclipse.cdt.internal.core.index.FileContentKey;
 import org.eclipse.cdt.internal.core.index.IIndexFragment;
 import org.eclipse.cdt.internal.core.index.IIndexFragmentFile;
@@ -81,6 +97,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
@@ -312,6 +329,58 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		}
 	}
 
+	/**
+	 * State of a thread of the worker pool used for parsing translation units in parallel.
+	 */
+	private static class ParseWorker {
+		final int fId;
+		InternalFileContentProvider fCodeReaderFactory;
+
+		ParseWorker(int id) {
+			fId = id;
+		}
+	}
+
+	/**
+	 * Result of parsing a translation unit on a worker thread. The AST is written to the index
+	 * by the thread running the indexer task.
+	 */
+	private static class ParseResult {
+		final Object fTu;
+		final AbstractLanguage fLanguage;
+		final IIndexFileLocation fLocation;
+		FileContent fCodeReader;
+		IASTTranslationUnit fAST;
+		Throwable fError;
+		long fParsingTime;
+
+		ParseResult(Object tu, AbstractLanguage language, IIndexFileLocation location) {
+			fTu = tu;
+			fLanguage = language;
+			fLocation = location;
+		}
+	}
+
+	/**
+	 * Resolves all names of an AST, so that the bindings are cached by the names before the AST is
+	 * handed over to the writer.
+	 */
+	private static class NameResolver extends ASTVisitor {
+		NameResolver() {
+			shouldVisitNames = true;
+		}
+
+		@Override
+		public int visit(IASTName name) {
+			try {
+				name.resolveBinding();
+			} catch (RuntimeException e) {
+				// The problem is reported when the names are resolved again for the index.
+			}
+			return PROCESS_CONTINUE;
+		}
+	}
+
 	protected enum MessageKind {
 		parsingFileTask, errorWhileParsing, tooManyIndexProblems
 	}
@@ -323,8 +392,10 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 	private Set<String> fHeadersToIndexAllVersions = Collections.emptySet();
 	private Pattern fPragmaPrivatePattern;
 	private List<LinkageTask> fRequestsPerLinkage = new ArrayList<>();
-	private Map<IIndexFile, IndexFileContent> fIndexContentCache = new LRUCache<>(500);
-	private Map<IIndexFileLocation, IIndexFragmentFile[]> fIndexFilesCache = new LRUCache<>(5000);
+	// The caches are synchronized, because they are accessed by the workers when parsing in parallel.
+	private Map<IIndexFile, IndexFileContent> fIndexContentCache = Collections.synchronizedMap(new LRUCache<>(500));
+	private Map<IIndexFileLocation, IIndexFragmentFile[]> fIndexFilesCache = Collections
+			.synchronizedMap(new LRUCache<>(5000));
 	private Map<IIndexFileLocation, LocationTask> fOneLinkageTasks = new HashMap<>();
 
 	private Object[] fFilesToUpdate;
@@ -339,6 +410,16 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 	private long fIncludedFileSizeLimit;
 	private InternalFileContentProvider fCodeReaderFactory;
 	private int fSwallowOutOfMemoryError = 5;
+	private int fWorkerCount = 1;
+	private boolean fDeferFunctionBodiesInHeaders;
+	private boolean fCompactAST;
+	private int fProfiledFileCount;
+	private boolean fParallelNameResolution;
+	private ExecutorService fWorkerPool;
+	private ForkJoinPool fNameResolutionPool;
+	private final AtomicInteger fNextWorkerId = new AtomicInteger();
+	private final ThreadLocal<ParseWorker> fWorkers = ThreadLocal
+			.withInitial(() -> new ParseWorker(fNextWorkerId.getAndIncrement()));
 	/**
 	 * A queue of urgent indexing tasks that contribute additional files to this task.
 	 * The files from the urgent tasks are indexed before all not yet processed files.
@@ -398,6 +479,71 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		fPragmaPrivatePattern = pattern;
 	}
 
+	/**
+	 * Sets the number of threads used for parsing source files. With more than one thread, source
+	 * files are parsed and their names resolved concurrently, while the results are written to
+	 * the index one after the other by the thread running this task. The default is a single
+	 * thread, which parses and writes each file in turn.
+	 */
+	public final void setWorkerCount(int count) {
+		fWorkerCount = Math.max(1, count);
+	}
+
+	public int getWorkerCount() {
+		return fWorkerCount;
+	}
+
+	/**
+	 * Sets whether the bodies of function definitions in headers are skipped while parsing. The
+	 * bodies are parsed when the references of their header are written to the index, headers that
+	 * are parsed but not updated in the index avoid the cost of parsing them.
+	 */
+	public final void setDeferFunctionBodiesInHeaders(boolean defer) {
+		fDeferFunctionBodiesInHeaders = defer;
+	}
+
+	public boolean getDeferFunctionBodiesInHeaders() {
+		return fDeferFunctionBodiesInHeaders;
+	}
+
+	/**
+	 * Sets whether the ASTs are created with a smaller memory footprint. The ASTs of the indexer are
+	 * discarded once they have been written to the index, they don't benefit from caching the
+	 * locations of their nodes.
+	 */
+	public final void setCompactAST(boolean compact) {
+		fCompactAST = compact;
+	}
+
+	public boolean getCompactAST() {
+		return fCompactAST;
+	}
+
+	/**
+	 * Sets the number of slowest files for which a profile of the time spent in preprocessing,
+	 * parsing, name resolution and index update is kept. The profiles of all files are summed up in
+	 * {@link IndexerStatistics#fProfile}. With {@code 0}, the default, no profiles are collected.
+	 */
+	public final void setProfiledFileCount(int count) {
+		fProfiledFileCount = count;
+	}
+
+	public int getProfiledFileCount() {
+		return fProfiledFileCount;
+	}
+
+	/**
+	 * Sets whether the names in the bodies of independent function definitions of a C++ AST are
+	 * resolved in parallel, before the AST is written to the index.
+	 */
+	public final void setParallelNameResolution(boolean parallel) {
+		fParallelNameResolution = parallel;
+	}
+
+	public boolean getParallelNameResolution() {
+		return fParallelNameResolution;
+	}
+
 	/**
 	 * @see IPDOMIndexerTask#acceptUrgentTask(IPDOMIndexerTask)
 	 */
@@ -506,6 +652,15 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		}
 	}
 
+	private final void reportWorkerThroughput(int worker, long parsingTime) {
+		synchronized (fInfo) {
+			if (fInfo.fParsedFilesPerWorker != null && worker < fInfo.fParsedFilesPerWorker.length) {
+				fInfo.fParsedFilesPerWorker[worker]++;
+				fInfo.fParsingTimePerWorker[worker] += parsingTime;
+			}
+		}
+	}
+
 	private final void reportFile(boolean wasCounted, UpdateKind kind) {
 		if (wasCounted) {
 			if (kind == UpdateKind.REQUIRED_SOURCE) {
@@ -544,6 +699,15 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 
 			if (getSkipReferences() == SKIP_ALL_REFERENCES) {
 				fASTOptions |= ILanguage.OPTION_SKIP_FUNCTION_BODIES;
+			} else if (fDeferFunctionBodiesInHeaders) {
+				fASTOptions |= ILanguage.OPTION_DEFER_FUNCTION_BODIES_IN_HEADERS;
+			}
+			if (fCompactAST) {
+				fASTOptions |= ILanguage.OPTION_COMPACT_AST;
+			}
+			if (fProfiledFileCount > 0) {
+				fASTOptions |= ILanguage.OPTION_COLLECT_PROFILE;
+				fStatistics.setSlowestFileCount(fProfiledFileCount);
 			}
 
 			fIndex.resetCacheCounters();
@@ -621,6 +785,9 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 					setResume(false, progress.split(1));
 				} finally {
 					fIndex.flush();
+					TemplateInstanceCache instanceCache = fIndex.getTemplateInstanceCache();
+					fStatistics.fTemplateInstanceCacheHits = instanceCache.getHits();
+					fStatistics.fTemplateInstanceCacheMisses = instanceCache.getMisses();
 				}
 			} catch (CoreException e) {
 				logException(e);
@@ -628,12 +795,47 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 				fIndex.releaseReadLock();
 			}
 		} finally {
+			if (fWorkerPool != null) {
+				fWorkerPool.shutdownNow();
+				fWorkerPool = null;
+			}
+			if (fNameResolutionPool != null) {
+				fNameResolutionPool.shutdownNow();
+				fNameResolutionPool = null;
+			}
 			synchronized (this) {
 				fTaskCompleted = true;
 			}
 		}
 	}
 
+	private ExecutorService getWorkerPool() {
+		if (fWorkerPool == null) {
+			final AtomicInteger threadCount = new AtomicInteger();
+			fWorkerPool = Executors.newFixedThreadPool(fWorkerCount, r -> {
+				Thread thread = new Thread(r, "CDT Indexer Worker " + threadCount.incrementAndGet()); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			synchronized (fInfo) {
+				fInfo.fParsedFilesPerWorker = new int[fWorkerCount];
+				fInfo.fParsingTimePerWorker = new long[fWorkerCount];
+			}
+		}
+		return fWorkerPool;
+	}
+
+	private synchronized ForkJoinPool getNameResolutionPool() {
+		if (fNameResolutionPool == null) {
+			fNameResolutionPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("CDT Indexer Name Resolution " + (thread.getPoolIndex() + 1)); //$NON-NLS-1$
+				return thread;
+			}, null, false);
+		}
+		return fNameResolutionPool;
+	}
+
 	private void setResume(boolean value, IProgressMonitor monitor) throws InterruptedException, CoreException {
 		fIndex.acquireWriteLock(monitor);
 		try {
@@ -897,12 +1099,17 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 				continue;
 
 			// First parse the required sources.
+			final List<IIndexFileLocation> requiredSources = fWorkerCount > 1 ? new ArrayList<>() : null;
 			for (Iterator<IIndexFileLocation> it = filesAtPriority.iterator(); it.hasNext();) {
 				IIndexFileLocation ifl = it.next();
 				LocationTask locTask = map.find(ifl);
 				if (locTask == null || locTask.isCompleted()) {
 					it.remove();
 				} else if (locTask.fKind == UpdateKind.REQUIRED_SOURCE) {
+					if (requiredSources != null) {
+						requiredSources.add(ifl);
+						continue;
+					}
 					if (hasUrgentTasks())
 						return;
 					final Object tu = locTask.fTu;
@@ -910,6 +1117,10 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 					parseFile(tu, getLanguage(tu, linkageID), ifl, scannerInfo, null, progress.split(1));
 				}
 			}
+			if (requiredSources != null && !requiredSources.isEmpty()) {
+				if (!parseSourcesInParallel(linkageID, map, requiredSources, progress))
+					return;
+			}
 
 			// Files with context.
 			for (Iterator<IIndexFileLocation> it = filesAtPriority.iterator(); it.hasNext();) {
@@ -979,6 +1190,179 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		}
 	}
 
+	/**
+	 * Parses source files in batches on the worker pool and writes the resulting ASTs to the index.
+	 * The results of a batch are written by the calling thread after all workers of the batch are
+	 * done, such that the workers never read from the index while it is modified. The workers rely
+	 * on the read lock of the calling thread, which does not block the writer.
+	 *
+	 * @return {@code false} if the parsing was interrupted by an urgent task.
+	 */
+	private boolean parseSourcesInParallel(int linkageID, LinkageTask map, List<IIndexFileLocation> sources,
+			SubMonitor progress) throws CoreException, InterruptedException {
+		final ExecutorService pool = getWorkerPool();
+		final int batchSize = 2 * fWorkerCount;
+		final List<Future<ParseResult>> batch = new ArrayList<>(batchSize);
+		for (int i = 0; i < sources.size(); i += batchSize) {
+			if (hasUrgentTasks())
+				return false;
+			batch.clear();
+			final AtomicBoolean cancelled = new AtomicBoolean();
+			for (IIndexFileLocation ifl : sources.subList(i, Math.min(i + batchSize, sources.size()))) {
+				LocationTask locTask = map.find(ifl);
+				if (locTask == null || locTask.isCompleted())
+					continue;
+				final Object tu = locTask.fTu;
+				final IScannerInfo scannerInfo = getScannerInfo(linkageID, tu);
+				final ParseResult result = new ParseResult(tu, getLanguage(tu, linkageID), ifl);
+				batch.add(pool.submit(() -> cancelled.get() ? null : parseInWorker(result, scannerInfo)));
+			}
+			final List<ParseResult> results = new ArrayList<>(batch.size());
+			try {
+				for (Future<ParseResult> future : batch) {
+					try {
+						results.add(future.get());
+					} catch (ExecutionException e) {
+						Throwable cause = e.getCause();
+						if (cause instanceof CoreException)
+							throw (CoreException) cause;
+						if (cause instanceof RuntimeException)
+							throw (RuntimeException) cause;
+						if (cause instanceof Error)
+							throw (Error) cause;
+						throw new CoreException(CCorePlugin.createStatus(cause.getMessage(), cause));
+					}
+				}
+			} finally {
+				if (results.size() < batch.size()) {
+					// The workers still running read from the index, they must be done before the caller
+					// releases its read lock.
+					cancelled.set(true);
+					awaitWorkers(batch.subList(results.size(), batch.size()));
+				}
+			}
+			// All workers of the batch are done, the index is not read while the results are written.
+			for (ParseResult result : results) {
+				writeParsedFile(result, progress.split(1));
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Waits for the given tasks to complete, even if the current thread is interrupted.
+	 */
+	private static void awaitWorkers(List<Future<ParseResult>> futures) {
+		boolean interrupted = false;
+		for (Future<ParseResult> future : futures) {
+			while (true) {
+				try {
+					future.get();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				} catch (ExecutionException | CancellationException e) {
+					break;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private ParseResult parseInWorker(ParseResult result, IScannerInfo scannerInfo) {
+		final ParseWorker worker = fWorkers.get();
+		final long start = System.currentTimeMillis();
+		try {
+			if (fShowActivity) {
+				trace("Indexer: parsing " + getLabel(result.fLocation).toOSString()); //$NON-NLS-1$
+			}
+			result.fCodeReader = fResolver.getCodeReader(result.fTu);
+			if (!exceedsSizeLimit(result.fCodeReader)) {
+				worker.fCodeReaderFactory = prepareFileContentProvider(worker.fCodeReaderFactory, result.fLanguage,
+						null);
+				result.fAST = createAST(result.fLanguage, result.fCodeReader, scannerInfo, worker.fCodeReaderFactory,
+						fASTOptions, new NullProgressMonitor());
+				if (result.fAST != null) {
+					resolveNames(result.fAST);
+				}
+			}
+		} catch (Throwable e) {
+			result.fAST = null;
+			result.fError = e;
+		}
+		result.fParsingTime = System.currentTimeMillis() - start;
+		reportWorkerThroughput(worker.fId, result.fParsingTime);
+		return result;
+	}
+
+	/**
+	 * Resolves all names of an AST, such that the bindings are cached by the names before the AST is
+	 * written to the index.
+	 */
+	private void resolveNames(IASTTranslationUnit ast) {
+		final long start = System.nanoTime();
+		if (fParallelNameResolution && ast instanceof CPPASTTranslationUnit) {
+			new ParallelNameResolver(getNameResolutionPool()).resolveNames((CPPASTTranslationUnit) ast);
+		} else {
+			ast.accept(new NameResolver());
+		}
+		if (ast instanceof ASTTranslationUnit) {
+			TranslationUnitProfile profile = ((ASTTranslationUnit) ast).getProfile();
+			if (profile != null) {
+				profile.fBindingResolutionTime += System.nanoTime() - start;
+			}
+		}
+	}
+
+	private void writeParsedFile(ParseResult result, IProgressMonitor monitor)
+			throws CoreException, InterruptedException {
+		SubMonitor progress = SubMonitor.convert(monitor, 11);
+		boolean resultCacheCleared = false;
+		IPath path = getLabel(result.fLocation);
+		Throwable th = result.fError;
+		fStatistics.fParsingTime += result.fParsingTime;
+		if (th == null) {
+			try {
+				if (result.fAST == null) {
+					++fStatistics.fTooManyTokensCount;
+				} else {
+					writeToIndex(result.fLanguage.getLinkageID(), result.fAST, result.fCodeReader, null,
+							progress.split(10));
+					resultCacheCleared = true; // The cache was cleared while writing to the index.
+				}
+				if (fShowActivity) {
+					trace("Indexer: processed " + path.toOSString() + " [" + result.fParsingTime + " ms parsing]"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				}
+			} catch (RuntimeException | StackOverflowError | CoreException | AssertionError e) {
+				th = e;
+			}
+		}
+		if (th instanceof OperationCanceledException
+				|| (th instanceof RuntimeException && th.getCause() instanceof DependsOnOutdatedFileException)) {
+			// Same as for sequential parsing, a source file depending on an outdated file is skipped.
+			th = null;
+		} else if (th instanceof OutOfMemoryError) {
+			if (--fSwallowOutOfMemoryError < 0)
+				throw (OutOfMemoryError) th;
+		} else if (th instanceof Error && !(th instanceof StackOverflowError || th instanceof AssertionError)) {
+			throw (Error) th;
+		}
+		if (th != null) {
+			swallowError(path, th);
+		}
+
+		if (!resultCacheCleared) {
+			fIndex.acquireWriteLock(progress.split(1));
+			try {
+				fIndex.clearResultCache();
+			} finally {
+				fIndex.releaseWriteLock();
+			}
+		}
+	}
+
 	private void parseVersionInContext(int linkageID, LinkageTask map, IIndexFileLocation ifl,
 			final FileVersionTask versionTask, Object tu, LinkedHashSet<IIndexFile> safeGuard, IProgressMonitor monitor)
 			throws CoreException, InterruptedException {
@@ -1104,6 +1488,9 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 			if (ast == null) {
 				++fStatistics.fTooManyTokensCount;
 			} else {
+				if (fParallelNameResolution) {
+					resolveNames(ast);
+				}
 				writeToIndex(lang.getLinkageID(), ast, codeReader, ctx, progress.split(10));
 				resultCacheCleared = true; // The cache was cleared while writing to the index.
 			}
@@ -1210,18 +1597,49 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 
 	private final IASTTranslationUnit createAST(AbstractLanguage language, FileContent codeReader,
 			IScannerInfo scanInfo, int options, FileContext ctx, IProgressMonitor monitor) throws CoreException {
-		if (codeReader == null) {
+		if (exceedsSizeLimit(codeReader)) {
 			return null;
 		}
+		fCodeReaderFactory = prepareFileContentProvider(fCodeReaderFactory, language, ctx);
+		return createAST(language, codeReader, scanInfo, fCodeReaderFactory, options, monitor);
+	}
+
+	private IASTTranslationUnit createAST(AbstractLanguage language, FileContent codeReader, IScannerInfo scanInfo,
+			InternalFileContentProvider fileContentProvider, int options, IProgressMonitor monitor)
+			throws CoreException {
+		IASTTranslationUnit ast = language.getASTTranslationUnit(codeReader, scanInfo, fileContentProvider, fIndex,
+				options, getLogService());
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		return ast;
+	}
+
+	/**
+	 * Returns {@code true} if the given file shall not be parsed, because it is missing or too large.
+	 */
+	private boolean exceedsSizeLimit(FileContent codeReader) {
+		if (codeReader == null) {
+			return true;
+		}
 		if (fTranslationUnitSizeLimit > 0
 				&& fResolver.getFileSize(codeReader.getFileLocation()) > fTranslationUnitSizeLimit) {
 			if (fShowActivity) {
 				trace("Indexer: Skipping large file " + codeReader.getFileLocation()); //$NON-NLS-1$
 			}
-			return null;
+			return true;
 		}
+		return false;
+	}
+
+	/**
+	 * Creates the file content provider on first use, or configures the given one for parsing
+	 * the next file.
+	 */
+	private InternalFileContentProvider prepareFileContentProvider(InternalFileContentProvider provider,
+			AbstractLanguage language, FileContext ctx) {
 		final IIndexFile[] ctx2header = ctx == null ? null : new IIndexFile[] { ctx.fContext, ctx.fOldFile };
-		if (fCodeReaderFactory == null) {
+		if (provider == null) {
 			InternalFileContentProvider fileContentProvider = createInternalFileContentProvider();
 			if (fIsFastIndexer) {
 				IndexBasedFileContentProvider ibfcp = new IndexBasedFileContentProvider(fIndex, fResolver,
@@ -1230,23 +1648,17 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 				ibfcp.setFileSizeLimit(fIncludedFileSizeLimit);
 				ibfcp.setHeadersToIndexAllVersions(fHeadersToIndexAllVersions);
 				ibfcp.setIndexAllHeaderVersions(fIndexAllHeaderVersions);
-				fCodeReaderFactory = ibfcp;
+				provider = ibfcp;
 			} else {
-				fCodeReaderFactory = fileContentProvider;
+				provider = fileContentProvider;
 			}
-			fCodeReaderFactory.setIncludeResolutionHeuristics(createIncludeHeuristics());
+			provider.setIncludeResolutionHeuristics(createIncludeHeuristics());
 		} else if (fIsFastIndexer) {
-			final IndexBasedFileContentProvider ibfcp = (IndexBasedFileContentProvider) fCodeReaderFactory;
+			final IndexBasedFileContentProvider ibfcp = (IndexBasedFileContentProvider) provider;
 			ibfcp.setContextToHeaderGap(ctx2header);
 			ibfcp.setLinkage(language.getLinkageID());
 		}
-
-		IASTTranslationUnit ast = language.getASTTranslationUnit(codeReader, scanInfo, fCodeReaderFactory, fIndex,
-				options, getLogService());
-		if (monitor.isCanceled()) {
-			throw new OperationCanceledException();
-		}
-		return ast;
+		return provider;
 	}
 
 	private InternalFileContentProvider createInternalFileContentProvider() {
@@ -1293,6 +1705,9 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 				data.fReplacementHeaders = extractReplacementHeaders(comments, progress.split(1));
 
 				addSymbols(data, storageLinkageID, ctx, progress.split(1));
+				if (ast instanceof ASTTranslationUnit && ((ASTTranslationUnit) ast).getProfile() != null) {
+					fStatistics.addProfile(((ASTTranslationUnit) ast).getProfile());
+				}
 
 				// Update task markers.
 				if (fTodoTaskUpdater != null) {
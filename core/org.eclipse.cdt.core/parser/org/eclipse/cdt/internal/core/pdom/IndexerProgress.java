@@ -19,6 +19,8 @@ public class IndexerProgress {
 	public int fPrimaryHeaderCount; // Headers parsed that were actually requested
 	public int fCompletedHeaders; // All headers including those found through inclusions
 	public int fTimeEstimate; // Fall-back for the time where no file-count is available
+	public int[] fParsedFilesPerWorker; // Files parsed by each worker thread, null when parsing sequentially
+	public long[] fParsingTimePerWorker; // Milliseconds spent parsing by each worker thread
 
 	public IndexerProgress() {
 	}
@@ -28,9 +30,25 @@ public class IndexerProgress {
 		fCompletedSources = info.fCompletedSources;
 		fCompletedHeaders = info.fCompletedHeaders;
 		fPrimaryHeaderCount = info.fPrimaryHeaderCount;
+		if (info.fParsedFilesPerWorker != null) {
+			fParsedFilesPerWorker = info.fParsedFilesPerWorker.clone();
+			fParsingTimePerWorker = info.fParsingTimePerWorker.clone();
+		}
 	}
 
 	public int getEstimatedTicks() {
 		return fRequestedFilesCount > 0 ? fRequestedFilesCount : fTimeEstimate;
 	}
+
+	/**
+	 * Returns the number of files parsed per second by the given worker thread, or {@code 0}
+	 * if the worker has not parsed any file, yet.
+	 */
+	public double getWorkerThroughput(int worker) {
+		if (fParsedFilesPerWorker == null || worker >= fParsedFilesPerWorker.length
+				|| fParsingTimePerWorker[worker] == 0) {
+			return 0;
+		}
+		return fParsedFilesPerWorker[worker] * 1000.0 / fParsingTimePerWorker[worker];
+	}
 }
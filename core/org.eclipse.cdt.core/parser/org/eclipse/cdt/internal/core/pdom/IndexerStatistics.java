@@ -14,6 +14,13 @@
 
 package org.eclipse.cdt.internal.core.pdom;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.eclipse.cdt.internal.core.dom.parser.TranslationUnitProfile;
+
 public class IndexerStatistics {
 	public int fResolutionTime;
 	public int fParsingTime;
@@ -26,4 +33,57 @@ public class IndexerStatistics {
 	public int fPreprocessorProblemCount = 0;
 	public int fSyntaxProblemsCount = 0;
 	public int fTooManyTokensCount = 0;
+	public int fConstexprCacheHits = 0;
+	public int fConstexprCacheMisses = 0;
+	public long fConstexprEvaluationSteps = 0;
+	public int fOverloadCacheHits = 0;
+	public int fOverloadCacheMisses = 0;
+	public long fTemplateInstanceCacheHits = 0;
+	public long fTemplateInstanceCacheMisses = 0;
+	public int fDeferredFunctionBodies = 0;
+	public int fParsedDeferredFunctionBodies = 0;
+	public int fFailedDeferredFunctionBodies = 0;
+	public long fUnparsedFunctionBodyTokens = 0;
+	public long fDeferredParsingTime = 0;
+
+	/**
+	 * The sum of the profiles of all translation units, or {@code null} if no profiles have been
+	 * collected.
+	 */
+	public TranslationUnitProfile fProfile;
+	private int fSlowestFileCount;
+	private PriorityQueue<TranslationUnitProfile> fSlowestFiles;
+
+	/**
+	 * Sets the number of slowest translation units for which the profiles are kept.
+	 */
+	public void setSlowestFileCount(int count) {
+		fSlowestFileCount = count;
+	}
+
+	public void addProfile(TranslationUnitProfile profile) {
+		if (fProfile == null) {
+			fProfile = new TranslationUnitProfile(null);
+			fSlowestFiles = new PriorityQueue<>(Comparator.comparingLong(TranslationUnitProfile::getTotalTime));
+		}
+		fProfile.add(profile);
+		if (fSlowestFileCount > 0) {
+			fSlowestFiles.add(profile);
+			if (fSlowestFiles.size() > fSlowestFileCount) {
+				fSlowestFiles.poll();
+			}
+		}
+	}
+
+	/**
+	 * Returns the profiles of the slowest translation units, the slowest one first.
+	 */
+	public List<TranslationUnitProfile> getSlowestFiles() {
+		List<TranslationUnitProfile> result = new ArrayList<>();
+		if (fSlowestFiles != null) {
+			result.addAll(fSlowestFiles);
+			result.sort(Comparator.comparingLong(TranslationUnitProfile::getTotalTime).reversed());
+		}
+		return result;
+	}
 }
@@ -311,10 +311,12 @@ public class PDOM extends PlatformObject implements IPDOM {
 	 *
 	 *  CDT 10.4 development
 	 *  220.0 - Changed marshalling of CPPBasicType to store new "from literal" flag, bug 573764
+	 *  221.0 - B-trees of bindings and macros store a prefix of the names with the records
+	 *  222.0 - Files store a bloom filter of their names
 	 */
-	private static final int MIN_SUPPORTED_VERSION = version(220, 0);
-	private static final int MAX_SUPPORTED_VERSION = version(220, Short.MAX_VALUE);
-	private static final int DEFAULT_VERSION = version(220, 0);
+	private static final int MIN_SUPPORTED_VERSION = version(222, 0);
+	private static final int MAX_SUPPORTED_VERSION = version(222, Short.MAX_VALUE);
+	private static final int DEFAULT_VERSION = version(222, 0);
 
 	private static int version(int major, int minor) {
 		return (major << 16) + minor;
@@ -353,7 +355,7 @@ public class PDOM extends PlatformObject implements IPDOM {
 	public static final int TAG_INDEX = Database.DATA_AREA + 20;
 	public static final int END = Database.DATA_AREA + 24;
 	static {
-		assert END <= Database.CHUNK_SIZE;
+		assert END <= Database.JOURNAL_EPOCH_OFFSET;
 	}
 
 	public static class ChangeEvent {
@@ -1129,8 +1131,10 @@ public class PDOM extends PlatformObject implements IPDOM {
 			CCorePlugin.log(e);
 		}
 		assert lockCount == -1;
-		if (!fEvent.isTrivial())
-			lastWriteAccess = System.currentTimeMillis();
+		if (!fEvent.isTrivial()) {
+			// Increase the time of the last write at least by one, it identifies a version of the index.
+			lastWriteAccess = Math.max(System.currentTimeMillis(), lastWriteAccess + 1);
+		}
 		final ChangeEvent event = fEvent;
 		fEvent = new ChangeEvent();
 		synchronized (mutex) {
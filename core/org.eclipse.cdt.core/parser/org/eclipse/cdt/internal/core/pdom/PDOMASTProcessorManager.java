@@ -18,6 +18,7 @@ import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
 import org.eclipse.cdt.core.index.IPDOMASTProcessor;
 import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.Platform;
 
 /**
@@ -31,11 +32,14 @@ public class PDOMASTProcessorManager {
 
 	private static final List<PDOMASTProcessorDesc> processors = new ArrayList<>();
 	static {
-		// Load the extensions
-		IConfigurationElement[] elements = Platform.getExtensionRegistry()
-				.getConfigurationElementsFor(CCorePlugin.PLUGIN_ID, EXTENSION_POINT);
-		for (IConfigurationElement element : elements)
-			processors.add(new PDOMASTProcessorDesc(element));
+		// Load the extensions, there are none when running without the platform (standalone indexer).
+		IExtensionRegistry registry = Platform.getExtensionRegistry();
+		if (registry != null) {
+			IConfigurationElement[] elements = registry.getConfigurationElementsFor(CCorePlugin.PLUGIN_ID,
+					EXTENSION_POINT);
+			for (IConfigurationElement element : elements)
+				processors.add(new PDOMASTProcessorDesc(element));
+		}
 	}
 
 	private PDOMASTProcessorManager() {
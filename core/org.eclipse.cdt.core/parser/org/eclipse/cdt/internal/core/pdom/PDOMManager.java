@@ -81,6 +81,7 @@ import org.eclipse.cdt.internal.core.index.IndexerStateEvent;
 import org.eclipse.cdt.internal.core.index.provider.IndexProviderManager;
 import org.eclipse.cdt.internal.core.pdom.PDOM.IListener;
 import org.eclipse.cdt.internal.core.pdom.db.ChunkCache;
+import org.eclipse.cdt.internal.core.pdom.db.Database;
 import org.eclipse.cdt.internal.core.pdom.dom.IPDOMLinkageFactory;
 import org.eclipse.cdt.internal.core.pdom.dom.PDOMProjectIndexLocationConverter;
 import org.eclipse.cdt.internal.core.pdom.indexer.AbstractPDOMIndexer;
@@ -384,6 +385,7 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 				dbFile = fileFromDatabaseName(dbName);
 				storeDatabaseName(project, dbName);
 				fromScratch = true;
+				createDatabaseFile(project, dbFile);
 			}
 
 			WritablePDOM pdom;
@@ -396,6 +398,7 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 						+ " - rebuilding the index", e); //$NON-NLS-1$
 				dbFile.delete();
 				fromScratch = true;
+				createDatabaseFile(project, dbFile);
 				pdom = new WritablePDOM(dbFile, new PDOMProjectIndexLocationConverter(project), getLinkageFactories());
 			}
 
@@ -430,6 +433,15 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 		}
 	}
 
+	/**
+	 * Creates the file for a new index of the project, in the format selected for the project.
+	 */
+	private void createDatabaseFile(IProject project, File dbFile) throws CoreException {
+		if (IndexerPreferences.getCompressDatabase(project)) {
+			Database.createCompressedFile(dbFile);
+		}
+	}
+
 	private Map<String, IPDOMLinkageFactory> getLinkageFactories() {
 		return LanguageManager.getInstance().getPDOMLinkageFactoryMappings();
 	}
@@ -1338,6 +1350,7 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 		String newName = createNewDatabaseName(project);
 		File newFile = fileFromDatabaseName(newName);
 		OutputStream out = new FileOutputStream(newFile);
+		final boolean compressed;
 		try {
 			int version = 0;
 			for (int i = 0; i < 4; i++) {
@@ -1345,15 +1358,10 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 				version = (version << 8) + (b & 0xff);
 				out.write(b);
 			}
-			if (version > PDOM.getMaxSupportedVersion()) {
-				final IStatus status = new Status(IStatus.WARNING, CCorePlugin.PLUGIN_ID, 0,
-						CCorePlugin.getResourceString("PDOMManager.unsupportedHigherVersion"), null); //$NON-NLS-1$
-				throw new CoreException(status);
-			}
-			if (!PDOM.isSupportedVersion(version)) {
-				final IStatus status = new Status(IStatus.WARNING, CCorePlugin.PLUGIN_ID, 0,
-						CCorePlugin.getResourceString("PDOMManager.unsupportedVersion"), null); //$NON-NLS-1$
-				throw new CoreException(status);
+			// The version of a compressed database is checked once the file is complete.
+			compressed = Database.isCompressedFileHeader(version);
+			if (!compressed) {
+				checkImportedVersion(version);
 			}
 			byte[] buffer = new byte[2048];
 			int read;
@@ -1363,6 +1371,9 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 		} finally {
 			out.close();
 		}
+		if (compressed) {
+			checkImportedVersion(Database.readVersion(newFile));
+		}
 
 		WritablePDOM pdom = (WritablePDOM) getPDOM(project);
 		try {
@@ -1379,6 +1390,19 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 		}
 	}
 
+	private static void checkImportedVersion(int version) throws CoreException {
+		if (version > PDOM.getMaxSupportedVersion()) {
+			final IStatus status = new Status(IStatus.WARNING, CCorePlugin.PLUGIN_ID, 0,
+					CCorePlugin.getResourceString("PDOMManager.unsupportedHigherVersion"), null); //$NON-NLS-1$
+			throw new CoreException(status);
+		}
+		if (!PDOM.isSupportedVersion(version)) {
+			final IStatus status = new Status(IStatus.WARNING, CCorePlugin.PLUGIN_ID, 0,
+					CCorePlugin.getResourceString("PDOMManager.unsupportedVersion"), null); //$NON-NLS-1$
+			throw new CoreException(status);
+		}
+	}
+
 	@Override
 	public void export(ICProject project, String location, int options, IProgressMonitor monitor) throws CoreException {
 		TeamPDOMExportOperation operation = new TeamPDOMExportOperation(project);
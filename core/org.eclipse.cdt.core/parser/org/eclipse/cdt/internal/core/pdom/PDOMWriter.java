@@ -65,9 +65,15 @@ import org.eclipse.cdt.core.parser.IProblem;
 import org.eclipse.cdt.core.parser.ISignificantMacros;
 import org.eclipse.cdt.core.parser.util.CharArrayUtils;
 import org.eclipse.cdt.internal.core.dom.parser.ASTInternal;
+import org.eclipse.cdt.internal.core.dom.parser.ASTTranslationUnit;
+import org.eclipse.cdt.internal.core.dom.parser.TranslationUnitProfile;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.CPPASTTranslationUnit;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.DeferredFunctionBodies;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.ICPPInternalDeclaredVariable;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.ICPPUnknownBinding;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPSemantics;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.ConstexprEvaluationCache;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.OverloadResolutionCache;
 import org.eclipse.cdt.internal.core.index.FileContentKey;
 import org.eclipse.cdt.internal.core.index.IIndexFragmentFile;
 import org.eclipse.cdt.internal.core.index.IWritableIndex;
@@ -320,6 +326,7 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 					trace("Indexer: adding " + fileInAST.fileContentKey.getLocation().getURI()); //$NON-NLS-1$
 				}
 				Throwable th = null;
+				final long start = System.nanoTime();
 				YieldableIndexLock lock = new YieldableIndexLock(data.fIndex, false, progress.split(1));
 				lock.acquire();
 				try {
@@ -359,12 +366,17 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 							fileInAST.fileContentKey.getLocation().getURI().getPath()), th));
 				}
 				fStatistics.fAddToIndexTime += lock.getCumulativeLockTime();
+				TranslationUnitProfile profile = getProfile(data.fAST);
+				if (profile != null) {
+					profile.fIndexWriteTime += System.nanoTime() - start;
+				}
 			}
 		}
 	}
 
 	private void resolveNames(Data data, IProgressMonitor monitor) {
 		long start = System.currentTimeMillis();
+		long startNanos = System.nanoTime();
 		Set<ICPPInternalDeclaredVariable> variables = new HashSet<>();
 		SubMonitor progress = SubMonitor.convert(monitor, data.fSelectedFiles.length);
 		for (FileInAST file : data.fSelectedFiles) {
@@ -446,6 +458,14 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 		}
 
 		fStatistics.fResolutionTime += System.currentTimeMillis() - start;
+		TranslationUnitProfile profile = getProfile(data.fAST);
+		if (profile != null) {
+			profile.fBindingResolutionTime += System.nanoTime() - startNanos;
+		}
+	}
+
+	private static TranslationUnitProfile getProfile(IASTTranslationUnit ast) {
+		return ast instanceof ASTTranslationUnit ? ((ASTTranslationUnit) ast).getProfile() : null;
 	}
 
 	private boolean isVariableIndexed(ICPPVariable variable) {
@@ -502,6 +522,26 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 			}
 		}
 
+		// Function bodies that have been skipped by the parser are needed for the references in the
+		// files that are updated, only.
+		DeferredFunctionBodies deferredBodies = null;
+		if (ast instanceof CPPASTTranslationUnit) {
+			deferredBodies = ((CPPASTTranslationUnit) ast).getDeferredFunctionBodies();
+			if (deferredBodies != null && fSkipReferences != SKIP_ALL_REFERENCES) {
+				long start = System.currentTimeMillis();
+				long startNanos = System.nanoTime();
+				deferredBodies.parse(fdef -> {
+					IASTFileLocation loc = fdef.getFileLocation();
+					return loc != null && symbolMap.containsKey(loc.getContextInclusionStatement());
+				});
+				fStatistics.fParsingTime += System.currentTimeMillis() - start;
+				TranslationUnitProfile profile = getProfile(ast);
+				if (profile != null) {
+					profile.fParsingTime += System.nanoTime() - startNanos;
+				}
+			}
+		}
+
 		// Names.
 		final IndexerASTVisitor visitor = new IndexerASTVisitor((fSkipReferences & SKIP_IMPLICIT_REFERENCES) == 0) {
 			private int cancelationCheckThrottler;
@@ -582,6 +622,22 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 
 		final List<IASTProblem> problems = visitor.getProblems();
 		fStatistics.fSyntaxProblemsCount += problems.size();
+		if (ast instanceof CPPASTTranslationUnit) {
+			ConstexprEvaluationCache constexprCache = ((CPPASTTranslationUnit) ast).getConstexprEvaluationCache();
+			fStatistics.fConstexprCacheHits += constexprCache.getHits();
+			fStatistics.fConstexprCacheMisses += constexprCache.getMisses();
+			fStatistics.fConstexprEvaluationSteps += constexprCache.getEvaluationSteps();
+			OverloadResolutionCache overloadCache = ((CPPASTTranslationUnit) ast).getOverloadResolutionCache();
+			fStatistics.fOverloadCacheHits += overloadCache.getHits();
+			fStatistics.fOverloadCacheMisses += overloadCache.getMisses();
+		}
+		if (deferredBodies != null) {
+			fStatistics.fDeferredFunctionBodies += deferredBodies.getDeferredCount();
+			fStatistics.fParsedDeferredFunctionBodies += deferredBodies.getParsedCount();
+			fStatistics.fFailedDeferredFunctionBodies += deferredBodies.getFailedCount();
+			fStatistics.fUnparsedFunctionBodyTokens += deferredBodies.getUnparsedTokenCount();
+			fStatistics.fDeferredParsingTime += deferredBodies.getParsingTime();
+		}
 		if (fShowSyntaxProblems) {
 			for (IASTProblem problem : problems) {
 				reportProblem(problem);
@@ -649,10 +705,12 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 				IASTPreprocessorStatement[] macros = lists.fMacros
 						.toArray(new IASTPreprocessorStatement[lists.fMacros.size()]);
 				IASTName[][] names = lists.fNames.toArray(new IASTName[lists.fNames.size()][]);
+				int nameCount = 0;
 				for (IASTName[] name2 : names) {
 					final IASTName name = name2[0];
 					if (name != null) {
 						ASTInternal.setFullyResolved(name.getBinding(), true);
+						nameCount++;
 					}
 				}
 
@@ -677,6 +735,10 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 				IncludeInformation[] includeInfoArray = includeInfos
 						.toArray(new IncludeInformation[includeInfos.size()]);
 				index.setFileContent(file, storageLinkageID, includeInfoArray, macros, names, fResolver, lock);
+				TranslationUnitProfile profile = getProfile(data.fAST);
+				if (profile != null) {
+					profile.fIndexWrites += includeInfoArray.length + macros.length + nameCount;
+				}
 			}
 			file.setTimestamp(astFile.hasError ? 0 : astFile.timestamp);
 			file.setSourceReadTime(astFile.sourceReadTime);
@@ -159,6 +159,7 @@ public class WritablePDOM extends PDOM implements IWritableIndexFragment {
 		} finally {
 			fPathResolver = origResolver;
 		}
+		pdomFile.addNameFilter(macros, names);
 		// Includes expose the temporary file in the index, we must not yield the lock beyond this point.
 		pdomFile.addIncludesTo(includes);
 
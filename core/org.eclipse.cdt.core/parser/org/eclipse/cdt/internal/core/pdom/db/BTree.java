@@ -36,6 +36,7 @@ public class BTree {
 	protected final long rootPointer;
 
 	protected final int DEGREE;
+	protected final int RECORD_SIZE;
 	protected final int MAX_RECORDS;
 	protected final int MAX_CHILDREN;
 	protected final int MIN_RECORDS;
@@ -43,6 +44,7 @@ public class BTree {
 	protected final int MEDIAN_RECORD;
 
 	protected final IBTreeComparator cmp;
+	private final IBTreeNameComparator nameCmp;
 
 	public BTree(Database db, long rootPointer, IBTreeComparator cmp) {
 		this(db, rootPointer, 8, cmp);
@@ -61,12 +63,15 @@ public class BTree {
 		this.db = db;
 		this.rootPointer = rootPointer;
 		this.cmp = cmp;
+		this.nameCmp = cmp instanceof IBTreeNameComparator ? (IBTreeNameComparator) cmp : null;
 
 		this.DEGREE = degree;
+		// For B-trees ordered by names, a prefix of the name is stored with each record.
+		this.RECORD_SIZE = nameCmp != null ? Database.INT_SIZE + BTreeInlineName.SIZE : Database.INT_SIZE;
 		this.MIN_RECORDS = DEGREE - 1;
 		this.MAX_RECORDS = 2 * DEGREE - 1;
 		this.MAX_CHILDREN = 2 * DEGREE;
-		this.OFFSET_CHILDREN = MAX_RECORDS * Database.INT_SIZE;
+		this.OFFSET_CHILDREN = MAX_RECORDS * RECORD_SIZE;
 		this.MEDIAN_RECORD = DEGREE - 1;
 	}
 
@@ -75,11 +80,51 @@ public class BTree {
 	}
 
 	protected final void putRecord(Chunk chunk, long node, int index, long record) {
-		chunk.putRecPtr(node + index * Database.INT_SIZE, record);
+		chunk.putRecPtr(node + index * RECORD_SIZE, record);
 	}
 
 	protected final long getRecord(Chunk chunk, long node, int index) {
-		return chunk.getRecPtr(node + index * Database.INT_SIZE);
+		return chunk.getRecPtr(node + index * RECORD_SIZE);
+	}
+
+	/**
+	 * Stores a record together with the prefix of its name, which is {@code null} unless the
+	 * B-tree is ordered by names.
+	 */
+	private void putRecord(Chunk chunk, long node, int index, long record, char[] name) {
+		putRecord(chunk, node, index, record);
+		if (name != null) {
+			BTreeInlineName.put(chunk, getInlineName(node, index), name);
+		}
+	}
+
+	/**
+	 * Moves a record together with the prefix of its name to another slot.
+	 */
+	private void copyRecord(Chunk chunk, long node, int index, Chunk dstChunk, long dstNode, int dstIndex) {
+		chunk.copy(node + index * RECORD_SIZE, dstChunk, dstNode + dstIndex * RECORD_SIZE, RECORD_SIZE);
+	}
+
+	private long getInlineName(long node, int index) {
+		return node + index * RECORD_SIZE + Database.INT_SIZE;
+	}
+
+	private char[] getName(long record) throws CoreException {
+		return nameCmp != null ? nameCmp.getName(record).getChars() : null;
+	}
+
+	/**
+	 * Compares the record stored in the given slot with another one. The name of the other record
+	 * is passed in for B-trees ordered by names, in which case most comparisons are decided by the
+	 * prefix of the name stored in the slot.
+	 */
+	private int compare(Chunk chunk, long node, int index, long record, char[] name) throws CoreException {
+		if (name != null) {
+			int cmp = BTreeInlineName.compareCompatibleWithIgnoreCase(chunk, getInlineName(node, index), name);
+			if (cmp != 0 && cmp != BTreeInlineName.UNDECIDED)
+				return cmp;
+		}
+		return cmp.compare(getRecord(chunk, node, index), record);
 	}
 
 	protected final void putChild(Chunk chunk, long node, int index, long child) {
@@ -99,17 +144,19 @@ public class BTree {
 	 */
 	public long insert(long record) throws CoreException {
 		long root = getRoot();
+		char[] name = getName(record);
 
 		// Is this our first time in.
 		if (root == 0) {
-			firstInsert(record);
+			firstInsert(record, name);
 			return record;
 		}
 
-		return insert(null, 0, 0, root, record);
+		return insert(null, 0, 0, root, record, name);
 	}
 
-	private long insert(Chunk pChunk, long parent, int iParent, long node, long record) throws CoreException {
+	private long insert(Chunk pChunk, long parent, int iParent, long node, long record, char[] name)
+			throws CoreException {
 		Chunk chunk = db.getChunk(node);
 
 		// If this node is full (last record isn't null), split it.
@@ -124,7 +171,7 @@ public class BTree {
 				long newnode = allocateNode();
 				Chunk newchunk = db.getChunk(newnode);
 				for (int i = 0; i < MEDIAN_RECORD; ++i) {
-					putRecord(newchunk, newnode, i, getRecord(chunk, node, MEDIAN_RECORD + 1 + i));
+					copyRecord(chunk, node, MEDIAN_RECORD + 1 + i, newchunk, newnode, i);
 					putRecord(chunk, node, MEDIAN_RECORD + 1 + i, 0);
 					putChild(newchunk, newnode, i, getChild(chunk, node, MEDIAN_RECORD + 1 + i));
 					putChild(chunk, node, MEDIAN_RECORD + 1 + i, 0);
@@ -143,18 +190,18 @@ public class BTree {
 					for (int i = MAX_RECORDS - 2; i >= iParent; --i) {
 						long r = getRecord(pChunk, parent, i);
 						if (r != 0) {
-							putRecord(pChunk, parent, i + 1, r);
+							copyRecord(pChunk, parent, i, pChunk, parent, i + 1);
 							putChild(pChunk, parent, i + 2, getChild(pChunk, parent, i + 1));
 						}
 					}
 				}
-				putRecord(pChunk, parent, iParent, median);
+				copyRecord(chunk, node, MEDIAN_RECORD, pChunk, parent, iParent);
 				putChild(pChunk, parent, iParent + 1, newnode);
 
 				putRecord(chunk, node, MEDIAN_RECORD, 0);
 
 				// Set the node to the correct one to follow.
-				if (cmp.compare(record, median) > 0) {
+				if (compare(pChunk, parent, iParent, record, name) < 0) {
 					node = newnode;
 					chunk = newchunk;
 				}
@@ -174,7 +221,7 @@ public class BTree {
 			if (checkRec == 0) {
 				upper = middle;
 			} else {
-				int compare = cmp.compare(checkRec, record);
+				int compare = compare(chunk, node, middle, record, name);
 				if (compare > 0) {
 					upper = middle;
 				} else if (compare < 0) {
@@ -189,30 +236,30 @@ public class BTree {
 		long child = getChild(chunk, node, i);
 		if (child != 0) {
 			// Visit the children.
-			return insert(chunk, node, i, child, record);
+			return insert(chunk, node, i, child, record, name);
 		} else {
 			// We are at the leaf, add us in.
 			// First copy everything after over one.
 			for (int j = MAX_RECORDS - 2; j >= i; --j) {
 				long r = getRecord(chunk, node, j);
 				if (r != 0)
-					putRecord(chunk, node, j + 1, r);
+					copyRecord(chunk, node, j, chunk, node, j + 1);
 			}
-			putRecord(chunk, node, i, record);
+			putRecord(chunk, node, i, record, name);
 			return record;
 		}
 	}
 
-	private void firstInsert(long record) throws CoreException {
+	private void firstInsert(long record, char[] name) throws CoreException {
 		// Create the node and save it as root.
 		long root = allocateNode();
 		db.putRecPtr(rootPointer, root);
 		// Put the record in the first slot of the node.
-		putRecord(db.getChunk(root), root, 0, record);
+		putRecord(db.getChunk(root), root, 0, record, name);
 	}
 
 	private long allocateNode() throws CoreException {
-		return db.malloc((2 * MAX_RECORDS + 1) * Database.INT_SIZE);
+		return db.malloc(MAX_RECORDS * RECORD_SIZE + MAX_CHILDREN * Database.INT_SIZE);
 	}
 
 	/**
@@ -328,7 +375,7 @@ public class BTree {
 				if (succ != null && succ.keyCount > MIN_RECORDS) {
 					/* Case 2a: Delete key by overwriting it with its successor (which occurs in a leaf node) */
 					long subst = deleteImp(-1, succ.node, DELMODE_DELETE_MINIMUM);
-					putRecord(node.chunk, node.node, keyIndexInNode, subst);
+					putRecord(node.chunk, node.node, keyIndexInNode, subst, getName(subst));
 					return key;
 				}
 
@@ -336,7 +383,7 @@ public class BTree {
 				if (pred != null && pred.keyCount > MIN_RECORDS) {
 					/* Case 2b: Delete key by overwriting it with its predecessor (which occurs in a leaf node) */
 					long subst = deleteImp(-1, pred.node, DELMODE_DELETE_MAXIMUM);
-					putRecord(node.chunk, node.node, keyIndexInNode, subst);
+					putRecord(node.chunk, node.node, keyIndexInNode, subst, getName(subst));
 					return key;
 				}
 
@@ -384,23 +431,19 @@ public class BTree {
 					BTNode sibR = node.getChild(subtreeIndex + 1);
 					if (sibR != null && sibR.keyCount > MIN_RECORDS) {
 						/* Case 3a (i): child will underflow upon deletion, take a key from rightSibling */
-						long rightKey = getRecord(node.chunk, node.node, subtreeIndex);
-						long leftmostRightSiblingKey = getRecord(sibR.chunk, sibR.node, 0);
-						append(child, rightKey, getChild(sibR.chunk, sibR.node, 0));
+						append(child, node, subtreeIndex, getChild(sibR.chunk, sibR.node, 0));
+						copyRecord(sibR.chunk, sibR.node, 0, node.chunk, node.node, subtreeIndex);
 						nodeContentDelete(sibR, 0, 1);
-						putRecord(node.chunk, node.node, subtreeIndex, leftmostRightSiblingKey);
 						return deleteImp(key, child.node, mode);
 					}
 
 					BTNode sibL = node.getChild(subtreeIndex - 1);
 					if (sibL != null && sibL.keyCount > MIN_RECORDS) {
 						/* Case 3a (ii): child will underflow upon deletion, take a key from leftSibling */
-						long leftKey = getRecord(node.chunk, node.node, subtreeIndex - 1);
-						prepend(child, leftKey, getChild(sibL.chunk, sibL.node, sibL.keyCount));
-						long rightmostLeftSiblingKey = getRecord(sibL.chunk, sibL.node, sibL.keyCount - 1);
+						prepend(child, node, subtreeIndex - 1, getChild(sibL.chunk, sibL.node, sibL.keyCount));
+						copyRecord(sibL.chunk, sibL.node, sibL.keyCount - 1, node.chunk, node.node, subtreeIndex - 1);
 						putRecord(sibL.chunk, sibL.node, sibL.keyCount - 1, 0);
 						putChild(sibL.chunk, sibL.node, sibL.keyCount, 0);
-						putRecord(node.chunk, node.node, subtreeIndex - 1, rightmostLeftSiblingKey);
 						return deleteImp(key, child.node, mode);
 					}
 
@@ -435,12 +478,15 @@ public class BTree {
 	 */
 	public void mergeNodes(BTNode src, BTNode keyProvider, int kIndex, BTNode dst) throws CoreException {
 		nodeContentCopy(src, 0, dst, dst.keyCount + 1, src.keyCount + 1);
-		long midKey = getRecord(keyProvider.chunk, keyProvider.node, kIndex);
-		putRecord(dst.chunk, dst.node, dst.keyCount, midKey);
+		copyRecord(keyProvider.chunk, keyProvider.node, kIndex, dst.chunk, dst.node, dst.keyCount);
 		long keySucc = kIndex + 1 == MAX_RECORDS ? 0 : getRecord(keyProvider.chunk, keyProvider.node, kIndex + 1);
 		db.free(getChild(keyProvider.chunk, keyProvider.node, kIndex + 1));
+		if (keySucc != 0) {
+			copyRecord(keyProvider.chunk, keyProvider.node, kIndex + 1, keyProvider.chunk, keyProvider.node, kIndex);
+		} else {
+			putRecord(keyProvider.chunk, keyProvider.node, kIndex, 0);
+		}
 		nodeContentDelete(keyProvider, kIndex + 1, 1);
-		putRecord(keyProvider.chunk, keyProvider.node, kIndex, keySucc);
 		if (kIndex == 0 && keySucc == 0) {
 			/*
 			 * The root node is excused from the property that a node must have a least MIN keys
@@ -459,24 +505,26 @@ public class BTree {
 	 * Inserts the key and (its predecessor) child at the left side of the specified node. Bounds checking
 	 * is not performed.
 	 * @param node the node to prepend to
-	 * @param key the new leftmost (least) key
+	 * @param keyProvider the node containing the new leftmost (least) key
+	 * @param kIndex the index of the key in the node <i>keyProvider</i>
 	 * @param child the new leftmost (least) subtree root
 	 */
-	private void prepend(BTNode node, long key, long child) {
+	private void prepend(BTNode node, BTNode keyProvider, int kIndex, long child) {
 		nodeContentCopy(node, 0, node, 1, node.keyCount + 1);
-		putRecord(node.chunk, node.node, 0, key);
+		copyRecord(keyProvider.chunk, keyProvider.node, kIndex, node.chunk, node.node, 0);
 		putChild(node.chunk, node.node, 0, child);
 	}
 
 	/**
 	 * Inserts the key and (its successor) child at the right side of the specified node. Bounds
 	 * checking is not performed.
-	 * @param node
-	 * @param key
-	 * @param child
+	 * @param node the node to append to
+	 * @param keyProvider the node containing the new rightmost (greatest) key
+	 * @param kIndex the index of the key in the node <i>keyProvider</i>
+	 * @param child the new rightmost (greatest) subtree root
 	 */
-	private void append(BTNode node, long key, long child) {
-		putRecord(node.chunk, node.node, node.keyCount, key);
+	private void append(BTNode node, BTNode keyProvider, int kIndex, long child) {
+		copyRecord(keyProvider.chunk, keyProvider.node, kIndex, node.chunk, node.node, node.keyCount);
 		putChild(node.chunk, node.node, node.keyCount + 1, child);
 	}
 
@@ -502,8 +550,7 @@ public class BTree {
 				putChild(dst.chunk, dst.node, dstIndex, srcChild);
 
 				if (srcIndex < src.keyCount) {
-					long srcKey = getRecord(src.chunk, src.node, srcIndex);
-					putRecord(dst.chunk, dst.node, dstIndex, srcKey);
+					copyRecord(src.chunk, src.node, srcIndex, dst.chunk, dst.node, dstIndex);
 				}
 			}
 		}
@@ -520,10 +567,13 @@ public class BTree {
 	 */
 	private void nodeContentDelete(BTNode node, int i, int length) {
 		for (int index = i; index <= MAX_RECORDS; index++) {
-			long newKey = (index + length) < node.keyCount ? getRecord(node.chunk, node.node, index + length) : 0;
 			long newChild = (index + length) < node.keyCount + 1 ? getChild(node.chunk, node.node, index + length) : 0;
 			if (index < MAX_RECORDS) {
-				putRecord(node.chunk, node.node, index, newKey);
+				if ((index + length) < node.keyCount) {
+					copyRecord(node.chunk, node.node, index + length, node.chunk, node.node, index);
+				} else {
+					putRecord(node.chunk, node.node, index, 0);
+				}
 			}
 			if (index < MAX_CHILDREN) {
 				putChild(node.chunk, node.node, index, newChild);
@@ -538,10 +588,12 @@ public class BTree {
 	 * @param visitor
 	 */
 	public void accept(IBTreeVisitor visitor) throws CoreException {
-		accept(db.getRecPtr(rootPointer), visitor);
+		// Visitors aware of the names stored inline share a single accessor for them.
+		BTreeInlineName name = nameCmp != null && visitor instanceof IBTreeNameVisitor ? new BTreeInlineName() : null;
+		accept(db.getRecPtr(rootPointer), visitor, name);
 	}
 
-	private boolean accept(long node, IBTreeVisitor visitor) throws CoreException {
+	private boolean accept(long node, IBTreeVisitor visitor, BTreeInlineName name) throws CoreException {
 		// If found is false, we are still in search mode.
 		// Once found is true visit everything.
 		// Return false when ready to quit.
@@ -566,7 +618,7 @@ public class BTree {
 				if (checkRec == 0) {
 					upper = middle;
 				} else {
-					int compare = visitor.compare(checkRec);
+					int compare = compare(visitor, name, chunk, node, middle, checkRec);
 					if (compare >= 0) {
 						upper = middle;
 					} else {
@@ -576,24 +628,69 @@ public class BTree {
 			}
 
 			// Start with first record greater or equal, reuse comparison results.
+			final boolean contiguous = name != null && ((IBTreeNameVisitor) visitor).isMatchContiguous();
+			boolean previousMatched = false;
 			int i = lower;
 			for (; i < MAX_RECORDS; ++i) {
 				long record = getRecord(chunk, node, i);
 				if (record == 0)
 					break;
 
-				int compare = visitor.compare(record);
+				int compare = compare(visitor, name, chunk, node, i, record);
 				if (compare > 0) {
 					// Start point is to the left.
-					return accept(getChild(chunk, node, i), visitor);
+					return accept(getChild(chunk, node, i), visitor, name);
 				} else if (compare == 0) {
-					if (!accept(getChild(chunk, node, i), visitor))
+					if (previousMatched) {
+						// The subtree is enclosed by two matches, all of its records match.
+						if (!acceptAll(getChild(chunk, node, i), visitor))
+							return false;
+					} else if (!accept(getChild(chunk, node, i), visitor, name)) {
 						return false;
+					}
 					if (!visitor.visit(record))
 						return false;
+					previousMatched = contiguous;
 				}
 			}
-			return accept(getChild(chunk, node, i), visitor);
+			return accept(getChild(chunk, node, i), visitor, name);
+		} finally {
+			visitor.postVisit(node);
+		}
+	}
+
+	private int compare(IBTreeVisitor visitor, BTreeInlineName name, Chunk chunk, long node, int index, long record)
+			throws CoreException {
+		if (name == null)
+			return visitor.compare(record);
+
+		name.set(chunk, getInlineName(node, index));
+		return ((IBTreeNameVisitor) visitor).compare(name, record);
+	}
+
+	/**
+	 * Visits all records of the subtree without comparing them.
+	 */
+	private boolean acceptAll(long node, IBTreeVisitor visitor) throws CoreException {
+		if (node == 0) {
+			return true;
+		}
+		visitor.preVisit(node);
+
+		try {
+			Chunk chunk = db.getChunk(node);
+			int i = 0;
+			for (; i < MAX_RECORDS; ++i) {
+				long record = getRecord(chunk, node, i);
+				if (record == 0)
+					break;
+
+				if (!acceptAll(getChild(chunk, node, i), visitor))
+					return false;
+				if (!visitor.visit(record))
+					return false;
+			}
+			return acceptAll(getChild(chunk, node, i), visitor);
 		} finally {
 			visitor.postVisit(node);
 		}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom.db;
+
+/**
+ * Provides access to the prefix of the name of a record, stored inline in a node of a {@link BTree}
+ * ordered by names. The methods mirror the comparisons of {@link IString}, however they return
+ * {@link #UNDECIDED} when the result depends on characters beyond the prefix.
+ * <p>
+ * An instance is reused for all records of a visit, it must not be retained by visitors.
+ */
+public final class BTreeInlineName {
+	/**
+	 * Returned by the comparisons when the prefix is not sufficient to determine the result.
+	 */
+	public static final int UNDECIDED = Integer.MIN_VALUE;
+
+	static final int MAX_CHARS = 8;
+
+	private static final int LENGTH = 0;
+	private static final int CHARS = 4;
+
+	static final int SIZE = CHARS + 2 * MAX_CHARS;
+
+	private Chunk fChunk;
+	private long fAddress;
+
+	BTreeInlineName() {
+	}
+
+	void set(Chunk chunk, long address) {
+		fChunk = chunk;
+		fAddress = address;
+	}
+
+	/**
+	 * Stores the prefix of the given name at the address.
+	 */
+	static void put(Chunk chunk, long address, char[] name) {
+		chunk.putInt(address + LENGTH, name.length);
+		chunk.putChars(address + CHARS, name, 0, Math.min(name.length, MAX_CHARS));
+	}
+
+	/**
+	 * Returns the length of the entire name.
+	 */
+	public int getLength() {
+		return fChunk.getInt(fAddress + LENGTH);
+	}
+
+	private char getChar(int i) {
+		return fChunk.getChar(fAddress + CHARS + 2 * i);
+	}
+
+	/**
+	 * @see IString#compareCompatibleWithIgnoreCase(char[])
+	 */
+	public int compareCompatibleWithIgnoreCase(char[] other) {
+		return compareCompatibleWithIgnoreCase(fChunk, fAddress, other);
+	}
+
+	static int compareCompatibleWithIgnoreCase(Chunk chunk, long address, char[] other) {
+		final int length = chunk.getInt(address + LENGTH);
+		final int n = Math.min(length, other.length);
+		final int m = Math.min(n, MAX_CHARS);
+		int sensitiveCmp = 0;
+		for (int i = 0; i < m; i++) {
+			final char c1 = chunk.getChar(address + CHARS + 2 * i);
+			final char c2 = other[i];
+			if (c1 != c2) {
+				int cmp = ShortString.compareChars(c1, c2, false);
+				if (cmp != 0)
+					return cmp;
+
+				if (sensitiveCmp == 0) {
+					sensitiveCmp = c1 < c2 ? -1 : 1;
+				}
+			}
+		}
+		if (m < n)
+			return UNDECIDED;
+
+		int cmp = length - other.length;
+		if (cmp != 0)
+			return cmp;
+
+		return sensitiveCmp;
+	}
+
+	/**
+	 * @see IString#compare(char[], boolean)
+	 */
+	public int compare(char[] other, boolean caseSensitive) {
+		final int length = getLength();
+		final int n = Math.min(length, other.length);
+		final int m = Math.min(n, MAX_CHARS);
+		for (int i = 0; i < m; i++) {
+			int cmp = ShortString.compareChars(getChar(i), other[i], caseSensitive);
+			if (cmp != 0)
+				return cmp;
+		}
+		if (m < n)
+			return UNDECIDED;
+
+		return length - other.length;
+	}
+
+	/**
+	 * @see IString#comparePrefix(char[], boolean)
+	 */
+	public int comparePrefix(char[] other, boolean caseSensitive) {
+		final int length = getLength();
+		final int n = Math.min(length, other.length);
+		final int m = Math.min(n, MAX_CHARS);
+		for (int i = 0; i < m; i++) {
+			int cmp = ShortString.compareChars(getChar(i), other[i], caseSensitive);
+			if (cmp != 0)
+				return cmp;
+		}
+		if (m < n)
+			return UNDECIDED;
+
+		if (length < other.length)
+			return -1;
+
+		return 0;
+	}
+}
@@ -277,6 +277,12 @@ final class Chunk {
 		}
 	}
 
+	void copy(final long offset, final Chunk target, final long targetOffset, final int length) {
+		assert target.fLocked;
+		target.fDirty = true;
+		System.arraycopy(fBuffer, recPtrToIndex(offset), target.fBuffer, recPtrToIndex(targetOffset), length);
+	}
+
 	void put(final long offset, final byte[] data, final int len) {
 		put(offset, data, 0, len);
 	}
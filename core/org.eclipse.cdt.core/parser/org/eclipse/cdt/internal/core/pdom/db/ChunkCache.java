@@ -13,12 +13,28 @@
  *******************************************************************************/
 package org.eclipse.cdt.internal.core.pdom.db;
 
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache for the chunks of one or more databases.
+ * <p>
+ * The cache is split into segments, each of which manages a page table of its own with the
+ * CLOCK algorithm. A chunk is always assigned to the same segment, which is selected by the
+ * database and the sequence number of the chunk. Threads working on chunks of different
+ * segments do not contend for the same lock. The lock of a segment, obtained via
+ * {@link #getLock(Database, int)}, also protects the slot for the chunk in the chunk table
+ * of the database.
+ */
 public final class ChunkCache {
 	private static ChunkCache sSharedInstance = new ChunkCache();
 
-	private Chunk[] fPageTable;
-	private boolean fTableIsFull;
-	private int fPointer;
+	private final Segment[] fSegments;
+	private final int fSegmentMask;
+	private volatile long fMaxSize;
+
+	private final LongAdder fHits = new LongAdder();
+	private final LongAdder fMisses = new LongAdder();
+	private final LongAdder fEvictions = new LongAdder();
 
 	public static ChunkCache getSharedInstance() {
 		return sSharedInstance;
@@ -29,114 +45,239 @@ public final class ChunkCache {
 	}
 
 	public ChunkCache(long maxSize) {
-		fPageTable = new Chunk[computeLength(maxSize)];
+		this(maxSize, defaultSegmentCount());
 	}
 
-	public synchronized void add(Chunk chunk, boolean locked) {
-		if (locked) {
-			chunk.fLocked = true;
-		}
-		if (chunk.fCacheIndex >= 0) {
-			chunk.fCacheHitFlag = true;
-			return;
+	/**
+	 * Creates a cache with the given maximum size in bytes, split into the given number
+	 * of segments. The number of segments is rounded up to a power of two.
+	 */
+	public ChunkCache(long maxSize, int segmentCount) {
+		int count = Integer.highestOneBit(Math.max(1, segmentCount));
+		if (count < segmentCount) {
+			count <<= 1;
 		}
-		if (fTableIsFull) {
-			evictChunk();
-			chunk.fCacheIndex = fPointer;
-			fPageTable[fPointer] = chunk;
-		} else {
-			chunk.fCacheIndex = fPointer;
-			fPageTable[fPointer] = chunk;
-
-			fPointer++;
-			if (fPointer == fPageTable.length) {
-				fPointer = 0;
-				fTableIsFull = true;
-			}
+		fSegments = new Segment[count];
+		fSegmentMask = count - 1;
+		final int length = computeLength(maxSize);
+		for (int i = 0; i < count; i++) {
+			fSegments[i] = new Segment(segmentLength(length, i));
 		}
+		fMaxSize = computeMaxSize();
+	}
+
+	private static int defaultSegmentCount() {
+		return Math.min(64, 4 * Runtime.getRuntime().availableProcessors());
 	}
 
 	/**
-	 * Evicts a chunk from the page table and the chunk table.
-	 * After this method returns, {@link #fPointer}  will contain
-	 * the index of the evicted chunk within the page table.
+	 * Returns the object that needs to be locked while accessing the slot for the chunk
+	 * with the given sequence number in the chunk table of the database.
 	 */
-	private void evictChunk() {
-		/*
-		 * Use the CLOCK algorithm to determine which chunk to evict.
-		 * i.e., if the chunk in the current slot of the page table has been
-		 * recently referenced (i.e. the reference flag is set), unset the
-		 * reference flag and move to the next slot.  Otherwise, evict the
-		 * chunk in the current slot.
-		 */
-		while (true) {
-			Chunk chunk = fPageTable[fPointer];
-			if (chunk.fCacheHitFlag) {
-				chunk.fCacheHitFlag = false;
-				fPointer = (fPointer + 1) % fPageTable.length;
-			} else {
-				chunk.fDatabase.releaseChunk(chunk);
-				chunk.fCacheIndex = -1;
-				fPageTable[fPointer] = null;
-				return;
-			}
+	Object getLock(Database db, int sequenceNumber) {
+		return getSegment(db, sequenceNumber);
+	}
+
+	private Segment getSegment(Database db, int sequenceNumber) {
+		int h = System.identityHashCode(db) * 31 + sequenceNumber;
+		h ^= (h >>> 16);
+		h *= 0x85ebca6b;
+		h ^= (h >>> 13);
+		return fSegments[h & fSegmentMask];
+	}
+
+	public void add(Chunk chunk, boolean locked) {
+		final Segment segment = getSegment(chunk.fDatabase, chunk.fSequenceNumber);
+		synchronized (segment) {
+			segment.add(chunk, locked);
 		}
 	}
 
-	public synchronized void remove(Chunk chunk) {
-		final int idx = chunk.fCacheIndex;
-		if (idx >= 0) {
-			if (fTableIsFull) {
-				fPointer = fPageTable.length - 1;
-				fTableIsFull = false;
-			} else {
-				fPointer--;
-			}
-			chunk.fCacheIndex = -1;
-			final Chunk move = fPageTable[fPointer];
-			fPageTable[idx] = move;
-			move.fCacheIndex = idx;
-			fPageTable[fPointer] = null;
+	public void remove(Chunk chunk) {
+		final Segment segment = getSegment(chunk.fDatabase, chunk.fSequenceNumber);
+		synchronized (segment) {
+			segment.remove(chunk);
 		}
 	}
 
 	/**
 	 * Returns the maximum size of the chunk cache in bytes.
 	 */
-	public synchronized long getMaxSize() {
-		return (long) fPageTable.length * Database.CHUNK_SIZE;
+	public long getMaxSize() {
+		return fMaxSize;
 	}
 
 	/**
 	 * Clears the page table and changes it to hold chunks with
-	 * maximum total memory of <code>maxSize</code>.
+	 * maximum total memory of <code>maxSize</code>. Each segment holds at least one chunk,
+	 * such that the effective maximum size may be larger than requested for very small sizes.
 	 * @param maxSize the total size of the chunks in bytes.
 	 */
 	public synchronized void setMaxSize(long maxSize) {
-		final int newLength = computeLength(maxSize);
-		final int oldLength = fTableIsFull ? fPageTable.length : fPointer;
-		if (newLength > oldLength) {
-			Chunk[] newTable = new Chunk[newLength];
-			System.arraycopy(fPageTable, 0, newTable, 0, oldLength);
-			fTableIsFull = false;
-			fPointer = oldLength;
-			fPageTable = newTable;
-		} else {
-			for (int i = newLength; i < oldLength; i++) {
-				final Chunk chunk = fPageTable[i];
-				chunk.fDatabase.releaseChunk(chunk);
-				chunk.fCacheIndex = -1;
+		final int length = computeLength(maxSize);
+		for (int i = 0; i < fSegments.length; i++) {
+			final Segment segment = fSegments[i];
+			synchronized (segment) {
+				segment.setLength(segmentLength(length, i));
+			}
+		}
+		fMaxSize = computeMaxSize();
+	}
+
+	/**
+	 * Returns the number of requests for chunks that were already present in the cache.
+	 */
+	public long getHitCount() {
+		return fHits.sum();
+	}
+
+	/**
+	 * Returns the number of requests for chunks that had to be added to the cache.
+	 */
+	public long getMissCount() {
+		return fMisses.sum();
+	}
+
+	/**
+	 * Returns the number of chunks that have been evicted from the cache to make room for
+	 * other chunks or because the cache was made smaller.
+	 */
+	public long getEvictionCount() {
+		return fEvictions.sum();
+	}
+
+	public void resetCounters() {
+		fHits.reset();
+		fMisses.reset();
+		fEvictions.reset();
+	}
+
+	private long computeMaxSize() {
+		long length = 0;
+		for (Segment segment : fSegments) {
+			synchronized (segment) {
+				length += segment.fPageTable.length;
 			}
-			Chunk[] newTable = new Chunk[newLength];
-			System.arraycopy(fPageTable, 0, newTable, 0, newLength);
-			fTableIsFull = true;
-			fPointer = 0;
-			fPageTable = newTable;
 		}
+		return length * Database.CHUNK_SIZE;
 	}
 
-	private int computeLength(long maxSize) {
+	private int segmentLength(int length, int segmentIndex) {
+		final int count = fSegments.length;
+		final int segmentLength = length / count + (segmentIndex < length % count ? 1 : 0);
+		return Math.max(1, segmentLength);
+	}
+
+	private static int computeLength(long maxSize) {
 		long maxLength = Math.min(maxSize / Database.CHUNK_SIZE, Integer.MAX_VALUE);
 		return Math.max(1, (int) maxLength);
 	}
+
+	/**
+	 * Page table for a part of the chunks, all methods must be called while holding the lock
+	 * on the segment.
+	 */
+	private final class Segment {
+		private Chunk[] fPageTable;
+		private boolean fTableIsFull;
+		private int fPointer;
+
+		Segment(int length) {
+			fPageTable = new Chunk[length];
+		}
+
+		void add(Chunk chunk, boolean locked) {
+			if (locked) {
+				chunk.fLocked = true;
+			}
+			if (chunk.fCacheIndex >= 0) {
+				chunk.fCacheHitFlag = true;
+				fHits.increment();
+				return;
+			}
+			fMisses.increment();
+			if (fTableIsFull) {
+				evictChunk();
+				chunk.fCacheIndex = fPointer;
+				fPageTable[fPointer] = chunk;
+			} else {
+				chunk.fCacheIndex = fPointer;
+				fPageTable[fPointer] = chunk;
+
+				fPointer++;
+				if (fPointer == fPageTable.length) {
+					fPointer = 0;
+					fTableIsFull = true;
+				}
+			}
+		}
+
+		/**
+		 * Evicts a chunk from the page table and the chunk table.
+		 * After this method returns, {@link #fPointer}  will contain
+		 * the index of the evicted chunk within the page table.
+		 */
+		private void evictChunk() {
+			/*
+			 * Use the CLOCK algorithm to determine which chunk to evict.
+			 * i.e., if the chunk in the current slot of the page table has been
+			 * recently referenced (i.e. the reference flag is set), unset the
+			 * reference flag and move to the next slot.  Otherwise, evict the
+			 * chunk in the current slot.
+			 */
+			while (true) {
+				Chunk chunk = fPageTable[fPointer];
+				if (chunk.fCacheHitFlag) {
+					chunk.fCacheHitFlag = false;
+					fPointer = (fPointer + 1) % fPageTable.length;
+				} else {
+					chunk.fDatabase.releaseChunk(chunk);
+					chunk.fCacheIndex = -1;
+					fPageTable[fPointer] = null;
+					fEvictions.increment();
+					return;
+				}
+			}
+		}
+
+		void remove(Chunk chunk) {
+			final int idx = chunk.fCacheIndex;
+			if (idx >= 0) {
+				if (fTableIsFull) {
+					fPointer = fPageTable.length - 1;
+					fTableIsFull = false;
+				} else {
+					fPointer--;
+				}
+				chunk.fCacheIndex = -1;
+				final Chunk move = fPageTable[fPointer];
+				fPageTable[idx] = move;
+				move.fCacheIndex = idx;
+				fPageTable[fPointer] = null;
+			}
+		}
+
+		void setLength(int newLength) {
+			final int oldLength = fTableIsFull ? fPageTable.length : fPointer;
+			if (newLength > oldLength) {
+				Chunk[] newTable = new Chunk[newLength];
+				System.arraycopy(fPageTable, 0, newTable, 0, oldLength);
+				fTableIsFull = false;
+				fPointer = oldLength;
+				fPageTable = newTable;
+			} else {
+				for (int i = newLength; i < oldLength; i++) {
+					final Chunk chunk = fPageTable[i];
+					chunk.fDatabase.releaseChunk(chunk);
+					chunk.fCacheIndex = -1;
+					fEvictions.increment();
+				}
+				Chunk[] newTable = new Chunk[newLength];
+				System.arraycopy(fPageTable, 0, newTable, 0, newLength);
+				fTableIsFull = true;
+				fPointer = 0;
+				fPageTable = newTable;
+			}
+		}
+	}
 }
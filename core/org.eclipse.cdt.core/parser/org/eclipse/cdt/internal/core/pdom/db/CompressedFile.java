@@ -0,0 +1,399 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom.db;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Storage for the chunks of a {@link Database} in a compressed file.
+ * <p>
+ * Chunks are grouped into groups of {@link #CHUNKS_PER_GROUP} consecutive chunks, each group is
+ * stored deflated at an arbitrary position of the file. An index of the positions follows the
+ * groups, the header at the start of the file points to the index.
+ * <p>
+ * Modified groups are kept in memory until the file is synchronized. Synchronizing writes the
+ * modified groups and the index to unused parts of the file and only then replaces the header.
+ * Thus a crash leaves the file with the content of the previous synchronization. A few
+ * decompressed groups are cached, such that reading consecutive chunks decompresses a group once.
+ */
+/*
+ * ===== The file starts with a header
+ *
+ * offset            content
+ * 	                 _____________________________
+ * 0                | MAGIC, negative such that it is not mistaken for the version of a database
+ * 4                | number of chunks
+ * 8                | number of chunks per group
+ * 12               | number of groups in the index
+ * 16               | position of the index
+ *
+ * ===== the index has an entry per group
+ *
+ * 0                | position of the deflated group
+ * 8                | length of the deflated group, 0 for a group that contains zeros, only
+ */
+final class CompressedFile {
+	static final int MAGIC = 0xCDB0C0DE;
+	static final int CHUNKS_PER_GROUP = 16;
+
+	private static final int GROUP_SIZE = CHUNKS_PER_GROUP * Database.CHUNK_SIZE;
+	private static final int HEADER_SIZE = 4 + 4 + 4 + 4 + 8;
+	private static final int INDEX_ENTRY_SIZE = 8 + 4;
+	private static final int CACHED_GROUPS = 8;
+	// Modified groups are written once their number exceeds the limit, to bound the memory used.
+	private static final int MAX_MODIFIED_GROUPS = 256;
+
+	private final boolean fReadOnly;
+	private int fChunkCount;
+	private boolean fChunkCountChanged;
+
+	// Position and length of the deflated groups as of the last synchronization.
+	private long[] fPositions;
+	private int[] fLengths;
+	private long fIndexPosition;
+	private int fIndexLength;
+
+	// Unused parts of the file, position to length, and the end of the used part.
+	private final TreeMap<Long, Long> fFreeSpace = new TreeMap<>();
+	private long fEnd;
+
+	private final TreeMap<Integer, byte[]> fModifiedGroups = new TreeMap<>();
+	private final Map<Integer, byte[]> fCachedGroups = new LinkedHashMap<Integer, byte[]>(CACHED_GROUPS, 0.75f,
+			true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, byte[]> eldest) {
+			return size() > CACHED_GROUPS;
+		}
+	};
+	private final Deflater fDeflater = new Deflater(Deflater.BEST_SPEED);
+	private final Inflater fInflater = new Inflater();
+
+	/**
+	 * Returns whether the given file is a compressed file.
+	 */
+	static boolean isCompressed(FileChannel channel) throws IOException {
+		ByteBuffer magic = ByteBuffer.allocate(4);
+		return channel.size() >= HEADER_SIZE && readFully(channel, magic, 0) && magic.getInt(0) == MAGIC;
+	}
+
+	/**
+	 * Replaces the content of the given file with an empty compressed file.
+	 */
+	static void create(FileChannel channel) throws IOException {
+		channel.truncate(0);
+		writeFully(channel, createHeader(0, 0, 0), 0);
+		channel.force(false);
+	}
+
+	/**
+	 * Opens a compressed file.
+	 *
+	 * @param channel the channel of the file, must be a compressed file.
+	 * @param readOnly whether the file is opened read-only.
+	 */
+	static CompressedFile open(FileChannel channel, boolean readOnly) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		if (!readFully(channel, header, 0) || header.getInt(0) != MAGIC
+				|| header.getInt(8) != CHUNKS_PER_GROUP) {
+			throw new IOException("Invalid header of compressed database"); //$NON-NLS-1$
+		}
+		final int groupCount = header.getInt(12);
+		final long indexPosition = header.getLong(16);
+		ByteBuffer index = ByteBuffer.allocate(groupCount * INDEX_ENTRY_SIZE);
+		if (!readFully(channel, index, indexPosition))
+			throw new IOException("Truncated index of compressed database"); //$NON-NLS-1$
+
+		CompressedFile file = new CompressedFile(readOnly, header.getInt(4), groupCount);
+		for (int i = 0; i < groupCount; i++) {
+			file.fPositions[i] = index.getLong(i * INDEX_ENTRY_SIZE);
+			file.fLengths[i] = index.getInt(i * INDEX_ENTRY_SIZE + 8);
+		}
+		file.fIndexPosition = indexPosition;
+		file.fIndexLength = index.capacity();
+		file.computeFreeSpace(channel);
+		return file;
+	}
+
+	private CompressedFile(boolean readOnly, int chunkCount, int groupCount) {
+		fReadOnly = readOnly;
+		fChunkCount = chunkCount;
+		fPositions = new long[groupCount];
+		fLengths = new int[groupCount];
+	}
+
+	private static ByteBuffer createHeader(int chunkCount, int groupCount, long indexPosition) {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.putInt(0, MAGIC);
+		header.putInt(4, chunkCount);
+		header.putInt(8, CHUNKS_PER_GROUP);
+		header.putInt(12, groupCount);
+		header.putLong(16, indexPosition);
+		return header;
+	}
+
+	private static boolean readFully(FileChannel channel, ByteBuffer buf, long position) throws IOException {
+		while (buf.hasRemaining()) {
+			int read = channel.read(buf, position);
+			if (read < 0)
+				return false;
+			position += read;
+		}
+		return true;
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buf, long position) throws IOException {
+		while (buf.hasRemaining()) {
+			position += channel.write(buf, position);
+		}
+	}
+
+	/**
+	 * Returns the number of chunks stored in the file, including the modified ones.
+	 */
+	synchronized int getChunkCount() {
+		return fChunkCount;
+	}
+
+	/**
+	 * Reads the remaining bytes of the buffer from the given position. Positions beyond the
+	 * chunks stored in the file read as zeros.
+	 */
+	synchronized void read(FileChannel channel, ByteBuffer buf, long position) throws IOException {
+		while (buf.hasRemaining()) {
+			final int groupIndex = (int) (position / GROUP_SIZE);
+			final int offset = (int) (position % GROUP_SIZE);
+			final int length = Math.min(buf.remaining(), GROUP_SIZE - offset);
+			byte[] group = getGroup(channel, groupIndex, false);
+			if (group != null) {
+				buf.put(group, offset, length);
+			} else {
+				for (int i = 0; i < length; i++) {
+					buf.put((byte) 0);
+				}
+			}
+			position += length;
+		}
+	}
+
+	/**
+	 * Writes the remaining bytes of the buffer to the given position. The bytes are written to
+	 * the file with the next synchronization.
+	 */
+	synchronized void write(FileChannel channel, ByteBuffer buf, long position) throws IOException {
+		assert !fReadOnly;
+		final long end = position + buf.remaining();
+		while (buf.hasRemaining()) {
+			final int groupIndex = (int) (position / GROUP_SIZE);
+			final int offset = (int) (position % GROUP_SIZE);
+			final int length = Math.min(buf.remaining(), GROUP_SIZE - offset);
+			buf.get(getGroup(channel, groupIndex, true), offset, length);
+			position += length;
+		}
+		final int chunkCount = (int) ((end + Database.CHUNK_SIZE - 1) / Database.CHUNK_SIZE);
+		if (chunkCount > fChunkCount) {
+			fChunkCount = chunkCount;
+			fChunkCountChanged = true;
+		}
+		if (fModifiedGroups.size() > MAX_MODIFIED_GROUPS) {
+			sync(channel);
+		}
+	}
+
+	/**
+	 * Reduces the number of chunks and synchronizes the file.
+	 */
+	synchronized void truncate(FileChannel channel, int chunkCount) throws IOException {
+		assert !fReadOnly;
+		if (chunkCount < fChunkCount) {
+			final int groupCount = (chunkCount + CHUNKS_PER_GROUP - 1) / CHUNKS_PER_GROUP;
+			fModifiedGroups.tailMap(groupCount).clear();
+			fCachedGroups.keySet().removeIf(group -> group >= groupCount);
+			final int remainder = chunkCount % CHUNKS_PER_GROUP;
+			if (remainder != 0) {
+				Arrays.fill(getGroup(channel, groupCount - 1, true), remainder * Database.CHUNK_SIZE, GROUP_SIZE,
+						(byte) 0);
+			}
+			fChunkCount = chunkCount;
+			fChunkCountChanged = true;
+		}
+		sync(channel);
+	}
+
+	/**
+	 * Returns the decompressed content of a group.
+	 *
+	 * @param modify whether the group is about to be modified, then it is created if necessary.
+	 * @return the content of the group or {@code null} if the group contains zeros, only, and is
+	 *     not about to be modified.
+	 */
+	private byte[] getGroup(FileChannel channel, int groupIndex, boolean modify) throws IOException {
+		byte[] group = fModifiedGroups.get(groupIndex);
+		if (group != null)
+			return group;
+
+		if (modify) {
+			group = fCachedGroups.remove(groupIndex);
+			if (group == null) {
+				group = loadGroup(channel, groupIndex);
+				if (group == null) {
+					group = new byte[GROUP_SIZE];
+				}
+			}
+			fModifiedGroups.put(groupIndex, group);
+		} else {
+			group = fCachedGroups.get(groupIndex);
+			if (group == null) {
+				group = loadGroup(channel, groupIndex);
+				if (group != null) {
+					fCachedGroups.put(groupIndex, group);
+				}
+			}
+		}
+		return group;
+	}
+
+	private byte[] loadGroup(FileChannel channel, int groupIndex) throws IOException {
+		if (groupIndex >= fLengths.length || fLengths[groupIndex] == 0)
+			return null;
+
+		ByteBuffer deflated = ByteBuffer.allocate(fLengths[groupIndex]);
+		if (!readFully(channel, deflated, fPositions[groupIndex]))
+			throw new IOException("Truncated group of compressed database"); //$NON-NLS-1$
+
+		byte[] group = new byte[GROUP_SIZE];
+		fInflater.reset();
+		fInflater.setInput(deflated.array());
+		try {
+			if (fInflater.inflate(group) != GROUP_SIZE || !fInflater.finished())
+				throw new IOException("Corrupted group of compressed database"); //$NON-NLS-1$
+		} catch (DataFormatException e) {
+			throw new IOException(e);
+		}
+		return group;
+	}
+
+	private byte[] deflate(byte[] group) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(GROUP_SIZE / 4);
+		byte[] buf = new byte[GROUP_SIZE / 4];
+		fDeflater.reset();
+		fDeflater.setInput(group);
+		fDeflater.finish();
+		while (!fDeflater.finished()) {
+			int length = fDeflater.deflate(buf);
+			out.write(buf, 0, length);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Writes the modified groups to the file. Space used by the previous content of the groups is
+	 * reused by later synchronizations, only.
+	 */
+	synchronized void sync(FileChannel channel) throws IOException {
+		if (fReadOnly || (fModifiedGroups.isEmpty() && !fChunkCountChanged))
+			return;
+
+		final int groupCount = (fChunkCount + CHUNKS_PER_GROUP - 1) / CHUNKS_PER_GROUP;
+		final long[] positions = Arrays.copyOf(fPositions, groupCount);
+		final int[] lengths = Arrays.copyOf(fLengths, groupCount);
+		for (Map.Entry<Integer, byte[]> entry : fModifiedGroups.entrySet()) {
+			final int groupIndex = entry.getKey();
+			final byte[] deflated = deflate(entry.getValue());
+			final long position = allocate(deflated.length);
+			writeFully(channel, ByteBuffer.wrap(deflated), position);
+			positions[groupIndex] = position;
+			lengths[groupIndex] = deflated.length;
+		}
+		final ByteBuffer index = ByteBuffer.allocate(groupCount * INDEX_ENTRY_SIZE);
+		for (int i = 0; i < groupCount; i++) {
+			index.putLong(positions[i]);
+			index.putInt(lengths[i]);
+		}
+		final long indexPosition = allocate(index.capacity());
+		writeFully(channel, index.flip(), indexPosition);
+
+		// The groups and the index have to be on disk before the header points to them.
+		channel.force(false);
+		writeFully(channel, createHeader(fChunkCount, groupCount, indexPosition), 0);
+		channel.force(false);
+
+		fPositions = positions;
+		fLengths = lengths;
+		fIndexPosition = indexPosition;
+		fIndexLength = index.capacity();
+		for (Iterator<Map.Entry<Integer, byte[]>> it = fModifiedGroups.entrySet().iterator(); it.hasNext();) {
+			Map.Entry<Integer, byte[]> entry = it.next();
+			fCachedGroups.put(entry.getKey(), entry.getValue());
+			it.remove();
+		}
+		fChunkCountChanged = false;
+		computeFreeSpace(channel);
+	}
+
+	/**
+	 * Returns the position of a part of the file with the given length that is not used by the
+	 * content of the last synchronization.
+	 */
+	private long allocate(long length) {
+		for (Map.Entry<Long, Long> free : fFreeSpace.entrySet()) {
+			if (free.getValue() >= length) {
+				final long position = free.getKey();
+				fFreeSpace.remove(position);
+				if (free.getValue() > length) {
+					fFreeSpace.put(position + length, free.getValue() - length);
+				}
+				return position;
+			}
+		}
+		final long position = fEnd;
+		fEnd += length;
+		return position;
+	}
+
+	/**
+	 * Determines the unused parts of the file from the groups and the index of the last
+	 * synchronization.
+	 */
+	private void computeFreeSpace(FileChannel channel) throws IOException {
+		final TreeMap<Long, Long> used = new TreeMap<>();
+		for (int i = 0; i < fLengths.length; i++) {
+			if (fLengths[i] > 0) {
+				used.put(fPositions[i], (long) fLengths[i]);
+			}
+		}
+		if (fIndexLength > 0) {
+			used.put(fIndexPosition, (long) fIndexLength);
+		}
+		fFreeSpace.clear();
+		long end = HEADER_SIZE;
+		for (Map.Entry<Long, Long> entry : used.entrySet()) {
+			if (entry.getKey() > end) {
+				fFreeSpace.put(end, entry.getKey() - end);
+			}
+			end = Math.max(end, entry.getKey() + entry.getValue());
+		}
+		fEnd = end;
+		if (!fReadOnly && channel.size() > end) {
+			channel.truncate(end);
+		}
+	}
+}
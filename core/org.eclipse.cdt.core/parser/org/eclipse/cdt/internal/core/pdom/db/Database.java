@@ -33,6 +33,7 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -60,6 +61,7 @@ import org.eclipse.osgi.util.NLS;
  * ..               | ...
  * INT_SIZE * m (1) | pointer to head of linked list of blocks of size (m + MIN_BLOCK_DELTAS) * BLOCK_SIZE_DELTA
  * DATA_AREA        | undefined (PDOM stores its own house-keeping data in this area)
+ * CHUNK_SIZE - 8   | epoch of the journal that belongs to the file (see DatabaseJournal)
  *
  * (1) where 2 <= m <= CHUNK_SIZE / BLOCK_SIZE_DELTA - MIN_BLOCK_DELTAS + 1
  *
@@ -95,6 +97,26 @@ public class Database {
 
 	public static final int VERSION_OFFSET = 0;
 	public static final int DATA_AREA = (CHUNK_SIZE / BLOCK_SIZE_DELTA - MIN_BLOCK_DELTAS + 2) * INT_SIZE;
+	public static final int JOURNAL_EPOCH_OFFSET = CHUNK_SIZE - 8;
+
+	/**
+	 * System property that enables reading database files through memory mappings rather than
+	 * positional reads, see {@link MappedFile}. The property is read whenever a database is opened.
+	 */
+	public static final String MEMORY_MAPPING_PROPERTY = "org.eclipse.cdt.core.parser.pdom.db.mmap"; //$NON-NLS-1$
+
+	/**
+	 * Whether modifications are written to a journal before they are copied to the database file,
+	 * see {@link DatabaseJournal}. Off by default, since every modified chunk is written twice.
+	 */
+	private static final boolean USE_JOURNAL = Boolean
+			.getBoolean("org.eclipse.cdt.core.parser.pdom.db.journal"); //$NON-NLS-1$
+
+	/**
+	 * The size of the journal that triggers copying the modifications to the database file.
+	 */
+	private static final long JOURNAL_CHECKPOINT_SIZE = Long
+			.getLong("org.eclipse.cdt.core.parser.pdom.db.journal.checkpoint", 16 * 1024 * 1024); //$NON-NLS-1$
 
 	private static final int BLOCK_PREV_OFFSET = BLOCK_HEADER_SIZE;
 	private static final int BLOCK_NEXT_OFFSET = BLOCK_HEADER_SIZE + INT_SIZE;
@@ -112,11 +134,14 @@ public class Database {
 	private int fChunksUsed;
 	private int fChunksAllocated;
 	private ChunkCache fCache;
+	private final MappedFile fMappedFile;
+	private final DatabaseJournal fJournal;
+	private final CompressedFile fCompressedFile;
 
 	private long malloced;
 	private long freed;
-	private long cacheHits;
-	private long cacheMisses;
+	private final LongAdder cacheHits = new LongAdder();
+	private final LongAdder cacheMisses = new LongAdder();
 
 	/** Soft reference wrapper to keep track of the record for disposed strings. */
 	private static class SoftStringRef extends SoftReference<IString> {
@@ -145,17 +170,69 @@ public class Database {
 	 * @throws CoreException
 	 */
 	public Database(File location, ChunkCache cache, int version, boolean openReadOnly) throws CoreException {
+		this(location, cache, version, openReadOnly, Boolean.getBoolean(MEMORY_MAPPING_PROPERTY));
+	}
+
+	/**
+	 * Construct a new Database object, creating a backing file if necessary.
+	 * @param location the local file path for the database
+	 * @param cache the cache to be used optimization
+	 * @param version the version number to store in the database (only applicable for new databases)
+	 * @param openReadOnly whether this Database object will ever need writing to
+	 * @param memoryMapped whether the file is read through memory mappings, chunks are used for
+	 *     modifying the database in either case.
+	 * @throws CoreException
+	 */
+	public Database(File location, ChunkCache cache, int version, boolean openReadOnly, boolean memoryMapped)
+			throws CoreException {
+		this(location, cache, version, openReadOnly, memoryMapped, USE_JOURNAL);
+	}
+
+	/**
+	 * Construct a new Database object, creating a backing file if necessary.
+	 * @param location the local file path for the database
+	 * @param cache the cache to be used optimization
+	 * @param version the version number to store in the database (only applicable for new databases)
+	 * @param openReadOnly whether this Database object will ever need writing to
+	 * @param memoryMapped whether the file is read through memory mappings, chunks are used for
+	 *     modifying the database in either case.
+	 * @param journaled whether modifications are written to a journal first, such that the
+	 *     database file is not left in an inconsistent state by a crash.
+	 * @throws CoreException
+	 */
+	public Database(File location, ChunkCache cache, int version, boolean openReadOnly, boolean memoryMapped,
+			boolean journaled) throws CoreException {
 		try {
 			fLocation = location;
 			fReadOnly = openReadOnly;
 			fCache = cache;
 			openFile();
-
-			int nChunksOnDisk = (int) (fFile.length() / CHUNK_SIZE);
+			fCompressedFile = CompressedFile.isCompressed(fFile.getChannel())
+					? CompressedFile.open(fFile.getChannel(), openReadOnly)
+					: null;
+			// Compressed files cannot be mapped.
+			fMappedFile = memoryMapped && fCompressedFile == null && MappedFile.isSupported() ? new MappedFile()
+					: null;
+			// A journal can only belong to a file with content.
+			int nChunksOnDisk = getChunkCountInFile();
+			// Recovers the modifications of a previous session that did not close the database.
+			fJournal = journaled ? DatabaseJournal.open(this, openReadOnly, JOURNAL_CHECKPOINT_SIZE) : null;
+			if (!journaled && !openReadOnly) {
+				// The database file is going to be modified without the journal.
+				DatabaseJournal.recoverAndDelete(this);
+			}
+			if (nChunksOnDisk > 0) {
+				nChunksOnDisk = getChunkCountInFile();
+			}
+			if (fJournal != null) {
+				nChunksOnDisk = Math.max(nChunksOnDisk, fJournal.getChunkCount());
+			}
 			fHeaderChunk = new Chunk(this, 0);
 			fHeaderChunk.fLocked = true; // Never makes it into the cache, needed to satisfy assertions.
 			if (nChunksOnDisk <= 0) {
 				fVersion = version;
+				// The version is written with the first flush.
+				fHeaderChunk.fDirty = !openReadOnly;
 				fChunks = new Chunk[1];
 				fChunksUsed = fChunksAllocated = fChunks.length;
 			} else {
@@ -173,11 +250,71 @@ public class Database {
 		fFile = new RandomAccessFile(fLocation, fReadOnly ? "r" : "rw"); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
+	/**
+	 * Creates an empty database file that stores the chunks compressed, see {@link CompressedFile}.
+	 * A database opened on the file keeps the format, also when it is cleared. Compressed files
+	 * are smaller, however modifications are written with a delay and reads are more expensive.
+	 * @param location the local file path for the database, an existing file is replaced.
+	 * @throws CoreException
+	 */
+	public static void createCompressedFile(File location) throws CoreException {
+		try (RandomAccessFile file = new RandomAccessFile(location, "rw")) { //$NON-NLS-1$
+			CompressedFile.create(file.getChannel());
+		} catch (IOException e) {
+			throw new CoreException(new DBStatus(e));
+		}
+	}
+
+	/**
+	 * Returns whether the given value at the start of a file identifies a compressed database file.
+	 * The version of such a file can be obtained via {@link #readVersion(File)}.
+	 */
+	public static boolean isCompressedFileHeader(int value) {
+		return value == CompressedFile.MAGIC;
+	}
+
+	/**
+	 * Reads the version of the database stored in the given file without opening the database.
+	 * @throws IOException
+	 */
+	public static int readVersion(File location) throws IOException {
+		try (RandomAccessFile file = new RandomAccessFile(location, "r")) { //$NON-NLS-1$
+			final FileChannel channel = file.getChannel();
+			final ByteBuffer buf = ByteBuffer.allocate(INT_SIZE);
+			if (CompressedFile.isCompressed(channel)) {
+				CompressedFile.open(channel, true).read(channel, buf, VERSION_OFFSET);
+			} else if (channel.read(buf, VERSION_OFFSET) < INT_SIZE) {
+				return 0;
+			}
+			return buf.getInt(0);
+		}
+	}
+
 	void read(ByteBuffer buf, long position) throws IOException {
+		if (fJournal != null && fJournal.read(buf, position)) {
+			return;
+		}
+		readFromFile(buf, position);
+	}
+
+	void readFromFile(ByteBuffer buf, long position) throws IOException {
+		// While the database is modified, the file may be truncated or closed, which requires that
+		// it is not mapped.
+		if (fMappedFile != null && !fExclusiveLock) {
+			ByteBuffer segment = fMappedFile.getSegment(fFile.getChannel(), position, buf.remaining());
+			if (segment != null) {
+				MappedFile.read(segment, position, buf);
+				return;
+			}
+		}
 		int retries = 0;
 		do {
 			try {
-				fFile.getChannel().read(buf, position);
+				if (fCompressedFile != null) {
+					fCompressedFile.read(fFile.getChannel(), buf, position);
+				} else {
+					fFile.getChannel().read(buf, position);
+				}
 				return;
 			} catch (ClosedChannelException e) {
 				// Bug 219834 file may have be closed by interrupting a thread during an I/O operation.
@@ -187,10 +324,22 @@ public class Database {
 	}
 
 	void write(ByteBuffer buf, long position) throws IOException {
+		if (fJournal != null) {
+			fJournal.write(buf, position);
+		} else {
+			writeToFile(buf, position);
+		}
+	}
+
+	void writeToFile(ByteBuffer buf, long position) throws IOException {
 		int retries = 0;
 		while (true) {
 			try {
-				fFile.getChannel().write(buf, position);
+				if (fCompressedFile != null) {
+					fCompressedFile.write(fFile.getChannel(), buf, position);
+				} else {
+					fFile.getChannel().write(buf, position);
+				}
 				return;
 			} catch (ClosedChannelException e) {
 				// Bug 219834 file may have be closed by interrupting a thread during an I/O operation.
@@ -199,6 +348,18 @@ public class Database {
 		}
 	}
 
+	int getChunkCountInFile() throws IOException {
+		return fCompressedFile != null ? fCompressedFile.getChunkCount() : (int) (fFile.length() / CHUNK_SIZE);
+	}
+
+	void force() throws IOException {
+		if (fCompressedFile != null) {
+			fCompressedFile.sync(fFile.getChannel()); // Forces the file.
+		} else {
+			fFile.getChannel().force(false);
+		}
+	}
+
 	private void reopen(ClosedChannelException e, int attempt) throws ClosedChannelException, FileNotFoundException {
 		// Only if the current thread was not interrupted we try to reopen the file.
 		if (e instanceof ClosedByInterruptException || attempt >= 20) {
@@ -209,6 +370,12 @@ public class Database {
 
 	public void transferTo(FileChannel target) throws IOException {
 		assert fLocked;
+		if (fJournal != null) {
+			fJournal.checkpoint();
+		}
+		if (fCompressedFile != null) {
+			fCompressedFile.sync(fFile.getChannel());
+		}
 		final FileChannel from = fFile.getChannel();
 		long nRead = 0;
 		long position = 0;
@@ -248,8 +415,24 @@ public class Database {
 		fChunks = new Chunk[] { null };
 		fChunksUsed = fChunksAllocated = fChunks.length;
 		try {
-			fHeaderChunk.flush(); // Zero out header chunk.
-			fFile.getChannel().truncate(CHUNK_SIZE); // Truncate database.
+			// Zero out header chunk.
+			if (fJournal != null) {
+				writeToFile(ByteBuffer.wrap(new byte[CHUNK_SIZE]), 0);
+				fHeaderChunk.fDirty = false;
+			} else {
+				fHeaderChunk.flush();
+			}
+			if (fMappedFile != null) {
+				fMappedFile.clear(); // Accessing truncated parts of a mapping is fatal.
+			}
+			if (fCompressedFile != null) {
+				fCompressedFile.truncate(fFile.getChannel(), 1);
+			} else {
+				fFile.getChannel().truncate(CHUNK_SIZE); // Truncate database.
+			}
+			if (fJournal != null) {
+				fJournal.reset(); // The journal refers to the previous content.
+			}
 		} catch (IOException e) {
 			CCorePlugin.log(e);
 		}
@@ -274,8 +457,8 @@ public class Database {
 	}
 
 	private void removeChunksFromCache() {
-		synchronized (fCache) {
-			for (int i = 1; i < fChunks.length; i++) {
+		for (int i = 1; i < fChunks.length; i++) {
+			synchronized (fCache.getLock(this, i)) {
 				Chunk chunk = fChunks[i];
 				if (chunk != null) {
 					fCache.remove(chunk);
@@ -296,27 +479,52 @@ public class Database {
 		long long_index = offset / CHUNK_SIZE;
 		assert long_index < Integer.MAX_VALUE;
 
-		synchronized (fCache) {
+		final int index = (int) long_index;
+		synchronized (fCache.getLock(this, index)) {
 			assert fLocked;
-			final int index = (int) long_index;
 			if (index < 0 || index >= fChunks.length) {
 				databaseCorruptionDetected();
 			}
 			Chunk chunk = fChunks[index];
 			if (chunk == null) {
-				cacheMisses++;
+				cacheMisses.increment();
 				chunk = new Chunk(this, index);
 				chunk.read();
 				// Put the chunk in fChunks after it was read successfully.
 				fChunks[index] = chunk;
 			} else {
-				cacheHits++;
+				cacheHits.increment();
 			}
 			fCache.add(chunk, fExclusiveLock);
 			return chunk;
 		}
 	}
 
+	/**
+	 * Returns the memory mapped segment to read the given range from, or {@code null} if the range
+	 * has to be read from a chunk. Mapped memory is used only when the database is not being
+	 * modified and the chunk is not cached, otherwise the chunk may have newer content than
+	 * the file.
+	 */
+	private ByteBuffer getMappedSegment(long offset, int length) throws CoreException {
+		if (fMappedFile == null || fExclusiveLock || offset < CHUNK_SIZE) {
+			return null;
+		}
+		final long index = offset / CHUNK_SIZE;
+		final Chunk[] chunks = fChunks;
+		if (index >= chunks.length || chunks[(int) index] != null) {
+			return null;
+		}
+		if (fJournal != null && fJournal.contains((int) index)) {
+			return null; // The chunk has not been copied to the file, yet.
+		}
+		try {
+			return fMappedFile.getSegment(fFile.getChannel(), offset, length);
+		} catch (IOException e) {
+			throw new CoreException(new DBStatus(e));
+		}
+	}
+
 	private void databaseCorruptionDetected() throws CoreException {
 		String msg = MessageFormat.format(Messages.getString("Database.CorruptedDatabase"), //$NON-NLS-1$
 				new Object[] { fLocation.getName() });
@@ -376,9 +584,11 @@ public class Database {
 
 	private long createNewChunk() throws CoreException {
 		assert fExclusiveLock;
-		synchronized (fCache) {
-			final int newChunkIndex = fChunksUsed; // fChunks.length;
-
+		final int newChunkIndex = fChunksUsed; // fChunks.length;
+		synchronized (fCache.getLock(this, newChunkIndex)) {
+			// Chunks of this database may be evicted by other threads while the table is copied, in
+			// that case the evicted chunk stays in the new table and is put back into the cache on
+			// the next access.
 			final Chunk chunk = new Chunk(this, newChunkIndex);
 			chunk.fDirty = true;
 
@@ -417,8 +627,8 @@ public class Database {
 	 */
 	private long createNewChunks(int numChunks) throws CoreException {
 		assert fExclusiveLock;
-		synchronized (fCache) {
-			final int oldLen = fChunks.length;
+		final int oldLen = fChunks.length;
+		synchronized (fCache.getLock(this, oldLen + numChunks - 1)) {
 			Chunk[] newchunks = new Chunk[oldLen + numChunks];
 			System.arraycopy(fChunks, 0, newchunks, 0, oldLen);
 			for (int i = oldLen; i < oldLen + numChunks; i++) {
@@ -499,6 +709,9 @@ public class Database {
 	}
 
 	public byte getByte(long offset) throws CoreException {
+		final ByteBuffer segment = getMappedSegment(offset, 1);
+		if (segment != null)
+			return segment.get(MappedFile.toSegmentOffset(offset));
 		return getChunk(offset).getByte(offset);
 	}
 
@@ -507,6 +720,9 @@ public class Database {
 	}
 
 	public int getInt(long offset) throws CoreException {
+		final ByteBuffer segment = getMappedSegment(offset, INT_SIZE);
+		if (segment != null)
+			return segment.getInt(MappedFile.toSegmentOffset(offset));
 		return getChunk(offset).getInt(offset);
 	}
 
@@ -515,6 +731,11 @@ public class Database {
 	}
 
 	public long getRecPtr(long offset) throws CoreException {
+		final ByteBuffer segment = getMappedSegment(offset, PTR_SIZE);
+		if (segment != null) {
+			long address = Chunk.expandToFreeRecPtr(segment.getInt(MappedFile.toSegmentOffset(offset)));
+			return address != 0 ? (address + BLOCK_HEADER_SIZE) : address;
+		}
 		return getChunk(offset).getRecPtr(offset);
 	}
 
@@ -531,6 +752,11 @@ public class Database {
 	}
 
 	public int get3ByteUnsignedInt(long offset) throws CoreException {
+		final ByteBuffer segment = getMappedSegment(offset, 3);
+		if (segment != null) {
+			int idx = MappedFile.toSegmentOffset(offset);
+			return ((segment.get(idx) & 0xff) << 16) | ((segment.get(++idx) & 0xff) << 8) | (segment.get(++idx) & 0xff);
+		}
 		return getChunk(offset).get3ByteUnsignedInt(offset);
 	}
 
@@ -539,6 +765,9 @@ public class Database {
 	}
 
 	public short getShort(long offset) throws CoreException {
+		final ByteBuffer segment = getMappedSegment(offset, 2);
+		if (segment != null)
+			return segment.getShort(MappedFile.toSegmentOffset(offset));
 		return getChunk(offset).getShort(offset);
 	}
 
@@ -547,6 +776,9 @@ public class Database {
 	}
 
 	public long getLong(long offset) throws CoreException {
+		final ByteBuffer segment = getMappedSegment(offset, 8);
+		if (segment != null)
+			return segment.getLong(MappedFile.toSegmentOffset(offset));
 		return getChunk(offset).getLong(offset);
 	}
 
@@ -555,9 +787,36 @@ public class Database {
 	}
 
 	public char getChar(long offset) throws CoreException {
+		final ByteBuffer segment = getMappedSegment(offset, 2);
+		if (segment != null)
+			return segment.getChar(MappedFile.toSegmentOffset(offset));
 		return getChunk(offset).getChar(offset);
 	}
 
+	public void getChars(long offset, char[] result, int start, int len) throws CoreException {
+		final ByteBuffer segment = getMappedSegment(offset, 2 * len);
+		if (segment != null) {
+			int idx = MappedFile.toSegmentOffset(offset);
+			for (int i = start; i < start + len; i++, idx += 2) {
+				result[i] = segment.getChar(idx);
+			}
+			return;
+		}
+		getChunk(offset).getChars(offset, result, start, len);
+	}
+
+	public void getCharsFromBytes(long offset, char[] result, int start, int len) throws CoreException {
+		final ByteBuffer segment = getMappedSegment(offset, len);
+		if (segment != null) {
+			int idx = MappedFile.toSegmentOffset(offset);
+			for (int i = start; i < start + len; i++) {
+				result[i] = (char) (segment.get(idx++) & 0xff);
+			}
+			return;
+		}
+		getChunk(offset).getCharsFromBytes(offset, result, start, len);
+	}
+
 	public void clearBytes(long offset, int byteCount) throws CoreException {
 		getChunk(offset).clear(offset, byteCount);
 	}
@@ -571,10 +830,15 @@ public class Database {
 	}
 
 	public void getBytes(long offset, byte[] data) throws CoreException {
-		getChunk(offset).get(offset, data);
+		getBytes(offset, data, 0, data.length);
 	}
 
 	public void getBytes(long offset, byte[] data, int dataPos, int len) throws CoreException {
+		final ByteBuffer segment = getMappedSegment(offset, len);
+		if (segment != null) {
+			MappedFile.read(segment, offset, ByteBuffer.wrap(data, dataPos, len));
+			return;
+		}
 		getChunk(offset).get(offset, data, dataPos, len);
 	}
 
@@ -674,7 +938,16 @@ public class Database {
 		fHeaderChunk.fDirty = false;
 		fChunks = new Chunk[] { null };
 		fChunksUsed = fChunksAllocated = fChunks.length;
+		if (fMappedFile != null) {
+			fMappedFile.clear();
+		}
 		try {
+			if (fJournal != null) {
+				fJournal.close();
+			}
+			if (fCompressedFile != null) {
+				fCompressedFile.sync(fFile.getChannel());
+			}
 			fFile.close();
 		} catch (IOException e) {
 			throw new CoreException(new DBStatus(e));
@@ -682,6 +955,14 @@ public class Database {
 		clearStringCache();
 	}
 
+	/**
+	 * This method is public for testing purposes only. Returns the number of mapped segments
+	 * that have been replaced by larger ones and are not yet unmapped.
+	 */
+	public int getReplacedSegmentCount() {
+		return fMappedFile != null ? fMappedFile.getReplacedSegmentCount() : 0;
+	}
+
 	/**
 	 * This method is public for testing purposes only.
 	 */
@@ -690,7 +971,8 @@ public class Database {
 	}
 
 	/**
-	 * Called from any thread via the cache, protected by {@link #fCache}.
+	 * Called from any thread via the cache, protected by the lock of the cache segment
+	 * for the chunk, see {@link ChunkCache#getLock(Database, int)}.
 	 */
 	void releaseChunk(final Chunk chunk) {
 		if (!chunk.fLocked) {
@@ -713,6 +995,11 @@ public class Database {
 	public void setExclusiveLock() {
 		fExclusiveLock = true;
 		fLocked = true;
+		if (fMappedFile != null) {
+			// Nobody reads from the mapping while the database is modified, segments replaced by
+			// the readers since the last modification can be unmapped.
+			fMappedFile.releaseReplacedSegments();
+		}
 	}
 
 	public void setLocked(boolean val) {
@@ -723,8 +1010,8 @@ public class Database {
 		if (fExclusiveLock) {
 			try {
 				ArrayList<Chunk> dirtyChunks = new ArrayList<>();
-				synchronized (fCache) {
-					for (int i = 1; i < fChunksUsed; i++) {
+				for (int i = 1; i < fChunksUsed; i++) {
+					synchronized (fCache.getLock(this, i)) {
 						Chunk chunk = fChunks[i];
 						if (chunk != null) {
 							if (chunk.fCacheIndex < 0) {
@@ -771,8 +1058,8 @@ public class Database {
 
 		// Be careful as other readers may access chunks concurrently.
 		ArrayList<Chunk> dirtyChunks = new ArrayList<>();
-		synchronized (fCache) {
-			for (int i = 1; i < fChunksUsed; i++) {
+		for (int i = 1; i < fChunksUsed; i++) {
+			synchronized (fCache.getLock(this, i)) {
 				Chunk chunk = fChunks[i];
 				if (chunk != null && chunk.fDirty) {
 					dirtyChunks.add(chunk);
@@ -794,10 +1081,10 @@ public class Database {
 	}
 
 	private void flushAndUnlockChunks(final ArrayList<Chunk> dirtyChunks, boolean isComplete) throws CoreException {
-		assert !Thread.holdsLock(fCache);
 		synchronized (fHeaderChunk) {
 			final boolean haveDirtyChunks = !dirtyChunks.isEmpty();
-			if (haveDirtyChunks || fHeaderChunk.fDirty) {
+			if (fJournal == null && (haveDirtyChunks || fHeaderChunk.fDirty)) {
+				// Without a journal, the chunks are written to the database file right away.
 				markFileIncomplete();
 			}
 			if (haveDirtyChunks) {
@@ -808,8 +1095,8 @@ public class Database {
 				}
 
 				// Only after the chunks are flushed we may unlock and release them.
-				synchronized (fCache) {
-					for (Chunk chunk : dirtyChunks) {
+				for (Chunk chunk : dirtyChunks) {
+					synchronized (fCache.getLock(this, chunk.fSequenceNumber)) {
 						chunk.fLocked = false;
 						if (chunk.fCacheIndex < 0) {
 							fChunks[chunk.fSequenceNumber] = null;
@@ -824,6 +1111,16 @@ public class Database {
 					fHeaderChunk.flush();
 					fIsMarkedIncomplete = false;
 				}
+				try {
+					if (fJournal != null) {
+						fJournal.commit();
+					} else if (fCompressedFile != null) {
+						// Without a journal, the compressed file is consistent after complete flushes.
+						fCompressedFile.sync(fFile.getChannel());
+					}
+				} catch (IOException e) {
+					throw new CoreException(new DBStatus(e));
+				}
 			}
 		}
 	}
@@ -833,7 +1130,7 @@ public class Database {
 			fIsMarkedIncomplete = true;
 			try {
 				final ByteBuffer buf = ByteBuffer.wrap(new byte[4]);
-				fFile.getChannel().write(buf, 0);
+				writeToFile(buf, 0);
 			} catch (IOException e) {
 				throw new CoreException(new DBStatus(e));
 			}
@@ -841,15 +1138,37 @@ public class Database {
 	}
 
 	public void resetCacheCounters() {
-		cacheHits = cacheMisses = 0;
+		cacheHits.reset();
+		cacheMisses.reset();
 	}
 
 	public long getCacheHits() {
-		return cacheHits;
+		return cacheHits.sum();
 	}
 
 	public long getCacheMisses() {
-		return cacheMisses;
+		return cacheMisses.sum();
+	}
+
+	/**
+	 * Returns whether the file is read through memory mappings.
+	 */
+	public boolean isMemoryMapped() {
+		return fMappedFile != null;
+	}
+
+	/**
+	 * Returns whether modifications are written to a journal first, see {@link DatabaseJournal}.
+	 */
+	public boolean isJournaled() {
+		return fJournal != null;
+	}
+
+	/**
+	 * Returns whether the chunks are stored compressed, see {@link #createCompressedFile(File)}.
+	 */
+	public boolean isCompressed() {
+		return fCompressedFile != null;
 	}
 
 	public long getSizeBytes() {
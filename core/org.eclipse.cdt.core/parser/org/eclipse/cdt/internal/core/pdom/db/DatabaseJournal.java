@@ -0,0 +1,376 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom.db;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead journal for the chunks of a {@link Database}.
+ * <p>
+ * Modified chunks are appended to the journal rather than written to the database file. A flush
+ * that leaves the database in a consistent state commits the chunks written since the previous
+ * commit. Committed chunks are copied to the database file by a checkpoint, which happens when
+ * the journal exceeds a size limit and when the database is closed. Thus the database file is
+ * changed only by checkpoints and each checkpoint writes a bounded number of chunks.
+ * <p>
+ * When a database is opened, the committed chunks of a journal left behind by a crash are
+ * copied to the database file, chunks that were not committed are discarded. Chunks that are
+ * in the journal are read from there until they have been copied to the database file.
+ * <p>
+ * A journal belongs to the database file that stores the same epoch in its header chunk, at
+ * {@link Database#JOURNAL_EPOCH_OFFSET}. A new epoch is stored in the database file whenever the
+ * journal is emptied, such that a journal is never applied to a file that was changed without
+ * it. A checkpoint does not change the epoch, so copying the chunks again after a crash during a
+ * checkpoint yields the same content.
+ */
+/*
+ * ===== The journal starts with a header
+ *
+ * offset            content
+ * 	                 _____________________________
+ * 0                | magic number
+ * 4                | epoch, the same as in the header chunk of the database file
+ *
+ * ===== followed by a sequence of entries, a chunk
+ *
+ * 0                | sequence number of the chunk (>= 0)
+ * 4                | content of the chunk (CHUNK_SIZE bytes)
+ *
+ * ===== or a commit
+ *
+ * 0                | COMMIT
+ * 4                | number of chunks since the previous commit
+ * 8                | CRC32 of the chunks since the previous commit, including their sequence numbers
+ */
+final class DatabaseJournal {
+	private static final int MAGIC = 0x43445431; // CDT1
+	private static final int HEADER_SIZE = 4 + 8;
+	private static final int ENTRY_SIZE = 4 + Database.CHUNK_SIZE;
+	private static final int COMMIT = -1;
+	private static final int COMMIT_SIZE = 4 + 4 + 8;
+
+	private final File fLocation;
+	private final Database fDatabase;
+	private final RandomAccessFile fFile;
+	private final boolean fReadOnly;
+	private final long fCheckpointSize;
+	private long fLength;
+	private long fEpoch;
+
+	// Positions of the latest content of chunks in the journal, by sequence number. Checkpoints
+	// write the chunks in the order of the database file.
+	private final ConcurrentSkipListMap<Integer, Long> fCommitted = new ConcurrentSkipListMap<>();
+	private final Map<Integer, Long> fPending = new ConcurrentHashMap<>();
+	private final CRC32 fChecksum = new CRC32();
+	private final ByteBuffer fEntryHeader = ByteBuffer.allocate(4);
+
+	/**
+	 * Opens the journal for the given database file and recovers the committed chunks. Returns
+	 * {@code null} for a read-only database without a journal.
+	 *
+	 * @param database the database, its file has to be open
+	 * @param readOnly whether the database is opened read-only, in that case the committed chunks
+	 *     are read from the journal instead of being copied to the database file.
+	 * @param checkpointSize the size of the journal in bytes that triggers a checkpoint
+	 */
+	static DatabaseJournal open(Database database, boolean readOnly, long checkpointSize) throws IOException {
+		File location = getLocation(database);
+		if (readOnly && !location.exists())
+			return null;
+		DatabaseJournal journal = new DatabaseJournal(location, database, readOnly, checkpointSize);
+		journal.recover();
+		return journal;
+	}
+
+	/**
+	 * Copies the committed chunks of a journal left behind by a crash to the database file and
+	 * deletes the journal. To be called before the database file is modified without a journal.
+	 */
+	static void recoverAndDelete(Database database) throws IOException {
+		File location = getLocation(database);
+		if (location.exists()) {
+			DatabaseJournal journal = new DatabaseJournal(location, database, false, Long.MAX_VALUE);
+			journal.recover();
+			journal.close();
+		}
+	}
+
+	private static File getLocation(Database database) {
+		return new File(database.getLocation().getPath() + ".journal"); //$NON-NLS-1$
+	}
+
+	private DatabaseJournal(File location, Database database, boolean readOnly, long checkpointSize)
+			throws IOException {
+		fLocation = location;
+		fDatabase = database;
+		fReadOnly = readOnly;
+		fCheckpointSize = checkpointSize;
+		fFile = new RandomAccessFile(location, readOnly ? "r" : "rw"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private void recover() throws IOException {
+		final FileChannel channel = fFile.getChannel();
+		final long size = channel.size();
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		// The journal is valid only for the database file with the same epoch.
+		final long epoch = readEpoch();
+		boolean valid = epoch != 0 && readFully(channel, header, 0) && header.getInt(0) == MAGIC
+				&& header.getLong(4) == epoch;
+		fEpoch = valid ? epoch : 0;
+		fLength = HEADER_SIZE;
+		if (valid) {
+			// Collect the chunks of transactions with a valid commit.
+			final Map<Integer, Long> transaction = new HashMap<>();
+			final ByteBuffer entry = ByteBuffer.allocate(ENTRY_SIZE);
+			final ByteBuffer commit = ByteBuffer.allocate(COMMIT_SIZE);
+			long position = HEADER_SIZE;
+			while (position < size) {
+				entry.clear().limit(4);
+				if (!readFully(channel, entry, position))
+					break;
+				final int sequenceNumber = entry.getInt(0);
+				if (sequenceNumber == COMMIT) {
+					if (!readFully(channel, commit.clear(), position)
+							|| commit.getInt(4) != transaction.size()
+							|| commit.getLong(8) != fChecksum.getValue()) {
+						break;
+					}
+					fCommitted.putAll(transaction);
+					transaction.clear();
+					fChecksum.reset();
+					position += COMMIT_SIZE;
+					fLength = position;
+				} else {
+					entry.clear();
+					if (sequenceNumber < 0 || !readFully(channel, entry, position))
+						break;
+					fChecksum.update(entry.flip());
+					transaction.put(sequenceNumber, position + 4);
+					position += ENTRY_SIZE;
+				}
+			}
+			fChecksum.reset();
+		}
+		if (fReadOnly) {
+			if (!valid)
+				fCommitted.clear();
+			return;
+		}
+		if (!fCommitted.isEmpty()) {
+			checkpoint();
+		} else {
+			reset();
+		}
+	}
+
+	/**
+	 * Reads the epoch stored in the header chunk of the database file.
+	 */
+	private long readEpoch() throws IOException {
+		if (fDatabase.getChunkCountInFile() == 0)
+			return 0;
+		final ByteBuffer buf = ByteBuffer.allocate(Database.CHUNK_SIZE);
+		fDatabase.readFromFile(buf, 0);
+		return buf.getLong(Database.JOURNAL_EPOCH_OFFSET);
+	}
+
+	/**
+	 * Stores a new epoch in the header chunk of the database file.
+	 */
+	private void writeEpoch(long epoch) throws IOException {
+		final ByteBuffer buf = ByteBuffer.allocate(Database.CHUNK_SIZE);
+		if (fDatabase.getChunkCountInFile() > 0) {
+			fDatabase.readFromFile(buf, 0);
+		}
+		buf.putLong(Database.JOURNAL_EPOCH_OFFSET, epoch);
+		buf.clear();
+		fDatabase.writeToFile(buf, 0);
+		fDatabase.force();
+	}
+
+	private static boolean readFully(FileChannel channel, ByteBuffer buf, long position) throws IOException {
+		while (buf.hasRemaining()) {
+			int read = channel.read(buf, position);
+			if (read < 0)
+				return false;
+			position += read;
+		}
+		return true;
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buf, long position) throws IOException {
+		while (buf.hasRemaining()) {
+			position += channel.write(buf, position);
+		}
+	}
+
+	/**
+	 * Reads the content of a chunk if it is stored in the journal.
+	 *
+	 * @return whether the chunk was read from the journal
+	 */
+	boolean read(ByteBuffer buf, long position) throws IOException {
+		assert position % Database.CHUNK_SIZE == 0 && buf.remaining() == Database.CHUNK_SIZE;
+		final int sequenceNumber = (int) (position / Database.CHUNK_SIZE);
+		if (!contains(sequenceNumber))
+			return false;
+
+		synchronized (this) {
+			// Look up again, a checkpoint may have copied the chunk to the database file meanwhile.
+			Long journalPosition = fPending.get(sequenceNumber);
+			if (journalPosition == null) {
+				journalPosition = fCommitted.get(sequenceNumber);
+				if (journalPosition == null)
+					return false;
+			}
+			return readFully(fFile.getChannel(), buf, journalPosition);
+		}
+	}
+
+	/**
+	 * Returns whether the journal contains content for the chunk with the given sequence number.
+	 */
+	boolean contains(int sequenceNumber) {
+		return fPending.containsKey(sequenceNumber) || fCommitted.containsKey(sequenceNumber);
+	}
+
+	/**
+	 * Returns the number of chunks of the database, as far as it is known to the journal.
+	 */
+	int getChunkCount() {
+		return fCommitted.isEmpty() ? 0 : fCommitted.lastKey() + 1;
+	}
+
+	/**
+	 * Appends the content of a chunk to the journal.
+	 */
+	synchronized void write(ByteBuffer buf, long position) throws IOException {
+		assert !fReadOnly;
+		assert position % Database.CHUNK_SIZE == 0 && buf.remaining() == Database.CHUNK_SIZE;
+		final int sequenceNumber = (int) (position / Database.CHUNK_SIZE);
+		final FileChannel channel = fFile.getChannel();
+		fEntryHeader.clear();
+		fEntryHeader.putInt(0, sequenceNumber);
+		fChecksum.update(fEntryHeader);
+		fChecksum.update(buf.duplicate());
+		fEntryHeader.clear();
+		writeFully(channel, fEntryHeader, fLength);
+		writeFully(channel, buf, fLength + 4);
+		fPending.put(sequenceNumber, fLength + 4);
+		fLength += ENTRY_SIZE;
+	}
+
+	/**
+	 * Commits the chunks written since the previous commit. Performs a checkpoint if the journal
+	 * has grown beyond its size limit.
+	 */
+	synchronized void commit() throws IOException {
+		if (fPending.isEmpty())
+			return;
+
+		ByteBuffer commit = ByteBuffer.allocate(COMMIT_SIZE);
+		commit.putInt(0, COMMIT);
+		commit.putInt(4, fPending.size());
+		commit.putLong(8, fChecksum.getValue());
+		writeFully(fFile.getChannel(), commit, fLength);
+		fLength += COMMIT_SIZE;
+		fCommitted.putAll(fPending);
+		fPending.clear();
+		fChecksum.reset();
+		if (fLength >= fCheckpointSize) {
+			checkpoint();
+		}
+	}
+
+	/**
+	 * Copies the committed chunks to the database file. The journal is emptied unless there are
+	 * chunks that are not committed, yet.
+	 */
+	synchronized void checkpoint() throws IOException {
+		assert !fReadOnly;
+		if (fCommitted.isEmpty())
+			return;
+
+		// The commits have to be on disk before the database file is modified.
+		final FileChannel channel = fFile.getChannel();
+		channel.force(false);
+		final ByteBuffer buf = ByteBuffer.allocate(Database.CHUNK_SIZE);
+		for (Map.Entry<Integer, Long> entry : fCommitted.entrySet()) {
+			readFully(channel, buf.clear(), entry.getValue());
+			buf.flip();
+			if (entry.getKey() == 0) {
+				// The database file keeps the epoch until the journal is emptied.
+				buf.putLong(Database.JOURNAL_EPOCH_OFFSET, fEpoch);
+			}
+			fDatabase.writeToFile(buf, (long) entry.getKey() * Database.CHUNK_SIZE);
+		}
+		// The database file has to be on disk before the journal is emptied.
+		fDatabase.force();
+		if (fPending.isEmpty()) {
+			reset();
+		} else {
+			// Replaying the committed chunks again is harmless, the journal is kept for the others.
+			fCommitted.clear();
+		}
+	}
+
+	/**
+	 * Discards the content of the journal. To be called after the database file has been changed
+	 * without the journal.
+	 */
+	synchronized void reset() throws IOException {
+		assert !fReadOnly;
+		fCommitted.clear();
+		fPending.clear();
+		fChecksum.reset();
+		// A new epoch detaches the database file from the previous content of the journal, also
+		// if the journal cannot be emptied.
+		long epoch;
+		do {
+			epoch = ThreadLocalRandom.current().nextLong();
+		} while (epoch == 0 || epoch == fEpoch);
+		writeEpoch(epoch);
+		fEpoch = epoch;
+
+		final FileChannel channel = fFile.getChannel();
+		channel.truncate(0);
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.putInt(0, MAGIC);
+		header.putLong(4, fEpoch);
+		writeFully(channel, header, 0);
+		fLength = HEADER_SIZE;
+	}
+
+	/**
+	 * Checkpoints and deletes the journal.
+	 */
+	synchronized void close() throws IOException {
+		if (!fReadOnly) {
+			fPending.clear(); // Chunks that were not committed are discarded, like after a crash.
+			fChecksum.reset();
+			checkpoint();
+		}
+		fFile.close();
+		if (!fReadOnly) {
+			fLocation.delete();
+		}
+	}
+}
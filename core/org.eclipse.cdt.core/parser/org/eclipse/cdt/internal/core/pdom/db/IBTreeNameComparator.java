@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom.db;
+
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Comparator for B-trees whose records are ordered by their names first, using
+ * {@link IString#compareCompatibleWithIgnoreCase(IString)}. Records with different names must
+ * compare like their names. Such B-trees store a prefix of the name of each record inline, see
+ * {@link BTreeInlineName}.
+ */
+public interface IBTreeNameComparator extends IBTreeComparator {
+	/**
+	 * Returns the name of the record. The name must not change while the record is stored in
+	 * the B-tree.
+	 */
+	public IString getName(long record) throws CoreException;
+}
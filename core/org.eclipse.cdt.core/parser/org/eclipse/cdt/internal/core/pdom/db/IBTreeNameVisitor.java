@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom.db;
+
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * A visitor for B-trees ordered by names, see {@link IBTreeNameComparator}, that can compare
+ * records using the prefixes of their names stored in the nodes of the B-tree.
+ */
+public interface IBTreeNameVisitor extends IBTreeVisitor {
+	/**
+	 * Compares the record against an internally held key, like {@link #compare(long)}. The prefix
+	 * of the name of the record is passed in, such that in most cases the record does not need to
+	 * be accessed.
+	 *
+	 * @param name the prefix of the name of the record, valid during the call, only.
+	 * @param record the offset of the record to compare with the key
+	 * @return -1 if record < key, 0 if record == key, 1 if record > key
+	 */
+	public int compare(BTreeInlineName name, long record) throws CoreException;
+
+	/**
+	 * Returns whether the records for which {@link #compare(BTreeInlineName, long)} returns 0 form
+	 * a contiguous range of the B-tree. In that case the records between two matches are visited
+	 * without comparing them.
+	 */
+	public default boolean isMatchContiguous() {
+		return false;
+	}
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom.db;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.cdt.core.CCorePlugin;
+
+/**
+ * Read-only view of a database file that is mapped into memory in large segments.
+ * <p>
+ * Segments are mapped lazily and remapped when the file has grown beyond the mapped region.
+ * Readers may still use a segment that has been replaced, therefore replaced segments are
+ * unmapped by {@link #releaseReplacedSegments()} once no reader is left. A segment is a multiple of {@link Database#CHUNK_SIZE}, such that no record of the database
+ * spans two segments. Reading from the segments is thread-safe, since only absolute get
+ * operations are used on the buffers.
+ * <p>
+ * A mapping stays valid until the buffer is garbage collected, which prevents truncating or
+ * deleting the file on some platforms. Therefore the segments are unmapped explicitly by
+ * {@link #clear()}. Where this is not possible, the database is not mapped at all, see
+ * {@link #isSupported()}.
+ */
+final class MappedFile {
+	static final int SEGMENT_SHIFT = 26;
+	static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT; // 64 MB
+	private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+	/** Releases the mapping of a buffer, or {@code null} if the platform does not support it. */
+	private static final MethodHandle UNMAP = getUnmapHandle();
+
+	private volatile ByteBuffer[] fSegments = new ByteBuffer[0];
+	/** Segments that have been replaced by larger ones and may still be used by readers. */
+	private final List<ByteBuffer> fReplacedSegments = new ArrayList<>();
+
+	private static MethodHandle getUnmapHandle() {
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe"); //$NON-NLS-1$
+			Field field = unsafeClass.getDeclaredField("theUnsafe"); //$NON-NLS-1$
+			field.setAccessible(true);
+			return MethodHandles.lookup()
+					.findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class)) //$NON-NLS-1$
+					.bindTo(field.get(null));
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns whether mapped segments can be released explicitly. Otherwise the file is
+	 * read without mapping it.
+	 */
+	static boolean isSupported() {
+		return UNMAP != null;
+	}
+
+	/**
+	 * Returns the segment containing the given range of bytes, or {@code null} if the range is
+	 * not part of the file, yet.
+	 */
+	ByteBuffer getSegment(FileChannel channel, long offset, int length) throws IOException {
+		final int index = (int) (offset >>> SEGMENT_SHIFT);
+		final int end = toSegmentOffset(offset) + length;
+		ByteBuffer[] segments = fSegments;
+		if (index < segments.length) {
+			ByteBuffer segment = segments[index];
+			if (segment != null && segment.limit() >= end) {
+				return segment;
+			}
+		}
+		return mapSegment(channel, index, end);
+	}
+
+	private synchronized ByteBuffer mapSegment(FileChannel channel, int index, int end) throws IOException {
+		ByteBuffer[] segments = fSegments;
+		if (index < segments.length) {
+			ByteBuffer segment = segments[index];
+			if (segment != null && segment.limit() >= end) {
+				return segment; // Mapped by another thread.
+			}
+		}
+		final long start = (long) index << SEGMENT_SHIFT;
+		final long size = Math.min(SEGMENT_SIZE, channel.size() - start);
+		if (size < end) {
+			return null;
+		}
+		ByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+		ByteBuffer[] newSegments = segments;
+		if (index >= segments.length) {
+			newSegments = new ByteBuffer[index + 1];
+			System.arraycopy(segments, 0, newSegments, 0, segments.length);
+		} else {
+			newSegments = segments.clone();
+			if (segments[index] != null) {
+				fReplacedSegments.add(segments[index]);
+			}
+		}
+		newSegments[index] = segment;
+		fSegments = newSegments;
+		return segment;
+	}
+
+	/**
+	 * Unmaps the segments that have been replaced by larger ones. The caller has to make sure
+	 * that no other thread reads from the segments, as for {@link #clear()}.
+	 */
+	synchronized void releaseReplacedSegments() {
+		for (ByteBuffer segment : fReplacedSegments) {
+			unmap(segment);
+		}
+		fReplacedSegments.clear();
+	}
+
+	/**
+	 * Returns the number of segments that have been replaced and are still mapped, for testing.
+	 */
+	synchronized int getReplacedSegmentCount() {
+		return fReplacedSegments.size();
+	}
+
+	/**
+	 * Unmaps all segments, must be called before the file is truncated or closed. The caller has to
+	 * make sure that no other thread reads from the segments, accessing a segment after it has been
+	 * unmapped crashes the virtual machine.
+	 */
+	synchronized void clear() {
+		final ByteBuffer[] segments = fSegments;
+		fSegments = new ByteBuffer[0];
+		for (ByteBuffer segment : segments) {
+			if (segment != null) {
+				unmap(segment);
+			}
+		}
+		releaseReplacedSegments();
+	}
+
+	private static void unmap(ByteBuffer segment) {
+		try {
+			UNMAP.invokeExact(segment);
+		} catch (Throwable e) {
+			CCorePlugin.log(e);
+		}
+	}
+
+	static int toSegmentOffset(long offset) {
+		return (int) (offset & SEGMENT_MASK);
+	}
+
+	static void read(ByteBuffer segment, long offset, ByteBuffer target) {
+		final ByteBuffer source = segment.duplicate();
+		final int pos = toSegmentOffset(offset);
+		source.limit(pos + target.remaining());
+		source.position(pos);
+		target.put(source);
+	}
+}
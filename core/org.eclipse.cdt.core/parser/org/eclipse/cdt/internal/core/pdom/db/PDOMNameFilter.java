@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom.db;
+
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * A bloom filter over a set of names, stored in the database. The filter answers whether a name
+ * may be part of the set: a negative answer is definite, a positive answer is wrong for about one
+ * percent of the names that are not part of the set.
+ * <p>
+ * The bits are split into segments that fit into a single block of the database. Each name is
+ * mapped to one of the segments and sets {@link #HASH_COUNT} bits within it.
+ * <p>
+ * The filter is immutable, it is created from the complete set of names with a {@link Builder}.
+ */
+public final class PDOMNameFilter {
+	/**
+	 * Collects the names for a filter.
+	 */
+	public static final class Builder {
+		private long[] fHashes = new long[64];
+		private int fCount;
+
+		public void add(char[] name) {
+			if (fCount == fHashes.length) {
+				fHashes = Arrays.copyOf(fHashes, fCount * 2);
+			}
+			fHashes[fCount++] = hash(name);
+		}
+
+		/**
+		 * Stores the filter for the names added so far, returns the record of the filter.
+		 */
+		public long store(Database db) throws CoreException {
+			long[] hashes = Arrays.copyOf(fHashes, fCount);
+			Arrays.sort(hashes);
+			int distinct = 0;
+			for (int i = 0; i < hashes.length; i++) {
+				if (i == 0 || hashes[i] != hashes[i - 1]) {
+					hashes[distinct++] = hashes[i];
+				}
+			}
+
+			long bitCount = Math.max((long) distinct * BITS_PER_NAME, 8);
+			int segmentCount = (int) Math.min((bitCount + MAX_SEGMENT_BITS - 1) / MAX_SEGMENT_BITS,
+					MAX_SEGMENTS);
+			// Round up to full bytes.
+			int segmentBits = (int) Math.min((bitCount / segmentCount + 7) & ~7L, MAX_SEGMENT_BITS);
+			byte[][] segments = new byte[segmentCount][segmentBits / 8];
+			for (int i = 0; i < distinct; i++) {
+				long hash = hashes[i];
+				byte[] segment = segments[segmentIndex(hash, segmentCount)];
+				int h1 = (int) (hash >>> 32);
+				int h2 = (int) hash | 1;
+				for (int j = 0; j < HASH_COUNT; j++) {
+					int bit = Integer.remainderUnsigned(h1 + j * h2, segmentBits);
+					segment[bit >>> 3] |= 1 << (bit & 7);
+				}
+			}
+
+			long record = db.malloc(SEGMENTS + segmentCount * Database.PTR_SIZE);
+			db.putShort(record + SEGMENT_COUNT, (short) segmentCount);
+			db.putInt(record + SEGMENT_BITS, segmentBits);
+			for (int i = 0; i < segmentCount; i++) {
+				long segmentRecord = db.malloc(segmentBits / 8);
+				db.putBytes(segmentRecord, segments[i], segments[i].length);
+				db.putRecPtr(record + SEGMENTS + i * Database.PTR_SIZE, segmentRecord);
+			}
+			return record;
+		}
+	}
+
+	private static final int BITS_PER_NAME = 10;
+	private static final int HASH_COUNT = 4;
+
+	private static final int SEGMENT_COUNT = 0; // short
+	private static final int SEGMENT_BITS = 2; // int
+	private static final int SEGMENTS = 6; // array of record pointers
+
+	private static final int MAX_SEGMENT_BITS = Database.MAX_MALLOC_SIZE / 8 * 8 * 8;
+	private static final int MAX_SEGMENTS = (Database.MAX_MALLOC_SIZE - SEGMENTS) / Database.PTR_SIZE;
+
+	private final Database fDatabase;
+	private final long fRecord;
+
+	public PDOMNameFilter(Database db, long record) {
+		fDatabase = db;
+		fRecord = record;
+	}
+
+	public long getRecord() {
+		return fRecord;
+	}
+
+	/**
+	 * Returns {@code false} if the name is not part of the set, {@code true} if it may be.
+	 */
+	public boolean mayContain(char[] name) throws CoreException {
+		final long hash = hash(name);
+		final int segmentCount = fDatabase.getShort(fRecord + SEGMENT_COUNT) & 0xffff;
+		final int segmentBits = fDatabase.getInt(fRecord + SEGMENT_BITS);
+		final long segment = fDatabase
+				.getRecPtr(fRecord + SEGMENTS + segmentIndex(hash, segmentCount) * Database.PTR_SIZE);
+		int h1 = (int) (hash >>> 32);
+		int h2 = (int) hash | 1;
+		for (int j = 0; j < HASH_COUNT; j++) {
+			int bit = Integer.remainderUnsigned(h1 + j * h2, segmentBits);
+			if ((fDatabase.getByte(segment + (bit >>> 3)) & (1 << (bit & 7))) == 0)
+				return false;
+		}
+		return true;
+	}
+
+	public void delete() throws CoreException {
+		final int segmentCount = fDatabase.getShort(fRecord + SEGMENT_COUNT) & 0xffff;
+		for (int i = 0; i < segmentCount; i++) {
+			fDatabase.free(fDatabase.getRecPtr(fRecord + SEGMENTS + i * Database.PTR_SIZE));
+		}
+		fDatabase.free(fRecord);
+	}
+
+	/**
+	 * 64-bit FNV-1a hash of the characters, followed by the finalizer of MurmurHash3. The hash must
+	 * not change, it is persisted through the bits of the filters.
+	 */
+	private static long hash(char[] name) {
+		long h = 0xcbf29ce484222325L;
+		for (char c : name) {
+			h ^= c;
+			h *= 0x100000001b3L;
+		}
+		return mix(h);
+	}
+
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	private static int segmentIndex(long hash, int segmentCount) {
+		return segmentCount == 1 ? 0 : Integer.remainderUnsigned((int) mix(hash), segmentCount);
+	}
+}
@@ -75,14 +75,13 @@ public class ShortString implements IString {
 		if (cachedChars != null) {
 			return cachedChars; // no need to re-retrieve array if it is already cached
 		}
-		final Chunk chunk = db.getChunk(record);
-		final int l = chunk.getInt(record + LENGTH);
+		final int l = db.getInt(record + LENGTH);
 		final int length = Math.abs(l);
 		final char[] chars = new char[length];
 		if (l < 0) {
-			chunk.getCharsFromBytes(record + CHARS, chars, 0, length);
+			db.getCharsFromBytes(record + CHARS, chars, 0, length);
 		} else {
-			chunk.getChars(record + CHARS, chars, 0, length);
+			db.getChars(record + CHARS, chars, 0, length);
 		}
 		cachedChars = chars; // cache the array
 		return chars;
@@ -104,11 +103,8 @@ public class ShortString implements IString {
 				if (db == string.db && record == string.record)
 					return true;
 
-				Chunk chunk1 = db.getChunk(record);
-				Chunk chunk2 = string.db.getChunk(string.record);
-
-				int n1 = chunk1.getInt(record);
-				int n2 = chunk2.getInt(string.record);
+				int n1 = db.getInt(record);
+				int n2 = string.db.getInt(string.record);
 				if (n1 != n2)
 					return false;
 
@@ -18,9 +18,10 @@ import org.eclipse.cdt.core.dom.IPDOMNode;
 import org.eclipse.cdt.core.dom.IPDOMVisitor;
 import org.eclipse.cdt.internal.core.index.IIndexBindingConstants;
 import org.eclipse.cdt.internal.core.pdom.db.BTree;
+import org.eclipse.cdt.internal.core.pdom.db.BTreeInlineName;
 import org.eclipse.cdt.internal.core.pdom.db.Database;
-import org.eclipse.cdt.internal.core.pdom.db.IBTreeComparator;
-import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreeNameComparator;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreeNameVisitor;
 import org.eclipse.cdt.internal.core.pdom.db.IString;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.OperationCanceledException;
@@ -29,7 +30,7 @@ import org.eclipse.core.runtime.OperationCanceledException;
  * Look up bindings in BTree objects and IPDOMNode objects
  */
 public class FindBinding {
-	public static class DefaultBindingBTreeComparator implements IBTreeComparator {
+	public static class DefaultBindingBTreeComparator implements IBTreeNameComparator {
 		protected final PDOMLinkage linkage;
 		protected final Database database;
 
@@ -59,9 +60,14 @@ public class FindBinding {
 			}
 			return cmp;
 		}
+
+		@Override
+		public IString getName(long record) throws CoreException {
+			return PDOMNamedNode.getDBName(database, record);
+		}
 	}
 
-	public static class DefaultFindBindingVisitor implements IBTreeVisitor, IPDOMVisitor {
+	public static class DefaultFindBindingVisitor implements IBTreeNameVisitor, IPDOMVisitor {
 		protected final PDOMLinkage fLinkage;
 		private final char[] fName;
 		private final int[] fConstants;
@@ -89,6 +95,15 @@ public class FindBinding {
 			return cmp;
 		}
 
+		// IBTreeNameVisitor
+		@Override
+		public int compare(BTreeInlineName name, long record) throws CoreException {
+			int cmp = name.compareCompatibleWithIgnoreCase(fName);
+			if (cmp == 0 || cmp == BTreeInlineName.UNDECIDED)
+				return compare(record);
+			return cmp;
+		}
+
 		// IBTreeVisitor
 		@Override
 		public boolean visit(long record) throws CoreException {
@@ -155,7 +170,7 @@ public class FindBinding {
 		}
 	}
 
-	public static class MacroBTreeComparator implements IBTreeComparator {
+	public static class MacroBTreeComparator implements IBTreeNameComparator {
 		final private Database db;
 
 		public MacroBTreeComparator(Database database) {
@@ -170,6 +185,11 @@ public class FindBinding {
 		private int compare(IString nameInDB, IString nameInDB2) throws CoreException {
 			return nameInDB.compareCompatibleWithIgnoreCase(nameInDB2);
 		}
+
+		@Override
+		public IString getName(long record) throws CoreException {
+			return PDOMNamedNode.getDBName(db, record);
+		}
 	}
 
 	public static PDOMBinding findBinding(BTree btree, final PDOMLinkage linkage, final char[] name,
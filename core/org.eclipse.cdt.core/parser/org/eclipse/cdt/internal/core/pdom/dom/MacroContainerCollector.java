@@ -19,7 +19,8 @@ import java.util.List;
 
 import org.eclipse.cdt.core.parser.util.IContentAssistMatcher;
 import org.eclipse.cdt.internal.core.parser.util.ContentAssistMatcherFactory;
-import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
+import org.eclipse.cdt.internal.core.pdom.db.BTreeInlineName;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreeNameVisitor;
 import org.eclipse.cdt.internal.core.pdom.db.IString;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -29,7 +30,7 @@ import org.eclipse.core.runtime.OperationCanceledException;
  * Visitor to find macros in a BTree.
  * @since 4.0.2
  */
-public final class MacroContainerCollector implements IBTreeVisitor {
+public final class MacroContainerCollector implements IBTreeNameVisitor {
 	private final PDOMLinkage linkage;
 	private final char[] matchChars;
 	private final boolean prefixLookup;
@@ -89,6 +90,34 @@ public final class MacroContainerCollector implements IBTreeVisitor {
 		return compare(rhsName);
 	}
 
+	@Override
+	final public int compare(BTreeInlineName rhsName, long record) throws CoreException {
+		if (monitor != null)
+			checkCancelled();
+		int cmp;
+		if (prefixLookup) {
+			cmp = rhsName.comparePrefix(matchChars, false);
+			if (caseSensitive) {
+				cmp = cmp == 0 ? rhsName.comparePrefix(matchChars, true) : cmp;
+			}
+		} else {
+			if (caseSensitive) {
+				cmp = rhsName.compareCompatibleWithIgnoreCase(matchChars);
+			} else {
+				cmp = rhsName.compare(matchChars, false);
+			}
+		}
+		if (cmp == BTreeInlineName.UNDECIDED)
+			return compare(PDOMNamedNode.getDBName(linkage.getDB(), record));
+		return cmp;
+	}
+
+	@Override
+	public boolean isMatchContiguous() {
+		// Case sensitive prefixes are matched by names that are not adjacent in the B-tree.
+		return !(prefixLookup && caseSensitive);
+	}
+
 	private int compare(IString rhsName) throws CoreException {
 		int cmp;
 		if (prefixLookup) {
@@ -13,14 +13,15 @@
  *******************************************************************************/
 package org.eclipse.cdt.internal.core.pdom.dom;
 
-import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
+import org.eclipse.cdt.internal.core.pdom.db.BTreeInlineName;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreeNameVisitor;
 import org.eclipse.cdt.internal.core.pdom.db.IString;
 import org.eclipse.core.runtime.CoreException;
 
 /**
  * Visitor to find a macro container in a BTree.
  */
-public final class MacroContainerFinder implements IBTreeVisitor {
+public final class MacroContainerFinder implements IBTreeNameVisitor {
 	private final PDOMLinkage fLinkage;
 	private final char[] fName;
 	private PDOMMacroContainer fMacroContainer;
@@ -40,6 +41,14 @@ public final class MacroContainerFinder implements IBTreeVisitor {
 		return compare(name);
 	}
 
+	@Override
+	final public int compare(BTreeInlineName rhsName, long record) throws CoreException {
+		int cmp = rhsName.compareCompatibleWithIgnoreCase(fName);
+		if (cmp == BTreeInlineName.UNDECIDED)
+			return compare(record);
+		return cmp;
+	}
+
 	private int compare(IString rhsName) throws CoreException {
 		return rhsName.compareCompatibleWithIgnoreCase(fName);
 	}
@@ -21,7 +21,8 @@ import org.eclipse.cdt.core.dom.IPDOMNode;
 import org.eclipse.cdt.core.dom.IPDOMVisitor;
 import org.eclipse.cdt.core.parser.util.IContentAssistMatcher;
 import org.eclipse.cdt.internal.core.parser.util.ContentAssistMatcherFactory;
-import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
+import org.eclipse.cdt.internal.core.pdom.db.BTreeInlineName;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreeNameVisitor;
 import org.eclipse.cdt.internal.core.pdom.db.IString;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -31,7 +32,7 @@ import org.eclipse.core.runtime.OperationCanceledException;
  * Visitor to find named nodes in a BTree or below a PDOMNode. Nested nodes are not visited.
  * @since 4.0
  */
-public class NamedNodeCollector implements IBTreeVisitor, IPDOMVisitor {
+public class NamedNodeCollector implements IBTreeNameVisitor, IPDOMVisitor {
 	private final PDOMLinkage linkage;
 	private final char[] matchChars;
 	private final boolean prefixLookup;
@@ -97,6 +98,34 @@ public class NamedNodeCollector implements IBTreeVisitor, IPDOMVisitor {
 		return compare(rhsName);
 	}
 
+	@Override
+	final public int compare(BTreeInlineName rhsName, long record) throws CoreException {
+		if (monitor != null)
+			checkCancelled();
+		int cmp;
+		if (prefixLookup) {
+			cmp = rhsName.comparePrefix(matchChars, false);
+			if (caseSensitive) {
+				cmp = cmp == 0 ? rhsName.comparePrefix(matchChars, true) : cmp;
+			}
+		} else {
+			if (caseSensitive) {
+				cmp = rhsName.compareCompatibleWithIgnoreCase(matchChars);
+			} else {
+				cmp = rhsName.compare(matchChars, false);
+			}
+		}
+		if (cmp == BTreeInlineName.UNDECIDED)
+			return compare(PDOMNamedNode.getDBName(linkage.getDB(), record));
+		return cmp;
+	}
+
+	@Override
+	public boolean isMatchContiguous() {
+		// Case sensitive prefixes are matched by names that are not adjacent in the B-tree.
+		return !(prefixLookup && caseSensitive);
+	}
+
 	private int compare(IString rhsName) throws CoreException {
 		int cmp;
 		if (prefixLookup) {
@@ -54,6 +54,7 @@ import org.eclipse.cdt.internal.core.pdom.db.Database;
 import org.eclipse.cdt.internal.core.pdom.db.IBTreeComparator;
 import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
 import org.eclipse.cdt.internal.core.pdom.db.IString;
+import org.eclipse.cdt.internal.core.pdom.db.PDOMNameFilter;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -84,7 +85,8 @@ public class PDOMFile implements IIndexFragmentFile {
 	private static final int FIRST_MACRO_REFERENCE = LAST_USING_DIRECTIVE + Database.PTR_SIZE;
 	private static final int SIGNIFICANT_MACROS = FIRST_MACRO_REFERENCE + Database.PTR_SIZE;
 	private static final int REPLACEMENT_HEADER = SIGNIFICANT_MACROS + Database.PTR_SIZE;
-	private static final int RECORD_SIZE = REPLACEMENT_HEADER + Database.PTR_SIZE; // 9*PTR_SIZE + 3+1+8+8+8+4 = 68
+	private static final int NAME_FILTER = REPLACEMENT_HEADER + Database.PTR_SIZE;
+	private static final int RECORD_SIZE = NAME_FILTER + Database.PTR_SIZE; // 10*PTR_SIZE + 3+1+8+8+8+4 = 72
 
 	private static final int FLAG_PRAGMA_ONCE_SEMANTICS = 0x01;
 
@@ -225,6 +227,10 @@ public class PDOMFile implements IIndexFragmentFile {
 		db.putRecPtr(record + REPLACEMENT_HEADER, db.getRecPtr(sourceFile.record + REPLACEMENT_HEADER));
 		db.putRecPtr(sourceFile.record + REPLACEMENT_HEADER, 0);
 
+		// Transfer the filter of the names.
+		db.putRecPtr(record + NAME_FILTER, db.getRecPtr(sourceFile.record + NAME_FILTER));
+		db.putRecPtr(sourceFile.record + NAME_FILTER, 0);
+
 		// Delete the source file
 		sourceFile.delete();
 	}
@@ -508,6 +514,40 @@ public class PDOMFile implements IIndexFragmentFile {
 		}
 	}
 
+	/**
+	 * Stores the filter for the names of macro definitions and of the names of the file, must be
+	 * called after the macros and the names have been added.
+	 */
+	public void addNameFilter(IASTPreprocessorStatement[] macros, IASTName[][] names) throws CoreException {
+		assert getNameFilter() == null;
+
+		PDOMNameFilter.Builder builder = new PDOMNameFilter.Builder();
+		for (IASTPreprocessorStatement stmt : macros) {
+			if (stmt instanceof IASTPreprocessorMacroDefinition) {
+				builder.add(((IASTPreprocessorMacroDefinition) stmt).getName().getSimpleID());
+			} else if (stmt instanceof IASTPreprocessorUndefStatement) {
+				builder.add(((IASTPreprocessorUndefStatement) stmt).getMacroName().getSimpleID());
+			}
+		}
+		for (IASTName[] name : names) {
+			if (name[0] != null) {
+				builder.add(name[0].getLookupKey());
+			}
+		}
+		fLinkage.getDB().putRecPtr(record + NAME_FILTER, builder.store(fLinkage.getDB()));
+	}
+
+	private PDOMNameFilter getNameFilter() throws CoreException {
+		long rec = fLinkage.getDB().getRecPtr(record + NAME_FILTER);
+		return rec != 0 ? new PDOMNameFilter(fLinkage.getDB(), rec) : null;
+	}
+
+	@Override
+	public boolean mayContainName(char[] name) throws CoreException {
+		PDOMNameFilter filter = getNameFilter();
+		return filter == null || filter.mayContain(name);
+	}
+
 	private IIndexFragmentName createPDOMName(PDOMLinkage linkage, IASTName name, PDOMName caller)
 			throws CoreException {
 		final IBinding binding = name.getBinding();
@@ -616,10 +656,22 @@ public class PDOMFile implements IIndexFragmentFile {
 			m.delete();
 		}
 		setFirstMacroReference(null);
+
+		// Delete the filter of the names
+		deleteNameFilter();
+
 		setSourceReadTime(0);
 		setTimestamp(-1);
 	}
 
+	private void deleteNameFilter() throws CoreException {
+		PDOMNameFilter filter = getNameFilter();
+		if (filter != null) {
+			filter.delete();
+			fLinkage.getDB().putRecPtr(record + NAME_FILTER, 0);
+		}
+	}
+
 	/**
 	 * Deletes this file from PDOM. Only uncommitted files can be safely deleted.
 	 *
@@ -636,6 +688,7 @@ public class PDOMFile implements IIndexFragmentFile {
 		locRecord = db.getRecPtr(record + REPLACEMENT_HEADER);
 		if (locRecord != 0)
 			db.getString(locRecord).delete();
+		deleteNameFilter();
 
 		db.free(record);
 	}
@@ -274,8 +274,8 @@ public class PDOMCPPClassTemplate extends PDOMCPPClassType
 	}
 
 	@Override
-	public void addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
-		PDOMInstanceCache.getCache(this).addInstance(arguments, instance);
+	public ICPPTemplateInstance addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
+		return PDOMInstanceCache.getCache(this).addInstance(arguments, instance);
 	}
 
 	@Override
@@ -101,8 +101,8 @@ class PDOMCPPClassTemplateSpecialization extends PDOMCPPClassSpecialization
 	}
 
 	@Override
-	public void addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
-		PDOMInstanceCache.getCache(this).addInstance(arguments, instance);
+	public ICPPTemplateInstance addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
+		return PDOMInstanceCache.getCache(this).addInstance(arguments, instance);
 	}
 
 	@Override
@@ -99,8 +99,8 @@ class PDOMCPPFunctionTemplate extends PDOMCPPFunction
 	}
 
 	@Override
-	public void addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
-		PDOMInstanceCache.getCache(this).addInstance(arguments, instance);
+	public ICPPTemplateInstance addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
+		return PDOMInstanceCache.getCache(this).addInstance(arguments, instance);
 	}
 
 	@Override
@@ -129,8 +129,8 @@ public class PDOMCPPVariableTemplate extends PDOMCPPVariable
 	}
 
 	@Override
-	public void addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
-		PDOMInstanceCache.getCache(this).addInstance(arguments, instance);
+	public ICPPTemplateInstance addInstance(ICPPTemplateArgument[] arguments, ICPPTemplateInstance instance) {
+		return PDOMInstanceCache.getCache(this).addInstance(arguments, instance);
 	}
 
 	@Override
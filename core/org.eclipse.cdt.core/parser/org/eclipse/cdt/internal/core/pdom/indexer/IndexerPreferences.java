@@ -71,11 +71,17 @@ public class IndexerPreferences {
 	public static final String KEY_REINDEX_ON_INDEXER_CHANGE = "reindexOnIndexerChange"; //$NON-NLS-1$
 	public static final String KEY_INDEX_ALL_HEADER_VERSIONS = "indexAllHeaderVersions"; //$NON-NLS-1$
 	public static final String KEY_INDEX_ALL_VERSIONS_SPECIFIC_HEADERS = "indexAllVersionsSpecificHeaders"; //$NON-NLS-1$
+	public static final String KEY_WORKER_THREADS = "workerThreads"; //$NON-NLS-1$
+	public static final String KEY_COMPRESS_DATABASE = "compressDatabase"; //$NON-NLS-1$
+	public static final String KEY_DEFER_HEADER_FUNCTION_BODIES = "deferHeaderFunctionBodies"; //$NON-NLS-1$
+	public static final String KEY_COMPACT_AST = "compactAST"; //$NON-NLS-1$
+	public static final String KEY_PARALLEL_NAME_RESOLUTION = "parallelNameResolution"; //$NON-NLS-1$
 
 	private static final String DEFAULT_INDEX_IMPORT_LOCATION = ".settings/cdt-index.zip"; //$NON-NLS-1$
 	private static final int DEFAULT_UPDATE_POLICY = 0;
 	public static final int DEFAULT_FILE_SIZE_LIMIT_MB = 8;
 	public static final int DEFAULT_INCLUDED_FILE_SIZE_LIMIT_MB = 16;
+	public static final int DEFAULT_WORKER_THREADS = 1;
 
 	private static final String QUALIFIER = CCorePlugin.PLUGIN_ID;
 	private static final String INDEXER_NODE = "indexer"; //$NON-NLS-1$
@@ -335,6 +341,11 @@ public class IndexerPreferences {
 		prefs.putBoolean(KEY_SKIP_MACRO_REFERENCES, false);
 		prefs.put(KEY_INDEX_IMPORT_LOCATION, DEFAULT_INDEX_IMPORT_LOCATION);
 		prefs.putBoolean(KEY_INDEX_ALL_HEADER_VERSIONS, false);
+		prefs.putInt(KEY_WORKER_THREADS, DEFAULT_WORKER_THREADS);
+		prefs.putBoolean(KEY_COMPRESS_DATABASE, false);
+		prefs.putBoolean(KEY_DEFER_HEADER_FUNCTION_BODIES, false);
+		prefs.putBoolean(KEY_COMPACT_AST, false);
+		prefs.putBoolean(KEY_PARALLEL_NAME_RESOLUTION, false);
 	}
 
 	public static void setDefaultIndexerId(String defaultId) {
@@ -455,4 +466,75 @@ public class IndexerPreferences {
 	public static boolean getReindexOnIndexerChange(IProject project) {
 		return getProjectPreferences(project).getBoolean(KEY_REINDEX_ON_INDEXER_CHANGE, true);
 	}
+
+	/**
+	 * Returns the number of threads the indexer uses for parsing source files of the project.
+	 * The number of threads does not affect the content of the index, therefore it is not part
+	 * of the indexer properties that trigger a rebuild when changed.
+	 */
+	public static int getWorkerThreads(IProject project) {
+		String val = get(project, KEY_WORKER_THREADS, null);
+		if (val != null) {
+			try {
+				return Math.max(1, Integer.parseInt(val));
+			} catch (NumberFormatException e) {
+				CCorePlugin.log(e);
+			}
+		}
+		return DEFAULT_WORKER_THREADS;
+	}
+
+	public static void setWorkerThreads(IProject project, int count) {
+		set(project, KEY_WORKER_THREADS, String.valueOf(Math.max(1, count)));
+	}
+
+	/**
+	 * Returns whether the index of the project is stored in a compressed database file. The
+	 * setting applies to database files created after it was changed, existing index files keep
+	 * their format.
+	 */
+	public static boolean getCompressDatabase(IProject project) {
+		return Boolean.parseBoolean(get(project, KEY_COMPRESS_DATABASE, String.valueOf(false)));
+	}
+
+	public static void setCompressDatabase(IProject project, boolean compress) {
+		set(project, KEY_COMPRESS_DATABASE, String.valueOf(compress));
+	}
+
+	/**
+	 * Returns whether the indexer parses the bodies of functions in headers only when the
+	 * references of the header are written to the index. The setting does not affect the content
+	 * of the index.
+	 */
+	public static boolean getDeferHeaderFunctionBodies(IProject project) {
+		return Boolean.parseBoolean(get(project, KEY_DEFER_HEADER_FUNCTION_BODIES, String.valueOf(false)));
+	}
+
+	public static void setDeferHeaderFunctionBodies(IProject project, boolean defer) {
+		set(project, KEY_DEFER_HEADER_FUNCTION_BODIES, String.valueOf(defer));
+	}
+
+	/**
+	 * Returns whether the indexer creates ASTs with a smaller memory footprint. The setting does not
+	 * affect the content of the index.
+	 */
+	public static boolean getCompactAST(IProject project) {
+		return Boolean.parseBoolean(get(project, KEY_COMPACT_AST, String.valueOf(false)));
+	}
+
+	public static void setCompactAST(IProject project, boolean compact) {
+		set(project, KEY_COMPACT_AST, String.valueOf(compact));
+	}
+
+	/**
+	 * Returns whether the indexer resolves the names in independent function bodies of a C++
+	 * translation unit in parallel. The setting does not affect the content of the index.
+	 */
+	public static boolean getParallelNameResolution(IProject project) {
+		return Boolean.parseBoolean(get(project, KEY_PARALLEL_NAME_RESOLUTION, String.valueOf(false)));
+	}
+
+	public static void setParallelNameResolution(IProject project, boolean parallel) {
+		set(project, KEY_PARALLEL_NAME_RESOLUTION, String.valueOf(parallel));
+	}
 }
@@ -34,6 +34,7 @@ import org.eclipse.cdt.core.index.IIndexManager;
 import org.eclipse.cdt.core.model.ICProject;
 import org.eclipse.cdt.core.model.ITranslationUnit;
 import org.eclipse.cdt.core.parser.IncludeExportPatterns;
+import org.eclipse.cdt.internal.core.dom.parser.TranslationUnitProfile;
 import org.eclipse.cdt.internal.core.index.IWritableIndex;
 import org.eclipse.cdt.internal.core.index.IWritableIndexManager;
 import org.eclipse.cdt.internal.core.model.CProject;
@@ -54,6 +55,8 @@ import org.eclipse.osgi.util.NLS;
  */
 public abstract class PDOMIndexerTask extends AbstractIndexerTask implements IPDOMIndexerTask {
 	private static final String TRUE = Boolean.TRUE.toString();
+	private static final String TRACE_PROFILE = CCorePlugin.PLUGIN_ID + "/debug/indexer/profile"; //$NON-NLS-1$
+	private static final int TRACE_PROFILE_SLOWEST_FILES = 10;
 
 	private AbstractPDOMIndexer fIndexer;
 	private boolean fWriteInfoToLog;
@@ -108,6 +111,13 @@ public abstract class PDOMIndexerTask extends AbstractIndexerTask implements IPD
 		}
 		setUpdateFlags(IIndexManager.UPDATE_CHECK_TIMESTAMPS | IIndexManager.UPDATE_CHECK_CONTENTS_HASH);
 		setForceFirstFiles(forceFiles.length);
+		setWorkerCount(IndexerPreferences.getWorkerThreads(getCProject().getProject()));
+		setDeferFunctionBodiesInHeaders(IndexerPreferences.getDeferHeaderFunctionBodies(getCProject().getProject()));
+		setCompactAST(IndexerPreferences.getCompactAST(getCProject().getProject()));
+		setParallelNameResolution(IndexerPreferences.getParallelNameResolution(getCProject().getProject()));
+		if (checkDebugOption(TRACE_PROFILE, TRUE)) {
+			setProfiledFileCount(TRACE_PROFILE_SLOWEST_FILES);
+		}
 
 		ICProject project = getCProject();
 		String privatePattern = CCorePreferenceConstants.getPreference(CCorePreferenceConstants.INCLUDE_PRIVATE_PATTERN,
@@ -285,6 +295,10 @@ public abstract class PDOMIndexerTask extends AbstractIndexerTask implements IPD
 					+ ", skipImplicitReferences=" + skipImplRefs //$NON-NLS-1$
 					+ ", skipTypeReferences=" + skipTypeRefs //$NON-NLS-1$
 					+ ", skipMacroReferences=" + skipMacroRefs //$NON-NLS-1$
+					+ ", workerThreads=" + getWorkerCount() //$NON-NLS-1$
+					+ ", deferHeaderFunctionBodies=" + getDeferFunctionBodiesInHeaders() //$NON-NLS-1$
+					+ ", compactAST=" + getCompactAST() //$NON-NLS-1$
+					+ ", parallelNameResolution=" + getParallelNameResolution() //$NON-NLS-1$
 					+ "."); //$NON-NLS-1$
 			System.out.println(indent + " Database: " + dbSize + " bytes"); //$NON-NLS-1$ //$NON-NLS-2$
 			System.out.println(indent + " Timings: " //$NON-NLS-1$
@@ -297,9 +311,41 @@ public abstract class PDOMIndexerTask extends AbstractIndexerTask implements IPD
 					+ fStatistics.fUnresolvedIncludesCount + " include, " //$NON-NLS-1$
 					+ fStatistics.fPreprocessorProblemCount + " scanner, " //$NON-NLS-1$
 					+ fStatistics.fSyntaxProblemsCount + " syntax errors."); //$NON-NLS-1$
+			if (info.fParsedFilesPerWorker != null) {
+				NumberFormat nfRate = NumberFormat.getNumberInstance();
+				nfRate.setMaximumFractionDigits(1);
+				StringBuilder buf = new StringBuilder();
+				for (int i = 0; i < info.fParsedFilesPerWorker.length; i++) {
+					if (i > 0)
+						buf.append(", "); //$NON-NLS-1$
+					buf.append(info.fParsedFilesPerWorker[i]).append(" files ("); //$NON-NLS-1$
+					buf.append(nfRate.format(info.getWorkerThroughput(i))).append("/s)"); //$NON-NLS-1$
+				}
+				System.out.println(indent + " Workers: " + buf + '.'); //$NON-NLS-1$
+			}
 			if (fStatistics.fTooManyTokensCount > 0)
 				System.out.println(indent + " Tokens: " //$NON-NLS-1$
 						+ fStatistics.fTooManyTokensCount + " TUs with too many tokens."); //$NON-NLS-1$
+			if (fStatistics.fConstexprCacheHits + fStatistics.fConstexprCacheMisses > 0)
+				System.out.println(indent + " Constexpr: " //$NON-NLS-1$
+						+ fStatistics.fConstexprEvaluationSteps + " evaluation steps, " //$NON-NLS-1$
+						+ fStatistics.fConstexprCacheHits + " cache hits, " //$NON-NLS-1$
+						+ fStatistics.fConstexprCacheMisses + " cache misses."); //$NON-NLS-1$
+			if (fStatistics.fOverloadCacheHits + fStatistics.fOverloadCacheMisses > 0)
+				System.out.println(indent + " Overload resolution: " //$NON-NLS-1$
+						+ fStatistics.fOverloadCacheHits + " cache hits, " //$NON-NLS-1$
+						+ fStatistics.fOverloadCacheMisses + " cache misses."); //$NON-NLS-1$
+			if (fStatistics.fDeferredFunctionBodies > 0)
+				System.out.println(indent + " Deferred function bodies: " //$NON-NLS-1$
+						+ fStatistics.fDeferredFunctionBodies + " skipped, " //$NON-NLS-1$
+						+ fStatistics.fParsedDeferredFunctionBodies + " parsed on demand in " //$NON-NLS-1$
+						+ fStatistics.fDeferredParsingTime + " ms, " //$NON-NLS-1$
+						+ fStatistics.fFailedDeferredFunctionBodies + " failed, " //$NON-NLS-1$
+						+ fStatistics.fUnparsedFunctionBodyTokens + " tokens never parsed."); //$NON-NLS-1$
+			if (fStatistics.fTemplateInstanceCacheHits + fStatistics.fTemplateInstanceCacheMisses > 0)
+				System.out.println(indent + " Template instances: " //$NON-NLS-1$
+						+ fStatistics.fTemplateInstanceCacheHits + " shared cache hits, " //$NON-NLS-1$
+						+ fStatistics.fTemplateInstanceCacheMisses + " shared cache misses."); //$NON-NLS-1$
 
 			NumberFormat nfPercent = NumberFormat.getPercentInstance();
 			nfPercent.setMaximumFractionDigits(2);
@@ -316,7 +362,8 @@ public abstract class PDOMIndexerTask extends AbstractIndexerTask implements IPD
 			System.out.println(indent + " Cache[" //$NON-NLS-1$
 					+ ChunkCache.getSharedInstance().getMaxSize() / 1024 / 1024 + "MB]: " + //$NON-NLS-1$
 					+hits + " hits, " //$NON-NLS-1$
-					+ misses + "(" + nfPercent.format(missPct) + ") misses."); //$NON-NLS-1$ //$NON-NLS-2$
+					+ misses + "(" + nfPercent.format(missPct) + ") misses, " //$NON-NLS-1$ //$NON-NLS-2$
+					+ ChunkCache.getSharedInstance().getEvictionCount() + " evictions."); //$NON-NLS-1$
 
 			if (Boolean.parseBoolean(System.getProperty("SHOW_COMPRESSED_INDEXER_INFO"))) { //$NON-NLS-1$
 				Calendar cal = Calendar.getInstance();
@@ -368,6 +415,14 @@ public abstract class PDOMIndexerTask extends AbstractIndexerTask implements IPD
 				System.out.println(sep0);
 			}
 		}
+
+		if (fStatistics.fProfile != null) {
+			System.out.println("C/C++ Indexer: Profile of project '" + getCProject().getElementName() + "'"); //$NON-NLS-1$ //$NON-NLS-2$
+			System.out.println("    All files: " + fStatistics.fProfile); //$NON-NLS-1$
+			for (TranslationUnitProfile profile : fStatistics.getSlowestFiles()) {
+				System.out.println("    " + profile); //$NON-NLS-1$
+			}
+		}
 	}
 
 	protected ICProject getCProject() {
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParser;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParser.RecordType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@link MIParser} on all lines of a transcript, the lines are dispatched by record
+ * type as the receiving thread of the MI control does. Besides the names of the {@link Transcript}s,
+ * the path of a file with recorded output can be passed, e.g. {@code -p transcript=/tmp/gdb.mi}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MIParserBenchmark {
+	@Param({ "SESSION", "THREADS", "STACK_FRAMES", "VAR_CHILDREN", "DISASSEMBLE" })
+	public String transcript;
+
+	private List<String> fLines;
+	private final MIParser fParser = new MIParser();
+
+	@Setup
+	public void setup() throws IOException {
+		fLines = Transcript.load(transcript);
+	}
+
+	@Benchmark
+	public void parse(Blackhole blackhole) {
+		for (String line : fLines) {
+			RecordType recordType = fParser.getRecordType(line);
+			if (recordType == RecordType.ResultRecord) {
+				blackhole.consume(fParser.parseMIResultRecord(line));
+			} else if (recordType == RecordType.OOBRecord) {
+				blackhole.consume(fParser.parseMIOOBRecord(line));
+			}
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Transcripts of the output of GDB/MI, one record per line. The session is a recording of a short
+ * debug session, the other transcripts consist of the large replies that are received from a
+ * process with many threads and deep stacks, built from recorded records. The number of elements
+ * is fixed, so results are comparable across runs.
+ */
+public enum Transcript {
+	/** Stream, async and result records of a short debug session. */
+	SESSION {
+		@Override
+		List<String> createLines() throws IOException {
+			try (InputStream in = Transcript.class.getResourceAsStream("session.mi")) { //$NON-NLS-1$
+				return readLines(in);
+			}
+		}
+	},
+	/** Reply to {@code -thread-info} for 10000 threads. */
+	THREADS {
+		@Override
+		List<String> createLines() {
+			StringBuilder buf = new StringBuilder("5^done,threads=["); //$NON-NLS-1$
+			for (int i = 1; i <= ELEMENTS; i++) {
+				if (i > 1)
+					buf.append(',');
+				buf.append("{id=\"").append(i).append("\",target-id=\"Thread 0x7ffff7d8e740 (LWP ") //$NON-NLS-1$ //$NON-NLS-2$
+						.append(41152 + i).append(")\",name=\"worker\",frame={level=\"0\"," //$NON-NLS-1$
+								+ "addr=\"0x00007ffff7e4a117\",func=\"__futex_abstimed_wait_common\"," //$NON-NLS-1$
+								+ "args=[{name=\"futex_word\",value=\"0x5555555592a8\"},{name=\"expected\",value=\"0\"}]," //$NON-NLS-1$
+								+ "file=\"./nptl/futex-internal.c\",fullname=\"/build/glibc/nptl/futex-internal.c\"," //$NON-NLS-1$
+								+ "line=\"57\",arch=\"i386:x86-64\"},state=\"stopped\",core=\"") //$NON-NLS-1$
+						.append(i % 8).append("\"}"); //$NON-NLS-1$
+			}
+			buf.append("],current-thread-id=\"1\""); //$NON-NLS-1$
+			return Collections.singletonList(buf.toString());
+		}
+	},
+	/** Reply to {@code -stack-list-frames} for a stack of 10000 frames. */
+	STACK_FRAMES {
+		@Override
+		List<String> createLines() {
+			StringBuilder buf = new StringBuilder("6^done,stack=["); //$NON-NLS-1$
+			for (int i = 0; i < ELEMENTS; i++) {
+				if (i > 0)
+					buf.append(',');
+				buf.append("frame={level=\"").append(i) //$NON-NLS-1$
+						.append("\",addr=\"0x0000555555555189\",func=\"recurse\"," //$NON-NLS-1$
+						+ "file=\"../src/recurse.c\",fullname=\"/home/user/work/sample/src/recurse.c\",line=\"") //$NON-NLS-1$
+						.append(20 + i % 7).append("\",arch=\"i386:x86-64\"}"); //$NON-NLS-1$
+			}
+			buf.append(']');
+			return Collections.singletonList(buf.toString());
+		}
+	},
+	/** Reply to {@code -var-list-children} for an array of 10000 elements. */
+	VAR_CHILDREN {
+		@Override
+		List<String> createLines() {
+			StringBuilder buf = new StringBuilder("9^done,numchild=\""); //$NON-NLS-1$
+			buf.append(ELEMENTS).append("\",children=["); //$NON-NLS-1$
+			for (int i = 0; i < ELEMENTS; i++) {
+				if (i > 0)
+					buf.append(',');
+				buf.append("child={name=\"var1.").append(i).append("\",exp=\"").append(i) //$NON-NLS-1$ //$NON-NLS-2$
+						.append("\",numchild=\"0\",value=\"\\\"item \\\\\\\"").append(i) //$NON-NLS-1$
+						.append("\\\\\\\"\\\"\",type=\"const char *\",thread-id=\"1\"}"); //$NON-NLS-1$
+			}
+			buf.append("],has_more=\"0\""); //$NON-NLS-1$
+			return Collections.singletonList(buf.toString());
+		}
+	},
+	/** Reply to {@code -data-disassemble} in mixed source and disassembly mode, 10000 instructions. */
+	DISASSEMBLE {
+		@Override
+		List<String> createLines() {
+			StringBuilder buf = new StringBuilder("13^done,asm_insns=["); //$NON-NLS-1$
+			for (int line = 0; line < ELEMENTS / 10; line++) {
+				if (line > 0)
+					buf.append(',');
+				buf.append("src_and_asm_line={line=\"").append(line + 1) //$NON-NLS-1$
+						.append("\",file=\"../src/main.c\",fullname=\"/home/user/work/sample/src/main.c\",line_asm_insn=["); //$NON-NLS-1$
+				for (int i = 0; i < 10; i++) {
+					if (i > 0)
+						buf.append(',');
+					buf.append("{address=\"0x").append(Long.toHexString(0x555555555139L + line * 40 + i * 4)) //$NON-NLS-1$
+							.append("\",func-name=\"main\",offset=\"").append(line * 40 + i * 4) //$NON-NLS-1$
+							.append("\",opcodes=\"48 8b 45 e0\",inst=\"mov    -0x20(%rbp),%rax\"}"); //$NON-NLS-1$
+				}
+				buf.append("]}"); //$NON-NLS-1$
+			}
+			buf.append(']');
+			return Collections.singletonList(buf.toString());
+		}
+	};
+
+	static final int ELEMENTS = 10000;
+
+	abstract List<String> createLines() throws IOException;
+
+	/**
+	 * Returns the lines of the transcript with the given name, or of the file at the given path.
+	 * A file can contain recorded output of GDB/MI, such as the output of
+	 * {@code gdb --interpreter=mi2} or a trace of the GDB traces console.
+	 */
+	public static List<String> load(String nameOrPath) throws IOException {
+		for (Transcript transcript : values()) {
+			if (transcript.name().equals(nameOrPath))
+				return transcript.createLines();
+		}
+		try (InputStream in = Files.newInputStream(Paths.get(nameOrPath))) {
+			return readLines(in);
+		}
+	}
+
+	static List<String> readLines(InputStream in) throws IOException {
+		List<String> lines = new ArrayList<>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (!line.isEmpty()) {
+				lines.add(line);
+			}
+		}
+		return lines;
+	}
+}
@@ -17,9 +17,14 @@ import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest_NoContainerTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest_WithAlternativeProcessIdTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest_WithContainerDMContextTest;
+import org.eclipse.cdt.dsf.mi.service.MIMemoryCacheTests;
+import org.eclipse.cdt.dsf.mi.service.MIVariableManagerBulkUpdateTests;
+import org.eclipse.cdt.dsf.mi.service.command.AbstractMIControlPipelineTests;
+import org.eclipse.cdt.dsf.mi.service.command.MICommandStatisticsTests;
 import org.eclipse.cdt.dsf.mi.service.command.commands.TestMIBreakInsertCommand;
 import org.eclipse.cdt.dsf.mi.service.command.commands.TestMICommandConstructCommand;
 import org.eclipse.cdt.dsf.mi.service.command.commands.TestMIGDBSetSysroot;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParserTests;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIStringHandlerTests;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIThreadTests;
 import org.junit.runner.RunWith;
@@ -30,9 +35,11 @@ import org.junit.runners.Suite.SuiteClasses;
 
 // Add additional test case classes below
 @SuiteClasses({ MIThreadTests.class, TestMIBreakInsertCommand.class, TestMICommandConstructCommand.class,
-		TestMIGDBSetSysroot.class, LaunchUtilsTest.class, MIStringHandlerTests.class, ProcStatParserTest.class,
-		FilePartsTest.class, GDBRegisterTest.class, GDBRegisterTest_NoContainerTest.class,
-		GDBRegisterTest_WithAlternativeProcessIdTest.class, GDBRegisterTest_WithContainerDMContextTest.class, })
+		TestMIGDBSetSysroot.class, LaunchUtilsTest.class, MIParserTests.class, MIStringHandlerTests.class,
+		MICommandStatisticsTests.class, AbstractMIControlPipelineTests.class, MIMemoryCacheTests.class,
+		MIVariableManagerBulkUpdateTests.class, ProcStatParserTest.class, FilePartsTest.class, GDBRegisterTest.class,
+		GDBRegisterTest_NoContainerTest.class, GDBRegisterTest_WithAlternativeProcessIdTest.class,
+		GDBRegisterTest_WithContainerDMContextTest.class, })
 public class AutomatedIntegrationSuite {
 	// Often overriding BeforeClass method here
 }
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.cdt.dsf.mi.service.MIMemory.MemoryBlock;
+import org.eclipse.cdt.dsf.mi.service.MIMemory.SortedMemoryBlockMap;
+import org.eclipse.cdt.utils.Addr64;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.junit.Test;
+
+public class MIMemoryCacheTests {
+	private static MemoryBlock block(long address, int length) {
+		MemoryByte[] bytes = new MemoryByte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = new MemoryByte((byte) (address + i));
+		}
+		return new MemoryBlock(new Addr64(Long.toString(address)), length, length, bytes);
+	}
+
+	private static void assertBlock(long address, int length, MemoryBlock block) {
+		assertEquals(address, block.fAddress.getValue().longValue());
+		assertEquals(length, block.fLengthInAddressableUnits);
+	}
+
+	private static List<MemoryBlock> missing(SortedMemoryBlockMap map, long address, int length) {
+		Addr64 start = new Addr64(Long.toString(address));
+		return MIMemory.getMissingBlocks(start, length, 1, map.getOverlappingBlocks(start, length));
+	}
+
+	@Test
+	public void testMissingBlocks() {
+		SortedMemoryBlockMap map = new SortedMemoryBlockMap(1024);
+		map.add(block(100, 10));
+		map.add(block(200, 10));
+
+		List<MemoryBlock> missing = missing(map, 90, 200);
+		assertEquals(3, missing.size());
+		assertBlock(90, 10, missing.get(0));
+		assertBlock(110, 90, missing.get(1));
+		assertBlock(210, 80, missing.get(2));
+
+		assertTrue(missing(map, 102, 5).isEmpty());
+		missing = missing(map, 105, 10);
+		assertEquals(1, missing.size());
+		assertBlock(110, 5, missing.get(0));
+		missing = missing(map, 95, 10);
+		assertEquals(1, missing.size());
+		assertBlock(95, 5, missing.get(0));
+	}
+
+	@Test
+	public void testMerge() {
+		SortedMemoryBlockMap map = new SortedMemoryBlockMap(25);
+		map.add(block(100, 10));
+		map.add(block(120, 10));
+		map.add(block(110, 10));
+		// The merged block would be larger than 25 octets
+		assertEquals(2, map.getBlockCount());
+		assertEquals(30, map.getSizeInOctets());
+
+		map = new SortedMemoryBlockMap(1024);
+		map.add(block(100, 10));
+		map.add(block(120, 10));
+		map.add(block(110, 10));
+		assertEquals(1, map.getBlockCount());
+		Addr64 start = new Addr64("95");
+		MemoryByte[] bytes = MIMemory.getMemoryBlock(start, 40, 1, map.getOverlappingBlocks(start, 40));
+		assertTrue(!bytes[0].isReadable());
+		for (int i = 5; i < 35; i++) {
+			assertEquals((byte) (95 + i), bytes[i].getValue());
+		}
+		assertTrue(!bytes[35].isReadable());
+	}
+
+	@Test
+	public void testOverlappingAdd() {
+		SortedMemoryBlockMap map = new SortedMemoryBlockMap(16);
+		map.add(block(100, 10));
+		map.add(block(105, 10));
+		map.add(block(95, 30));
+		assertEquals(30, map.getSizeInOctets());
+		Addr64 start = new Addr64("95");
+		MemoryByte[] bytes = MIMemory.getMemoryBlock(start, 30, 1, map.getOverlappingBlocks(start, 30));
+		for (int i = 0; i < 30; i++) {
+			assertEquals((byte) (95 + i), bytes[i].getValue());
+		}
+		assertTrue(missing(map, 95, 30).isEmpty());
+	}
+
+	@Test
+	public void testEviction() {
+		SortedMemoryBlockMap map = new SortedMemoryBlockMap(10);
+		for (int i = 0; i < 10; i++) {
+			map.add(block(i * 100, 10));
+		}
+		// Use the first block, the second is now the least recently used one
+		map.getOverlappingBlocks(new Addr64("0"), 1);
+		map.evict(80);
+		assertEquals(8, map.getBlockCount());
+		assertEquals(2, map.getEvictionCount());
+		assertTrue(missing(map, 0, 10).isEmpty());
+		assertEquals(1, missing(map, 100, 10).size());
+		assertEquals(1, missing(map, 200, 10).size());
+		assertTrue(missing(map, 300, 10).isEmpty());
+
+		map.clear();
+		assertEquals(0, map.getSizeInOctets());
+		assertEquals(Collections.emptyList(), map.getOverlappingBlocks(new Addr64("0"), 1000));
+	}
+
+	@Test
+	public void testWordSize() {
+		MemoryByte[] bytes = new MemoryByte[8];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = new MemoryByte((byte) i);
+		}
+		SortedMemoryBlockMap map = new SortedMemoryBlockMap(1024);
+		map.add(new MemoryBlock(new Addr64("10"), 8, 4, bytes));
+		Addr64 start = new Addr64("12");
+		List<MemoryBlock> missing = MIMemory.getMissingBlocks(start, 4, 2, map.getOverlappingBlocks(start, 4));
+		assertEquals(1, missing.size());
+		assertBlock(14, 2, missing.get(0));
+		assertEquals(4, missing.get(0).fLengthInOctets);
+
+		MemoryByte[] result = MIMemory.getMemoryBlock(start, 2, 2, map.getOverlappingBlocks(start, 2));
+		assertEquals(4, result.length);
+		assertEquals(4, result[0].getValue());
+		assertEquals(7, result[3].getValue());
+	}
+}
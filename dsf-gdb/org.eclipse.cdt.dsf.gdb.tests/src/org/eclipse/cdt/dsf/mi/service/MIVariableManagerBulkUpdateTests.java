@@ -0,0 +1,301 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.Query;
+import org.eclipse.cdt.dsf.debug.service.IFormattedValues;
+import org.eclipse.cdt.dsf.debug.service.IFormattedValues.FormattedValueDMContext;
+import org.eclipse.cdt.dsf.debug.service.IProcesses.IProcessDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandControl;
+import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.mi.service.MIExpressions.MIExpressionDMC;
+import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
+import org.eclipse.cdt.dsf.mi.service.command.MIControlDMContext;
+import org.eclipse.cdt.dsf.mi.service.command.commands.ExprMetaGetValue;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MICommand;
+import org.eclipse.cdt.dsf.mi.service.command.output.ExprMetaGetValueInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOOBRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParser;
+import org.eclipse.cdt.dsf.service.DsfServicesTracker;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the update of the root variable objects by a single -var-update *,
+ * against a fake GDB that answers the variable object commands.
+ */
+public class MIVariableManagerBulkUpdateTests {
+	private DsfSession fSession;
+	private DsfServicesTracker fTracker;
+	private MIVariableManager fVariableManager;
+	private IMIExecutionDMContext fExecCtx;
+
+	/** Whether the thread of the variables is suspended */
+	private boolean fSuspended = true;
+	/** The -var-update commands sent to the fake GDB, by varobj name */
+	private final List<String> fUpdates = new ArrayList<>();
+	/** The number of -var-create commands sent to the fake GDB */
+	private int fCreateCount;
+	/** The changelist that the fake GDB reports for the next -var-update */
+	private String fChangeList = "";
+	/** The value of each expression in the fake GDB */
+	private final Map<String, String> fValues = new HashMap<>();
+
+	@Before
+	public void setUp() throws Exception {
+		fSession = DsfSession.startSession(new DefaultDsfExecutor(GdbPlugin.PLUGIN_ID), GdbPlugin.PLUGIN_ID);
+		final Object commandControl = Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { IMICommandControl.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "queueCommand":
+						reply((MICommand<?>) args[0], (DataRequestMonitor<?>) args[1]);
+						return null;
+					case "getCommandFactory":
+						return new CommandFactory();
+					case "getSession":
+						return fSession;
+					default:
+						return defaultValue(proxy, method, args);
+					}
+				});
+		final Object runControl = Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { IRunControl.class }, (proxy, method, args) -> {
+					if (method.getName().equals("isSuspended")) {
+						return fSuspended;
+					}
+					return defaultValue(proxy, method, args);
+				});
+		fTracker = new DsfServicesTracker(GdbPlugin.getBundleContext(), fSession.getId()) {
+			@Override
+			public <V> V getService(Class<V> serviceClass) {
+				if (serviceClass == ICommandControl.class || serviceClass == IMICommandControl.class) {
+					return serviceClass.cast(commandControl);
+				}
+				if (serviceClass == IRunControl.class) {
+					return serviceClass.cast(runControl);
+				}
+				return null;
+			}
+		};
+
+		MIProcesses processes = new MIProcesses(fSession);
+		MIControlDMContext controlDmc = new MIControlDMContext(fSession.getId(), "TestControl");
+		IProcessDMContext processDmc = processes.createProcessContext(controlDmc, "1");
+		IMIContainerDMContext containerDmc = processes.createContainerContext(processDmc, "i1");
+		fExecCtx = processes.createExecutionContext(containerDmc, processes.createThreadContext(processDmc, "1"),
+				"1");
+
+		fValues.put("a", "1");
+		fValues.put("b", "2");
+		fValues.put("c", "3");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fSession.getExecutor().submit(() -> fVariableManager.dispose()).get();
+		fTracker.dispose();
+		DsfSession.endSession(fSession);
+		fSession.getExecutor().shutdown();
+	}
+
+	private static Object defaultValue(Object proxy, Method method, Object[] args) {
+		switch (method.getName()) {
+		case "equals":
+			return proxy == args[0];
+		case "hashCode":
+			return System.identityHashCode(proxy);
+		case "toString":
+			return proxy.getClass().getName();
+		}
+		return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+	}
+
+	/**
+	 * Answers a command like GDB would, from the executor.
+	 */
+	@SuppressWarnings("unchecked")
+	private void reply(final MICommand<?> command, DataRequestMonitor<?> drm) {
+		final DataRequestMonitor<Object> rm = (DataRequestMonitor<Object>) drm;
+		String[] params = command.getParameters();
+		String result;
+		switch (command.getOperation()) {
+		case "-var-create":
+			// The varobj is named after its expression
+			String expr = params[2];
+			fCreateCount++;
+			result = "name=\"" + expr + "\",numchild=\"0\",value=\"" + fValues.get(expr)
+					+ "\",type=\"int\",has_more=\"0\"";
+			break;
+		case "-var-update":
+			fUpdates.add(params[1]);
+			result = "changelist=[" + fChangeList + "]";
+			fChangeList = "";
+			break;
+		case "-var-evaluate-expression":
+			result = "value=\"" + fValues.get(params[params.length - 1]) + "\"";
+			break;
+		default:
+			result = null;
+		}
+
+		String line = result == null ? "^done" : "^done," + result;
+		final MIOutput output = new MIOutput(new MIParser().parseMIResultRecord(line), new MIOOBRecord[0]);
+		fSession.getExecutor().execute(() -> {
+			rm.setData(command.getResult(output));
+			rm.done();
+		});
+	}
+
+	private static String change(String name, String value) {
+		return "{name=\"" + name + "\",value=\"" + value
+				+ "\",in_scope=\"true\",type_changed=\"false\",has_more=\"0\"}";
+	}
+
+	private static String outOfScope(String name) {
+		return "{name=\"" + name + "\",in_scope=\"false\",type_changed=\"false\",has_more=\"0\"}";
+	}
+
+	private void createVariableManager(final boolean bulkUpdate) throws Exception {
+		fSession.getExecutor().submit(() -> {
+			fVariableManager = new MIVariableManager(fSession, fTracker) {
+				@Override
+				protected boolean useBulkUpdate() {
+					return bulkUpdate;
+				}
+			};
+		}).get();
+	}
+
+	private Query<ExprMetaGetValueInfo> createValueQuery(String expression) {
+		final MIExpressionDMC exprCtx = new MIExpressionDMC(fSession.getId(), expression, expression, fExecCtx);
+		final FormattedValueDMContext valueCtx = new FormattedValueDMContext(fSession.getId(), exprCtx,
+				IFormattedValues.NATURAL_FORMAT);
+		return new Query<ExprMetaGetValueInfo>() {
+			@Override
+			protected void execute(DataRequestMonitor<ExprMetaGetValueInfo> rm) {
+				fVariableManager.queueCommand(new ExprMetaGetValue(valueCtx), rm);
+			}
+		};
+	}
+
+	private String getValue(String expression) throws Exception {
+		Query<ExprMetaGetValueInfo> query = createValueQuery(expression);
+		fSession.getExecutor().execute(query);
+		return query.get(5, TimeUnit.SECONDS).getValue();
+	}
+
+	private void markAllOutOfDate() throws Exception {
+		fSession.getExecutor().submit(() -> fVariableManager.markAllOutOfDate()).get();
+	}
+
+	private void createVariables() throws Exception {
+		assertEquals("1", getValue("a"));
+		assertEquals("2", getValue("b"));
+		assertEquals("3", getValue("c"));
+		assertEquals(3, fCreateCount);
+	}
+
+	@Test
+	public void testChangedUnchangedAndOutOfScopeRoots() throws Exception {
+		createVariableManager(true);
+		createVariables();
+
+		markAllOutOfDate();
+		fValues.put("a", "10");
+		fChangeList = change("a", "10") + "," + outOfScope("c");
+
+		// The changed root gets its new value
+		assertEquals("10", getValue("a"));
+		assertEquals(List.of("*"), fUpdates);
+
+		// The unchanged root was updated by the same command
+		assertEquals("2", getValue("b"));
+		assertEquals(1, fUpdates.size());
+
+		// The out-of-scope root is re-created without another update
+		assertEquals("3", getValue("c"));
+		assertEquals(1, fUpdates.size());
+		assertEquals(4, fCreateCount);
+
+		// Nothing is updated again until the next step
+		assertEquals("10", getValue("a"));
+		assertEquals("2", getValue("b"));
+		assertEquals(1, fUpdates.size());
+
+		markAllOutOfDate();
+		assertEquals("2", getValue("b"));
+		assertEquals(List.of("*", "*"), fUpdates);
+	}
+
+	@Test
+	public void testConcurrentRequestsShareUpdate() throws Exception {
+		createVariableManager(true);
+		createVariables();
+
+		markAllOutOfDate();
+		fValues.put("b", "20");
+		fChangeList = change("b", "20");
+
+		final Query<ExprMetaGetValueInfo> queryA = createValueQuery("a");
+		final Query<ExprMetaGetValueInfo> queryB = createValueQuery("b");
+		fSession.getExecutor().execute(() -> {
+			queryA.run();
+			queryB.run();
+		});
+		assertEquals("1", queryA.get(5, TimeUnit.SECONDS).getValue());
+		assertEquals("20", queryB.get(5, TimeUnit.SECONDS).getValue());
+		assertEquals(List.of("*"), fUpdates);
+	}
+
+	@Test
+	public void testRunningThreadNotUpToDate() throws Exception {
+		createVariableManager(true);
+		createVariables();
+
+		markAllOutOfDate();
+		fSuspended = false;
+		assertEquals("1", getValue("a"));
+
+		// The thread may have run after GDB updated b, so it is updated again
+		assertEquals("2", getValue("b"));
+		assertEquals(List.of("*", "*"), fUpdates);
+	}
+
+	@Test
+	public void testUpdatePerRoot() throws Exception {
+		createVariableManager(false);
+		createVariables();
+
+		markAllOutOfDate();
+		fValues.put("a", "10");
+		fChangeList = change("a", "10");
+		assertEquals("10", getValue("a"));
+		assertEquals("2", getValue("b"));
+		assertEquals(List.of("a", "b"), fUpdates);
+		assertEquals(2, fVariableManager.getUpdateStatistics().getUpdateCommandCount());
+	}
+}
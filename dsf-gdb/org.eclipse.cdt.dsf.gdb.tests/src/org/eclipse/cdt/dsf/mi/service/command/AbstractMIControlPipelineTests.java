@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService.ICommandControlDMContext;
+import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MICommand;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIInfo;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.BundleContext;
+
+/**
+ * Tests the number of commands that the command control sends to GDB before it gets their
+ * results, against a fake GDB.
+ */
+public class AbstractMIControlPipelineTests {
+	private static final int COMMAND_COUNT = 12;
+
+	private DsfSession fSession;
+	private TestControl fControl;
+	/** The commands written by the control, one per line */
+	private final BlockingQueue<String> fWritten = new LinkedBlockingQueue<>();
+	/** Where the fake GDB writes its output */
+	private PipedOutputStream fGdbOutput;
+
+	private static class TestControl extends AbstractMIControl {
+		private final MIControlDMContext fControlDmc;
+		private final int fPipelineDepth;
+
+		TestControl(DsfSession session, int pipelineDepth) {
+			super(session, false, true, new CommandFactory());
+			fControlDmc = new MIControlDMContext(session.getId(), "TestControl");
+			fPipelineDepth = pipelineDepth;
+		}
+
+		@Override
+		protected boolean isConcurrentCommandsSupported() {
+			return true;
+		}
+
+		@Override
+		protected int getPipelineDepth() {
+			return fPipelineDepth;
+		}
+
+		@Override
+		public MIControlDMContext getControlDMContext() {
+			return fControlDmc;
+		}
+
+		@Override
+		public ICommandControlDMContext getContext() {
+			return fControlDmc;
+		}
+
+		@Override
+		public String getId() {
+			return "TestControl";
+		}
+
+		@Override
+		protected BundleContext getBundleContext() {
+			return GdbPlugin.getBundleContext();
+		}
+	}
+
+	/**
+	 * A control for a GDB that does not support concurrent commands, like the versions affected by
+	 * https://sourceware.org/bugzilla/show_bug.cgi?id=28711.
+	 */
+	private static class SerialTestControl extends TestControl {
+		SerialTestControl(DsfSession session, int pipelineDepth) {
+			super(session, pipelineDepth);
+		}
+
+		@Override
+		protected boolean isConcurrentCommandsSupported() {
+			return false;
+		}
+	}
+
+	/**
+	 * Collects the lines written by the control.
+	 */
+	private class GdbInput extends OutputStream {
+		private final StringBuilder fLine = new StringBuilder();
+
+		@Override
+		public synchronized void write(int b) throws IOException {
+			if (b == '\n') {
+				fWritten.add(fLine.toString());
+				fLine.setLength(0);
+			} else {
+				fLine.append((char) b);
+			}
+		}
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		fSession = DsfSession.startSession(new DefaultDsfExecutor(GdbPlugin.PLUGIN_ID), GdbPlugin.PLUGIN_ID);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (fControl != null) {
+			fSession.getExecutor().submit(() -> fControl.stopCommandProcessing()).get();
+		}
+		if (fGdbOutput != null) {
+			fGdbOutput.close();
+		}
+		DsfSession.endSession(fSession);
+		fSession.getExecutor().shutdown();
+	}
+
+	private void startControl(final int pipelineDepth) throws Exception {
+		startControl(pipelineDepth, true);
+	}
+
+	private void startControl(final int pipelineDepth, final boolean concurrentCommands) throws Exception {
+		PipedInputStream controlInput = new PipedInputStream();
+		fGdbOutput = new PipedOutputStream(controlInput);
+		fSession.getExecutor().submit(() -> {
+			fControl = concurrentCommands ? new TestControl(fSession, pipelineDepth)
+					: new SerialTestControl(fSession, pipelineDepth);
+			fControl.startCommandProcessing(controlInput, new GdbInput());
+		}).get();
+	}
+
+	private CountDownLatch queueCommands(final int count) throws Exception {
+		final CountDownLatch done = new CountDownLatch(count);
+		fSession.getExecutor().submit(() -> {
+			for (int i = 0; i < count; i++) {
+				fControl.queueCommand(new MICommand<MIInfo>(fControl.getContext(), "-test-command"),
+						new DataRequestMonitor<MIInfo>(fSession.getExecutor(), null) {
+							@Override
+							protected void handleCompleted() {
+								done.countDown();
+							}
+						});
+			}
+		}).get();
+		return done;
+	}
+
+	private static String getToken(String line) {
+		int end = 0;
+		while (end < line.length() && Character.isDigit(line.charAt(end))) {
+			end++;
+		}
+		assertTrue(line, end > 0);
+		return line.substring(0, end);
+	}
+
+	private void reply(String line) throws IOException {
+		fGdbOutput.write((getToken(line) + "^done\n").getBytes(StandardCharsets.US_ASCII));
+		fGdbOutput.flush();
+	}
+
+	/**
+	 * Queues more commands than the given depth, answers them one at a time and checks that no
+	 * more than the depth are waiting for their result at any time.
+	 */
+	private void checkDepth(int depth) throws Exception {
+		CountDownLatch done = queueCommands(COMMAND_COUNT);
+
+		// The window is filled at once.
+		Deque<String> inFlight = new ArrayDeque<>();
+		for (int i = 0; i < depth; i++) {
+			String line = fWritten.poll(5, TimeUnit.SECONDS);
+			assertNotNull(line);
+			inFlight.add(line);
+		}
+		assertNull(fWritten.poll(200, TimeUnit.MILLISECONDS));
+
+		// Each result lets exactly one more command through.
+		int written = depth;
+		while (!inFlight.isEmpty()) {
+			reply(inFlight.remove());
+			if (written < COMMAND_COUNT) {
+				String line = fWritten.poll(5, TimeUnit.SECONDS);
+				assertNotNull(line);
+				inFlight.add(line);
+				written++;
+			}
+			assertNull(fWritten.poll(50, TimeUnit.MILLISECONDS));
+		}
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+
+		MICommandStatistics stats = fControl.getCommandStatistics();
+		assertEquals(depth, stats.getPipelineDepth());
+		assertTrue(stats.getMaxInFlightCount() <= depth);
+	}
+
+	@Test
+	public void testPipelineDepth() throws Exception {
+		// The depth is read from the subclass after it is initialized.
+		startControl(5);
+		checkDepth(5);
+	}
+
+	@Test
+	public void testPipelineDepthAtLeastConcurrentCommands() throws Exception {
+		startControl(1);
+		checkDepth(3);
+	}
+
+	@Test
+	public void testNoPipeliningWithoutConcurrentCommands() throws Exception {
+		// Only one command is in flight at a time, whatever the pipeline depth is.
+		startControl(5, false);
+		checkDepth(1);
+	}
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.eclipse.cdt.dsf.mi.service.command.MICommandStatistics.Latency;
+import org.junit.Test;
+
+public class MICommandStatisticsTests {
+	@Test
+	public void testInFlight() {
+		MICommandStatistics stats = new MICommandStatistics(16);
+		assertEquals(16, stats.getPipelineDepth());
+
+		stats.commandsWritten(3, 3);
+		stats.commandsWritten(2, 5);
+		stats.commandCompleted("-stack-list-frames", 1000, 4);
+		assertEquals(4, stats.getInFlightCount());
+		assertEquals(5, stats.getMaxInFlightCount());
+		assertEquals(2, stats.getWriteCount());
+		assertEquals(5, stats.getWrittenCommandCount());
+	}
+
+	@Test
+	public void testLatency() {
+		MICommandStatistics stats = new MICommandStatistics(3);
+		stats.commandCompleted("-var-create", 100, 2);
+		stats.commandCompleted("-var-create", 300, 1);
+		stats.commandCompleted("info sharedlibrary", 50, 0);
+		stats.commandCompleted("info threads", 70, 0);
+
+		Latency total = stats.getLatency();
+		assertEquals(4, total.getCount());
+		assertEquals(520, total.getTotalNanos());
+		assertEquals(300, total.getMaxNanos());
+		assertEquals(130, total.getAverageNanos());
+
+		Map<String, Latency> byOperation = stats.getLatencyByOperation();
+		assertEquals(2, byOperation.size());
+		assertEquals(2, byOperation.get("-var-create").getCount());
+		assertEquals(200, byOperation.get("-var-create").getAverageNanos());
+		assertEquals(2, byOperation.get("info").getCount());
+		assertEquals(70, byOperation.get("info").getMaxNanos());
+	}
+
+	@Test
+	public void testReset() {
+		MICommandStatistics stats = new MICommandStatistics(3);
+		stats.commandsWritten(3, 3);
+		stats.commandCompleted("-exec-next", 100, 2);
+		Latency before = stats.getLatency();
+
+		stats.reset();
+		assertEquals(2, stats.getInFlightCount());
+		assertEquals(2, stats.getMaxInFlightCount());
+		assertEquals(0, stats.getWriteCount());
+		assertEquals(0, stats.getLatency().getCount());
+		assertTrue(stats.getLatencyByOperation().isEmpty());
+		// Returned values are copies.
+		assertEquals(1, before.getCount());
+	}
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command.output;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParser.RecordType;
+import org.junit.Test;
+
+public class MIParserTests {
+	private final MIParser fParser = new MIParser();
+
+	private static String getCString(MIValue value) {
+		assertTrue(value instanceof MIConst);
+		return ((MIConst) value).getCString();
+	}
+
+	@Test
+	public void testRecordType() {
+		assertEquals(RecordType.ResultRecord, fParser.getRecordType("12^done"));
+		assertEquals(RecordType.ResultRecord, fParser.getRecordType("^running"));
+		assertEquals(RecordType.PrimaryPrompt, fParser.getRecordType("(gdb) "));
+		assertEquals(RecordType.OOBRecord, fParser.getRecordType("*stopped,reason=\"exited-normally\""));
+		assertEquals(RecordType.OOBRecord, fParser.getRecordType("~\"text\""));
+	}
+
+	@Test
+	public void testResultRecord() {
+		MIResultRecord rr = fParser.parseMIResultRecord(
+				"7^done,stack=[frame={level=\"0\",func=\"main\",args=[{name=\"argc\",value=\"1\"}]},frame={level=\"1\"}]");
+		assertEquals(7, rr.getToken());
+		assertEquals(MIResultRecord.DONE, rr.getResultClass());
+		assertEquals(1, rr.getMIResults().length);
+		assertEquals("stack", rr.getMIResults()[0].getVariable());
+
+		MIList stack = (MIList) rr.getMIResults()[0].getMIValue();
+		assertEquals(0, stack.getMIValues().length);
+		MIResult[] frames = stack.getMIResults();
+		assertEquals(2, frames.length);
+		assertEquals("frame", frames[0].getVariable());
+		MITuple frame = (MITuple) frames[0].getMIValue();
+		assertEquals("0", getCString(frame.getField("level")));
+		assertEquals("main", getCString(frame.getField("func")));
+		MIList args = (MIList) frame.getField("args");
+		assertEquals(1, args.getMIValues().length);
+		MITuple arg = (MITuple) args.getMIValues()[0];
+		assertEquals("argc", getCString(arg.getField("name")));
+		assertEquals("1", getCString(((MITuple) frames[1].getMIValue()).getField("level")));
+	}
+
+	@Test
+	public void testResultRecordWithoutResults() {
+		MIResultRecord rr = fParser.parseMIResultRecord("^error");
+		assertEquals(-1, rr.getToken());
+		assertEquals(MIResultRecord.ERROR, rr.getResultClass());
+		assertEquals(0, rr.getMIResults().length);
+	}
+
+	@Test
+	public void testEmptyTupleAndList() {
+		MIResultRecord rr = fParser.parseMIResultRecord("^done,a={},b=[],c=[\"x\",\"y\"]");
+		MIResult[] results = rr.getMIResults();
+		assertEquals(3, results.length);
+		assertEquals(0, ((MITuple) results[0].getMIValue()).getMIResults().length);
+		assertEquals(0, ((MIList) results[1].getMIValue()).getMIValues().length);
+		MIValue[] values = ((MIList) results[2].getMIValue()).getMIValues();
+		assertEquals(2, values.length);
+		assertEquals("y", getCString(values[1]));
+	}
+
+	@Test
+	public void testEscapesInResults() {
+		MIResultRecord rr = fParser
+				.parseMIResultRecord("^error,msg=\"No symbol \\\"x\\\" in \\\\ current\\n context.\",code=\"1\"");
+		assertEquals("No symbol \"x\" in \\ current\\n context.", getCString(rr.getField("msg")));
+		assertEquals("1", getCString(rr.getField("code")));
+	}
+
+	@Test
+	public void testUnterminatedString() {
+		MIResultRecord rr = fParser.parseMIResultRecord("^done,value=\"abc");
+		assertEquals("abc", getCString(rr.getField("value")));
+	}
+
+	@Test
+	public void testAsyncRecord() {
+		MIOOBRecord oob = fParser.parseMIOOBRecord("12*stopped,reason=\"breakpoint-hit\",frame={addr=\"0x1\"}");
+		assertTrue(oob instanceof MIExecAsyncOutput);
+		MIAsyncRecord async = (MIAsyncRecord) oob;
+		assertEquals(12, async.getToken());
+		assertEquals("stopped", async.getAsyncClass());
+		assertEquals(2, async.getMIResults().length);
+		assertEquals("breakpoint-hit", getCString(async.getMIResults()[0].getMIValue()));
+
+		oob = fParser.parseMIOOBRecord("=thread-group-added,id=\"i1\"");
+		assertTrue(oob instanceof MINotifyAsyncOutput);
+		assertEquals("thread-group-added", ((MIAsyncRecord) oob).getAsyncClass());
+	}
+
+	@Test
+	public void testStreamRecord() {
+		// Backslashes within stream records are not parsed.
+		MIOOBRecord oob = fParser.parseMIOOBRecord("~\"line \\\"1\\\"\\n\"");
+		assertTrue(oob instanceof MIConsoleStreamOutput);
+		assertEquals("line \"1\"\\n", ((MIStreamRecord) oob).getCString());
+
+		oob = fParser.parseMIOOBRecord("&\"a \\\\ b\"");
+		assertTrue(oob instanceof MILogStreamOutput);
+		assertEquals("a \\\\ b", ((MIStreamRecord) oob).getCString());
+	}
+
+	@Test
+	public void testBadlyFormattedLine() {
+		MIOOBRecord oob = fParser.parseMIOOBRecord("not an MI record");
+		assertTrue(oob instanceof MITargetStreamOutput);
+		assertEquals("not an MI record\n", ((MIStreamRecord) oob).getCString());
+	}
+
+	@Test
+	public void testLargeList() {
+		StringBuilder line = new StringBuilder("^done,stack=[");
+		for (int i = 0; i < 10000; i++) {
+			if (i > 0)
+				line.append(',');
+			line.append("frame={level=\"").append(i).append("\"}");
+		}
+		line.append(']');
+		MIResultRecord rr = fParser.parseMIResultRecord(line.toString());
+		MIResult[] frames = ((MIList) rr.getField("stack")).getMIResults();
+		assertEquals(10000, frames.length);
+		assertEquals("9999", getCString(((MITuple) frames[9999].getMIValue()).getField("level")));
+	}
+}
@@ -637,6 +637,15 @@ public class GdbDebugPreferencePage extends FieldEditorPreferencePage implements
 		suspendTimeout.fillIntoGrid(group2, 3);
 		addField(suspendTimeout);
 
+		final IntegerWithBooleanFieldEditor pipelineDepth = new IntegerWithBooleanFieldEditor(
+				IGdbDebugPreferenceConstants.PREF_MI_PIPELINING, IGdbDebugPreferenceConstants.PREF_MI_PIPELINE_DEPTH,
+				MessagesForPreferences.GdbDebugPreferencePage_miPipelining_label, group2);
+		pipelineDepth.setValidRange(1, 1000);
+		pipelineDepth.fillIntoGrid(group2, 3);
+		addField(pipelineDepth);
+		// Need to set layout again.
+		group2.setLayout(groupLayout);
+
 		BooleanFieldEditor boolField = new BooleanFieldEditor(IGdbDebugPreferenceConstants.PREF_AUTO_TERMINATE_GDB,
 				MessagesForPreferences.GdbDebugPreferencePage_autoTerminateGdb_label, group2);
 
@@ -669,6 +678,14 @@ public class GdbDebugPreferencePage extends FieldEditorPreferencePage implements
 		// Need to set layout again.
 		group2.setLayout(groupLayout);
 
+		boolField = new BooleanFieldEditor(IGdbDebugPreferenceConstants.PREF_VARIABLE_BULK_UPDATE,
+				MessagesForPreferences.GdbDebugPreferencePage_variableBulkUpdate_label, group2);
+
+		boolField.fillIntoGrid(group2, 3);
+		addField(boolField);
+		// Need to set layout again.
+		group2.setLayout(groupLayout);
+
 		boolField = new BooleanFieldEditor(IGdbDebugPreferenceConstants.PREF_TRACES_ENABLE,
 				MessagesForPreferences.GdbDebugPreferencePage_enableTraces_label, group2);
 
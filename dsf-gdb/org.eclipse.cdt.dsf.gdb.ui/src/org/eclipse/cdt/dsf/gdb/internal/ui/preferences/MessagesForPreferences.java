@@ -85,6 +85,10 @@ class MessagesForPreferences extends NLS {
 
 	public static String GdbDebugPreferencePage_suspendTimeout_label;
 
+	public static String GdbDebugPreferencePage_miPipelining_label;
+
+	public static String GdbDebugPreferencePage_variableBulkUpdate_label;
+
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(MessagesForPreferences.class.getName(), MessagesForPreferences.class);
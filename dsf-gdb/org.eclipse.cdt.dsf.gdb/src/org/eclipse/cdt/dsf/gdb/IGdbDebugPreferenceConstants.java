@@ -261,4 +261,52 @@ public interface IGdbDebugPreferenceConstants {
 	 * @since 6.5
 	 */
 	public static final int SUSPEND_TIMEOUT_VALUE_DEFAULT = 10;
+
+	/**
+	 * Boolean preference controlling whether commands that carry their thread and frame are
+	 * pipelined to GDB: up to {@link #PREF_MI_PIPELINE_DEPTH} commands wait for their result at the
+	 * same time, and the commands that are ready at once are written to GDB together.
+	 *
+	 * @since 6.6
+	 */
+	public static final String PREF_MI_PIPELINING = PREFIX + "miPipelining"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_MI_PIPELINING}
+	 *
+	 * @since 6.6
+	 */
+	public static final boolean MI_PIPELINING_DEFAULT = false;
+
+	/**
+	 * Integer preference for the number of commands that may wait for their result at the same time
+	 * when {@link #PREF_MI_PIPELINING} is enabled.
+	 *
+	 * @since 6.6
+	 */
+	public static final String PREF_MI_PIPELINE_DEPTH = PREFIX + "miPipelineDepth"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_MI_PIPELINE_DEPTH}
+	 *
+	 * @since 6.6
+	 */
+	public static final int MI_PIPELINE_DEPTH_DEFAULT = 16;
+
+	/**
+	 * Boolean preference controlling whether the variable objects are updated with a single
+	 * -var-update * after the program stops, instead of one -var-update per root variable object.
+	 * GDB then updates all the variable objects it knows of, including the ones of frames and
+	 * threads that are not displayed.
+	 *
+	 * @since 6.6
+	 */
+	public static final String PREF_VARIABLE_BULK_UPDATE = PREFIX + "variableBulkUpdate"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_VARIABLE_BULK_UPDATE}
+	 *
+	 * @since 6.6
+	 */
+	public static final boolean VARIABLE_BULK_UPDATE_DEFAULT = false;
 }
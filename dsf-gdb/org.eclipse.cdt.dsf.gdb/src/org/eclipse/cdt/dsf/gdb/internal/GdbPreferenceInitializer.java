@@ -73,5 +73,11 @@ public class GdbPreferenceInitializer extends AbstractPreferenceInitializer {
 				IGDBLaunchConfigurationConstants.DEBUGGER_REMOTE_TIMEOUT_VALUE_DEFAULT);
 		node.putInt(IGdbDebugPreferenceConstants.PREF_SUSPEND_TIMEOUT_VALUE,
 				IGdbDebugPreferenceConstants.SUSPEND_TIMEOUT_VALUE_DEFAULT);
+		node.putBoolean(IGdbDebugPreferenceConstants.PREF_MI_PIPELINING,
+				IGdbDebugPreferenceConstants.MI_PIPELINING_DEFAULT);
+		node.putInt(IGdbDebugPreferenceConstants.PREF_MI_PIPELINE_DEPTH,
+				IGdbDebugPreferenceConstants.MI_PIPELINE_DEPTH_DEFAULT);
+		node.putBoolean(IGdbDebugPreferenceConstants.PREF_VARIABLE_BULK_UPDATE,
+				IGdbDebugPreferenceConstants.VARIABLE_BULK_UPDATE_DEFAULT);
 	}
 }
@@ -15,6 +15,7 @@ package org.eclipse.cdt.dsf.mi.service;
 
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
 import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
+import org.eclipse.cdt.dsf.mi.service.command.MICommandStatistics;
 
 /**
  * This interface provides a method for accessing the command factory.
@@ -27,4 +28,13 @@ public interface IMICommandControl extends ICommandControlService {
 	 * to specialize certain commands.
 	 */
 	public CommandFactory getCommandFactory();
+
+	/**
+	 * Returns the statistics about the commands sent to the backend, or <code>null</code>
+	 * if the service does not collect them.
+	 * @since 6.6
+	 */
+	public default MICommandStatistics getCommandStatistics() {
+		return null;
+	}
 }
@@ -21,13 +21,17 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.mi.service;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Hashtable;
-import java.util.LinkedList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.eclipse.cdt.core.IAddress;
 import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
@@ -39,6 +43,7 @@ import org.eclipse.cdt.dsf.datamodel.AbstractDMEvent;
 import org.eclipse.cdt.dsf.datamodel.DMContexts;
 import org.eclipse.cdt.dsf.datamodel.IDMContext;
 import org.eclipse.cdt.dsf.debug.service.ICachingService;
+import org.eclipse.cdt.dsf.debug.service.ICachingService.CacheStatistics;
 import org.eclipse.cdt.dsf.debug.service.IExpressions;
 import org.eclipse.cdt.dsf.debug.service.IExpressions.IExpressionChangedDMEvent;
 import org.eclipse.cdt.dsf.debug.service.IExpressions.IExpressionDMAddress;
@@ -531,13 +536,40 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		return 1;
 	}
 
+	/**
+	 * Returns the maximum size, in octets, of the memory kept by the memory cache of a memory context.
+	 * The least recently used memory blocks are removed from the cache when it grows larger.
+	 * @since 6.6
+	 */
+	protected long getMemoryCacheSizeLimit() {
+		return 1024 * 1024;
+	}
+
+	/**
+	 * Returns the size, in octets, up to which contiguous memory blocks are merged in the memory cache.
+	 * The merged blocks are the unit of eviction from the cache.
+	 * @since 6.6
+	 */
+	protected int getMemoryCacheBlockSize() {
+		return 64 * 1024;
+	}
+
+	/**
+	 * Returns how many octets following a read are fetched ahead of time when the memory is read
+	 * sequentially, 0 to disable reading ahead.
+	 * @since 6.6
+	 */
+	protected int getMemoryCachePrefetchSize() {
+		return 1024;
+	}
+
 	///////////////////////////////////////////////////////////////////////////
-	// SortedLinkedlist
+	// SortedMemoryBlockMap
 	///////////////////////////////////////////////////////////////////////////
 
 	// This class is really the equivalent of a C struct (old habits die hard...)
 	// For simplicity, everything is public.
-	private static class MemoryBlock {
+	static class MemoryBlock {
 		public IAddress fAddress;
 		public long fLengthInAddressableUnits;
 		public long fLengthInOctets;
@@ -552,95 +584,210 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 			fLengthInOctets = lengthInOctets;
 			fBlock = block;
 		}
+
+		BigInteger getStart() {
+			return fAddress.getValue();
+		}
+
+		BigInteger getEnd() {
+			return fAddress.getValue().add(BigInteger.valueOf(fLengthInAddressableUnits));
+		}
+
+		int getWordSize() {
+			return (int) (fLengthInOctets / fLengthInAddressableUnits);
+		}
+
+		// Returns the part of the block between the given addresses
+		MemoryBlock slice(BigInteger start, BigInteger end) {
+			if (start.equals(getStart()) && end.equals(getEnd())) {
+				return this;
+			}
+			int wordSize = getWordSize();
+			long offset = start.subtract(getStart()).longValue();
+			long length = end.subtract(start).longValue();
+			MemoryByte[] block = Arrays.copyOfRange(fBlock, (int) (offset * wordSize),
+					(int) ((offset + length) * wordSize));
+			return new MemoryBlock(fAddress.add(offset), length * wordSize, length, block);
+		}
 	}
 
-	// Address-ordered data structure to cache the memory blocks.
-	// Contiguous blocks are merged if possible.
-	@SuppressWarnings("serial")
-	private static class SortedMemoryBlockList extends LinkedList<MemoryBlock> {
+	// Address-ordered data structure to cache the memory blocks. The blocks don't overlap and
+	// contiguous blocks are merged as long as the result doesn't exceed the maximum block size.
+	// The least recently used blocks are evicted to keep the cache within a size limit.
+	static class SortedMemoryBlockMap {
+		private final TreeMap<BigInteger, MemoryBlock> fBlocks = new TreeMap<>();
+		// The same blocks, in the order of their last use
+		private final LinkedHashMap<BigInteger, MemoryBlock> fRecentlyUsed = new LinkedHashMap<>(16, 0.75f, true);
+		private final long fMaxBlockSize;
+		private long fSizeInOctets;
+		private long fEvictionCount;
+
+		public SortedMemoryBlockMap(long maxBlockSize) {
+			fMaxBlockSize = maxBlockSize;
+		}
 
-		public SortedMemoryBlockList() {
-			super();
+		public void clear() {
+			fBlocks.clear();
+			fRecentlyUsed.clear();
+			fSizeInOctets = 0;
 		}
 
-		// Insert the block in the sorted linked list and merge contiguous
-		// blocks if necessary
-		@Override
-		public boolean add(MemoryBlock block) {
+		public int getBlockCount() {
+			return fBlocks.size();
+		}
+
+		public long getSizeInOctets() {
+			return fSizeInOctets;
+		}
 
-			// If the list is empty, just store the block
-			if (isEmpty()) {
-				addFirst(block);
-				return true;
+		public long getEvictionCount() {
+			return fEvictionCount;
+		}
+
+		// Returns the address-ordered blocks which overlap the given range and marks them as used
+		public List<MemoryBlock> getOverlappingBlocks(IAddress address, long lengthInAddressableUnits) {
+			BigInteger start = address.getValue();
+			BigInteger end = start.add(BigInteger.valueOf(lengthInAddressableUnits));
+			List<MemoryBlock> result = new ArrayList<>();
+			Map.Entry<BigInteger, MemoryBlock> previous = fBlocks.lowerEntry(start);
+			if (previous != null && previous.getValue().getEnd().compareTo(start) > 0) {
+				result.add(previous.getValue());
+			}
+			result.addAll(fBlocks.subMap(start, end).values());
+			for (MemoryBlock block : result) {
+				fRecentlyUsed.get(block.getStart());
 			}
+			return result;
+		}
 
-			// Insert the block at the correct location and then
-			// merge the blocks if possible
-			ListIterator<MemoryBlock> it = listIterator();
-			while (it.hasNext()) {
-				int index = it.nextIndex();
-				MemoryBlock item = it.next();
-				if (block.fAddress.compareTo(item.fAddress) < 0) {
-					add(index, block);
-					compact(index);
-					return true;
+		// Inserts the parts of the block which are not cached yet and merges contiguous blocks
+		public void add(MemoryBlock block) {
+			BigInteger position = block.getStart();
+			BigInteger end = block.getEnd();
+			for (MemoryBlock cached : getOverlappingBlocks(block.fAddress, block.fLengthInAddressableUnits)) {
+				if (cached.getStart().compareTo(position) > 0) {
+					insert(block.slice(position, cached.getStart()));
 				}
+				position = position.max(cached.getEnd());
+			}
+			if (position.compareTo(end) < 0) {
+				insert(block.slice(position, end));
 			}
-
-			// Put at the end of the list and merge if necessary
-			addLast(block);
-			compact(size() - 1);
-			return true;
 		}
 
-		// Merge this block with its contiguous neighbors (if any)
-		// Note: Merge is not performed if resulting block size would exceed MAXINT
-		private void compact(int index) {
-
-			MemoryBlock newBlock = get(index);
-
-			// Case where the block is to be merged with the previous block
-			if (index > 0) {
-				MemoryBlock prevBlock = get(index - 1);
-				IAddress endOfPreviousBlock = prevBlock.fAddress.add(prevBlock.fLengthInAddressableUnits);
-				if (endOfPreviousBlock.distanceTo(newBlock.fAddress).longValue() == 0) {
-					long newLengthInOctets = prevBlock.fLengthInOctets + newBlock.fLengthInOctets;
-					long newLengthInAddressableUnits = prevBlock.fLengthInAddressableUnits
-							+ newBlock.fLengthInAddressableUnits;
-					if (newLengthInOctets <= Integer.MAX_VALUE) {
-						MemoryByte[] block = new MemoryByte[(int) newLengthInOctets];
-						System.arraycopy(prevBlock.fBlock, 0, block, 0, (int) prevBlock.fLengthInOctets);
-						System.arraycopy(newBlock.fBlock, 0, block, (int) prevBlock.fLengthInOctets,
-								(int) newBlock.fLengthInOctets);
-						newBlock = new MemoryBlock(prevBlock.fAddress, newLengthInOctets, newLengthInAddressableUnits,
-								block);
-						remove(index);
-						index -= 1;
-						set(index, newBlock);
-					}
+		// Note: Merge is not performed if resulting block size would exceed the maximum block size
+		private void insert(MemoryBlock newBlock) {
+			Map.Entry<BigInteger, MemoryBlock> previous = fBlocks.lowerEntry(newBlock.getStart());
+			if (previous != null) {
+				MemoryBlock prevBlock = previous.getValue();
+				if (prevBlock.getEnd().equals(newBlock.getStart())
+						&& prevBlock.fLengthInOctets + newBlock.fLengthInOctets <= fMaxBlockSize) {
+					remove(prevBlock);
+					newBlock = merge(prevBlock, newBlock);
 				}
 			}
 
-			// Case where the block is to be merged with the following block
-			int lastIndex = size() - 1;
-			if (index < lastIndex) {
-				MemoryBlock nextBlock = get(index + 1);
-				IAddress endOfNewBlock = newBlock.fAddress.add(newBlock.fLengthInAddressableUnits);
-				if (endOfNewBlock.distanceTo(nextBlock.fAddress).longValue() == 0) {
-					long newLength = newBlock.fLengthInOctets + nextBlock.fLengthInOctets;
-					long newAddressesLength = newBlock.fLengthInAddressableUnits + nextBlock.fLengthInAddressableUnits;
-					if (newLength <= Integer.MAX_VALUE) {
-						MemoryByte[] block = new MemoryByte[(int) newLength];
-						System.arraycopy(newBlock.fBlock, 0, block, 0, (int) newBlock.fLengthInOctets);
-						System.arraycopy(nextBlock.fBlock, 0, block, (int) newBlock.fLengthInOctets,
-								(int) nextBlock.fLengthInOctets);
-						newBlock = new MemoryBlock(newBlock.fAddress, newLength, newAddressesLength, block);
-						set(index, newBlock);
-						remove(index + 1);
-					}
-				}
+			MemoryBlock nextBlock = fBlocks.get(newBlock.getEnd());
+			if (nextBlock != null && newBlock.fLengthInOctets + nextBlock.fLengthInOctets <= fMaxBlockSize) {
+				remove(nextBlock);
+				newBlock = merge(newBlock, nextBlock);
 			}
+
+			fBlocks.put(newBlock.getStart(), newBlock);
+			fRecentlyUsed.put(newBlock.getStart(), newBlock);
+			fSizeInOctets += newBlock.fLengthInOctets;
+		}
+
+		private void remove(MemoryBlock block) {
+			fBlocks.remove(block.getStart());
+			fRecentlyUsed.remove(block.getStart());
+			fSizeInOctets -= block.fLengthInOctets;
+		}
+
+		private static MemoryBlock merge(MemoryBlock first, MemoryBlock second) {
+			long lengthInOctets = first.fLengthInOctets + second.fLengthInOctets;
+			long lengthInAddressableUnits = first.fLengthInAddressableUnits + second.fLengthInAddressableUnits;
+			MemoryByte[] block = new MemoryByte[(int) lengthInOctets];
+			System.arraycopy(first.fBlock, 0, block, 0, (int) first.fLengthInOctets);
+			System.arraycopy(second.fBlock, 0, block, (int) first.fLengthInOctets, (int) second.fLengthInOctets);
+			return new MemoryBlock(first.fAddress, lengthInOctets, lengthInAddressableUnits, block);
+		}
+
+		// Removes the least recently used blocks until the cache fits in the given size
+		public void evict(long maxSizeInOctets) {
+			Iterator<MemoryBlock> it = fRecentlyUsed.values().iterator();
+			while (fSizeInOctets > maxSizeInOctets && it.hasNext()) {
+				MemoryBlock block = it.next();
+				it.remove();
+				fBlocks.remove(block.getStart());
+				fSizeInOctets -= block.fLengthInOctets;
+				fEvictionCount++;
+			}
+		}
+	}
+
+	/**
+	 *  Returns the 'missing' blocks (i.e. the holes) of the requested block that need to be
+	 *  fetched on the target, given the address-ordered cached blocks which overlap it.
+	 *
+	 *        +---------+      +---------+      +---------+
+	 *        +    A    +      +    B    +      +    C    +
+	 *        +---------+      +---------+      +---------+
+	 *        :         :      :         :      :         :
+	 *   [a---+---------+------+---------+------+---------+----]
+	 *   [1--]:         :[2---]:         :[3---]:         :[4-]
+	 *
+	 * @param reqBlockStart The address of the requested block
+	 * @param wordCount Its length in addressable units
+	 * @return The sub-blocks to fetch in order to fill the gaps in the memory cache
+	 */
+	static List<MemoryBlock> getMissingBlocks(IAddress reqBlockStart, int wordCount, int wordSize,
+			List<MemoryBlock> cachedBlocks) {
+		List<MemoryBlock> list = new ArrayList<>();
+		long remaining = wordCount;
+		for (MemoryBlock cachedBlock : cachedBlocks) {
+			long gap = reqBlockStart.distanceTo(cachedBlock.fAddress).longValue();
+			if (gap > 0) {
+				long length = Math.min(gap, remaining);
+				list.add(new MemoryBlock(reqBlockStart, length * wordSize, length, new MemoryByte[0]));
+			}
+			IAddress cachedBlockEnd = cachedBlock.fAddress.add(cachedBlock.fLengthInAddressableUnits);
+			remaining -= reqBlockStart.distanceTo(cachedBlockEnd).longValue();
+			reqBlockStart = cachedBlockEnd;
 		}
+		if (remaining > 0) {
+			list.add(new MemoryBlock(reqBlockStart, remaining * wordSize, remaining, new MemoryByte[0]));
+		}
+		return list;
+	}
+
+	/**
+	 *  Copies the memory of the requested block from the given blocks, which must cover it.
+	 *  The blocks don't need to be ordered.
+	 *
+	 * @param reqBlockStart The address of the requested block
+	 * @param wordCount Its length in addressable units
+	 * @return The memory content
+	 */
+	static MemoryByte[] getMemoryBlock(IAddress reqBlockStart, int wordCount, int wordSize,
+			Collection<MemoryBlock> blocks) {
+		MemoryByte[] resultBlock = new MemoryByte[wordCount * wordSize];
+		for (MemoryBlock block : blocks) {
+			long blockStart = reqBlockStart.distanceTo(block.fAddress).longValue();
+			long from = Math.max(blockStart, 0);
+			long to = Math.min(blockStart + block.fLengthInAddressableUnits, wordCount);
+			if (from < to) {
+				System.arraycopy(block.fBlock, (int) ((from - blockStart) * wordSize), resultBlock,
+						(int) (from * wordSize), (int) ((to - from) * wordSize));
+			}
+		}
+		for (int i = 0; i < resultBlock.length; i++) {
+			if (resultBlock[i] == null) {
+				// Not expected, report the memory as not readable
+				resultBlock[i] = new MemoryByte((byte) 0, (byte) 0);
+			}
+		}
+		return resultBlock;
 	}
 
 	///////////////////////////////////////////////////////////////////////////
@@ -650,190 +797,46 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 	/** @since 4.2 */
 	protected class MIMemoryCache {
 		// The memory cache data structure
-		private SortedMemoryBlockList fMemoryBlockList;
+		private final SortedMemoryBlockMap fMemoryBlocks;
+		// Incremented when the cache is reset, to drop the results of reads issued before
+		private int fGeneration;
+		// The address following the last read, to detect sequential reads
+		private IAddress fNextAddress;
+		private long fHitCount;
+		private long fMissCount;
 
 		public MIMemoryCache() {
 			// Create the memory block cache
-			fMemoryBlockList = new SortedMemoryBlockList();
+			fMemoryBlocks = new SortedMemoryBlockMap(getMemoryCacheBlockSize());
 		}
 
 		public void reset() {
 			// Clear the memory cache
-			fMemoryBlockList.clear();
+			fMemoryBlocks.clear();
+			fGeneration++;
+			fNextAddress = null;
 		}
 
 		/**
-		 *  This function walks the address-sorted memory block list to identify
-		 *  the 'missing' blocks (i.e. the holes) that need to be fetched on the target.
-		 *
-		 *  The idea is fairly simple but an illustration could perhaps help.
-		 *  Assume the cache holds a number of cached memory blocks with gaps i.e.
-		 *  there is un-cached memory areas between blocks A, B and C:
-		 *
-		 *        +---------+      +---------+      +---------+
-		 *        +    A    +      +    B    +      +    C    +
-		 *        +---------+      +---------+      +---------+
-		 *        :         :      :         :      :         :
-		 *   [a]  :         :  [b] :         :  [c] :         :  [d]
-		 *        :         :      :         :      :         :
-		 *   [e---+--]      :  [f--+---------+--]   :         :
-		 *   [g---+---------+------+---------+------+---------+----]
-		 *        :         :      :         :      :         :
-		 *        :   [h]   :      :   [i----+--]   :         :
-		 *
-		 *
-		 *  We have the following cases to consider.The requested block [a-i] either:
-		 *
-		 *  [1] Fits entirely before A, in one of the gaps, or after C
-		 *      with no overlap and no contiguousness (e.g. [a], [b], [c] and [d])
-		 *      -> Add the requested block to the list of blocks to fetch
-		 *
-		 *  [2] Starts before an existing block but overlaps part of it, possibly
-		 *      spilling in the gap following the cached block (e.g. [e], [f] and [g])
-		 *      -> Determine the length of the missing part (< count)
-		 *      -> Add a request to fill the gap before the existing block
-		 *      -> Update the requested block for the next iteration:
-		 *         - Start address to point just after the end of the cached block
-		 *         - Count reduced by cached block length (possibly becoming negative, e.g. [e])
-		 *      At this point, the updated requested block starts just beyond the cached block
-		 *      for the next iteration.
-		 *
-		 *  [3] Starts at or into an existing block and overlaps part of it ([h] and [i])
-		 *      -> Update the requested block for the next iteration:
-		 *         - Start address to point just after the end of the cached block
-		 *         - Count reduced by length to end of cached block (possibly becoming negative, e.g. [h])
-		 *      At this point, the updated requested block starts just beyond the cached block
-		 *      for the next iteration.
-		 *
-		 *  We iterate over the cached blocks list until there is no entry left or until
-		 *  the remaining requested block count is <= 0, meaning the result list contains
-		 *  only the sub-blocks needed to fill the gap(s), if any.
-		 *
-		 *  (As is often the case, it takes much more typing to explain it than to just do it :-)
-		 *
-		 *  What is missing is a parameter that indicates the minimal block size that is worth fetching.
-		 *  This is target-specific and straight in the realm of the coalescing function...
-		 *
-		 * @param reqBlockStart The address of the requested block
-		 * @param count Its length
-		 * @return A list of the sub-blocks to fetch in order to fill enough gaps in the memory cache
-		 * to service the request
+		 * @since 6.6
 		 */
-		private List<MemoryBlock> getListOfMissingBlocks(IAddress reqBlockStart, int wordCount, int wordSize) {
-			int octetCount = wordCount * wordSize;
-
-			LinkedList<MemoryBlock> list = new LinkedList<>();
-			ListIterator<MemoryBlock> it = fMemoryBlockList.listIterator();
-
-			// Look for holes in the list of memory blocks
-			while (it.hasNext() && octetCount > 0) {
-				MemoryBlock cachedBlock = it.next();
-				IAddress cachedBlockStart = cachedBlock.fAddress;
-				IAddress cachedBlockEnd = cachedBlock.fAddress.add(cachedBlock.fLengthInAddressableUnits);
-
-				// Case where we miss a block before the cached block
-				if (reqBlockStart.distanceTo(cachedBlockStart).longValue() >= 0) {
-					int lengthInOctets = (int) Math
-							.min(reqBlockStart.distanceTo(cachedBlockStart).longValue() * wordSize, octetCount);
-					// If both blocks start at the same location, no need to create a new cached block
-					if (lengthInOctets > 0) {
-						int lengthInAddressableUnits = lengthInOctets / wordSize;
-						MemoryBlock newBlock = new MemoryBlock(reqBlockStart, lengthInOctets, lengthInAddressableUnits,
-								new MemoryByte[0]);
-						list.add(newBlock);
-					}
-					// Adjust request block start and length for the next iteration
-					reqBlockStart = cachedBlockEnd;
-					octetCount -= lengthInOctets + cachedBlock.fLengthInOctets;
-				}
-
-				// Case where the requested block starts somewhere in the cached block
-				else if (cachedBlockStart.distanceTo(reqBlockStart).longValue() > 0
-						&& reqBlockStart.distanceTo(cachedBlockEnd).longValue() >= 0) {
-					// Start of the requested block already in cache
-					// Adjust request block start and length for the next iteration
-					octetCount -= reqBlockStart.distanceTo(cachedBlockEnd).longValue() * wordSize;
-					reqBlockStart = cachedBlockEnd;
-				}
-			}
-
-			// Case where we miss a block at the end of the cache
-			if (octetCount > 0) {
-				int addressesLength = octetCount / wordSize;
-				MemoryBlock newBlock = new MemoryBlock(reqBlockStart, octetCount, addressesLength, new MemoryByte[0]);
-				list.add(newBlock);
-			}
+		public CacheStatistics getStatistics() {
+			return new CacheStatistics(fHitCount, fMissCount, fMemoryBlocks.getEvictionCount(),
+					fMemoryBlocks.getSizeInOctets());
+		}
 
-			return list;
+		private List<MemoryBlock> getListOfMissingBlocks(IAddress reqBlockStart, int wordCount, int wordSize) {
+			return getMissingBlocks(reqBlockStart, wordCount, wordSize,
+					fMemoryBlocks.getOverlappingBlocks(reqBlockStart, wordCount));
 		}
 
-		/**
-		 *  This function walks the address-sorted memory block list to get the
-		 *  cached memory bytes (possibly from multiple contiguous blocks).
-		 *  This function is called *after* the missing blocks have been read from
-		 *  the back end i.e. the requested memory is all cached.
-		 *
-		 *  Again, this is fairly simple. As we loop over the address-ordered list,
-		 *  There are really only 2 cases:
-		 *
-		 *  [1] The requested block fits entirely in the cached block ([a] or [b])
-		 *  [2] The requested block starts in a cached block and ends in the
-		 *      following (contiguous) one ([c]) in which case it is treated
-		 *      as 2 contiguous requests ([c'] and [c"])
-		 *
-		 *       +--------------+--------------+
-		 *       +       A      +      B       +
-		 *       +--------------+--------------+
-		 *       :  [a----]     :   [b-----]   :
-		 *       :              :              :
-		 *       :       [c-----+------]       :
-		 *       :       [c'---]+[c"---]       :
-		 *
-		 * @param reqBlockStart The address of the requested block
-		 * @param count Its length
-		 * @return The cached memory content
-		 */
 		private MemoryByte[] getMemoryBlockFromCache(IAddress reqBlockStart, int wordCount, int wordSize) {
-			int count = wordCount * wordSize;
-
-			IAddress reqBlockEnd = reqBlockStart.add(wordCount);
-			MemoryByte[] resultBlock = new MemoryByte[count];
-			ListIterator<MemoryBlock> iter = fMemoryBlockList.listIterator();
-
-			while (iter.hasNext()) {
-				MemoryBlock cachedBlock = iter.next();
-				IAddress cachedBlockStart = cachedBlock.fAddress;
-				IAddress cachedBlockEnd = cachedBlock.fAddress.add(cachedBlock.fLengthInAddressableUnits);
-
-				// Case where the cached block overlaps completely the requested memory block
-				if (cachedBlockStart.distanceTo(reqBlockStart).longValue() >= 0
-						&& reqBlockEnd.distanceTo(cachedBlockEnd).longValue() >= 0) {
-					int pos = (int) cachedBlockStart.distanceTo(reqBlockStart).longValue() * wordSize;
-					System.arraycopy(cachedBlock.fBlock, pos, resultBlock, 0, count);
-				}
-
-				// Case where the beginning of the cached block is within the requested memory block
-				else if (reqBlockStart.distanceTo(cachedBlockStart).longValue() >= 0
-						&& cachedBlockStart.distanceTo(reqBlockEnd).longValue() > 0) {
-					int pos = (int) reqBlockStart.distanceTo(cachedBlockStart).longValue() * wordSize;
-					int length = (int) Math.min(cachedBlock.fLengthInOctets, count - pos);
-					System.arraycopy(cachedBlock.fBlock, 0, resultBlock, pos, length);
-				}
-
-				// Case where the end of the cached block is within the requested memory block
-				else if (cachedBlockStart.distanceTo(reqBlockStart).longValue() >= 0
-						&& reqBlockStart.distanceTo(cachedBlockEnd).longValue() > 0) {
-					int pos = (int) cachedBlockStart.distanceTo(reqBlockStart).longValue() * wordSize;
-					int length = (int) Math.min(cachedBlock.fLengthInOctets - pos, count);
-					System.arraycopy(cachedBlock.fBlock, pos, resultBlock, 0, length);
-				}
-			}
-			return resultBlock;
+			return getMemoryBlock(reqBlockStart, wordCount, wordSize,
+					fMemoryBlocks.getOverlappingBlocks(reqBlockStart, wordCount));
 		}
 
 		/**
-		 *  This function walks the address-sorted memory block list and updates
-		 *  the content with the actual memory just read from the target.
+		 *  Updates the cached memory with the actual memory just read from the target.
 		 *
 		 * @param modBlockStart
 		 * @param wordCount - Number of addressable units
@@ -841,52 +844,19 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		 * @param wordSize - Number of octets per addressable unit
 		 */
 		private void updateMemoryCache(IAddress modBlockStart, int wordCount, MemoryByte[] modBlock, int wordSize) {
-			IAddress modBlockEnd = modBlockStart.add(wordCount);
-			ListIterator<MemoryBlock> iter = fMemoryBlockList.listIterator();
-			int count = wordCount * wordSize;
-
-			while (iter.hasNext()) {
-				MemoryBlock cachedBlock = iter.next();
-				IAddress cachedBlockStart = cachedBlock.fAddress;
-				IAddress cachedBlockEnd = cachedBlock.fAddress.add(cachedBlock.fLengthInAddressableUnits);
-
-				// For now, we only bother to update bytes already cached.
-				// Note: In a better implementation (v1.1), we would augment
-				// the cache with the missing memory blocks since we went
-				// through the pains of reading them in the first place.
-				// (this is left as an exercise to the reader :-)
-
-				// Case where the modified block is completely included in the cached block
-				if (cachedBlockStart.distanceTo(modBlockStart).longValue() >= 0
-						&& modBlockEnd.distanceTo(cachedBlockEnd).longValue() >= 0) {
-					int pos = (int) cachedBlockStart.distanceTo(modBlockStart).longValue() * wordSize;
-					System.arraycopy(modBlock, 0, cachedBlock.fBlock, pos, count);
-				}
-
-				// Case where the cached block is completely included in the modified block
-				else if (modBlockStart.distanceTo(cachedBlockStart).longValue() >= 0
-						&& cachedBlockEnd.distanceTo(modBlockEnd).longValue() >= 0) {
-					int pos = (int) modBlockStart.distanceTo(cachedBlockStart).longValue() * wordSize;
-					System.arraycopy(modBlock, pos, cachedBlock.fBlock, 0, (int) cachedBlock.fLengthInOctets);
-				}
-
-				// Case where the beginning of the modified block is within the cached block
-				else if (cachedBlockStart.distanceTo(modBlockStart).longValue() >= 0
-						&& modBlockStart.distanceTo(cachedBlockEnd).longValue() > 0) {
-					int pos = (int) cachedBlockStart.distanceTo(modBlockStart).longValue() * wordSize;
-					int length = (int) modBlockStart.distanceTo(cachedBlockEnd).longValue() * wordSize;
-					System.arraycopy(modBlock, 0, cachedBlock.fBlock, pos, length);
-				}
-
-				// Case where the end of the modified block is within the cached block
-				else if (cachedBlockStart.distanceTo(modBlockEnd).longValue() > 0
-						&& modBlockEnd.distanceTo(cachedBlockEnd).longValue() >= 0) {
-					int pos = (int) modBlockStart.distanceTo(cachedBlockStart).longValue() * wordSize;
-					int length = (int) cachedBlockStart.distanceTo(modBlockEnd).longValue() * wordSize;
-					System.arraycopy(modBlock, pos, cachedBlock.fBlock, 0, length);
-				}
+			// For now, we only bother to update bytes already cached.
+			for (MemoryBlock cachedBlock : fMemoryBlocks.getOverlappingBlocks(modBlockStart, wordCount)) {
+				long modStart = cachedBlock.fAddress.distanceTo(modBlockStart).longValue();
+				long from = Math.max(modStart, 0);
+				long to = Math.min(modStart + wordCount, cachedBlock.fLengthInAddressableUnits);
+				System.arraycopy(modBlock, (int) ((from - modStart) * wordSize), cachedBlock.fBlock,
+						(int) (from * wordSize), (int) ((to - from) * wordSize));
 			}
-			return;
+		}
+
+		private void addToCache(MemoryBlock block) {
+			fMemoryBlocks.add(block);
+			fMemoryBlocks.evict(getMemoryCacheSizeLimit());
 		}
 
 		/**
@@ -896,20 +866,37 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		 * @param wordCount the number of addressable units to read
 		 * @param drm		the asynchronous data request monitor
 		 */
-		public void getMemory(IMemoryDMContext memoryDMC, final IAddress address, final int wordSize,
+		public void getMemory(final IMemoryDMContext memoryDMC, final IAddress address, final int wordSize,
 				final int wordCount, final DataRequestMonitor<MemoryByte[]> drm) {
+			// The result is copied from these blocks, they are kept here so that
+			// other requests can't evict them from the cache in the meantime
+			final List<MemoryBlock> blocks = fMemoryBlocks.getOverlappingBlocks(address, wordCount);
+
 			// Determine the number of read requests to issue
-			List<MemoryBlock> missingBlocks = getListOfMissingBlocks(address, wordCount, wordSize);
+			List<MemoryBlock> missingBlocks = getMissingBlocks(address, wordCount, wordSize, blocks);
 			int numberOfRequests = missingBlocks.size();
+			if (numberOfRequests == 0) {
+				fHitCount++;
+			} else {
+				fMissCount++;
+			}
+
+			final boolean sequential = address.equals(fNextAddress);
+			fNextAddress = address.add(wordCount);
+			final int generation = fGeneration;
 
 			// A read request will be issued for each block needed
 			// so we need to keep track of the count
 			final CountingRequestMonitor countingRM = new CountingRequestMonitor(getExecutor(), drm) {
 				@Override
 				protected void handleSuccess() {
-					// We received everything so read the result from the memory cache
-					drm.setData(getMemoryBlockFromCache(address, wordCount, wordSize));
+					// We received everything so read the result from the memory blocks
+					drm.setData(getMemoryBlock(address, wordCount, wordSize, blocks));
 					drm.done();
+
+					if (sequential) {
+						prefetchMemory(memoryDMC, address.add(wordCount), wordSize);
+					}
 				}
 			};
 			countingRM.setDoneCount(numberOfRequests);
@@ -927,13 +914,56 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 								int lenghtInaddressableUnits = block.length / wordSize;
 								MemoryBlock memoryBlock = new MemoryBlock(startAddress, block.length,
 										lenghtInaddressableUnits, block);
-								fMemoryBlockList.add(memoryBlock);
+								blocks.add(memoryBlock);
+								// Don't cache memory read before the cache was reset
+								if (generation == fGeneration) {
+									addToCache(memoryBlock);
+								}
 								countingRM.done();
 							}
 						});
 			}
 		}
 
+		/**
+		 * Reads the memory following a sequential read into the cache, so that the next read
+		 * can be served from the cache.
+		 */
+		private void prefetchMemory(IMemoryDMContext memoryDMC, IAddress address, final int wordSize) {
+			int wordCount = getMemoryCachePrefetchSize() / wordSize;
+			if (wordCount <= 0) {
+				return;
+			}
+
+			final int generation = fGeneration;
+			for (MemoryBlock block : getListOfMissingBlocks(address, wordCount, wordSize)) {
+				final IAddress startAddress = block.fAddress;
+				readMemoryBlock(memoryDMC, startAddress, 0, wordSize, (int) block.fLengthInAddressableUnits,
+						new DataRequestMonitor<MemoryByte[]>(getExecutor(), null) {
+							@Override
+							protected void handleSuccess() {
+								MemoryByte[] block = getData();
+								if (generation != fGeneration || block.length == 0) {
+									return;
+								}
+								// The read ahead may have gone past the readable memory, only
+								// the memory actually requested is cached in that case
+								for (MemoryByte b : block) {
+									if (!b.isReadable()) {
+										return;
+									}
+								}
+								addToCache(new MemoryBlock(startAddress, block.length, block.length / wordSize, block));
+							}
+
+							@Override
+							protected void handleErrorOrWarning() {
+								// Reading ahead is best effort
+							}
+						});
+			}
+		}
+
 		/**
 		 * @param memoryDMC
 		 * @param address	the memory block address (on the target)
@@ -1046,6 +1076,33 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		}
 	}
 
+	/**
+	 * Returns the statistics of the memory caches of the given memory context and
+	 * its associated child memory space contexts, or of all memory caches if the
+	 * context is <code>null</code>.  The size is in octets.
+	 * @since 6.6
+	 */
+	@Override
+	public CacheStatistics getCacheStatistics(IDMContext context) {
+		IMemoryDMContext memoryDMC = DMContexts.getAncestorOfType(context, IMemoryDMContext.class);
+		if (context != null && memoryDMC == null) {
+			return new CacheStatistics(0, 0, 0, 0);
+		}
+
+		long hits = 0, misses = 0, evictions = 0, size = 0;
+		for (Map.Entry<IMemoryDMContext, MIMemoryCache> entry : fMemoryCaches.entrySet()) {
+			IMemoryDMContext ctx = entry.getKey();
+			if (memoryDMC == null || ctx != null && ctx.equals(memoryDMC) || DMContexts.isAncestorOf(ctx, memoryDMC)) {
+				CacheStatistics statistics = entry.getValue().getStatistics();
+				hits += statistics.getHitCount();
+				misses += statistics.getMissCount();
+				evictions += statistics.getEvictionCount();
+				size += statistics.getSize();
+			}
+		}
+		return new CacheStatistics(hits, misses, evictions, size);
+	}
+
 	/**
 	 * Reset the cache for the given memory context or any of its associated
 	 * child memory space contexts (see Bug 432963)
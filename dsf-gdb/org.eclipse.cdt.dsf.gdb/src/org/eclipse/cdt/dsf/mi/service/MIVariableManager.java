@@ -59,6 +59,7 @@ import org.eclipse.cdt.dsf.debug.service.command.ICommandToken;
 import org.eclipse.cdt.dsf.debug.service.command.IEventListener;
 import org.eclipse.cdt.dsf.gdb.GDBTypeParser;
 import org.eclipse.cdt.dsf.gdb.GDBTypeParser.GDBType;
+import org.eclipse.cdt.dsf.gdb.IGdbDebugPreferenceConstants;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl.ITraceRecordSelectedChangedDMEvent;
 import org.eclipse.cdt.dsf.mi.service.MIExpressions.ExpressionInfo;
@@ -95,6 +96,7 @@ import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfServicesTracker;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 
 /**
@@ -160,6 +162,12 @@ import org.eclipse.core.runtime.Status;
  * descendants of the root, we can quickly update the changed ones to invalidate their buffered
  * values and store the new current format value.
  *
+ * - if the bulk update preference is enabled, the var-update command is sent for all roots at
+ * once with the name '*'.  The roots that must be updated while that command is pending share
+ * its result, so that the views refreshing after a stop only cost a single var-update.  The
+ * changes reported for the other roots are processed as well since GDB does not report them a
+ * second time, and those roots are up-to-date as well.
+ *
  * - all values of non-modifiable varObjects (except arrays) will be set to {...}
  * without going to the back-end
  *
@@ -2332,84 +2340,105 @@ public class MIVariableManager implements ICommandControl {
 				// The simplest way to do this is that whenever we change the format
 				// of a variable object, we immediately set it back to natural with a second
 				// var-set-format command.  This is done in the getValue() method
+				if (useBulkUpdate()) {
+					// All the roots that need an update are updated by a single -var-update *
+					bulkUpdate(this, rm);
+					return;
+				}
+
+				updateCommandSent();
 				fCommandControl.queueCommand(
 						fCommandFactory.createMIVarUpdate(getRootToUpdate().getControlDMContext(), getGdbName()),
 						new DataRequestMonitor<MIVarUpdateInfo>(fSession.getExecutor(), rm) {
 							@Override
 							protected void handleCompleted() {
 								if (isSuccess()) {
-									setOutOfDate(false);
+									updateCompleted(getData().getMIVarChanges(), rm);
+								} else {
+									updateFailed(getStatus(), rm);
+								}
+							}
+						});
+			}
+		}
 
-									MIVarChange[] changes = getData().getMIVarChanges();
-									if (changes.length > 0 && !changes[0].isInScope()) {
-										// Object is out-of-scope
-										currentState = STATE_READY;
+		/**
+		 * Processes the result of the -var-update command that updated this root,
+		 * and completes the pending update requests.
+		 *
+		 * @param changes The changes of this root and its descendants
+		 */
+		private void updateCompleted(MIVarChange[] changes, final DataRequestMonitor<Boolean> rm) {
+			setOutOfDate(false);
+			fUpdateStatistics.fUpdatedRootCount++;
 
-										outOfScope = true;
+			if (changes.length > 0 && !changes[0].isInScope()) {
+				// Object is out-of-scope
+				currentState = STATE_READY;
 
-										// We can delete this root in GDB right away.  This is safe, even
-										// if the root has children, because they are also out-of-scope.
-										// We -must- also remove this entry from our LRU.  If we don't
-										// we can end-up with a race condition that create this object
-										// twice, or have an infinite loop while never re-creating the object.
-										// The can happen if we update a child first then we request
-										// the root later,
-										lruVariableList.remove(getInternalId());
+				outOfScope = true;
 
-										rm.setData(true);
-										rm.done();
+				// We can delete this root in GDB right away.  This is safe, even
+				// if the root has children, because they are also out-of-scope.
+				// We -must- also remove this entry from our LRU.  If we don't
+				// we can end-up with a race condition that create this object
+				// twice, or have an infinite loop while never re-creating the object.
+				// The can happen if we update a child first then we request
+				// the root later,
+				lruVariableList.remove(getInternalId());
 
-										while (!updatesPending.isEmpty()) {
-											DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
-											pendingRm.setData(false);
-											pendingRm.done();
-										}
-									} else {
-										// The root object is now up-to-date, we must parse the changes, if any.
-										processChanges(changes, new RequestMonitor(fSession.getExecutor(), rm) {
-											@Override
-											protected void handleCompleted() {
-												currentState = STATE_READY;
-
-												// We only mark this root as updated in our list if it is in-scope.
-												// For out-of-scope object, we don't ever need to re-update them so
-												// we don't need to add them to this list.
-												rootVariableUpdated(MIRootVariableObject.this);
-
-												if (isSuccess()) {
-													rm.setData(false);
-												} else {
-													rm.setStatus(getStatus());
-												}
-												rm.done();
+				rm.setData(true);
+				rm.done();
 
-												while (!updatesPending.isEmpty()) {
-													DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
-													if (isSuccess()) {
-														pendingRm.setData(false);
-													} else {
-														pendingRm.setStatus(getStatus());
-													}
-													pendingRm.done();
-												}
-											}
-										});
-									}
-								} else {
-									// We were not able to update for some reason
-									currentState = STATE_READY;
+				while (!updatesPending.isEmpty()) {
+					DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
+					pendingRm.setData(false);
+					pendingRm.done();
+				}
+			} else {
+				// The root object is now up-to-date, we must parse the changes, if any.
+				processChanges(changes, new RequestMonitor(fSession.getExecutor(), rm) {
+					@Override
+					protected void handleCompleted() {
+						currentState = STATE_READY;
 
-									rm.setData(false);
-									rm.done();
+						// We only mark this root as updated in our list if it is in-scope.
+						// For out-of-scope object, we don't ever need to re-update them so
+						// we don't need to add them to this list.
+						rootVariableUpdated(MIRootVariableObject.this);
 
-									while (!updatesPending.isEmpty()) {
-										DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
-										pendingRm.setStatus(getStatus());
-										pendingRm.done();
-									}
-								}
+						if (isSuccess()) {
+							rm.setData(false);
+						} else {
+							rm.setStatus(getStatus());
+						}
+						rm.done();
+
+						while (!updatesPending.isEmpty()) {
+							DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
+							if (isSuccess()) {
+								pendingRm.setData(false);
+							} else {
+								pendingRm.setStatus(getStatus());
 							}
-						});
+							pendingRm.done();
+						}
+					}
+				});
+			}
+		}
+
+		private void updateFailed(IStatus status, DataRequestMonitor<Boolean> rm) {
+			// We were not able to update for some reason
+			currentState = STATE_READY;
+
+			rm.setData(false);
+			rm.done();
+
+			while (!updatesPending.isEmpty()) {
+				DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
+				pendingRm.setStatus(status);
+				pendingRm.done();
 			}
 		}
 
@@ -2631,6 +2660,7 @@ public class MIVariableManager implements ICommandControl {
 	// as the stack depth to differentiate between expressions that have the
 	// same name but refer to a different context
 	private final IStack fStackService;
+	private final IRunControl fRunControl;
 	private IExpressions fExpressionService;
 
 	// Typically, there will only be one listener, since only the ExpressionService will use this class
@@ -2642,6 +2672,19 @@ public class MIVariableManager implements ICommandControl {
 	/** The list of root variable objects that have been updated */
 	private final LinkedList<MIRootVariableObject> updatedRootList = new LinkedList<>();
 
+	/**
+	 * Incremented every time the roots are marked out-of-date, i.e. once per
+	 * step of the program.
+	 */
+	private int fOutOfDateGeneration;
+
+	/** The -var-update * that is waiting for its result, or null */
+	private BulkUpdate fBulkUpdate;
+
+	private final UpdateStatistics fUpdateStatistics = new UpdateStatistics();
+	private int fStatisticsGeneration = -1;
+	private int fUpdateCommandsInStep;
+
 	/**
 	 * MIVariableManager constructor
 	 *
@@ -2655,6 +2698,7 @@ public class MIVariableManager implements ICommandControl {
 		lruVariableList = new LRUVariableCache();
 		fCommandControl = tracker.getService(ICommandControl.class);
 		fStackService = tracker.getService(IStack.class);
+		fRunControl = tracker.getService(IRunControl.class);
 		fExpressionService = tracker.getService(IExpressions.class);
 		fCommandFactory = tracker.getService(IMICommandControl.class).getCommandFactory();
 
@@ -3146,12 +3190,244 @@ public class MIVariableManager implements ICommandControl {
 	 * @since 1.1
 	 */
 	public void markAllOutOfDate() {
+		fOutOfDateGeneration++;
 		MIRootVariableObject root;
 		while ((root = updatedRootList.poll()) != null) {
 			root.setOutOfDate(true);
 		}
 	}
 
+	/**
+	 * Returns whether the roots that need to be updated are updated with a
+	 * single -var-update * instead of one -var-update per root.  The roots
+	 * requesting an update while the -var-update * is waiting for its result
+	 * share that result, and the changes reported for the other roots are
+	 * processed as well, so that those roots don't need to be updated again
+	 * during the same stop.
+	 * <p>
+	 * GDB updates all the variable objects it knows of, including the ones of
+	 * frames and threads that are not displayed, so this is only enabled by
+	 * {@link IGdbDebugPreferenceConstants#PREF_VARIABLE_BULK_UPDATE}.
+	 *
+	 * @since 6.6
+	 */
+	protected boolean useBulkUpdate() {
+		return Platform.getPreferencesService().getBoolean(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_VARIABLE_BULK_UPDATE,
+				IGdbDebugPreferenceConstants.VARIABLE_BULK_UPDATE_DEFAULT, null);
+	}
+
+	/**
+	 * Returns the statistics of the updates of the variable objects.
+	 * Must be called on the session executor.
+	 *
+	 * @since 6.6
+	 */
+	public UpdateStatistics getUpdateStatistics() {
+		return new UpdateStatistics(fUpdateStatistics);
+	}
+
+	/**
+	 * Counts a -var-update command, in the step of the program the roots were
+	 * marked out-of-date in.
+	 */
+	private void updateCommandSent() {
+		if (fStatisticsGeneration != fOutOfDateGeneration) {
+			fStatisticsGeneration = fOutOfDateGeneration;
+			fUpdateCommandsInStep = 0;
+			fUpdateStatistics.fStepCount++;
+		}
+		fUpdateCommandsInStep++;
+		fUpdateStatistics.fUpdateCommandCount++;
+		fUpdateStatistics.fMaxUpdateCommandsPerStep = Math.max(fUpdateStatistics.fMaxUpdateCommandsPerStep,
+				fUpdateCommandsInStep);
+	}
+
+	/**
+	 * The roots waiting for the result of a -var-update *
+	 */
+	private static class BulkUpdate {
+		final int fGeneration;
+		final Map<MIRootVariableObject, DataRequestMonitor<Boolean>> fRoots = new LinkedHashMap<>();
+
+		BulkUpdate(int generation) {
+			fGeneration = generation;
+		}
+	}
+
+	/**
+	 * Updates the specified root with a -var-update *.  If such a command was
+	 * already sent after the roots were marked out-of-date, the root waits for
+	 * its result instead of sending another command.
+	 */
+	private void bulkUpdate(MIRootVariableObject root, DataRequestMonitor<Boolean> rm) {
+		if (fBulkUpdate != null && fBulkUpdate.fGeneration == fOutOfDateGeneration) {
+			fBulkUpdate.fRoots.put(root, rm);
+			return;
+		}
+
+		final BulkUpdate bulkUpdate = new BulkUpdate(fOutOfDateGeneration);
+		bulkUpdate.fRoots.put(root, rm);
+		fBulkUpdate = bulkUpdate;
+
+		updateCommandSent();
+		fCommandControl.queueCommand(fCommandFactory.createMIVarUpdate(root.getControlDMContext(), "*"), //$NON-NLS-1$
+				new DataRequestMonitor<MIVarUpdateInfo>(fSession.getExecutor(), null) {
+					@Override
+					protected void handleCompleted() {
+						if (fBulkUpdate == bulkUpdate) {
+							fBulkUpdate = null;
+						}
+
+						if (isSuccess()) {
+							bulkUpdateCompleted(bulkUpdate, getData().getMIVarChanges());
+						} else {
+							for (Map.Entry<MIRootVariableObject, DataRequestMonitor<Boolean>> entry : bulkUpdate.fRoots
+									.entrySet()) {
+								entry.getKey().updateFailed(getStatus(), entry.getValue());
+							}
+						}
+					}
+				});
+	}
+
+	private void bulkUpdateCompleted(BulkUpdate bulkUpdate, MIVarChange[] changes) {
+		// Find the root of each change, the name of a child varobj starts with
+		// the name of its root followed by a dot.
+		Map<String, MIRootVariableObject> roots = new HashMap<>();
+		for (MIVariableObject varObj : lruVariableList.values()) {
+			if (varObj instanceof MIRootVariableObject && varObj.getGdbName() != null) {
+				roots.put(varObj.getGdbName(), (MIRootVariableObject) varObj);
+			}
+		}
+
+		// GDB updated every root it knows of, the ones without changes are
+		// up-to-date as well.
+		Map<MIRootVariableObject, List<MIVarChange>> changesByRoot = new LinkedHashMap<>();
+		for (MIRootVariableObject root : bulkUpdate.fRoots.keySet()) {
+			changesByRoot.put(root, new ArrayList<>());
+		}
+		for (MIRootVariableObject root : roots.values()) {
+			changesByRoot.computeIfAbsent(root, r -> new ArrayList<>());
+		}
+		for (MIVarChange change : changes) {
+			String name = change.getVarName();
+			int dot = name.indexOf('.');
+			MIRootVariableObject root = roots.get(dot < 0 ? name : name.substring(0, dot));
+			if (root != null) {
+				changesByRoot.get(root).add(change);
+			}
+		}
+		fUpdateStatistics.fChangeCount += changes.length;
+
+		for (Map.Entry<MIRootVariableObject, List<MIVarChange>> entry : changesByRoot.entrySet()) {
+			final MIRootVariableObject root = entry.getKey();
+			MIVarChange[] rootChanges = entry.getValue().toArray(new MIVarChange[entry.getValue().size()]);
+
+			DataRequestMonitor<Boolean> rm = bulkUpdate.fRoots.get(root);
+			if (rm != null) {
+				root.updateCompleted(rootChanges, rm);
+			} else if (rootChanges.length > 0 && !rootChanges[0].isInScope()) {
+				// A root does not come back in scope, it can be removed right away
+				// so that it is re-created the next time it is requested.
+				if (root.currentState == MIVariableObject.STATE_READY && !root.isOutOfScope()) {
+					root.updateCompleted(rootChanges, new DataRequestMonitor<Boolean>(fSession.getExecutor(), null));
+				}
+			} else {
+				// GDB will not report these changes again, they must be processed now.
+				// The root can only be marked up-to-date if its thread was suspended
+				// when GDB did the update, i.e. if it is suspended now and was not
+				// resumed since the update was sent.
+				root.processChanges(rootChanges, new RequestMonitor(fSession.getExecutor(), null) {
+					@Override
+					protected void handleCompleted() {
+						if (isSuccess() && root.currentState == MIVariableObject.STATE_READY
+								&& root.getOutOfDate() && !root.isOutOfScope()
+								&& bulkUpdate.fGeneration == fOutOfDateGeneration && isSuspended(root)) {
+							fUpdateStatistics.fUpdatedRootCount++;
+							root.setOutOfDate(false);
+							rootVariableUpdated(root);
+						}
+					}
+				});
+			}
+		}
+	}
+
+	private boolean isSuspended(MIRootVariableObject root) {
+		IExecutionDMContext execCtx = root.getInternalId().fExecContext;
+		return fRunControl != null && execCtx != null && fRunControl.isSuspended(execCtx);
+	}
+
+	/**
+	 * Statistics about the updates of the variable objects, to measure the
+	 * number of -var-update round trips to GDB for each step of the program.
+	 *
+	 * @since 6.6
+	 */
+	public static final class UpdateStatistics {
+		private long fStepCount;
+		private long fUpdateCommandCount;
+		private long fMaxUpdateCommandsPerStep;
+		private long fUpdatedRootCount;
+		private long fChangeCount;
+
+		private UpdateStatistics() {
+		}
+
+		private UpdateStatistics(UpdateStatistics other) {
+			fStepCount = other.fStepCount;
+			fUpdateCommandCount = other.fUpdateCommandCount;
+			fMaxUpdateCommandsPerStep = other.fMaxUpdateCommandsPerStep;
+			fUpdatedRootCount = other.fUpdatedRootCount;
+			fChangeCount = other.fChangeCount;
+		}
+
+		/**
+		 * Returns the number of steps of the program after which variable
+		 * objects were updated.
+		 */
+		public long getStepCount() {
+			return fStepCount;
+		}
+
+		/**
+		 * Returns the number of -var-update commands sent to GDB.
+		 */
+		public long getUpdateCommandCount() {
+			return fUpdateCommandCount;
+		}
+
+		public long getMaxUpdateCommandsPerStep() {
+			return fMaxUpdateCommandsPerStep;
+		}
+
+		public double getAverageUpdateCommandsPerStep() {
+			return fStepCount == 0 ? 0 : (double) fUpdateCommandCount / fStepCount;
+		}
+
+		/**
+		 * Returns the number of roots that were brought up-to-date.
+		 */
+		public long getUpdatedRootCount() {
+			return fUpdatedRootCount;
+		}
+
+		/**
+		 * Returns the number of changes reported by GDB.
+		 */
+		public long getChangeCount() {
+			return fChangeCount;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("steps=%d updates=%d avg=%.2f max=%d roots=%d changes=%d", fStepCount, //$NON-NLS-1$
+					fUpdateCommandCount, getAverageUpdateCommandsPerStep(), fMaxUpdateCommandsPerStep,
+					fUpdatedRootCount, fChangeCount);
+		}
+	}
+
 	@DsfServiceEventHandler
 	public void eventDispatched(IRunControl.IResumedDMEvent e) {
 		// Program has resumed, all variable objects need to be updated.
@@ -108,6 +108,13 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 	private RxThread fRxThread;
 	private ErrorThread fErrorThread;
 	private final int fNumberOfConcurrentCommands;
+	// The number of commands that carry their thread and frame which may be on the wire at once,
+	// at least fNumberOfConcurrentCommands. Read when the first command is sent, 0 until then.
+	private int fPipelineDepth;
+	// The number of commands handed to the TX thread which did not get their result yet.
+	// Only accessed on the executor, the TX and RX threads don't change it.
+	private int fCommandsInFlight;
+	private final MICommandStatistics fStatistics;
 
 	// MI did not always support the --thread/--frame options
 	// This boolean is used to know if we should use -thread-select and -stack-select-frame instead
@@ -203,6 +210,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		} else {
 			fNumberOfConcurrentCommands = 1;
 		}
+		fStatistics = new MICommandStatistics(fNumberOfConcurrentCommands);
 	}
 
 	/**
@@ -387,7 +395,8 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		} else {
 			/*
 			 *  We only allow three outstanding commands to be on the wire to the backend
-			 *  at any one time. This allows for coalescing as well as canceling
+			 *  at any one time, or the pipeline depth for commands that carry their thread
+			 *  and frame. This allows for coalescing as well as canceling
 			 *  existing commands on a state change. So we add it to the waiting list and let
 			 *  the user know they can now work with this item if need be.
 			 */
@@ -408,7 +417,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 	}
 
 	private void processNextQueuedCommand() {
-		if (!fCommandQueue.isEmpty() && fRxCommands.size() < fNumberOfConcurrentCommands) {
+		while (!fCommandQueue.isEmpty() && getCommandsInFlight() < getMaxCommandsInFlight(fCommandQueue.get(0))) {
 			final CommandHandle handle = fCommandQueue.remove(0);
 			if (handle != null) {
 				processCommandSent(handle);
@@ -438,7 +447,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 							CommandHandle cmdHandle = new CommandHandle((MICommand<MIInfo>) getCommandFactory()
 									.createMIThreadSelect(targetContext, targetThread), null);
 							cmdHandle.generateTokenId();
-							fTxCommands.add(cmdHandle);
+							sendCommand(cmdHandle);
 						}
 
 						// Before the command is sent, Check the Stack level and send it to
@@ -448,7 +457,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 							CommandHandle cmdHandle = new CommandHandle((MICommand<MIInfo>) getCommandFactory()
 									.createMIStackSelectFrame(targetContext, targetFrame), null);
 							cmdHandle.generateTokenId();
-							fTxCommands.add(cmdHandle);
+							sendCommand(cmdHandle);
 						}
 					}
 				}
@@ -459,11 +468,57 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 					// need a token id.  In fact, GDB will fail if we send one in this case.
 					handle.generateTokenId();
 				}
-				fTxCommands.add(handle);
+				sendCommand(handle);
 			}
 		}
 	}
 
+	/**
+	 * Hands a command to the TX thread. Commands which get an answer are in flight until
+	 * {@link #commandCompleted()} is called for them.
+	 */
+	private void sendCommand(CommandHandle handle) {
+		if (!(handle.getCommand() instanceof RawCommand)) {
+			fCommandsInFlight++;
+		}
+		fTxCommands.add(handle);
+	}
+
+	/**
+	 * Called on the executor when the result of a command that was in flight has been received,
+	 * or the command failed.
+	 */
+	private void commandCompleted() {
+		fCommandsInFlight--;
+	}
+
+	/**
+	 * Returns the number of commands handed to the TX thread which did not get their result yet.
+	 */
+	private int getCommandsInFlight() {
+		return fCommandsInFlight;
+	}
+
+	/**
+	 * Returns how many commands may be in flight when the given command is sent.
+	 */
+	private int getMaxCommandsInFlight(CommandHandle handle) {
+		// A command that carries its thread and frame does not depend on the selection made by
+		// the commands before it, so it can be pipelined.
+		if (fUseThreadAndFrameOptions && handle.getCommand().supportsThreadAndFrameOptions()) {
+			if (fPipelineDepth == 0) {
+				// Not read in the constructor, subclasses may use their own fields to compute it.
+				// Without support for concurrent commands, commands are never pipelined.
+				fPipelineDepth = fNumberOfConcurrentCommands > 1
+						? Math.max(getPipelineDepth(), fNumberOfConcurrentCommands)
+						: fNumberOfConcurrentCommands;
+				fStatistics.setPipelineDepth(fPipelineDepth);
+			}
+			return fPipelineDepth;
+		}
+		return fNumberOfConcurrentCommands;
+	}
+
 	/*
 	 *   This is the command which allows the user to retract a previously issued command. The
 	 *   state of the command  is that it is in the waiting queue  and has not yet been handed
@@ -656,6 +711,8 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		private MICommand<MIInfo> fCommand;
 		private DataRequestMonitor<MIInfo> fRequestMonitor;
 		private int fTokenId;
+		// When the command was written to the backend, in nanoseconds.
+		private long fSentTime;
 
 		CommandHandle(MICommand<MIInfo> c, DataRequestMonitor<MIInfo> d) {
 			fCommand = c;
@@ -731,69 +788,90 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 
 		@Override
 		public void run() {
-			while (true) {
-				CommandHandle commandHandle = null;
-
+			final List<CommandHandle> commandHandles = new ArrayList<>();
+			final StringBuilder batch = new StringBuilder();
+			boolean shutdown = false;
+			while (!shutdown) {
+				commandHandles.clear();
 				try {
-					commandHandle = fTxCommands.take();
+					commandHandles.add(fTxCommands.take());
 				} catch (InterruptedException e) {
 					break; // Shutting down.
 				}
 
-				if (commandHandle == fTerminatorHandle) {
-					// There is a small possibility that a new command was inserted
-					// in the fRxCommands map after we cleared that map.
-					// Just to be safe, clear it again.
-					// We do this to avoid synchronizing the handling of fRxCommands
-					// because this is more efficient, as it happens only once at shutdown.
-					cancelRxCommands();
-					break; // Null command is an indicator that we're shutting down.
+				// When the backend accepts concurrent commands, the commands which are ready
+				// are written at once. Versions of GDB which don't, can also fail to read
+				// several commands from a single write.
+				if (fNumberOfConcurrentCommands > 1) {
+					fTxCommands.drainTo(commandHandles);
 				}
 
-				/*
-				 *  We note that this is an outstanding request at this point.
-				 */
-				if (!(commandHandle.getCommand() instanceof RawCommand)) {
-					// RawCommands will not get an answer, so we cannot put them in the receive queue.
-					fRxCommands.put(commandHandle.getTokenId(), commandHandle);
-				}
+				batch.setLength(0);
+				int count = 0;
+				for (CommandHandle commandHandle : commandHandles) {
+					if (commandHandle == fTerminatorHandle) {
+						// The terminator is the last command, we're shutting down.
+						shutdown = true;
+						break;
+					}
 
-				/*
-				 *   Construct the new command and push this command out the pipeline.
-				 */
+					/*
+					 *  We note that this is an outstanding request at this point.
+					 */
+					commandHandle.fSentTime = System.nanoTime();
+					if (!(commandHandle.getCommand() instanceof RawCommand)) {
+						// RawCommands will not get an answer, so we cannot put them in the receive queue.
+						fRxCommands.put(commandHandle.getTokenId(), commandHandle);
+					}
 
-				final String str;
-				if (commandHandle.getCommand() instanceof RawCommand) {
-					// RawCommands CANNOT have a token id: GDB would read it as part of the RawCommand!
-					str = commandHandle.getCommand().constructCommand();
-				} else if (fUseThreadGroupOption) {
-					// Implies that fUseThreadAndFrameOptions == true
-					str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand(
-							commandHandle.getGroupId(), commandHandle.getThreadId(), commandHandle.getStackFrameId());
-				} else if (fUseThreadAndFrameOptions) {
-					str = commandHandle.getTokenId() + commandHandle.getCommand()
-							.constructCommand(commandHandle.getThreadId(), commandHandle.getStackFrameId());
-				} else {
-					str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand();
-				}
+					/*
+					 *   Construct the new command and push this command out the pipeline.
+					 */
 
-				try {
-					if (fOutputStream != null) {
+					final String str;
+					if (commandHandle.getCommand() instanceof RawCommand) {
+						// RawCommands CANNOT have a token id: GDB would read it as part of the RawCommand!
+						str = commandHandle.getCommand().constructCommand();
+					} else if (fUseThreadGroupOption) {
+						// Implies that fUseThreadAndFrameOptions == true
+						str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand(
+								commandHandle.getGroupId(), commandHandle.getThreadId(),
+								commandHandle.getStackFrameId());
+					} else if (fUseThreadAndFrameOptions) {
+						str = commandHandle.getTokenId() + commandHandle.getCommand()
+								.constructCommand(commandHandle.getThreadId(), commandHandle.getStackFrameId());
+					} else {
+						str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand();
+					}
 
-						if (GdbDebugOptions.DEBUG) {
-							GdbDebugOptions.trace(
-									String.format("%s %s  %s", GdbPlugin.getDebugTime(), MI_TRACE_IDENTIFIER, str)); //$NON-NLS-1$
-						}
-						writeToTracingStream(true, str);
+					if (GdbDebugOptions.DEBUG) {
+						GdbDebugOptions.trace(
+								String.format("%s %s  %s", GdbPlugin.getDebugTime(), MI_TRACE_IDENTIFIER, str)); //$NON-NLS-1$
+					}
+					writeToTracingStream(true, str);
+					batch.append(str);
+					count++;
+				}
 
-						fOutputStream.write(str.getBytes());
+				try {
+					if (fOutputStream != null && count > 0) {
+						fOutputStream.write(batch.toString().getBytes());
 						fOutputStream.flush();
+						fStatistics.commandsWritten(count, fRxCommands.size());
 					}
 				} catch (IOException e) {
 					// Shutdown thread in case of IO error.
 					break;
 				}
 			}
+			if (shutdown) {
+				// There is a small possibility that a new command was inserted
+				// in the fRxCommands map after we cleared that map.
+				// Just to be safe, clear it again.
+				// We do this to avoid synchronizing the handling of fRxCommands
+				// because this is more efficient, as it happens only once at shutdown.
+				cancelRxCommands();
+			}
 			// Must close the stream here to avoid leaking
 			// Bug 345164 and Bug 339379
 			try {
@@ -998,6 +1076,9 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 				final CommandHandle commandHandle = fRxCommands.remove(id);
 
 				if (commandHandle != null) {
+					fStatistics.commandCompleted(commandHandle.getCommand().getOperation(),
+							System.nanoTime() - commandHandle.fSentTime, fRxCommands.size());
+
 					final MIOutput response = new MIOutput(rr,
 							fAccumulatedOOBRecords.toArray(new MIOOBRecord[fAccumulatedOOBRecords.size()]));
 					fAccumulatedOOBRecords.clear();
@@ -1033,6 +1114,8 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 						getExecutor().execute(new DsfRunnable() {
 							@Override
 							public void run() {
+								commandCompleted();
+
 								/*
 								 *  Complete the specific command.
 								 */
@@ -1062,6 +1145,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 						getExecutor().execute(new DsfRunnable() {
 							@Override
 							public void run() {
+								commandCompleted();
 								processCommandDone(commandHandle, finalResult);
 							}
 
@@ -1232,6 +1316,9 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		if (h == null)
 			// Command has already been processed by RxThread.
 			return;
+		commandCompleted();
+		fStatistics.commandCompleted(commandHandle.getCommand().getOperation(),
+				System.nanoTime() - commandHandle.fSentTime, fRxCommands.size());
 
 		MIConst value = new MIConst();
 		value.setCString(errorMessage);
@@ -1257,6 +1344,9 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			 */
 			processCommandDone(commandHandle, info);
 		}
+
+		// Another command may be sent in place of the failed one.
+		processNextQueuedCommand();
 	}
 
 	/**
@@ -1290,6 +1380,33 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		return null;
 	}
 
+	/**
+	 * Returns the number of commands that carry their thread and frame which may wait for their
+	 * result at the same time. The pipeline depth is only used when the backend supports concurrent
+	 * commands. It is read on the executor when the first such command is sent.
+	 *
+	 * @see IGdbDebugPreferenceConstants#PREF_MI_PIPELINING
+	 * @since 6.6
+	 */
+	protected int getPipelineDepth() {
+		if (Platform.getPreferencesService().getBoolean(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_MI_PIPELINING, IGdbDebugPreferenceConstants.MI_PIPELINING_DEFAULT,
+				null)) {
+			return Platform.getPreferencesService().getInt(GdbPlugin.PLUGIN_ID,
+					IGdbDebugPreferenceConstants.PREF_MI_PIPELINE_DEPTH,
+					IGdbDebugPreferenceConstants.MI_PIPELINE_DEPTH_DEFAULT, null);
+		}
+		return NUMBER_CONCURRENT_COMMANDS;
+	}
+
+	/**
+	 * @since 6.6
+	 */
+	@Override
+	public MICommandStatistics getCommandStatistics() {
+		return fStatistics;
+	}
+
 	/**
 	 * @since 6.6
 	 */
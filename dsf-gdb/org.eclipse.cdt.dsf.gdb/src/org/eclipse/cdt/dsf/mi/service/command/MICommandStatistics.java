@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Statistics about the commands sent to GDB by a command control service: the number of commands
+ * waiting for their result, the number of writes to GDB and the latency of the commands, from the
+ * time they are written until their result is received.
+ * <p>
+ * The statistics are updated by the threads that communicate with GDB and can be read from any
+ * thread.
+ *
+ * @since 6.6
+ */
+public class MICommandStatistics {
+	/**
+	 * The latency of the commands of one operation.
+	 */
+	public static final class Latency {
+		private long fCount;
+		private long fTotalNanos;
+		private long fMaxNanos;
+
+		private Latency() {
+		}
+
+		private Latency(Latency other) {
+			fCount = other.fCount;
+			fTotalNanos = other.fTotalNanos;
+			fMaxNanos = other.fMaxNanos;
+		}
+
+		private void add(long nanos) {
+			fCount++;
+			fTotalNanos += nanos;
+			fMaxNanos = Math.max(fMaxNanos, nanos);
+		}
+
+		/**
+		 * Returns the number of commands that completed.
+		 */
+		public long getCount() {
+			return fCount;
+		}
+
+		public long getTotalNanos() {
+			return fTotalNanos;
+		}
+
+		public long getMaxNanos() {
+			return fMaxNanos;
+		}
+
+		public long getAverageNanos() {
+			return fCount == 0 ? 0 : fTotalNanos / fCount;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("count=%d avg=%.3fms max=%.3fms", fCount, getAverageNanos() / 1e6, //$NON-NLS-1$
+					fMaxNanos / 1e6);
+		}
+	}
+
+	private int fPipelineDepth;
+	private int fInFlight;
+	private int fMaxInFlight;
+	private long fWrites;
+	private long fWrittenCommands;
+	private final Latency fTotal = new Latency();
+	private final Map<String, Latency> fOperations = new TreeMap<>();
+
+	public MICommandStatistics(int pipelineDepth) {
+		fPipelineDepth = pipelineDepth;
+	}
+
+	/**
+	 * Records a single write of one or more commands to GDB.
+	 *
+	 * @param commandCount the number of commands in the write
+	 * @param inFlight the number of commands waiting for their result, after the write
+	 */
+	synchronized void commandsWritten(int commandCount, int inFlight) {
+		fWrites++;
+		fWrittenCommands += commandCount;
+		fInFlight = inFlight;
+		fMaxInFlight = Math.max(fMaxInFlight, inFlight);
+	}
+
+	/**
+	 * Records the result of a command.
+	 *
+	 * @param operation the MI operation or CLI command
+	 * @param nanos the time between writing the command and receiving its result
+	 * @param inFlight the number of commands still waiting for their result
+	 */
+	synchronized void commandCompleted(String operation, long nanos, int inFlight) {
+		fInFlight = inFlight;
+		fTotal.add(nanos);
+		fOperations.computeIfAbsent(operationKey(operation), k -> new Latency()).add(nanos);
+	}
+
+	/**
+	 * Sets the pipeline depth, which is known once the first command is sent.
+	 */
+	synchronized void setPipelineDepth(int pipelineDepth) {
+		fPipelineDepth = pipelineDepth;
+	}
+
+	/**
+	 * Returns the maximum number of commands of the pipeline, i.e. the number of commands that
+	 * may wait for their result at the same time.
+	 */
+	public synchronized int getPipelineDepth() {
+		return fPipelineDepth;
+	}
+
+	/**
+	 * Returns the number of commands that are waiting for their result.
+	 */
+	public synchronized int getInFlightCount() {
+		return fInFlight;
+	}
+
+	/**
+	 * Returns the largest number of commands that waited for their result at the same time.
+	 */
+	public synchronized int getMaxInFlightCount() {
+		return fMaxInFlight;
+	}
+
+	/**
+	 * Returns the number of writes to GDB.
+	 */
+	public synchronized long getWriteCount() {
+		return fWrites;
+	}
+
+	/**
+	 * Returns the number of commands written to GDB, several commands may be written at once.
+	 */
+	public synchronized long getWrittenCommandCount() {
+		return fWrittenCommands;
+	}
+
+	/**
+	 * Returns the latency of all commands.
+	 */
+	public synchronized Latency getLatency() {
+		return new Latency(fTotal);
+	}
+
+	/**
+	 * Returns the latency of the commands, by operation. CLI commands are listed under their first
+	 * word.
+	 */
+	public synchronized Map<String, Latency> getLatencyByOperation() {
+		Map<String, Latency> result = new TreeMap<>();
+		for (Map.Entry<String, Latency> entry : fOperations.entrySet()) {
+			result.put(entry.getKey(), new Latency(entry.getValue()));
+		}
+		return result;
+	}
+
+	/**
+	 * Clears the counters, the number of commands in flight is kept.
+	 */
+	public synchronized void reset() {
+		fMaxInFlight = fInFlight;
+		fWrites = 0;
+		fWrittenCommands = 0;
+		fTotal.fCount = 0;
+		fTotal.fTotalNanos = 0;
+		fTotal.fMaxNanos = 0;
+		fOperations.clear();
+	}
+
+	@Override
+	public synchronized String toString() {
+		StringBuilder buf = new StringBuilder();
+		buf.append("depth=").append(fPipelineDepth); //$NON-NLS-1$
+		buf.append(" inFlight=").append(fInFlight); //$NON-NLS-1$
+		buf.append(" maxInFlight=").append(fMaxInFlight); //$NON-NLS-1$
+		buf.append(" writes=").append(fWrites); //$NON-NLS-1$
+		buf.append(" commands=").append(fWrittenCommands); //$NON-NLS-1$
+		buf.append(" latency: ").append(fTotal); //$NON-NLS-1$
+		for (Map.Entry<String, Latency> entry : fOperations.entrySet()) {
+			buf.append("\n  ").append(entry.getKey()).append(": ").append(entry.getValue()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * The operation of a CLI command contains its arguments, only the first word is used to keep
+	 * the number of keys small.
+	 */
+	private static String operationKey(String operation) {
+		if (operation == null)
+			return ""; //$NON-NLS-1$
+		operation = operation.trim();
+		int end = 0;
+		while (end < operation.length() && !Character.isWhitespace(operation.charAt(end))) {
+			end++;
+		}
+		return operation.substring(0, end);
+	}
+}
@@ -103,6 +103,9 @@ public class MIParser {
 	public String cliPrompt = primaryPrompt;
 	public String secondaryPrompt = ">"; //$NON-NLS-1$
 
+	private static final MIValue[] NO_VALUES = {};
+	private static final MIResult[] NO_RESULTS = {};
+
 	public RecordType getRecordType(String line) {
 		int i = 0;
 		if (Character.isDigit(line.charAt(0))) {
@@ -126,37 +129,31 @@ public class MIParser {
 	 *
 	 */
 	public MIResultRecord parseMIResultRecord(String line) {
-		StringBuffer buffer = new StringBuffer(line);
+		Cursor cursor = new Cursor(line);
 		// Fetch the Token/Id
-		int id = parseToken(buffer);
+		int id = parseToken(cursor);
 		// Consume the '^'
-		buffer.deleteCharAt(0);
+		cursor.pos++;
 
 		MIResultRecord rr = new MIResultRecord();
 		rr.setToken(id);
-		if (buffer.toString().startsWith(MIResultRecord.DONE)) {
+		if (cursor.consume(MIResultRecord.DONE)) {
 			rr.setResultClass(MIResultRecord.DONE);
-			buffer.delete(0, MIResultRecord.DONE.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.ERROR)) {
+		} else if (cursor.consume(MIResultRecord.ERROR)) {
 			rr.setResultClass(MIResultRecord.ERROR);
-			buffer.delete(0, MIResultRecord.ERROR.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.EXIT)) {
+		} else if (cursor.consume(MIResultRecord.EXIT)) {
 			rr.setResultClass(MIResultRecord.EXIT);
-			buffer.delete(0, MIResultRecord.EXIT.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.RUNNING)) {
+		} else if (cursor.consume(MIResultRecord.RUNNING)) {
 			rr.setResultClass(MIResultRecord.RUNNING);
-			buffer.delete(0, MIResultRecord.RUNNING.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.CONNECTED)) {
+		} else if (cursor.consume(MIResultRecord.CONNECTED)) {
 			rr.setResultClass(MIResultRecord.CONNECTED);
-			buffer.delete(0, MIResultRecord.CONNECTED.length());
 		} else {
 			// Error throw an exception?
 		}
 
 		// Results are separated by commas.
-		if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-			buffer.deleteCharAt(0);
-			MIResult[] res = processMIResults(new FSB(buffer));
+		if (cursor.consume(',')) {
+			MIResult[] res = processMIResults(cursor);
 			rr.setMIResults(res);
 		}
 		return rr;
@@ -166,13 +163,13 @@ public class MIParser {
 	 * Find OutOfBand Records depending on the starting token.
 	 */
 	public MIOOBRecord parseMIOOBRecord(String line) {
-		StringBuffer buffer = new StringBuffer(line);
-		int id = parseToken(buffer);
+		Cursor cursor = new Cursor(line);
+		int id = parseToken(cursor);
 		MIOOBRecord oob = null;
-		char c = buffer.length() != 0 ? buffer.charAt(0) : 0;
+		char c = cursor.current();
 		if (c == '*' || c == '+' || c == '=') {
 			// Consume the first char
-			buffer.deleteCharAt(0);
+			cursor.pos++;
 			MIAsyncRecord async = null;
 			switch (c) {
 			case '*':
@@ -192,22 +189,21 @@ public class MIParser {
 			}
 			async.setToken(id);
 			// Extract the Async-Class
-			int i = buffer.toString().indexOf(',');
+			int i = line.indexOf(',', cursor.pos);
 			if (i != -1) {
-				String asyncClass = buffer.substring(0, i);
+				String asyncClass = line.substring(cursor.pos, i);
 				async.setAsyncClass(asyncClass);
 				// Consume the async-class and the comma
-				buffer.delete(0, i + 1);
+				cursor.pos = i + 1;
 			} else {
-				async.setAsyncClass(buffer.toString().trim());
-				buffer.setLength(0);
+				async.setAsyncClass(cursor.consumeRest().trim());
 			}
-			MIResult[] res = processMIResults(new FSB(buffer));
+			MIResult[] res = processMIResults(cursor);
 			async.setMIResults(res);
 			oob = async;
 		} else if (c == '~' || c == '@' || c == '&') {
 			// Consume the first char
-			buffer.deleteCharAt(0);
+			cursor.pos++;
 			MIStreamRecord stream = null;
 			switch (c) {
 			case '~':
@@ -225,13 +221,11 @@ public class MIParser {
 				assert false;
 				stream = new MIConsoleStreamOutput();
 			}
-			// translateCString() assumes that the leading " is deleted
-			if (buffer.length() > 0 && buffer.charAt(0) == '"') {
-				buffer.deleteCharAt(0);
-			}
+			// translateCString() assumes that the leading " is consumed
+			cursor.consume('"');
 			// Don't parse any backslashes - backslashes within stream records
 			// aren't escaped.
-			stream.setCString(translateCString(new FSB(buffer), false));
+			stream.setCString(translateCString(cursor, false));
 			oob = stream;
 		} else {
 			// Badly format MI line, just pass it to the user as target stream
@@ -242,21 +236,22 @@ public class MIParser {
 		return oob;
 	}
 
-	private int parseToken(StringBuffer buffer) {
+	private int parseToken(Cursor cursor) {
 		int id = -1;
 		// Fetch the Token/Id
-		if (Character.isDigit(buffer.charAt(0))) {
-			int i = 1;
-			while (i < buffer.length() && Character.isDigit(buffer.charAt(i))) {
+		final String line = cursor.line;
+		if (Character.isDigit(line.charAt(cursor.pos))) {
+			int i = cursor.pos + 1;
+			while (i < line.length() && Character.isDigit(line.charAt(i))) {
 				i++;
 			}
-			String numbers = buffer.substring(0, i);
+			String numbers = line.substring(cursor.pos, i);
 			try {
 				id = Integer.parseInt(numbers);
 			} catch (NumberFormatException e) {
 			}
 			// Consume the token.
-			buffer.delete(0, i);
+			cursor.pos = i;
 		}
 		return id;
 	}
@@ -265,15 +260,14 @@ public class MIParser {
 	 * Assuming that the usual leading comma was consumed.
 	 * Extract the MI Result comma seperated responses.
 	 */
-	private MIResult[] processMIResults(FSB buffer) {
+	private MIResult[] processMIResults(Cursor cursor) {
 		List<MIResult> aList = new ArrayList<>();
-		MIResult result = processMIResult(buffer);
+		MIResult result = processMIResult(cursor);
 		if (result != null) {
 			aList.add(result);
 		}
-		while (buffer.length() > 0 && buffer.charAt(0) == ',') {
-			buffer.deleteCharAt(0);
-			result = processMIResult(buffer);
+		while (cursor.consume(',')) {
+			result = processMIResult(cursor);
 			if (result != null) {
 				aList.add(result);
 			}
@@ -282,28 +276,27 @@ public class MIParser {
 	}
 
 	/**
-	 * Construct the DsfMIResult.  Characters will be consume/delete
+	 * Construct the DsfMIResult.  Characters will be consumed
 	 * moving forward constructing the AST.
 	 */
-	private MIResult processMIResult(FSB buffer) {
+	private MIResult processMIResult(Cursor cursor) {
 		MIResult result = new MIResult();
 		int equal;
-		if (buffer.length() > 0 && Character.isLetter(buffer.charAt(0)) && (equal = buffer.indexOf('=')) != -1) {
+		if (Character.isLetter(cursor.current()) && (equal = cursor.line.indexOf('=', cursor.pos)) != -1) {
 			// Result is a variable and value
-			String variable = buffer.substring(0, equal);
+			String variable = cursor.line.substring(cursor.pos, equal);
 			result.setVariable(variable);
-			buffer.delete(0, equal + 1);
-			MIValue value = processMIValue(buffer);
+			cursor.pos = equal + 1;
+			MIValue value = processMIValue(cursor);
 			result.setMIValue(value);
 		} else {
-			MIValue value = processMIValue(buffer);
+			MIValue value = processMIValue(cursor);
 			if (value != null) {
 				// Result is a value only (bug 527419)
 				result.setMIValue(value);
 			} else {
-				result.setVariable(buffer.toString());
+				result.setVariable(cursor.consumeRest());
 				result.setMIValue(new MIConst()); // Empty string:???
-				buffer.setLength(0);
 			}
 		}
 		return result;
@@ -312,118 +305,137 @@ public class MIParser {
 	/**
 	 * Find a DsfMIValue implementation or return null.
 	 */
-	private MIValue processMIValue(FSB buffer) {
+	private MIValue processMIValue(Cursor cursor) {
 		MIValue value = null;
-		if (buffer.length() > 0) {
-			if (buffer.charAt(0) == '{') {
-				buffer.deleteCharAt(0);
-				value = processMITuple(buffer);
-			} else if (buffer.charAt(0) == '[') {
-				buffer.deleteCharAt(0);
-				value = processMIList(buffer);
-			} else if (buffer.charAt(0) == '"') {
-				buffer.deleteCharAt(0);
-				MIConst cnst = new MIConst();
-				// Parse backslashes - backslashes within result
-				// and out of band records are escaped.
-				cnst.setCString(translateCString(buffer, true));
-				value = cnst;
-			}
+		switch (cursor.current()) {
+		case '{':
+			cursor.pos++;
+			value = processMITuple(cursor);
+			break;
+		case '[':
+			cursor.pos++;
+			value = processMIList(cursor);
+			break;
+		case '"':
+			cursor.pos++;
+			MIConst cnst = new MIConst();
+			// Parse backslashes - backslashes within result
+			// and out of band records are escaped.
+			cnst.setCString(translateCString(cursor, true));
+			value = cnst;
+			break;
 		}
 		return value;
 	}
 
 	/**
-	 * Assuming the starting '{' was deleted form the StringBuffer,
-	 * go to the closing '}' consuming/deleting all the characters.
+	 * Assuming the starting '{' was consumed, go to the closing '}'
+	 * consuming all the characters.
 	 * This is usually call by processMIvalue();
 	 */
-	private MIValue processMITuple(FSB buffer) {
+	private MIValue processMITuple(Cursor cursor) {
 		MITuple tuple = new MITuple();
 		List<MIValue> valueList = new ArrayList<>();
 		List<MIResult> resultList = new ArrayList<>();
 		// Catch closing '}'
-		while (buffer.length() > 0 && buffer.charAt(0) != '}') {
+		while (!cursor.atEnd() && cursor.current() != '}') {
 			// Try for the DsfMIValue first
-			MIValue value = processMIValue(buffer);
+			MIValue value = processMIValue(cursor);
 			if (value != null) {
 				valueList.add(value);
 			} else {
-				MIResult result = processMIResult(buffer);
+				MIResult result = processMIResult(cursor);
 				if (result != null) {
 					resultList.add(result);
 				}
 			}
-			if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-				buffer.deleteCharAt(0);
-			}
-		}
-		if (buffer.length() > 0 && buffer.charAt(0) == '}') {
-			buffer.deleteCharAt(0);
+			cursor.consume(',');
 		}
-		MIValue[] values = valueList.toArray(new MIValue[valueList.size()]);
-		MIResult[] res = resultList.toArray(new MIResult[resultList.size()]);
-		tuple.setMIValues(values);
-		tuple.setMIResults(res);
+		cursor.consume('}');
+		tuple.setMIValues(toValueArray(valueList));
+		tuple.setMIResults(toResultArray(resultList));
 		return tuple;
 	}
 
 	/**
-	 * Assuming the leading '[' was deleted, find the closing
-	 * ']' consuming/delete chars from the StringBuffer.
+	 * Assuming the leading '[' was consumed, find the closing
+	 * ']' consuming all the characters.
 	 */
-	private MIValue processMIList(FSB buffer) {
+	private MIValue processMIList(Cursor cursor) {
 		MIList list = new MIList();
 		List<MIValue> valueList = new ArrayList<>();
 		List<MIResult> resultList = new ArrayList<>();
 		// catch closing ']'
-		while (buffer.length() > 0 && buffer.charAt(0) != ']') {
+		while (!cursor.atEnd() && cursor.current() != ']') {
 			// Try for the DsfMIValue first
-			MIValue value = processMIValue(buffer);
+			MIValue value = processMIValue(cursor);
 			if (value != null) {
 				valueList.add(value);
 			} else {
-				MIResult result = processMIResult(buffer);
+				MIResult result = processMIResult(cursor);
 				if (result != null) {
 					resultList.add(result);
 				}
 			}
-			if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-				buffer.deleteCharAt(0);
-			}
-		}
-		if (buffer.length() > 0 && buffer.charAt(0) == ']') {
-			buffer.deleteCharAt(0);
+			cursor.consume(',');
 		}
-		MIValue[] values = valueList.toArray(new MIValue[valueList.size()]);
-		MIResult[] res = resultList.toArray(new MIResult[resultList.size()]);
-		list.setMIValues(values);
-		list.setMIResults(res);
+		cursor.consume(']');
+		list.setMIValues(toValueArray(valueList));
+		list.setMIResults(toResultArray(resultList));
 		return list;
 	}
 
+	private static MIValue[] toValueArray(List<MIValue> list) {
+		return list.isEmpty() ? NO_VALUES : list.toArray(new MIValue[list.size()]);
+	}
+
+	private static MIResult[] toResultArray(List<MIResult> list) {
+		return list.isEmpty() ? NO_RESULTS : list.toArray(new MIResult[list.size()]);
+	}
+
 	/**
 	 * MI C-String rather MIConst values are enclosed in double quotes
 	 * and any double quotes or backslashes in the string are escaped.
-	 * Assuming the starting double quote was removed. This method will
+	 * Assuming the starting double quote was consumed. This method will
 	 * stop at the closing double quote, remove the extra backslash escaping
 	 * and return the string __without__ the enclosing double quotes. The
-	 * original string buffer will move forward.
-	 * @param buffer The string buffer to read from.
+	 * cursor moves past the closing double quote.
+	 * @param cursor The position in the line to read from.
 	 * @param parseBackslashes Defines whether backslashes should be parsed.
 	 * This parameter is necessary to differentiate between records which
 	 * contain escaped backslashes and records which do not.
 	 * @return The translated C string.
 	 */
-	private String translateCString(FSB buffer, boolean parseBackslashes) {
+	private String translateCString(Cursor cursor, boolean parseBackslashes) {
+		final String line = cursor.line;
+		final int length = line.length();
+		final int start = cursor.pos;
+
+		// Strings without escapes are substrings of the line.
+		int index = start;
+		for (; index < length; index++) {
+			char c = line.charAt(index);
+			if (c == '"') {
+				cursor.pos = index + 1;
+				return line.substring(start, index);
+			}
+			if (c == '\\') {
+				break;
+			}
+		}
+		if (index == length) {
+			cursor.pos = length;
+			return line.substring(start, length);
+		}
+
 		boolean escape = false;
 		boolean closingQuotes = false;
 
-		StringBuffer sb = new StringBuffer();
+		StringBuilder sb = new StringBuilder(index - start + 16);
+		sb.append(line, start, index);
 
-		int index = 0;
-		for (; index < buffer.length() && !closingQuotes; index++) {
-			char c = buffer.charAt(index);
+		for (; index < length && !closingQuotes; index++) {
+			char c = line.charAt(index);
 			if (c == '\\') {
 				if (escape) {
 					sb.append(c);
@@ -450,7 +462,7 @@ public class MIParser {
 				escape = false;
 			}
 		}
-		buffer.delete(0, index);
+		cursor.pos = index;
 		return sb.toString();
 	}
 
@@ -477,6 +489,52 @@ public class MIParser {
 		return true;
 	}
 
+	/**
+	 * Position of the parser in the line of MI output. The line is scanned once from the start to
+	 * the end, the variables and the C strings are created as substrings of the line.
+	 */
+	private static final class Cursor {
+		final String line;
+		int pos;
+
+		Cursor(String line) {
+			this.line = line;
+		}
+
+		boolean atEnd() {
+			return pos >= line.length();
+		}
+
+		/**
+		 * Returns the character at the position, or 0 at the end of the line.
+		 */
+		char current() {
+			return pos < line.length() ? line.charAt(pos) : 0;
+		}
+
+		boolean consume(char c) {
+			if (pos < line.length() && line.charAt(pos) == c) {
+				pos++;
+				return true;
+			}
+			return false;
+		}
+
+		boolean consume(String s) {
+			if (line.startsWith(s, pos)) {
+				pos += s.length();
+				return true;
+			}
+			return false;
+		}
+
+		String consumeRest() {
+			String rest = line.substring(pos);
+			pos = line.length();
+			return rest;
+		}
+	}
+
 	/**
 	 * Fast String Buffer class. MIParser does a lot
 	 * of deleting off the front of a string, that's clearly
@@ -485,7 +543,10 @@ public class MIParser {
 	 * with this for large arrays. Use of FSB rather than String
 	 * Buffer makes MIParser N rather than N^2 because FSB can
 	 * delete from the front in constant time.
+	 *
+	 * @deprecated The parser scans the line with a cursor and no longer uses this class.
 	 */
+	@Deprecated
 	public class FSB {
 		StringBuffer buf;
 		int pos;
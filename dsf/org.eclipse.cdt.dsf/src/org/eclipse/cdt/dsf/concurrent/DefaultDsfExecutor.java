@@ -81,6 +81,10 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 		super(1, new DsfThreadFactory(name + " - " + fgInstanceCounter++)); //$NON-NLS-1$
 		fName = name;
 
+		if (DEBUG_EXECUTOR_STATISTICS) {
+			fStatistics = new DsfExecutorStatistics();
+		}
+
 		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
 			// If tracing, pre-start the dispatch thread, and add it to the map.
 			prestartAllCoreThreads();
@@ -107,6 +111,38 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 		return fName;
 	}
 
+	/**
+	 * Enables or disables the collection of statistics about the executables
+	 * run by this executor.  Statistics are enabled by default when the
+	 * <code>org.eclipse.cdt.dsf/debug/executorStatistics</code> option is set.
+	 *
+	 * @since 2.12
+	 */
+	public synchronized void setStatisticsEnabled(boolean enabled) {
+		if (!enabled) {
+			fStatistics = null;
+		} else if (fStatistics == null) {
+			fStatistics = new DsfExecutorStatistics();
+		}
+	}
+
+	/**
+	 * Returns the statistics about the executables run by this executor, or
+	 * <code>null</code> if statistics are not enabled.
+	 *
+	 * @since 2.12
+	 */
+	public DsfExecutorStatistics getStatistics() {
+		return fStatistics;
+	}
+
+	/**
+	 * Executables are wrapped when tracing or collecting statistics.
+	 */
+	private boolean isWrapping() {
+		return DEBUG_EXECUTOR || ASSERTIONS_ENABLED || fStatistics != null;
+	}
+
 	static void logException(Throwable t) {
 		DsfPlugin plugin = DsfPlugin.getDefault();
 		if (plugin == null)
@@ -135,9 +171,12 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 	protected static boolean DEBUG_EXECUTOR = false;
 	protected static String DEBUG_EXECUTOR_NAME = ""; //$NON-NLS-1$
 	protected static boolean ASSERTIONS_ENABLED = false;
+	private static boolean DEBUG_EXECUTOR_STATISTICS = false;
 	static {
 		DEBUG_EXECUTOR = DsfPlugin.DEBUG
 				&& Boolean.parseBoolean(Platform.getDebugOption("org.eclipse.cdt.dsf/debug/executor")); //$NON-NLS-1$
+		DEBUG_EXECUTOR_STATISTICS = DsfPlugin.DEBUG && Boolean
+				.parseBoolean(Platform.getDebugOption("org.eclipse.cdt.dsf/debug/executorStatistics")); //$NON-NLS-1$
 		DEBUG_EXECUTOR_NAME = DsfPlugin.DEBUG ? Platform.getDebugOption("org.eclipse.cdt.dsf/debug/executorName") : ""; //$NON-NLS-1$ //$NON-NLS-2$
 		assert (ASSERTIONS_ENABLED = true) == true;
 	}
@@ -161,9 +200,14 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 	 */
 	int fSequenceCounter;
 
+	/**
+	 * Statistics about the executables, or null if not enabled.
+	 */
+	private volatile DsfExecutorStatistics fStatistics;
+
 	/**
 	 * Wrapper for runnables/callables, is used to store tracing information
-	 * <br>Note: Only used when tracing.
+	 * <br>Note: Only used when tracing or collecting statistics.
 	 */
 	abstract class TracingWrapper {
 		/** Sequence number of this runnable/callable */
@@ -176,6 +220,12 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 		/** Reference to the runnable/callable that submitted this runnable/callable to the executor */
 		TracingWrapper fSubmittedBy = null;
 
+		/** Time at which this runnable/callable was submitted, or is due if it was scheduled with a delay */
+		long fSubmitTime;
+
+		/** Whether the time spent in the queue is recorded in the statistics */
+		boolean fRecordWait = true;
+
 		/**
 		 * The names of the executor submitter methods we support, ordered by
 		 * popularity so as to optimize the tracing logic. (For the curious,
@@ -188,6 +238,16 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 		/**
 		 */
 		TracingWrapper() {
+			DsfExecutorStatistics statistics = fStatistics;
+			if (statistics != null) {
+				fSubmitTime = System.nanoTime();
+				statistics.executableSubmitted(getQueue().size() + 1);
+			}
+
+			if (!DEBUG_EXECUTOR && !ASSERTIONS_ENABLED) {
+				// Only collecting statistics
+				return;
+			}
 
 			// Get the this thread's stack trace and then search for the call
 			// into the executor's submitter method. We'll want to ignore
@@ -349,6 +409,36 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 			}
 		}
 
+		void delayedBy(long delayNanos) {
+			if (fSubmitTime != 0) {
+				fSubmitTime += delayNanos;
+			}
+		}
+
+		/**
+		 * Records the time spent in the queue.
+		 * @return the start time, or 0 if statistics are not enabled
+		 */
+		long statisticsStarted() {
+			DsfExecutorStatistics statistics = fStatistics;
+			if (statistics == null) {
+				return 0;
+			}
+			long now = System.nanoTime();
+			if (fRecordWait && fSubmitTime != 0) {
+				statistics.executableStarted(now - fSubmitTime);
+			}
+			return now;
+		}
+
+		void statisticsCompleted(long startTime) {
+			DsfExecutorStatistics statistics = fStatistics;
+			if (statistics != null && startTime != 0) {
+				statistics.executableCompleted(DsfExecutorStatistics.getExecutableName(getExecutable()),
+						System.nanoTime() - startTime);
+			}
+		}
+
 		abstract protected Object getExecutable();
 	}
 
@@ -375,6 +465,7 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 		@Override
 		public void run() {
 			traceExecution();
+			long startTime = statisticsStarted();
 
 			// Finally invoke the runnable code.
 			try {
@@ -388,6 +479,8 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 			} catch (Error e) {
 				logException(e);
 				throw e;
+			} finally {
+				statisticsCompleted(startTime);
 			}
 		}
 	}
@@ -422,19 +515,25 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 		@Override
 		public T call() throws Exception {
 			traceExecution();
+			long startTime = statisticsStarted();
 
 			// Finally invoke the runnable code.
 			// Note that callables can throw exceptions that can be caught
 			// by clients that invoked them using ExecutionException.
-			return fCallable.call();
+			try {
+				return fCallable.call();
+			} finally {
+				statisticsCompleted(startTime);
+			}
 		}
 	}
 
 	@Override
 	public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (isWrapping()) {
 			if (!(callable instanceof TracingWrapper)) {
 				callable = new TracingWrapperCallable<>(callable);
+				((TracingWrapper) callable).delayedBy(unit.toNanos(delay));
 			}
 		}
 		return super.schedule(callable, delay, unit);
@@ -442,9 +541,10 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 
 	@Override
 	public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (isWrapping()) {
 			if (!(command instanceof TracingWrapper)) {
 				command = new TracingWrapperRunnable(command);
+				((TracingWrapper) command).delayedBy(unit.toNanos(delay));
 			}
 		}
 		return super.schedule(command, delay, unit);
@@ -452,23 +552,25 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 
 	@Override
 	public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (isWrapping()) {
 			command = new TracingWrapperRunnable(command);
+			((TracingWrapper) command).fRecordWait = false;
 		}
 		return super.scheduleAtFixedRate(command, initialDelay, period, unit);
 	}
 
 	@Override
 	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (isWrapping()) {
 			command = new TracingWrapperRunnable(command);
+			((TracingWrapper) command).fRecordWait = false;
 		}
 		return super.scheduleWithFixedDelay(command, initialDelay, delay, unit);
 	}
 
 	@Override
 	public void execute(Runnable command) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (isWrapping()) {
 			command = new TracingWrapperRunnable(command);
 		}
 		super.execute(command);
@@ -476,7 +578,7 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 
 	@Override
 	public Future<?> submit(Runnable command) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (isWrapping()) {
 			command = new TracingWrapperRunnable(command);
 		}
 		return super.submit(command);
@@ -484,7 +586,7 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 
 	@Override
 	public <T> Future<T> submit(Callable<T> callable) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (isWrapping()) {
 			callable = new TracingWrapperCallable<>(callable);
 		}
 		return super.submit(callable);
@@ -492,7 +594,7 @@ public class DefaultDsfExecutor extends ScheduledThreadPoolExecutor implements D
 
 	@Override
 	public <T> Future<T> submit(Runnable command, T result) {
-		if (DEBUG_EXECUTOR || ASSERTIONS_ENABLED) {
+		if (isWrapping()) {
 			command = new TracingWrapperRunnable(command);
 		}
 		return super.submit(command, result);
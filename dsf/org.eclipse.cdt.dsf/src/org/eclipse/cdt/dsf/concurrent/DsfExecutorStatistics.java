@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.concurrent;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Statistics about the executables run by a {@link DefaultDsfExecutor}: the depth of its queue,
+ * the time the executables wait in the queue before they run and the time they take to run.
+ * <p>
+ * The statistics are updated by the threads that submit executables and by the executor thread,
+ * they can be read from any thread.
+ *
+ * @see DefaultDsfExecutor#setStatisticsEnabled(boolean)
+ * @since 2.12
+ */
+@ThreadSafe
+public class DsfExecutorStatistics {
+	/**
+	 * The durations recorded for a set of executables.
+	 */
+	public static final class Duration {
+		private long fCount;
+		private long fTotalNanos;
+		private long fMaxNanos;
+
+		private Duration() {
+		}
+
+		private Duration(Duration other) {
+			fCount = other.fCount;
+			fTotalNanos = other.fTotalNanos;
+			fMaxNanos = other.fMaxNanos;
+		}
+
+		private void add(long nanos) {
+			fCount++;
+			fTotalNanos += nanos;
+			fMaxNanos = Math.max(fMaxNanos, nanos);
+		}
+
+		/**
+		 * Returns the number of recorded durations.
+		 */
+		public long getCount() {
+			return fCount;
+		}
+
+		public long getTotalNanos() {
+			return fTotalNanos;
+		}
+
+		public long getMaxNanos() {
+			return fMaxNanos;
+		}
+
+		public long getAverageNanos() {
+			return fCount == 0 ? 0 : fTotalNanos / fCount;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("count=%d avg=%.3fms max=%.3fms", fCount, getAverageNanos() / 1e6, //$NON-NLS-1$
+					fMaxNanos / 1e6);
+		}
+	}
+
+	private long fSubmitted;
+	private int fMaxQueueDepth;
+	private final Duration fWait = new Duration();
+	private final Duration fRun = new Duration();
+	private final Map<String, Duration> fRunByExecutable = new TreeMap<>();
+
+	DsfExecutorStatistics() {
+	}
+
+	/**
+	 * Records the submission of an executable.
+	 *
+	 * @param queueDepth the number of executables in the queue, including the submitted one
+	 */
+	synchronized void executableSubmitted(int queueDepth) {
+		fSubmitted++;
+		fMaxQueueDepth = Math.max(fMaxQueueDepth, queueDepth);
+	}
+
+	/**
+	 * Records the time an executable waited in the queue before it started running.
+	 */
+	synchronized void executableStarted(long waitNanos) {
+		fWait.add(waitNanos);
+	}
+
+	/**
+	 * Records the time an executable took to run.
+	 *
+	 * @param executable the name of the executable, see {@link #getRunTimeByExecutable()}
+	 */
+	synchronized void executableCompleted(String executable, long runNanos) {
+		fRun.add(runNanos);
+		fRunByExecutable.computeIfAbsent(executable, k -> new Duration()).add(runNanos);
+	}
+
+	/**
+	 * Returns the number of executables submitted to the executor.
+	 */
+	public synchronized long getSubmittedCount() {
+		return fSubmitted;
+	}
+
+	/**
+	 * Returns the largest number of executables that were in the queue at the same time.
+	 */
+	public synchronized int getMaxQueueDepth() {
+		return fMaxQueueDepth;
+	}
+
+	/**
+	 * Returns the time the executables waited in the queue. The delay of scheduled executables
+	 * is not included, and periodic executables are not recorded.
+	 */
+	public synchronized Duration getWaitTime() {
+		return new Duration(fWait);
+	}
+
+	/**
+	 * Returns the time the executables took to run.
+	 */
+	public synchronized Duration getRunTime() {
+		return new Duration(fRun);
+	}
+
+	/**
+	 * Returns the time the executables took to run, by class of executable. Anonymous classes
+	 * are listed under the class that declares them, which is typically the service that
+	 * submitted them.
+	 */
+	public synchronized Map<String, Duration> getRunTimeByExecutable() {
+		Map<String, Duration> result = new TreeMap<>();
+		for (Map.Entry<String, Duration> entry : fRunByExecutable.entrySet()) {
+			result.put(entry.getKey(), new Duration(entry.getValue()));
+		}
+		return result;
+	}
+
+	/**
+	 * Clears the statistics.
+	 */
+	public synchronized void reset() {
+		fSubmitted = 0;
+		fMaxQueueDepth = 0;
+		fWait.fCount = fWait.fTotalNanos = fWait.fMaxNanos = 0;
+		fRun.fCount = fRun.fTotalNanos = fRun.fMaxNanos = 0;
+		fRunByExecutable.clear();
+	}
+
+	@Override
+	public synchronized String toString() {
+		StringBuilder buf = new StringBuilder();
+		buf.append("submitted=").append(fSubmitted); //$NON-NLS-1$
+		buf.append(" maxQueueDepth=").append(fMaxQueueDepth); //$NON-NLS-1$
+		buf.append(" wait: ").append(fWait); //$NON-NLS-1$
+		buf.append(" run: ").append(fRun); //$NON-NLS-1$
+		for (Map.Entry<String, Duration> entry : fRunByExecutable.entrySet()) {
+			buf.append("\n  ").append(entry.getKey()).append(": ").append(entry.getValue()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * Returns the name under which an executable is recorded.
+	 */
+	static String getExecutableName(Object executable) {
+		Class<?> execClass = executable.getClass();
+		while (execClass.isAnonymousClass() && execClass.getEnclosingClass() != null) {
+			execClass = execClass.getEnclosingClass();
+		}
+		return execClass.getName();
+	}
+}
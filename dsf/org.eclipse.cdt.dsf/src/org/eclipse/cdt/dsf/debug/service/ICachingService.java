@@ -22,6 +22,59 @@ import org.eclipse.cdt.dsf.datamodel.IDMContext;
  */
 public interface ICachingService {
 
+	/**
+	 * Statistics of a service cache.
+	 *
+	 * @since 2.12
+	 */
+	public static final class CacheStatistics {
+		private final long fHitCount;
+		private final long fMissCount;
+		private final long fEvictionCount;
+		private final long fSize;
+
+		public CacheStatistics(long hitCount, long missCount, long evictionCount, long size) {
+			fHitCount = hitCount;
+			fMissCount = missCount;
+			fEvictionCount = evictionCount;
+			fSize = size;
+		}
+
+		/**
+		 * Returns the number of requests that were served from the cache.
+		 */
+		public long getHitCount() {
+			return fHitCount;
+		}
+
+		/**
+		 * Returns the number of requests that needed data from the backend.
+		 */
+		public long getMissCount() {
+			return fMissCount;
+		}
+
+		/**
+		 * Returns the number of entries removed from the cache to limit its size.
+		 */
+		public long getEvictionCount() {
+			return fEvictionCount;
+		}
+
+		/**
+		 * Returns the current size of the cache, in a unit chosen by the service.
+		 */
+		public long getSize() {
+			return fSize;
+		}
+
+		@Override
+		public String toString() {
+			return "hits=" + fHitCount + " misses=" + fMissCount + " evictions=" + fEvictionCount //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ " size=" + fSize; //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Clears the service cache entries which have the given context in their
 	 * hierarchy.
@@ -29,4 +82,16 @@ public interface ICachingService {
 	 * the entire cache.
 	 */
 	public void flushCache(IDMContext context);
+
+	/**
+	 * Returns the statistics of the service cache entries which have the given
+	 * context in their hierarchy.
+	 * @param context Root context of the entries.  May be <code>null</code> for
+	 * the entire cache.
+	 * @return The statistics, or <code>null</code> if the service does not collect them.
+	 * @since 2.12
+	 */
+	public default CacheStatistics getCacheStatistics(IDMContext context) {
+		return null;
+	}
 }
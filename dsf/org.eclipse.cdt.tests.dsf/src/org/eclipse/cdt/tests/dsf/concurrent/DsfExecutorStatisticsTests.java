@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.DsfExecutorStatistics;
+import org.eclipse.cdt.dsf.concurrent.DsfExecutorStatistics.Duration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the statistics collected by the DSF executor.
+ */
+public class DsfExecutorStatisticsTests {
+	private DefaultDsfExecutor fExecutor;
+
+	private static class NamedRunnable implements Runnable {
+		@Override
+		public void run() {
+		}
+	}
+
+	@Before
+	public void startExecutor() {
+		fExecutor = new DefaultDsfExecutor();
+		fExecutor.setStatisticsEnabled(true);
+	}
+
+	@After
+	public void shutdownExecutor() throws Exception {
+		fExecutor.shutdown();
+		fExecutor.awaitTermination(1, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void testQueueDepth() throws Exception {
+		final CountDownLatch latch = new CountDownLatch(1);
+		fExecutor.execute(() -> {
+			try {
+				latch.await();
+			} catch (InterruptedException e) {
+			}
+		});
+		for (int i = 0; i < 5; i++) {
+			fExecutor.execute(new NamedRunnable());
+		}
+		latch.countDown();
+		fExecutor.submit(new NamedRunnable()).get();
+
+		DsfExecutorStatistics stats = fExecutor.getStatistics();
+		assertEquals(7, stats.getSubmittedCount());
+		assertTrue(stats.getMaxQueueDepth() >= 5);
+		assertEquals(7, stats.getWaitTime().getCount());
+		assertEquals(7, stats.getRunTime().getCount());
+
+		Map<String, Duration> byExecutable = stats.getRunTimeByExecutable();
+		assertEquals(2, byExecutable.size());
+		assertEquals(6, byExecutable.get(NamedRunnable.class.getName()).getCount());
+
+		stats.reset();
+		assertEquals(0, stats.getSubmittedCount());
+		assertEquals(0, stats.getRunTime().getCount());
+		assertTrue(stats.getRunTimeByExecutable().isEmpty());
+	}
+
+	@Test
+	public void testScheduled() throws Exception {
+		long delay = TimeUnit.MILLISECONDS.toNanos(200);
+		fExecutor.schedule(new NamedRunnable(), delay, TimeUnit.NANOSECONDS).get();
+
+		// The delay is not counted as time spent in the queue
+		Duration wait = fExecutor.getStatistics().getWaitTime();
+		assertEquals(1, wait.getCount());
+		assertTrue(wait.getMaxNanos() < delay);
+	}
+
+	@Test
+	public void testDisabled() throws Exception {
+		fExecutor.setStatisticsEnabled(false);
+		assertNull(fExecutor.getStatistics());
+		fExecutor.submit(new NamedRunnable()).get();
+
+		fExecutor.setStatisticsEnabled(true);
+		assertNotNull(fExecutor.getStatistics());
+		assertEquals(0, fExecutor.getStatistics().getSubmittedCount());
+	}
+}